@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.Vector;
+
+/**
+ * 帯行列 ({@link GeneralBandMatrix}, {@link SymmetricBandMatrix})
+ * のビルダによる生成と行列ベクトル積のベンチマーク.
+ * 
+ * @author Matsuura Y.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BandMatrixBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int dimension;
+
+    @Param({ "1", "8", "64" })
+    public int bandWidth;
+
+    private GeneralBandMatrix generalBandMatrix;
+    private SymmetricBandMatrix symmetricBandMatrix;
+    private Vector vector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.generalBandMatrix = BenchmarkFixture.generalBandMatrix(this.dimension, this.bandWidth);
+        this.symmetricBandMatrix = BenchmarkFixture.symmetricBandMatrix(this.dimension, this.bandWidth);
+        this.vector = BenchmarkFixture.vector(this.dimension);
+    }
+
+    @Benchmark
+    public GeneralBandMatrix generalBuild() {
+        return BenchmarkFixture.generalBandMatrix(this.dimension, this.bandWidth);
+    }
+
+    @Benchmark
+    public Vector generalOperate() {
+        return this.generalBandMatrix.operate(this.vector);
+    }
+
+    @Benchmark
+    public Vector generalOperateTranspose() {
+        return this.generalBandMatrix.operateTranspose(this.vector);
+    }
+
+    @Benchmark
+    public SymmetricBandMatrix symmetricBuild() {
+        return BenchmarkFixture.symmetricBandMatrix(this.dimension, this.bandWidth);
+    }
+
+    @Benchmark
+    public Vector symmetricOperate() {
+        return this.symmetricBandMatrix.operate(this.vector);
+    }
+
+    @Benchmark
+    public Vector symmetricOperateTranspose() {
+        return this.symmetricBandMatrix.operateTranspose(this.vector);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.nlsf.CholeskyBand;
+import matsu.num.matrix.core.nlsf.LUBand;
+import matsu.num.matrix.core.nlsf.LUTypeSolver;
+import matsu.num.matrix.core.nlsf.ModifiedCholeskyBand;
+
+/**
+ * 帯行列向けの LU 型の行列分解のエグゼキュータ
+ * ({@link LUBand}, {@link CholeskyBand}, {@link ModifiedCholeskyBand})
+ * に関するベンチマーク.
+ * 
+ * <p>
+ * 対象の行列は正定値対称帯行列であり, 全てのエグゼキュータで分解が成功する. <br>
+ * 計測の内容は {@link DenseSolverBenchmark} と同様である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BandSolverBenchmark {
+
+    /**
+     * 計測対象のエグゼキュータ.
+     */
+    public static enum Solver {
+
+        LU_BAND(m -> LUBand.executor().apply(m).get()),
+        CHOLESKY_BAND(m -> CholeskyBand.executor().apply(m).get()),
+        MODIFIED_CHOLESKY_BAND(m -> ModifiedCholeskyBand.executor().apply(m).get());
+
+        private final Function<SymmetricBandMatrix, LUTypeSolver> factorization;
+
+        private Solver(Function<SymmetricBandMatrix, LUTypeSolver> factorization) {
+            this.factorization = factorization;
+        }
+    }
+
+    @Param({ "1000", "10000" })
+    public int dimension;
+
+    @Param({ "1", "8", "64" })
+    public int bandWidth;
+
+    @Param
+    public Solver solver;
+
+    private SymmetricBandMatrix matrix;
+    private Matrix inverse;
+    private Vector vector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.matrix = BenchmarkFixture.symmetricBandMatrix(this.dimension, this.bandWidth);
+        this.inverse = this.solver.factorization.apply(this.matrix).inverse();
+        this.vector = BenchmarkFixture.vector(this.dimension);
+    }
+
+    @Benchmark
+    public LUTypeSolver factorize() {
+        return this.solver.factorization.apply(this.matrix);
+    }
+
+    @Benchmark
+    public Vector solve() {
+        return this.inverse.operate(this.vector);
+    }
+
+    @Benchmark
+    public double determinant() {
+        return this.solver.factorization.apply(this.matrix).logAbsDeterminant();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.benchmark;
+
+import java.util.Random;
+
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+
+/**
+ * ベンチマークで使用する行列とベクトルを生成する.
+ * 
+ * <p>
+ * 成分は固定されたシードの乱数で生成されるので, 実行ごとに同一の入力となる. <br>
+ * 行列は対角優位になるように生成され,
+ * 対称行列は正定値になる. <br>
+ * したがって, どの行列分解もピボッティングの有無によらず成功する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class BenchmarkFixture {
+
+    private static final long SEED = 20261016L;
+
+    private BenchmarkFixture() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 一様乱数を成分に持つベクトルを生成する.
+     */
+    static Vector vector(int dimension) {
+        Random random = new Random(SEED);
+        double[] entry = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            entry[i] = random.nextDouble() - 0.5;
+        }
+
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(dimension));
+        builder.setEntryValue(entry);
+        return builder.build();
+    }
+
+    /**
+     * 対角優位な一般正方行列を生成する.
+     */
+    static GeneralMatrix generalMatrix(int dimension) {
+        Random random = new Random(SEED);
+        GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.square(dimension));
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < dimension; j++) {
+                builder.setValue(i, j, random.nextDouble() - 0.5);
+            }
+            builder.setValue(i, i, dimension);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 対角優位な正定値対称行列を生成する.
+     */
+    static SymmetricMatrix symmetricMatrix(int dimension) {
+        Random random = new Random(SEED);
+        SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(MatrixDimension.square(dimension));
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < i; j++) {
+                builder.setValue(i, j, random.nextDouble() - 0.5);
+            }
+            builder.setValue(i, i, dimension);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 対角優位な一般帯行列を生成する.
+     */
+    static GeneralBandMatrix generalBandMatrix(int dimension, int bandWidth) {
+        Random random = new Random(SEED);
+        GeneralBandMatrix.Builder builder =
+                GeneralBandMatrix.Builder.zero(BandMatrixDimension.of(dimension, bandWidth, bandWidth));
+        for (int i = 0; i < dimension; i++) {
+            for (int j = Math.max(0, i - bandWidth), l = Math.min(dimension, i + bandWidth + 1); j < l; j++) {
+                builder.setValue(i, j, random.nextDouble() - 0.5);
+            }
+            builder.setValue(i, i, 2 * bandWidth + 1);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 対角優位な正定値対称帯行列を生成する.
+     */
+    static SymmetricBandMatrix symmetricBandMatrix(int dimension, int bandWidth) {
+        Random random = new Random(SEED);
+        SymmetricBandMatrix.Builder builder =
+                SymmetricBandMatrix.Builder.zero(BandMatrixDimension.symmetric(dimension, bandWidth));
+        for (int i = 0; i < dimension; i++) {
+            for (int j = Math.max(0, i - bandWidth); j < i; j++) {
+                builder.setValue(i, j, random.nextDouble() - 0.5);
+            }
+            builder.setValue(i, i, 2 * bandWidth + 1);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.block.BlockMatrix;
+import matsu.num.matrix.core.block.BlockMatrixStructure;
+
+/**
+ * {@link BlockMatrix} の生成と行列ベクトル積のベンチマーク.
+ * 
+ * <p>
+ * ブロック構造は <i>k</i> &times; <i>k</i> であり,
+ * 対角ブロックと1つ下のブロックに一般行列を配置する (ブロック下二重対角). <br>
+ * 各ブロックの次元は {@code blockDimension} である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockMatrixBenchmark {
+
+    @Param({ "4", "16" })
+    public int blockCount;
+
+    @Param({ "16", "64" })
+    public int blockDimension;
+
+    private Matrix block;
+    private BlockMatrix blockMatrix;
+    private Vector vector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.block = BenchmarkFixture.generalMatrix(this.blockDimension);
+        this.blockMatrix = this.buildBlockMatrix();
+        this.vector = BenchmarkFixture.vector(this.blockCount * this.blockDimension);
+    }
+
+    @Benchmark
+    public BlockMatrix build() {
+        return this.buildBlockMatrix();
+    }
+
+    @Benchmark
+    public Vector operate() {
+        return this.blockMatrix.operate(this.vector);
+    }
+
+    @Benchmark
+    public Vector operateTranspose() {
+        return this.blockMatrix.operateTranspose(this.vector);
+    }
+
+    private BlockMatrix buildBlockMatrix() {
+        final int k = this.blockCount;
+        BlockMatrixStructure.Builder<Matrix> builder =
+                BlockMatrixStructure.Builder.of(MatrixDimension.square(k));
+        for (int i = 0; i < k; i++) {
+            builder.setBlockElement(i, i, this.block);
+            if (i > 0) {
+                builder.setBlockElement(i, i - 1, this.block);
+            }
+        }
+        return BlockMatrix.of(builder.build());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import matsu.num.matrix.core.DiagonalMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.LowerUnitriangularMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.Vector;
+
+/**
+ * 密な行列 ({@link GeneralMatrix}, {@link SymmetricMatrix},
+ * {@link LowerUnitriangularMatrix}, {@link DiagonalMatrix})
+ * のビルダによる生成と行列ベクトル積のベンチマーク.
+ * 
+ * @author Matsuura Y.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DenseMatrixBenchmark {
+
+    @Param({ "16", "128", "512" })
+    public int dimension;
+
+    private GeneralMatrix generalMatrix;
+    private SymmetricMatrix symmetricMatrix;
+    private LowerUnitriangularMatrix lowerUnitriangularMatrix;
+    private DiagonalMatrix diagonalMatrix;
+    private Vector vector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.generalMatrix = BenchmarkFixture.generalMatrix(this.dimension);
+        this.symmetricMatrix = BenchmarkFixture.symmetricMatrix(this.dimension);
+        this.lowerUnitriangularMatrix = this.buildLowerUnitriangularMatrix();
+        this.diagonalMatrix = this.buildDiagonalMatrix();
+        this.vector = BenchmarkFixture.vector(this.dimension);
+    }
+
+    @Benchmark
+    public GeneralMatrix generalBuild() {
+        return BenchmarkFixture.generalMatrix(this.dimension);
+    }
+
+    @Benchmark
+    public Vector generalOperate() {
+        return this.generalMatrix.operate(this.vector);
+    }
+
+    @Benchmark
+    public Vector generalOperateTranspose() {
+        return this.generalMatrix.operateTranspose(this.vector);
+    }
+
+    @Benchmark
+    public SymmetricMatrix symmetricBuild() {
+        return BenchmarkFixture.symmetricMatrix(this.dimension);
+    }
+
+    @Benchmark
+    public Vector symmetricOperate() {
+        return this.symmetricMatrix.operate(this.vector);
+    }
+
+    @Benchmark
+    public Vector symmetricOperateTranspose() {
+        return this.symmetricMatrix.operateTranspose(this.vector);
+    }
+
+    @Benchmark
+    public LowerUnitriangularMatrix lowerUnitriangularBuild() {
+        return this.buildLowerUnitriangularMatrix();
+    }
+
+    @Benchmark
+    public Vector lowerUnitriangularOperate() {
+        return this.lowerUnitriangularMatrix.operate(this.vector);
+    }
+
+    @Benchmark
+    public Vector lowerUnitriangularOperateTranspose() {
+        return this.lowerUnitriangularMatrix.operateTranspose(this.vector);
+    }
+
+    @Benchmark
+    public Vector lowerUnitriangularInverseOperate() {
+        return this.lowerUnitriangularMatrix.inverse().get().operate(this.vector);
+    }
+
+    @Benchmark
+    public double lowerUnitriangularDeterminant() {
+        return this.lowerUnitriangularMatrix.logAbsDeterminant();
+    }
+
+    @Benchmark
+    public DiagonalMatrix diagonalBuild() {
+        return this.buildDiagonalMatrix();
+    }
+
+    @Benchmark
+    public Vector diagonalOperate() {
+        return this.diagonalMatrix.operate(this.vector);
+    }
+
+    @Benchmark
+    public Vector diagonalInverseOperate() {
+        return this.diagonalMatrix.inverse().get().operate(this.vector);
+    }
+
+    @Benchmark
+    public double diagonalDeterminant() {
+        return this.diagonalMatrix.logAbsDeterminant();
+    }
+
+    private LowerUnitriangularMatrix buildLowerUnitriangularMatrix() {
+        final int n = this.dimension;
+        LowerUnitriangularMatrix.Builder builder =
+                LowerUnitriangularMatrix.Builder.unit(MatrixDimension.square(n));
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                builder.setValue(i, j, 1d / (i + j + 1));
+            }
+        }
+        return builder.build();
+    }
+
+    private DiagonalMatrix buildDiagonalMatrix() {
+        final int n = this.dimension;
+        DiagonalMatrix.Builder builder = DiagonalMatrix.Builder.zeroBuilder(MatrixDimension.square(n));
+        for (int i = 0; i < n; i++) {
+            builder.setValue(i, i + 1);
+        }
+        return builder.build();
+    }
+}
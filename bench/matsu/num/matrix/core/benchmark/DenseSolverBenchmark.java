@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.nlsf.Cholesky;
+import matsu.num.matrix.core.nlsf.LUPivoting;
+import matsu.num.matrix.core.nlsf.LUTypeSolver;
+import matsu.num.matrix.core.nlsf.ModifiedCholeskyPivoting;
+
+/**
+ * 密行列向けの LU 型の行列分解のエグゼキュータ
+ * ({@link LUPivoting}, {@link Cholesky}, {@link ModifiedCholeskyPivoting})
+ * に関するベンチマーク.
+ * 
+ * <p>
+ * 対象の行列は正定値対称行列であり, 全てのエグゼキュータで分解が成功する. <br>
+ * {@code factorize} は分解のみ,
+ * {@code solve} は分解済みのソルバの逆行列ベクトル積,
+ * {@code determinant} は分解と行列式の計算
+ * (行列式はソルバにキャッシュされるので, 分解を含めて計測する)
+ * を計測する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DenseSolverBenchmark {
+
+    /**
+     * 計測対象のエグゼキュータ.
+     */
+    public static enum Solver {
+
+        LU_PIVOTING(m -> LUPivoting.executor().apply(m).get()),
+        CHOLESKY(m -> Cholesky.executor().apply(m).get()),
+        MODIFIED_CHOLESKY_PIVOTING(m -> ModifiedCholeskyPivoting.executor().apply(m).get());
+
+        private final Function<SymmetricMatrix, LUTypeSolver> factorization;
+
+        private Solver(Function<SymmetricMatrix, LUTypeSolver> factorization) {
+            this.factorization = factorization;
+        }
+    }
+
+    @Param({ "16", "128", "512" })
+    public int dimension;
+
+    @Param
+    public Solver solver;
+
+    private SymmetricMatrix matrix;
+    private Matrix inverse;
+    private Vector vector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.matrix = BenchmarkFixture.symmetricMatrix(this.dimension);
+        this.inverse = this.solver.factorization.apply(this.matrix).inverse();
+        this.vector = BenchmarkFixture.vector(this.dimension);
+    }
+
+    @Benchmark
+    public LUTypeSolver factorize() {
+        return this.solver.factorization.apply(this.matrix);
+    }
+
+    @Benchmark
+    public Vector solve() {
+        return this.inverse.operate(this.vector);
+    }
+
+    @Benchmark
+    public double determinant() {
+        return this.solver.factorization.apply(this.matrix).logAbsDeterminant();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.qr.HouseholderQR;
+import matsu.num.matrix.core.qr.HouseholderQRBand;
+import matsu.num.matrix.core.qr.QRTypeSolver;
+
+/**
+ * QR 型の行列分解のエグゼキュータ ({@link HouseholderQR}, {@link HouseholderQRBand})
+ * に関するベンチマーク.
+ * 
+ * <p>
+ * {@code factorize} は分解のみ,
+ * {@code solve} は分解済みのソルバの一般化逆行列ベクトル積を計測する. <br>
+ * 密行列の次元は {@code dimension} の8分の1 (ただし16以上) とする.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QRSolverBenchmark {
+
+    @Param({ "1000", "4000" })
+    public int dimension;
+
+    @Param({ "1", "8", "64" })
+    public int bandWidth;
+
+    private GeneralMatrix denseMatrix;
+    private GeneralBandMatrix bandMatrix;
+    private Matrix denseInverse;
+    private Matrix bandInverse;
+    private Vector denseVector;
+    private Vector bandVector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int denseDimension = Math.max(16, this.dimension / 8);
+        this.denseMatrix = BenchmarkFixture.generalMatrix(denseDimension);
+        this.bandMatrix = BenchmarkFixture.generalBandMatrix(this.dimension, this.bandWidth);
+        this.denseInverse = HouseholderQR.executor().apply(this.denseMatrix).get().inverse();
+        this.bandInverse = HouseholderQRBand.executor().apply(this.bandMatrix).get().inverse();
+        this.denseVector = BenchmarkFixture.vector(denseDimension);
+        this.bandVector = BenchmarkFixture.vector(this.dimension);
+    }
+
+    @Benchmark
+    public QRTypeSolver householderFactorize() {
+        return HouseholderQR.executor().apply(this.denseMatrix).get();
+    }
+
+    @Benchmark
+    public Vector householderSolve() {
+        return this.denseInverse.operate(this.denseVector);
+    }
+
+    @Benchmark
+    public QRTypeSolver householderBandFactorize() {
+        return HouseholderQRBand.executor().apply(this.bandMatrix).get();
+    }
+
+    @Benchmark
+    public Vector householderBandSolve() {
+        return this.bandInverse.operate(this.bandVector);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.common;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code jdk.incubator.vector} を用いた {@link ArraysKernel} の実装.
+ * 
+ * <p>
+ * このクラスは {@code jdk.incubator.vector} モジュールが利用可能な場合に限り,
+ * {@link ArraysUtil} からリフレクションによりロードされる. <br>
+ * インキュベータモジュールへの依存をメインのモジュールから切り離すため,
+ * このクラスはソースフォルダ {@code src-vector} に置かれ,
+ * メインのソースとは別に {@code --add-modules jdk.incubator.vector} を付けてコンパイルされる.
+ * </p>
+ * 
+ * <p>
+ * 内積やノルムは加算の順序がスカラー実装と異なるため,
+ * 結果が丸め誤差の範囲で異なる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class VectorizedArraysKernel implements ArraysKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * 唯一のコンストラクタ.
+     * {@link ArraysUtil} からリフレクションで呼ばれる.
+     */
+    VectorizedArraysKernel() {
+        super();
+    }
+
+    @Override
+    public void add(double[] operand, double[] reference) {
+        final int dimension = operand.length;
+        final int bound = SPECIES.loopBound(dimension);
+        int i;
+        for (i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, operand, i);
+            DoubleVector u = DoubleVector.fromArray(SPECIES, reference, i);
+            v.add(u).intoArray(operand, i);
+        }
+        for (; i < dimension; i++) {
+            operand[i] += reference[i];
+        }
+    }
+
+    @Override
+    public void addCTimes(double[] operand, double[] reference, double scalar) {
+        final int dimension = operand.length;
+        final int bound = SPECIES.loopBound(dimension);
+        int i;
+        for (i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, operand, i);
+            DoubleVector u = DoubleVector.fromArray(SPECIES, reference, i);
+            v.add(u.mul(scalar)).intoArray(operand, i);
+        }
+        for (; i < dimension; i++) {
+            operand[i] += reference[i] * scalar;
+        }
+    }
+
+    @Override
+    public double dot(
+            double[] vector1, int offset1, double[] vector2, int offset2, int length) {
+        final int bound = SPECIES.loopBound(length);
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int k;
+        for (k = 0; k < bound; k += SPECIES.length()) {
+            DoubleVector u = DoubleVector.fromArray(SPECIES, vector1, offset1 + k);
+            DoubleVector v = DoubleVector.fromArray(SPECIES, vector2, offset2 + k);
+            acc = acc.add(u.mul(v));
+        }
+        double out = acc.reduceLanes(VectorOperators.ADD);
+        for (; k < length; k++) {
+            out += vector1[offset1 + k] * vector2[offset2 + k];
+        }
+        return out;
+    }
+
+    @Override
+    public double norm2Square(double[] vector) {
+        final int dimension = vector.length;
+        final int bound = SPECIES.loopBound(dimension);
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i;
+        for (i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, vector, i);
+            acc = acc.add(v.mul(v));
+        }
+        double out = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < dimension; i++) {
+            double e = vector[i];
+            out += e * e;
+        }
+        return out;
+    }
+
+    @Override
+    public double normMax(double[] vector) {
+        final int dimension = vector.length;
+        final int bound = SPECIES.loopBound(dimension);
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i;
+        for (i = 0; i < bound; i += SPECIES.length()) {
+            acc = acc.max(DoubleVector.fromArray(SPECIES, vector, i).abs());
+        }
+        double out = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < dimension; i++) {
+            out = Math.max(out, Math.abs(vector[i]));
+        }
+        return out;
+    }
+}
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -21,6 +21,7 @@ import matsu.num.matrix.core.helper.value.BandDimensionPositionState;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
 import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 
 /**
  * {@link DiagonalMatrix} の具象を提供する. <br>
@@ -38,6 +39,11 @@ final class DiagonalMatrixImpl
 
     private final double entryNormMax;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(DiagonalMatrixImpl.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -93,22 +99,30 @@ final class DiagonalMatrixImpl
 
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = bandMatrixDimension.dimension().leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    @Override
+    public void operateInto(Vector operand, double[] out) {
 
         final var vectorDimension = operand.vectorDimension();
         final int dimension = vectorDimension.intValue();
 
-        MatrixValidationSupport.validateOperate(
-                bandMatrixDimension.dimension(), vectorDimension);
+        MatrixValidationSupport.validateOperateInto(
+                bandMatrixDimension.dimension(), vectorDimension, out);
 
-        final double[] resultEntry = operand.entryAsArray();
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
         final double[] thisDiagonalEntry = this.diagonalEntry;
         for (int i = 0; i < dimension; i++) {
-            resultEntry[i] *= thisDiagonalEntry[i];
+            resultEntry[i] = operandEntry[i] * thisDiagonalEntry[i];
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     /**
@@ -283,6 +297,13 @@ final class DiagonalMatrixImpl
         private final DeterminantValues determinantValues;
         private final Optional<DiagonalMatrix> opInverse;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    InverseAndDeterminantAttachedDiagonalMatrixImpl.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.original));
+        }
+
         /**
          * 唯一のコンストラクタ.
          * 引数の正当性はチェックしていない.
@@ -316,6 +337,11 @@ final class DiagonalMatrixImpl
             return this.original.operate(operand);
         }
 
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            this.original.operateInto(operand, out);
+        }
+
         @Override
         public double determinant() {
             return this.determinantValues.determinant();
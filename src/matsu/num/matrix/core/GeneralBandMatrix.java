@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -18,6 +18,7 @@ import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.value.BandDimensionPositionState;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
@@ -61,6 +62,11 @@ public final class GeneralBandMatrix
 
     private double entryNormMax;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(GeneralBandMatrix.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -124,17 +130,30 @@ public final class GeneralBandMatrix
      */
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = bandMatrixDimension.dimension().leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperate(
-                bandMatrixDimension.dimension(), operand.vectorDimension());
+        MatrixValidationSupport.validateOperateInto(
+                bandMatrixDimension.dimension(), operand.vectorDimension(), out);
 
         final int dimension = vectorDimension.intValue();
         final int thisLowerBandWidth = bandMatrixDimension.lowerBandWidth();
         final int thisUpperBandWidth = bandMatrixDimension.upperBandWidth();
 
-        final double[] operandEntry = operand.entryAsArray();
-        final double[] resultEntry = new double[dimension];
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
 
         final double[] thisDiagonalEntry = this.diagonalEntry;
         final double[] thisLowerEntry = this.lowerEntry;
@@ -142,7 +161,7 @@ public final class GeneralBandMatrix
 
         //対角成分
         for (int i = 0; i < dimension; i++) {
-            resultEntry[i] += thisDiagonalEntry[i] * operandEntry[i];
+            resultEntry[i] = thisDiagonalEntry[i] * operandEntry[i];
         }
         //狭義下三角成分
         int in = -thisLowerBandWidth;
@@ -180,9 +199,7 @@ public final class GeneralBandMatrix
             resultEntry[i] += (v0 + v1) + (v2 + v3);
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     /**
@@ -191,17 +208,30 @@ public final class GeneralBandMatrix
      */
     @Override
     public Vector operateTranspose(Vector operand) {
+        final var resultDimension = bandMatrixDimension.dimension().rightOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateTransposeInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperateTranspose(
-                bandMatrixDimension.dimension(), operand.vectorDimension());
+        MatrixValidationSupport.validateOperateTransposeInto(
+                bandMatrixDimension.dimension(), operand.vectorDimension(), out);
 
         final int dimension = vectorDimension.intValue();
         final int thisLowerBandWidth = bandMatrixDimension.lowerBandWidth();
         final int thisUpperBandWidth = bandMatrixDimension.upperBandWidth();
 
-        final double[] operandEntry = operand.entryAsArray();
-        final double[] resultEntry = new double[dimension];
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
 
         final double[] thisDiagonalEntry = this.diagonalEntry;
         final double[] thisLowerEntry = this.lowerEntry;
@@ -209,7 +239,7 @@ public final class GeneralBandMatrix
 
         //対角成分
         for (int i = 0; i < dimension; i++) {
-            resultEntry[i] += thisDiagonalEntry[i] * operandEntry[i];
+            resultEntry[i] = thisDiagonalEntry[i] * operandEntry[i];
         }
         //狭義上三角成分
         int in = -thisUpperBandWidth;
@@ -249,9 +279,7 @@ public final class GeneralBandMatrix
             resultEntry[i] += (v0 + v1) + (v2 + v3);
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
@@ -6,17 +6,20 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.DoubleFunction;
 
 import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.common.MatrixProductKernel;
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
@@ -42,6 +45,11 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
 
     private final double entryNormMax;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(GeneralMatrix.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -87,46 +95,36 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
      */
     @Override
     public Vector operate(Vector operand) {
+        final double[] resultEntry = new double[matrixDimension.rowAsIntValue()];
+        this.operateInto(operand, resultEntry);
 
-        MatrixValidationSupport.validateOperate(
-                matrixDimension, operand.vectorDimension());
+        return VectorEntryAccess.adopt(this.matrixDimension.leftOperableVectorDimension(), resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                matrixDimension, operand.vectorDimension(), out);
 
         final int rowDimension = matrixDimension.rowAsIntValue();
         final int columnDimension = matrixDimension.columnAsIntValue();
-        final double[] operandEntry = operand.entryAsArray();
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
 
-        final double[] resultEntry = new double[rowDimension];
+        final double[] resultEntry = out;
         final double[] matrixEntry = this.entry;
 
+        //各行と作用ベクトルの内積 (カーネルはArraysUtilにより選択される)
         int jn = -columnDimension;
         for (int j = 0; j < rowDimension; j++) {
             jn += columnDimension;
-
-            /*
-             * 主要ループで4成分の計算を同時に行う.
-             * 影響する変数を分けることで, 並列実行できる可能性がある.
-             */
-            double v0 = 0d;
-            double v1 = 0d;
-            double v2 = 0d;
-            double v3 = 0d;
-
-            int k;
-            for (k = 0; k < columnDimension - 3; k += 4) {
-                v0 += matrixEntry[jn + k] * operandEntry[k];
-                v1 += matrixEntry[jn + k + 1] * operandEntry[k + 1];
-                v2 += matrixEntry[jn + k + 2] * operandEntry[k + 2];
-                v3 += matrixEntry[jn + k + 3] * operandEntry[k + 3];
-            }
-            for (; k < columnDimension; k++) {
-                v0 += matrixEntry[jn + k] * operandEntry[k];
-            }
-            resultEntry[j] = (v0 + v1) + (v2 + v3);
+            resultEntry[j] = ArraysUtil.dot(matrixEntry, jn, operandEntry, 0, columnDimension);
         }
 
-        var builder = Vector.Builder.zeroBuilder(this.matrixDimension.leftOperableVectorDimension());
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     /**
@@ -135,15 +133,27 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
      */
     @Override
     public Vector operateTranspose(Vector operand) {
-        MatrixValidationSupport.validateOperateTranspose(
-                matrixDimension, operand.vectorDimension());
+        final double[] resultEntry = new double[matrixDimension.columnAsIntValue()];
+        this.operateTransposeInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(this.matrixDimension.rightOperableVectorDimension(), resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateTransposeInto(
+                matrixDimension, operand.vectorDimension(), out);
 
         final int rowDimension = matrixDimension.rowAsIntValue();
         final int columnDimension = matrixDimension.columnAsIntValue();
 
-        final double[] operandEntry = operand.entryAsArray();
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
 
-        final double[] resultEntry = new double[columnDimension];
+        final double[] resultEntry = out;
         final double[] matrixEntry = this.entry;
 
         for (int k = 0; k < columnDimension; k++) {
@@ -158,9 +168,7 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
             }
         }
 
-        var builder = Vector.Builder.zeroBuilder(this.matrixDimension.rightOperableVectorDimension());
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
@@ -194,6 +202,8 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
      * このビルダインスタンスを得るには,
      * {@link #zero(MatrixDimension)}
      * をコールする. <br>
+     * 行列の積で初期化されたビルダは {@link #productOf(EntryReadableMatrix, EntryReadableMatrix)}
+     * により得られる. <br>
      * ビルダの生成時に有効要素数が大きすぎる場合は例外がスローされる. <br>
      * そのルールは {@link MatrixDimension#isAccepedForDenseMatrix()}
      * に従う.
@@ -385,6 +395,83 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
             }
         }
 
+        /**
+         * 行列の積を用いて成分を更新する:
+         * C &larr; &alpha; AB + &beta; C. <br>
+         * C はこのビルダが保持する行列である.
+         * 
+         * <p>
+         * 積は密行列として直接計算される
+         * (行列ベクトル積を繰り返すことはない). <br>
+         * 演算量が大きい場合, 計算は {@link java.util.concurrent.ForkJoinPool#commonPool()}
+         * により並列に実行される. <br>
+         * 計算結果が不正値となる成分は, 正常値に修正される.
+         * </p>
+         * 
+         * <p>
+         * &beta; = 0 の場合, 元の C の成分は参照されない.
+         * </p>
+         * 
+         * <p>
+         * A, B は密行列に展開して計算するので, それらの要素数
+         * (行数と列数の積) が密行列として受け入れられない場合
+         * ({@link MatrixDimension#isAccepedForDenseMatrix()} が {@code false} の場合)
+         * は例外がスローされる. <br>
+         * この場合, C は変更されない.
+         * </p>
+         *
+         * @param alpha &alpha;
+         * @param a A
+         * @param b B
+         * @param beta &beta;
+         * @throws MatrixFormatMismatchException A, B, C の次元が整合しない場合
+         * @throws ElementsTooManyException A または B の要素数が密行列として大きすぎる場合
+         * @throws IllegalStateException すでにビルドされている場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void multiplyAndAdd(
+                double alpha, EntryReadableMatrix a, EntryReadableMatrix b, double beta) {
+            this.throwISExIfCannotBeUsed();
+
+            final var aDimension = a.matrixDimension();
+            final var bDimension = b.matrixDimension();
+            final int rowDimension = this.matrixDimension.rowAsIntValue();
+            final int columnDimension = this.matrixDimension.columnAsIntValue();
+            final int innerDimension = aDimension.columnAsIntValue();
+            if (!(aDimension.rowAsIntValue() == rowDimension
+                    && bDimension.rowAsIntValue() == innerDimension
+                    && bDimension.columnAsIntValue() == columnDimension)) {
+                throw new MatrixFormatMismatchException(
+                        "undefined operation: C: %s, A: %s, B: %s"
+                                .formatted(this.matrixDimension, aDimension, bDimension));
+            }
+            if (!(aDimension.isAccepedForDenseMatrix() && bDimension.isAccepedForDenseMatrix())) {
+                throw new ElementsTooManyException(
+                        "too many entries for dense operands: A: %s, B: %s"
+                                .formatted(aDimension, bDimension));
+            }
+
+            final double[] thisEntry = this.entry;
+            if (beta == 0d) {
+                Arrays.fill(thisEntry, 0d);
+            } else if (beta != 1d) {
+                ArraysUtil.multiply(thisEntry, beta);
+            }
+
+            MatrixProductKernel.multiplyAndAdd(
+                    alpha,
+                    denseEntryOf(a), 0, innerDimension,
+                    denseEntryOf(b), 0, columnDimension,
+                    thisEntry, 0, columnDimension,
+                    rowDimension, innerDimension, columnDimension);
+
+            if (!ArraysUtil.allFinite(thisEntry)) {
+                for (int i = 0; i < thisEntry.length; i++) {
+                    thisEntry[i] = EntryReadableMatrix.modified(thisEntry[i]);
+                }
+            }
+        }
+
         /**
          * このビルダが使用可能か (ビルド前かどうか) を判定する.
          * 
@@ -492,9 +579,8 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
                 double[] rightArray = new double[srcRowDimension];
                 rightArray[j] = 1;
 
-                var builder = Vector.Builder.zeroBuilder(srcMatrixDimension.leftOperableVectorDimension());
-                builder.setEntryValue(rightArray);
-                final var result = src.operateTranspose(builder.build());
+                final var result = src.operateTranspose(
+                        VectorEntryAccess.adopt(srcMatrixDimension.leftOperableVectorDimension(), rightArray));
                 for (int k = 0; k < srcColumnDimension; k++) {
                     outBuilder.setValue(j, k, result.valueAt(k));
                 }
@@ -502,6 +588,63 @@ public final class GeneralMatrix extends SkeletalAsymmetricMatrix<EntryReadableM
             return outBuilder;
         }
 
+        /**
+         * 2個の行列の積 AB で初期化されたビルダを作成する. <br>
+         * 計算の詳細は {@link #multiplyAndAdd(double, EntryReadableMatrix, EntryReadableMatrix, double)}
+         * に従う.
+         * 
+         * <p>
+         * Gram行列 A<sup>T</sup>A は, {@code productOf(a.transpose(), a)} により得られる.
+         * </p>
+         *
+         * @param a A
+         * @param b B
+         * @return 積 AB で初期化されたビルダ
+         * @throws MatrixFormatMismatchException A の列数と B の行数が一致しない場合
+         * @throws ElementsTooManyException 積の有効要素数が大きすぎる場合(クラス説明文),
+         *             A または B の要素数が密行列として大きすぎる場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public static Builder productOf(EntryReadableMatrix a, EntryReadableMatrix b) {
+            final var aDimension = a.matrixDimension();
+            final var bDimension = b.matrixDimension();
+            if (aDimension.columnAsIntValue() != bDimension.rowAsIntValue()) {
+                throw new MatrixFormatMismatchException(
+                        "undefined operation: A: %s, B: %s"
+                                .formatted(aDimension, bDimension));
+            }
+
+            final var outBuilder = new Builder(
+                    MatrixDimension.rectangle(
+                            aDimension.rowAsIntValue(), bDimension.columnAsIntValue()));
+            outBuilder.multiplyAndAdd(1d, a, b, 0d);
+            return outBuilder;
+        }
+
+        /**
+         * 行列の成分を行優先の1次元配列として返す. <br>
+         * {@link GeneralMatrix} の場合は内部配列そのものを返すので, 書き換えてはならない. <br>
+         * 要素数が密行列として受け入れられることは, 呼び出し元で検証済みでなければならない.
+         */
+        private static double[] denseEntryOf(EntryReadableMatrix src) {
+            if (src instanceof GeneralMatrix castedSrc) {
+                return castedSrc.entry;
+            }
+
+            final var srcMatrixDimension = src.matrixDimension();
+            final int srcRowDimension = srcMatrixDimension.rowAsIntValue();
+            final int srcColumnDimension = srcMatrixDimension.columnAsIntValue();
+            final double[] out = new double[srcRowDimension * srcColumnDimension];
+            int jn = -srcColumnDimension;
+            for (int j = 0; j < srcRowDimension; j++) {
+                jn += srcColumnDimension;
+                for (int k = 0; k < srcColumnDimension; k++) {
+                    out[jn + k] = src.valueAt(j, k);
+                }
+            }
+            return out;
+        }
+
         /**
          * 与えられたインスタンスの成分で初期化されたビルダを作成する.
          *
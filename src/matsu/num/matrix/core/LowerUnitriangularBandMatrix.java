@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -17,6 +17,7 @@ import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.value.BandDimensionPositionState;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
@@ -53,6 +54,11 @@ public final class LowerUnitriangularBandMatrix
 
     private final Optional<Matrix> inverse;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(LowerUnitriangularBandMatrix.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -112,31 +118,44 @@ public final class LowerUnitriangularBandMatrix
      */
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = bandMatrixDimension.dimension().leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperate(bandMatrixDimension.dimension(), vectorDimension);
+        MatrixValidationSupport.validateOperateInto(bandMatrixDimension.dimension(), vectorDimension, out);
 
         final int dimension = vectorDimension.intValue();
         final int thisLowerBandWidth = bandMatrixDimension.lowerBandWidth();
 
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
         final double[] resultEntry;
         final double[] thisLowerEntry = this.lowerEntry;
 
         //対角成分の影響: 全て1なのでコピー
-        resultEntry = operand.entryAsArray();
+        resultEntry = out;
+        System.arraycopy(operandEntry, 0, resultEntry, 0, dimension);
         //狭義下三角成分
         int in = dimension * thisLowerBandWidth;
         for (int i = dimension - 1; i >= 0; i--) {
-            final double oe_i = operand.valueAt(i);
+            final double oe_i = operandEntry[i];
             in -= thisLowerBandWidth;
             for (int j = Math.min(thisLowerBandWidth, dimension - i - 1) - 1; j >= 0; j--) {
                 resultEntry[i + j + 1] += thisLowerEntry[in + j] * oe_i;
             }
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     /**
@@ -145,19 +164,33 @@ public final class LowerUnitriangularBandMatrix
      */
     @Override
     public Vector operateTranspose(Vector operand) {
+        final var resultDimension = bandMatrixDimension.dimension().rightOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateTransposeInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperateTranspose(bandMatrixDimension.dimension(), vectorDimension);
+        MatrixValidationSupport.validateOperateTransposeInto(bandMatrixDimension.dimension(), vectorDimension, out);
 
         final int dimension = vectorDimension.intValue();
         final int thisLowerBandWidth = bandMatrixDimension.lowerBandWidth();
 
-        final double[] operandEntry = operand.entryAsArray();
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
         final double[] resultEntry;
         final double[] thisLowerEntry = this.lowerEntry;
 
         //対角成分の影響: 全て1なのでコピー
-        resultEntry = operand.entryAsArray();
+        resultEntry = out;
+        System.arraycopy(operandEntry, 0, resultEntry, 0, dimension);
         //狭義下三角成分
         int in = -thisLowerBandWidth;
         for (int i = 0; i < dimension; i++) {
@@ -185,9 +218,7 @@ public final class LowerUnitriangularBandMatrix
             resultEntry[i] += (v0 + v1) + (v2 + v3);
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
@@ -253,15 +284,25 @@ public final class LowerUnitriangularBandMatrix
 
             @Override
             public Vector operate(Vector operand) {
+                final var resultDimension = bandMatrixDimension.dimension().leftOperableVectorDimension();
+                final double[] resultEntry = new double[resultDimension.intValue()];
+                this.operateInto(operand, resultEntry);
+
+                return VectorEntryAccess.adopt(resultDimension, resultEntry);
+            }
+
+            @Override
+            public void operateInto(Vector operand, double[] out) {
                 final var vectorDimension = operand.vectorDimension();
 
-                MatrixValidationSupport.validateOperateTranspose(
-                        bandMatrixDimension.dimension(), vectorDimension);
+                MatrixValidationSupport.validateOperateInto(
+                        bandMatrixDimension.dimension(), vectorDimension, out);
 
                 final int dimension = vectorDimension.intValue();
                 final int thisLowerBandWidth = bandMatrixDimension.lowerBandWidth();
 
-                final double[] resultEntry = operand.entryAsArray();
+                final double[] resultEntry = out;
+                System.arraycopy(VectorEntryAccess.entryReference(operand), 0, resultEntry, 0, dimension);
                 final double[] thisLowerEntry = lowerEntry;
 
                 int in = -thisLowerBandWidth;
@@ -273,22 +314,30 @@ public final class LowerUnitriangularBandMatrix
                     }
                 }
 
-                var builder = Vector.Builder.zeroBuilder(vectorDimension);
-                builder.setEntryValue(resultEntry);
-                return builder.build();
+                VectorEntryAccess.modify(resultEntry);
             }
 
             @Override
             public Vector operateTranspose(Vector operand) {
+                final var resultDimension = bandMatrixDimension.dimension().rightOperableVectorDimension();
+                final double[] resultEntry = new double[resultDimension.intValue()];
+                this.operateTransposeInto(operand, resultEntry);
+
+                return VectorEntryAccess.adopt(resultDimension, resultEntry);
+            }
+
+            @Override
+            public void operateTransposeInto(Vector operand, double[] out) {
                 final var vectorDimension = operand.vectorDimension();
 
-                MatrixValidationSupport.validateOperate(
-                        bandMatrixDimension.dimension(), vectorDimension);
+                MatrixValidationSupport.validateOperateTransposeInto(
+                        bandMatrixDimension.dimension(), vectorDimension, out);
 
                 final int dimension = vectorDimension.intValue();
                 final int thisLowerBandWidth = bandMatrixDimension.lowerBandWidth();
 
-                final double[] resultEntry = operand.entryAsArray();
+                final double[] resultEntry = out;
+                System.arraycopy(VectorEntryAccess.entryReference(operand), 0, resultEntry, 0, dimension);
                 final double[] thisLowerEntry = lowerEntry;
 
                 int in = dimension * thisLowerBandWidth;
@@ -307,9 +356,9 @@ public final class LowerUnitriangularBandMatrix
                     int k, l;
                     for (l = Math.min(thisLowerBandWidth, dimension - i - 1), k = l - 1; k >= 3; k -= 4) {
                         v0 += thisLowerEntry[in + k] * resultEntry[i + k + 1];
-                        v1 += thisLowerEntry[in + k + 1] * resultEntry[i + k + 2];
-                        v2 += thisLowerEntry[in + k + 2] * resultEntry[i + k + 3];
-                        v3 += thisLowerEntry[in + k + 3] * resultEntry[i + k + 4];
+                        v1 += thisLowerEntry[in + k - 1] * resultEntry[i + k];
+                        v2 += thisLowerEntry[in + k - 2] * resultEntry[i + k - 1];
+                        v3 += thisLowerEntry[in + k - 3] * resultEntry[i + k - 2];
                     }
                     for (; k >= 0; k--) {
                         v0 += thisLowerEntry[in + k] * resultEntry[i + k + 1];
@@ -317,9 +366,7 @@ public final class LowerUnitriangularBandMatrix
                     resultEntry[i] -= (v0 + v1) + (v2 + v3);
                 }
 
-                var builder = Vector.Builder.zeroBuilder(vectorDimension);
-                builder.setEntryValue(resultEntry);
-                return builder.build();
+                VectorEntryAccess.modify(resultEntry);
             }
         };
 
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -17,6 +17,7 @@ import matsu.num.matrix.core.common.CalcUtil;
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
@@ -48,6 +49,11 @@ public final class LowerUnitriangularMatrix
 
     private final Optional<Matrix> inverse;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(LowerUnitriangularMatrix.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -115,17 +121,31 @@ public final class LowerUnitriangularMatrix
      */
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = matrixDimension.leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperate(matrixDimension, vectorDimension);
+        MatrixValidationSupport.validateOperateInto(matrixDimension, vectorDimension, out);
 
         final int dimension = vectorDimension.intValue();
 
-        final double[] operandEntry = operand.entryAsArray();
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
         final double[] thisLowerEntry = this.lowerEntry;
 
         //対角成分の影響: 全て1なのでコピー
-        final double[] resultEntry = operand.entryAsArray();
+        final double[] resultEntry = out;
+        System.arraycopy(operandEntry, 0, resultEntry, 0, dimension);
         //狭義下三角成分
         int in = CalcUtil.sumOf1To(dimension - 1);
         for (int i = dimension - 1; i >= 0; i--) {
@@ -152,9 +172,7 @@ public final class LowerUnitriangularMatrix
             }
             resultEntry[i] += (v0 + v1) + (v2 + v3);
         }
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     /**
@@ -163,29 +181,42 @@ public final class LowerUnitriangularMatrix
      */
     @Override
     public Vector operateTranspose(Vector operand) {
+        final var resultDimension = matrixDimension.rightOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateTransposeInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperateTranspose(matrixDimension, vectorDimension);
+        MatrixValidationSupport.validateOperateTransposeInto(matrixDimension, vectorDimension, out);
 
         final int dimension = vectorDimension.intValue();
 
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
         final double[] thisLowerEntry = this.lowerEntry;
 
         //対角成分の影響: 全て1なのでコピー
-        final double[] resultEntry = operand.entryAsArray();
+        final double[] resultEntry = out;
+        System.arraycopy(operandEntry, 0, resultEntry, 0, dimension);
         //狭義下三角成分
         int in = 1;
         for (int i = 0; i < dimension; i++) {
-            final double oe_i = operand.valueAt(i);
+            final double oe_i = operandEntry[i];
             in += i - 1;
             for (int j = 0; j < i; j++) {
                 resultEntry[j] += thisLowerEntry[in + j] * oe_i;
             }
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
@@ -235,14 +266,24 @@ public final class LowerUnitriangularMatrix
 
             @Override
             public Vector operate(Vector operand) {
+                final var resultDimension = matrixDimension.leftOperableVectorDimension();
+                final double[] resultEntry = new double[resultDimension.intValue()];
+                this.operateInto(operand, resultEntry);
+
+                return VectorEntryAccess.adopt(resultDimension, resultEntry);
+            }
+
+            @Override
+            public void operateInto(Vector operand, double[] out) {
                 final var vectorDimension = operand.vectorDimension();
 
-                MatrixValidationSupport.validateOperateTranspose(matrixDimension, vectorDimension);
+                MatrixValidationSupport.validateOperateInto(matrixDimension, vectorDimension, out);
 
                 final int dimension = vectorDimension.intValue();
                 final double[] thisLowerEntry = lowerEntry;
 
-                final double[] resultEntry = operand.entryAsArray();
+                final double[] resultEntry = out;
+                System.arraycopy(VectorEntryAccess.entryReference(operand), 0, resultEntry, 0, dimension);
 
                 int in = 1;
                 for (int i = 0; i < dimension; i++) {
@@ -270,21 +311,29 @@ public final class LowerUnitriangularMatrix
                     resultEntry[i] -= (v0 + v1) + (v2 + v3);
                 }
 
-                var builder = Vector.Builder.zeroBuilder(vectorDimension);
-                builder.setEntryValue(resultEntry);
-                return builder.build();
+                VectorEntryAccess.modify(resultEntry);
             }
 
             @Override
             public Vector operateTranspose(Vector operand) {
+                final var resultDimension = matrixDimension.rightOperableVectorDimension();
+                final double[] resultEntry = new double[resultDimension.intValue()];
+                this.operateTransposeInto(operand, resultEntry);
+
+                return VectorEntryAccess.adopt(resultDimension, resultEntry);
+            }
+
+            @Override
+            public void operateTransposeInto(Vector operand, double[] out) {
                 final var vectorDimension = operand.vectorDimension();
 
-                MatrixValidationSupport.validateOperate(matrixDimension, vectorDimension);
+                MatrixValidationSupport.validateOperateTransposeInto(matrixDimension, vectorDimension, out);
 
                 final int dimension = vectorDimension.intValue();
                 final double[] thisLowerEntry = lowerEntry;
 
-                final double[] resultEntry = operand.entryAsArray();
+                final double[] resultEntry = out;
+                System.arraycopy(VectorEntryAccess.entryReference(operand), 0, resultEntry, 0, dimension);
 
                 int in = CalcUtil.sumOf1To(dimension - 1);
                 for (int i = dimension - 1; i >= 0; i--) {
@@ -295,9 +344,7 @@ public final class LowerUnitriangularMatrix
                     }
                 }
 
-                var builder = Vector.Builder.zeroBuilder(vectorDimension);
-                builder.setEntryValue(resultEntry);
-                return builder.build();
+                VectorEntryAccess.modify(resultEntry);
             }
         };
     }
@@ -6,12 +6,14 @@
  */
 
 /*
- * 2025.6.14
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
 import matsu.num.matrix.core.helper.matrix.multiply.MatrixMultiplicationUtil;
 import matsu.num.matrix.core.helper.matrix.transpose.TranspositionUtil;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
 
@@ -117,6 +119,80 @@ public interface Matrix {
      */
     public Vector operateTranspose(Vector operand);
 
+    /**
+     * 行列に右からベクトルを作用させ, 結果を与えた配列に書き込む:
+     * <b>w</b> = M<b>v</b>.
+     * <br>
+     * M: 行列({@code this}). <br>
+     * <b>v</b>: 右から作用させるベクトル. <br>
+     * <b>w</b>: 計算結果の出力先配列.
+     * 
+     * <p>
+     * {@link #operate(Vector)} と同一の計算を行うが,
+     * 結果を {@link Vector} として生成せずに呼び出し側が用意した配列に書き込む. <br>
+     * 配列の長さは, 結果のベクトルの次元
+     * ({@link MatrixDimension#leftOperableVectorDimension()})
+     * に一致しなければならない. <br>
+     * 配列の元の値は全て上書きされる. <br>
+     * 演算結果は {@link Vector} が扱うことができる値の範囲を超えないように修正される.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルト実装では, {@link #operate(Vector)} の結果を配列にコピーする. <br>
+     *               繰り返し計算における中間オブジェクトの生成を避けるため,
+     *               可能な場合はオーバーライドして, 配列へ直接書き込むべきである.
+     *
+     * @param operand <b>v</b>, 作用ベクトル
+     * @param out <b>w</b>, 計算結果の出力先
+     * @throws MatrixFormatMismatchException 作用ベクトル <b>v</b> の次元が行列サイズと適合しない場合,
+     *             出力先配列の長さが結果の次元と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                this.matrixDimension(), operand.vectorDimension(), out);
+
+        double[] resultEntry = VectorEntryAccess.entryReference(this.operate(operand));
+        System.arraycopy(resultEntry, 0, out, 0, out.length);
+    }
+
+    /**
+     * 行列の転置に右からベクトルを作用させ, 結果を与えた配列に書き込む:
+     * <b>w</b> = M<sup>T</sup><b>v</b>. <br>
+     * M: {@code this} を転置した行列. <br>
+     * <b>v</b>: 右から作用させるベクトル. <br>
+     * <b>w</b>: 計算結果の出力先配列.
+     * 
+     * <p>
+     * {@link #operateTranspose(Vector)} と同一の計算を行うが,
+     * 結果を {@link Vector} として生成せずに呼び出し側が用意した配列に書き込む. <br>
+     * 配列の長さは, 結果のベクトルの次元
+     * ({@link MatrixDimension#rightOperableVectorDimension()})
+     * に一致しなければならない. <br>
+     * 配列の元の値は全て上書きされる. <br>
+     * 演算結果は {@link Vector} が扱うことができる値の範囲を超えないように修正される.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルト実装では, {@link #operateTranspose(Vector)} の結果を配列にコピーする.
+     *               <br>
+     *               繰り返し計算における中間オブジェクトの生成を避けるため,
+     *               可能な場合はオーバーライドして, 配列へ直接書き込むべきである.
+     *
+     * @param operand <b>v</b>, 作用ベクトル
+     * @param out <b>w</b>, 計算結果の出力先
+     * @throws MatrixFormatMismatchException 作用ベクトル <b>v</b> の次元が行列サイズと適合しない場合,
+     *             出力先配列の長さが結果の次元と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default void operateTransposeInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateTransposeInto(
+                this.matrixDimension(), operand.vectorDimension(), out);
+
+        double[] resultEntry = VectorEntryAccess.entryReference(this.operateTranspose(operand));
+        System.arraycopy(resultEntry, 0, out, 0, out.length);
+    }
+
     /**
      * この行列の転置行列を返す.
      * 
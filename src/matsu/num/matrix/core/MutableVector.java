@@ -0,0 +1,504 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 成分を書き換え可能な縦ベクトルを扱う. <br>
+ * 反復計算における作業領域として, {@link Vector} と併用することを想定している.
+ *
+ * <p>
+ * {@link Vector} がイミュータブルであり, 演算のたびに新しいインスタンスを生成するのに対し,
+ * このクラスは自身の成分を直接書き換える演算 (in-place 演算) を提供する. <br>
+ * 成分に不正値を含まないことを保証する点は {@link Vector} と同様であり,
+ * 演算結果は {@link Vector} が扱うことができる値の範囲を超えないように修正される.
+ * </p>
+ *
+ * <p>
+ * このクラスのインスタンスはミュータブルであり, スレッドセーフでない. <br>
+ * インスタンスを得るには, {@link #zero(VectorDimension)}, {@link #from(Vector)}
+ * をコールする.
+ * </p>
+ *
+ * <p>
+ * {@link Vector} への変換には, {@link #snapshot()} と {@link #freeze()} が用意されている. <br>
+ * {@link #snapshot()} は成分をコピーして {@link Vector} を生成し,
+ * このインスタンスは引き続き使用できる. <br>
+ * {@link #freeze()} は成分をコピーせずに {@link Vector} に引き渡し,
+ * このインスタンスは使用不能となる.
+ * </p>
+ *
+ * @author Matsuura Y.
+ */
+public final class MutableVector {
+
+    private final VectorDimension vectorDimension;
+    private double[] entry;
+
+    /**
+     * 与えた次元と成分配列を持つインスタンスを生成する. <br>
+     * 配列はコピーされないので, 参照が漏洩していないものを渡さなければならない.
+     */
+    private MutableVector(VectorDimension vectorDimension, double[] entry) {
+        this.vectorDimension = vectorDimension;
+        this.entry = entry;
+    }
+
+    /**
+     * ベクトルの次元を取得する.
+     *
+     * @return ベクトルの次元
+     */
+    public VectorDimension vectorDimension() {
+        return this.vectorDimension;
+    }
+
+    /**
+     * ベクトルの要素 <i>i</i> の値を返す.
+     *
+     * @param index <i>i</i>
+     * @return 要素 <i>i</i> の値
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws IndexOutOfBoundsException indexが範囲外の場合
+     */
+    public double valueAt(int index) {
+        this.throwISExIfCannotBeUsed();
+        this.throwIOOBExIfIndexOutOfVector(index);
+
+        return this.entry[index];
+    }
+
+    /**
+     * ベクトルの要素 <i>i</i> を与えられた値で置き換える. <br>
+     * ただし, 不正な値を与えた場合, 正常な値に置き換えられる.
+     *
+     * @param index <i>i</i>
+     * @param value 置き換えた後の値
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws IndexOutOfBoundsException indexが範囲外の場合
+     * @see Vector#acceptValue(double)
+     */
+    public void setValue(int index, double value) {
+        this.throwISExIfCannotBeUsed();
+        this.throwIOOBExIfIndexOutOfVector(index);
+
+        this.entry[index] = EntryReadableMatrix.modified(value);
+    }
+
+    /**
+     * 成分を与えたベクトルの成分で置き換える:
+     * <b>v</b> &larr; <b>u</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void setEntryValue(Vector reference) {
+        this.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension());
+
+        double[] referenceEntry = VectorEntryAccess.entryReference(reference);
+        System.arraycopy(referenceEntry, 0, this.entry, 0, this.entry.length);
+    }
+
+    /**
+     * 成分を全て0にする.
+     *
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     */
+    public void setZero() {
+        this.throwISExIfCannotBeUsed();
+
+        Arrays.fill(this.entry, 0d);
+    }
+
+    /**
+     * 行列ベクトル積の結果で成分を置き換える:
+     * <b>v</b> &larr; M<b>u</b>. <br>
+     * このモジュールで定義された行列に対しては, 中間の {@link Vector} を生成せず,
+     * {@link Matrix#operateInto(Vector, double[])} により直接書き込む. <br>
+     * その他の行列に対しては, 別の配列に書き込ませた結果をコピーする
+     * (成分配列の参照を外部の実装に渡さないため).
+     *
+     * @param matrix M, 行列
+     * @param operand <b>u</b>, 作用ベクトル
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException 行列と作用ベクトル, {@code this} の次元が整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void setProductOf(Matrix matrix, Vector operand) {
+        this.throwISExIfCannotBeUsed();
+
+        if (VectorEntryAccess.acceptsTemporaryView(matrix)) {
+            matrix.operateInto(operand, this.entry);
+            return;
+        }
+
+        MatrixValidationSupport.validateOperateInto(
+                matrix.matrixDimension(), operand.vectorDimension(), this.entry);
+        double[] result = new double[this.entry.length];
+        matrix.operateInto(operand, result);
+        this.setSanitizedCopyOf(result);
+    }
+
+    /**
+     * 転置行列ベクトル積の結果で成分を置き換える:
+     * <b>v</b> &larr; M<sup>T</sup><b>u</b>. <br>
+     * このモジュールで定義された行列に対しては, 中間の {@link Vector} を生成せず,
+     * {@link Matrix#operateTransposeInto(Vector, double[])} により直接書き込む. <br>
+     * その他の行列に対しては, 別の配列に書き込ませた結果をコピーする
+     * (成分配列の参照を外部の実装に渡さないため).
+     *
+     * @param matrix M, 行列
+     * @param operand <b>u</b>, 作用ベクトル
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException 行列と作用ベクトル, {@code this} の次元が整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void setTransposeProductOf(Matrix matrix, Vector operand) {
+        this.throwISExIfCannotBeUsed();
+
+        if (VectorEntryAccess.acceptsTemporaryView(matrix)) {
+            matrix.operateTransposeInto(operand, this.entry);
+            return;
+        }
+
+        MatrixValidationSupport.validateOperateTransposeInto(
+                matrix.matrixDimension(), operand.vectorDimension(), this.entry);
+        double[] result = new double[this.entry.length];
+        matrix.operateTransposeInto(operand, result);
+        this.setSanitizedCopyOf(result);
+    }
+
+    /**
+     * 外部の実装が書き込んだ配列の値をコピーし, 不正値を修正する. <br>
+     * 外部の実装は不正値を書き込む可能性があり, また配列の参照を保持している可能性がある.
+     */
+    private void setSanitizedCopyOf(double[] result) {
+        System.arraycopy(result, 0, this.entry, 0, this.entry.length);
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * 他のベクトルを自身に加算する:
+     * <b>v</b> &larr; <b>v</b> + <b>u</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void addInPlace(Vector reference) {
+        this.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension());
+
+        ArraysUtil.add(this.entry, VectorEntryAccess.entryReference(reference));
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * 他のベクトルを自身に加算する:
+     * <b>v</b> &larr; <b>v</b> + <b>u</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @throws IllegalStateException {@code this} または参照ベクトルがすでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void addInPlace(MutableVector reference) {
+        this.throwISExIfCannotBeUsed();
+        reference.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension);
+
+        ArraysUtil.add(this.entry, reference.entry);
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * 他のベクトルを自身から減算する:
+     * <b>v</b> &larr; <b>v</b> - <b>u</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void subtractInPlace(Vector reference) {
+        this.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension());
+
+        ArraysUtil.subtract(this.entry, VectorEntryAccess.entryReference(reference));
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * 他のベクトルを自身から減算する:
+     * <b>v</b> &larr; <b>v</b> - <b>u</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @throws IllegalStateException {@code this} または参照ベクトルがすでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void subtractInPlace(MutableVector reference) {
+        this.throwISExIfCannotBeUsed();
+        reference.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension);
+
+        ArraysUtil.subtract(this.entry, reference.entry);
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * 他のベクトルのスカラー倍を自身に加算する:
+     * <b>v</b> &larr; <b>v</b> + <i>c</i> <b>u</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @param scalar <i>c</i>, スカラー
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void axpyInPlace(Vector reference, double scalar) {
+        this.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension());
+
+        ArraysUtil.addCTimes(this.entry, VectorEntryAccess.entryReference(reference), scalar);
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * 他のベクトルのスカラー倍を自身に加算する:
+     * <b>v</b> &larr; <b>v</b> + <i>c</i> <b>u</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @param scalar <i>c</i>, スカラー
+     * @throws IllegalStateException {@code this} または参照ベクトルがすでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void axpyInPlace(MutableVector reference, double scalar) {
+        this.throwISExIfCannotBeUsed();
+        reference.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension);
+
+        ArraysUtil.addCTimes(this.entry, reference.entry, scalar);
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * 自身をスカラー倍する:
+     * <b>v</b> &larr; <i>c</i> <b>v</b>.
+     *
+     * @param scalar <i>c</i>, スカラー
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     */
+    public void scaleInPlace(double scalar) {
+        this.throwISExIfCannotBeUsed();
+
+        ArraysUtil.multiply(this.entry, scalar);
+        VectorEntryAccess.modify(this.entry);
+    }
+
+    /**
+     * ベクトルの内積:
+     * <b>u</b> &middot; <b>v</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @return 内積
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public double dot(Vector reference) {
+        this.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension());
+
+        return ArraysUtil.dot(this.entry, VectorEntryAccess.entryReference(reference));
+    }
+
+    /**
+     * ベクトルの内積:
+     * <b>u</b> &middot; <b>v</b>.
+     *
+     * @param reference <b>u</b>, 参照ベクトル
+     * @return 内積
+     * @throws IllegalStateException {@code this} または参照ベクトルがすでに {@link #freeze()} されている場合
+     * @throws MatrixFormatMismatchException {@code this} と参照ベクトルの次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public double dot(MutableVector reference) {
+        this.throwISExIfCannotBeUsed();
+        reference.throwISExIfCannotBeUsed();
+        this.validateDimensionMatch(reference.vectorDimension);
+
+        return ArraysUtil.dot(this.entry, reference.entry);
+    }
+
+    /**
+     * 2-ノルム (Euclidノルム):
+     * ||<b>v</b>||<sub>2</sub>. <br>
+     * 値はキャッシュされず, 呼び出しのたびに計算される.
+     *
+     * @return 2-ノルム
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     */
+    public double norm2() {
+        this.throwISExIfCannotBeUsed();
+
+        return ArraysUtil.norm2(this.entry);
+    }
+
+    /**
+     * 2-ノルム (Euclidノルム) の二乗:
+     * ||<b>v</b>||<sub>2</sub><sup>2</sup>. <br>
+     * 値はキャッシュされず, 呼び出しのたびに計算される.
+     *
+     * @return 2-ノルムの二乗
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     */
+    public double norm2Square() {
+        this.throwISExIfCannotBeUsed();
+
+        return ArraysUtil.norm2Square(this.entry);
+    }
+
+    /**
+     * 最大値ノルム:
+     * ||<b>v</b>||<sub>&infin;</sub>. <br>
+     * 値はキャッシュされず, 呼び出しのたびに計算される.
+     *
+     * @return 最大値ノルム
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     */
+    public double normMax() {
+        this.throwISExIfCannotBeUsed();
+
+        return ArraysUtil.normMax(this.entry);
+    }
+
+    /**
+     * 現在の成分をコピーして, {@link Vector} を生成する. <br>
+     * このインスタンスは引き続き使用できる.
+     *
+     * @return 現在の成分を持つベクトル
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     */
+    public Vector snapshot() {
+        this.throwISExIfCannotBeUsed();
+
+        return Vector.adopt(this.vectorDimension, this.entry.clone());
+    }
+
+    /**
+     * 成分をコピーせずに {@link Vector} に引き渡す. <br>
+     * 成分配列の所有権は戻り値の {@link Vector} に移り, このインスタンスは使用不能となる.
+     *
+     * @return 現在の成分を持つベクトル
+     * @throws IllegalStateException すでに {@link #freeze()} されている場合
+     */
+    public Vector freeze() {
+        this.throwISExIfCannotBeUsed();
+
+        Vector out = Vector.adopt(this.vectorDimension, this.entry);
+        this.entry = null;
+        return out;
+    }
+
+    /**
+     * このインスタンスが使用可能か ({@link #freeze()} 前かどうか) を判定する.
+     *
+     * @return 使用可能なら {@code true}
+     */
+    public boolean canBeUsed() {
+        return Objects.nonNull(this.entry);
+    }
+
+    /**
+     * freeze前かを判定し, freeze後なら例外をスロー.
+     */
+    private void throwISExIfCannotBeUsed() {
+        if (!this.canBeUsed()) {
+            throw new IllegalStateException("already frozen");
+        }
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException indexがベクトルの外の場合
+     */
+    private void throwIOOBExIfIndexOutOfVector(int index) {
+        if (!this.vectorDimension.isValidIndex(index)) {
+            throw new IndexOutOfBoundsException(
+                    "out of vector: vec-dim: %s, index = %s"
+                            .formatted(this.vectorDimension, index));
+        }
+    }
+
+    /**
+     * 次元の整合性を検証する.
+     *
+     * @throws MatrixFormatMismatchException 次元が一致しない場合
+     */
+    private void validateDimensionMatch(VectorDimension referenceDimension) {
+        if (!this.vectorDimension.equals(referenceDimension)) {
+            throw new MatrixFormatMismatchException(
+                    "undefined operation: this: %s, reference: %s"
+                            .formatted(this.vectorDimension, referenceDimension));
+        }
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     *
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code MutableVector[dim(%dimension)]}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "MutableVector[dim: %s%s]"
+                .formatted(this.vectorDimension, this.canBeUsed() ? "" : ", frozen");
+    }
+
+    /**
+     * 与えられた次元を持つ, 零ベクトルで初期化されたインスタンスを生成する.
+     *
+     * @param vectorDimension ベクトルの次元
+     * @return 零ベクトルで初期化されたインスタンス
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static MutableVector zero(VectorDimension vectorDimension) {
+        return new MutableVector(
+                vectorDimension, new double[vectorDimension.intValue()]);
+    }
+
+    /**
+     * 与えられたベクトルの成分で初期化されたインスタンスを生成する.
+     *
+     * @param src 元ベクトル
+     * @return 元ベクトルと等価な成分を持つインスタンス
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static MutableVector from(Vector src) {
+        return new MutableVector(
+                src.vectorDimension(), VectorEntryAccess.entryReference(src).clone());
+    }
+}
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -15,6 +15,7 @@ import java.util.Optional;
 
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricOrthogonalMatrix;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -35,6 +36,11 @@ final class PermutationMatrixImpl
     private final int[] permutationHorizontal;
     private final boolean even;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(PermutationMatrixImpl.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -97,36 +103,52 @@ final class PermutationMatrixImpl
 
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = matrixDimension.leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    @Override
+    public void operateInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperate(matrixDimension, vectorDimension);
+        MatrixValidationSupport.validateOperateInto(matrixDimension, vectorDimension, out);
 
         final int dimension = vectorDimension.intValue();
-        final double[] resultEntry = new double[dimension];
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
         for (int i = 0; i < dimension; i++) {
-            resultEntry[i] = operand.valueAt(this.permutationHorizontal[i]);
+            resultEntry[i] = operandEntry[this.permutationHorizontal[i]];
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
     public Vector operateTranspose(Vector operand) {
+        final var resultDimension = matrixDimension.rightOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateTransposeInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperateTranspose(matrixDimension, vectorDimension);
+        MatrixValidationSupport.validateOperateTransposeInto(matrixDimension, vectorDimension, out);
 
         final int dimension = vectorDimension.intValue();
-        final double[] resultEntry = new double[dimension];
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
         for (int i = 0; i < dimension; i++) {
-            resultEntry[i] = operand.valueAt(this.permutationVertical[i]);
+            resultEntry[i] = operandEntry[this.permutationVertical[i]];
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
@@ -320,6 +342,13 @@ final class PermutationMatrixImpl
         private final PermutationMatrix original;
         private final Optional<PermutationMatrix> opInverse;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    InverseAndDeterminantAttachedPermutationMatrixImpl.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.original));
+        }
+
         /**
          * 唯一のコンストラクタ.
          * 引数の正当性はチェックしていない.
@@ -361,6 +390,16 @@ final class PermutationMatrixImpl
             return this.original.operateTranspose(operand);
         }
 
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            this.original.operateInto(operand, out);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            this.original.operateTransposeInto(operand, out);
+        }
+
         @Override
         public double determinant() {
             return this.original.determinant();
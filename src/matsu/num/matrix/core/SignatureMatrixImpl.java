@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -15,6 +15,7 @@ import java.util.Objects;
 import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricOrthogonalMatrix;
 import matsu.num.matrix.core.helper.value.BandDimensionPositionState;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -34,6 +35,11 @@ final class SignatureMatrixImpl
 
     private final boolean even;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(SignatureMatrixImpl.class);
+    }
+
     /**
      * 唯一のコンストラクタ. <br>
      * ビルダから呼ばれる.
@@ -74,22 +80,28 @@ final class SignatureMatrixImpl
 
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = bandMatrixDimension.dimension().leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    @Override
+    public void operateInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperate(bandMatrixDimension.dimension(), vectorDimension);
+        MatrixValidationSupport.validateOperateInto(bandMatrixDimension.dimension(), vectorDimension, out);
 
-        final double[] entry = operand.entryAsArray();
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] entry = out;
 
         final int dimension = vectorDimension.intValue();
         for (int i = 0; i < dimension; i++) {
-            if (this.signature[i]) {
-                entry[i] = -entry[i];
-            }
+            entry[i] = this.signature[i]
+                    ? -operandEntry[i]
+                    : operandEntry[i];
         }
-
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(entry);
-        return builder.build();
     }
 
     @Override
@@ -6,14 +6,16 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricMatrix;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -33,6 +35,11 @@ public final class SquareZeroMatrix
     private final BandMatrixDimension bandMatrixDimension;
     private final Vector zeroVector;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(SquareZeroMatrix.class);
+    }
+
     /**
      * 唯一のコンストラクタ. <br>
      * 正方形の行列サイズを与えて正方零行列を生成する.
@@ -93,6 +100,18 @@ public final class SquareZeroMatrix
         return this.zeroVector;
     }
 
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                bandMatrixDimension.dimension(), operand.vectorDimension(), out);
+
+        Arrays.fill(out, 0d);
+    }
+
     @Override
     public double determinant() {
         return 0d;
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -18,6 +18,7 @@ import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricMatrix;
 import matsu.num.matrix.core.helper.value.BandDimensionPositionState;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
@@ -58,6 +59,11 @@ public final class SymmetricBandMatrix
 
     private final double entryNormMax;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(SymmetricBandMatrix.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -119,24 +125,37 @@ public final class SymmetricBandMatrix
      */
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = bandMatrixDimension.dimension().leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperate(
-                bandMatrixDimension.dimension(), operand.vectorDimension());
+        MatrixValidationSupport.validateOperateInto(
+                bandMatrixDimension.dimension(), operand.vectorDimension(), out);
 
         final int dimension = vectorDimension.intValue();
         final int thisBandWidth = bandMatrixDimension.lowerBandWidth();
 
-        final double[] operandEntry = operand.entryAsArray();
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
 
-        final double[] resultEntry = new double[dimension];
+        final double[] resultEntry = out;
 
         final double[] thisDiagonalEntry = this.diagonalEntry;
         final double[] thisBandEntry = this.bandEntry;
 
         //対角成分
         for (int i = 0; i < dimension; i++) {
-            resultEntry[i] += thisDiagonalEntry[i] * operandEntry[i];
+            resultEntry[i] = thisDiagonalEntry[i] * operandEntry[i];
         }
         //狭義下三角成分
         int in = -thisBandWidth;
@@ -174,9 +193,7 @@ public final class SymmetricBandMatrix
             resultEntry[i] += (v0 + v1) + (v2 + v3);
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -17,6 +17,7 @@ import matsu.num.matrix.core.common.CalcUtil;
 import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricMatrix;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
@@ -47,6 +48,11 @@ public final class SymmetricMatrix extends SkeletalSymmetricMatrix<SymmetricMatr
 
     private final double entryNormMax;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(SymmetricMatrix.class);
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -94,14 +100,27 @@ public final class SymmetricMatrix extends SkeletalSymmetricMatrix<SymmetricMatr
      */
     @Override
     public Vector operate(Vector operand) {
+        final var resultDimension = matrixDimension.leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
         final var vectorDimension = operand.vectorDimension();
 
-        MatrixValidationSupport.validateOperate(matrixDimension, vectorDimension);
+        MatrixValidationSupport.validateOperateInto(matrixDimension, vectorDimension, out);
 
         final int dimension = vectorDimension.intValue();
 
-        final double[] operandEntry = operand.entryAsArray();
-        final double[] resultEntry = new double[dimension];
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
 
         final double[] matrixEntry = entry;
 
@@ -139,9 +158,7 @@ public final class SymmetricMatrix extends SkeletalSymmetricMatrix<SymmetricMatr
             }
         }
 
-        var builder = Vector.Builder.zeroBuilder(vectorDimension);
-        builder.setEntryValue(resultEntry);
-        return builder.build();
+        VectorEntryAccess.modify(resultEntry);
     }
 
     @Override
@@ -459,9 +476,8 @@ public final class SymmetricMatrix extends SkeletalSymmetricMatrix<SymmetricMatr
 
                 //resultには不正な値が入り込む可能性がある
                 //Matrixインターフェースは成分に関する情報を持たないため
-                Vector.Builder builder = Vector.Builder.zeroBuilder(srcMatrixDimension.leftOperableVectorDimension());
-                builder.setEntryValue(rightArray);
-                final var result = src.operateTranspose(builder.build());
+                final var result = src.operateTranspose(
+                        VectorEntryAccess.adopt(srcMatrixDimension.leftOperableVectorDimension(), rightArray));
 
                 for (int k = 0; k <= j; k++) {
                     outBuilder.setValue(j, k, result.valueAt(k));
@@ -6,13 +6,14 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
 import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricOrthogonalMatrix;
 import matsu.num.matrix.core.helper.value.BandDimensionPositionState;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -31,6 +32,11 @@ public final class UnitMatrix
 
     private final BandMatrixDimension bandMatrixDimension;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(UnitMatrix.class);
+    }
+
     /**
      * 与えられた次元(サイズ)の単位行列を生成する.
      *
@@ -93,6 +99,18 @@ public final class UnitMatrix
         return operand;
     }
 
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(this.matrixDimension(), operand.vectorDimension(), out);
+
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        System.arraycopy(operandEntry, 0, out, 0, out.length);
+    }
+
     @Override
     public double entryNormMax() {
         return 1;
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
@@ -14,6 +14,7 @@ import java.util.Objects;
 import java.util.function.DoubleFunction;
 
 import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -61,6 +62,28 @@ public final class Vector {
     private volatile Double norm2;
     private volatile Double norm2Square;
 
+    static {
+        //モジュール内部から成分配列を参照するためのアクセサ
+        VectorEntryAccess.register(new VectorEntryAccess.Accessor() {
+
+            @Override
+            public double[] entryReference(Vector vector) {
+                return vector.entry;
+            }
+
+            @Override
+            public void modify(double[] values) {
+                Builder.modify(values);
+            }
+
+            @Override
+            public Vector adopt(VectorDimension vectorDimension, double[] entry) {
+                Builder.modify(entry);
+                return Vector.adopt(vectorDimension, entry);
+            }
+        });
+    }
+
     /**
      * ビルダから呼ばれる.
      */
@@ -465,6 +488,19 @@ public final class Vector {
         return out;
     }
 
+    /**
+     * 成分配列をコピーせずに引き取り, ベクトルを生成する. <br>
+     * {@link MutableVector} から呼ばれる.
+     *
+     * <p>
+     * entry配列はコピーも値の修正もされないので,
+     * 不正値を含まず, 参照が漏洩していないものを渡さなければならない.
+     * </p>
+     */
+    static Vector adopt(VectorDimension vectorDimension, double[] entry) {
+        return new Vector(vectorDimension, entry, false);
+    }
+
     /**
      * @throws IndexOutOfBoundsException indexがベクトルの外の場合
      * @throws NullPointerException null
@@ -556,6 +592,10 @@ public final class Vector {
         }
 
         private static void modify(final double[] values) {
+            //大半の配列は不正値を含まないので, 先に一括で判定する
+            if (ArraysUtil.allFinite(values)) {
+                return;
+            }
             for (int i = 0, len = values.length; i < len; i++) {
                 values[i] = modified(values[i]);
             }
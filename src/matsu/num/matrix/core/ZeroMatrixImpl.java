@@ -6,12 +6,15 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core;
 
+import java.util.Arrays;
+
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 
 /**
  * 零行列の実装.
@@ -25,6 +28,11 @@ final class ZeroMatrixImpl
     private final Vector operatedVector;
     private final Vector transposeOperatedVector;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(ZeroMatrixImpl.class);
+    }
+
     /**
      * 唯一のコンストラクタ. <br>
      * 正方形の行列サイズを与えて正方零行列を生成する.
@@ -72,6 +80,20 @@ final class ZeroMatrixImpl
         return this.transposeOperatedVector;
     }
 
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(matrixDimension, operand.vectorDimension(), out);
+
+        Arrays.fill(out, 0d);
+    }
+
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateTransposeInto(matrixDimension, operand.vectorDimension(), out);
+
+        Arrays.fill(out, 0d);
+    }
+
     /**
      * -
      * 
@@ -104,6 +126,13 @@ final class ZeroMatrixImpl
         private final ZeroMatrix original;
         private final ZeroMatrix transpose;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    TransposeAttachedZeroMatrix.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.original));
+        }
+
         /**
          * 唯一のコンストラクタ. <br>
          * オリジナルと転置行列を結びつける.
@@ -139,6 +168,16 @@ final class ZeroMatrixImpl
             return this.original.operateTranspose(operand);
         }
 
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            this.original.operateInto(operand, out);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            this.original.operateTransposeInto(operand, out);
+        }
+
         @Override
         public ZeroMatrix transpose() {
             return this.transpose;
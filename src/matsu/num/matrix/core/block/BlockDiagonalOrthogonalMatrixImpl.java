@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core.block;
 
@@ -23,6 +23,7 @@ import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.VectorDimension;
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricOrthogonalMatrix;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
@@ -115,7 +116,7 @@ final class BlockDiagonalOrthogonalMatrixImpl
 
         Vector[] splitted = new Vector[this.blockSeries.size()];
 
-        double[] arrOperand = operand.entryAsArray();
+        double[] arrOperand = VectorEntryAccess.entryReference(operand);
         int i = 0;
         int startIndex = 0;
         for (OrthogonalMatrix elementMx : this.blockSeries) {
@@ -124,9 +125,7 @@ final class BlockDiagonalOrthogonalMatrixImpl
             int endIndex = startIndex + blockSize;
 
             double[] entry = Arrays.copyOfRange(arrOperand, startIndex, endIndex);
-            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(blockDimension.rightOperableVectorDimension());
-            vBuilder.setEntryValue(entry);
-            splitted[i] = vBuilder.build();
+            splitted[i] = VectorEntryAccess.adopt(blockDimension.rightOperableVectorDimension(), entry);
 
             startIndex = endIndex;
             i++;
@@ -145,7 +144,7 @@ final class BlockDiagonalOrthogonalMatrixImpl
         double[] mergedArray = new double[entireDimension.intValue()];
         int startIndex = 0;
         for (Vector elementVec : splitted) {
-            double[] arrElementVec = elementVec.entryAsArray();
+            double[] arrElementVec = VectorEntryAccess.entryReference(elementVec);
             int blockSize = arrElementVec.length;
 
             assert startIndex + blockSize <= mergedArray.length;
@@ -157,9 +156,7 @@ final class BlockDiagonalOrthogonalMatrixImpl
 
         assert startIndex == mergedArray.length;
 
-        Vector.Builder vBuilder = Vector.Builder.zeroBuilder(entireDimension);
-        vBuilder.setEntryValue(mergedArray);
-        return vBuilder.build();
+        return VectorEntryAccess.adopt(entireDimension, mergedArray);
     }
 
     @Override
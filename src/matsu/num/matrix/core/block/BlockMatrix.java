@@ -20,6 +20,7 @@ import matsu.num.matrix.core.ZeroMatrix;
 import matsu.num.matrix.core.common.OptionalUtil;
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -34,6 +35,11 @@ public final class BlockMatrix
     private final BlockMatrixStructure<? extends Matrix> blockStructure;
     private final Matrix[][] blockMatrix;
 
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(BlockMatrix.class);
+    }
+
     /**
      * 唯一のコンストラクタ.
      * 
@@ -19,6 +19,7 @@ import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -37,6 +38,13 @@ public final class BlockMatrixEntryReadable
     private final Object lock = new Object();
     private volatile Double entryNormMax;
 
+    static {
+        //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(
+                BlockMatrixEntryReadable.class,
+                matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.wrappedMatrix));
+    }
+
     /**
      * 唯一のコンストラクタ.
      * 
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.27
+ * 2026.10.16
  */
 package matsu.num.matrix.core.block;
 
@@ -19,6 +19,7 @@ import matsu.num.matrix.core.Matrix;
 import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
@@ -270,7 +271,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
 
         Vector[] splitted = new Vector[this.structureDimension().columnAsIntValue()];
 
-        double[] arrOperand = operand.entryAsArray();
+        double[] arrOperand = VectorEntryAccess.entryReference(operand);
         int startIndex = 0;
         for (int k = 0; k < splitted.length; k++) {
             VectorDimension elementRightDimension = this.rightOperableVectorDimensionAt(k);
@@ -278,9 +279,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
             int endIndex = startIndex + dimensionValue;
 
             double[] entry = Arrays.copyOfRange(arrOperand, startIndex, endIndex);
-            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(elementRightDimension);
-            vBuilder.setEntryValue(entry);
-            splitted[k] = vBuilder.build();
+            splitted[k] = VectorEntryAccess.adopt(elementRightDimension, entry);
             startIndex = endIndex;
         }
 
@@ -301,7 +300,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
 
         Vector[] splitted = new Vector[this.structureDimension().rowAsIntValue()];
 
-        double[] arrOperand = operand.entryAsArray();
+        double[] arrOperand = VectorEntryAccess.entryReference(operand);
         int startIndex = 0;
         for (int k = 0; k < splitted.length; k++) {
             VectorDimension elementLeftDimension = this.leftOperableVectorDimensionAt(k);
@@ -309,9 +308,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
             int endIndex = startIndex + dimensionValue;
 
             double[] entry = Arrays.copyOfRange(arrOperand, startIndex, endIndex);
-            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(elementLeftDimension);
-            vBuilder.setEntryValue(entry);
-            splitted[k] = vBuilder.build();
+            splitted[k] = VectorEntryAccess.adopt(elementLeftDimension, entry);
             startIndex = endIndex;
         }
 
@@ -333,7 +330,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
         double[] mergedArray = new double[entireVectorDimension.intValue()];
         int startIndex = 0;
         for (int i = 0; i < splittedColumnMatched.length; i++) {
-            double[] arrElementVec = splittedColumnMatched[i].entryAsArray();
+            double[] arrElementVec = VectorEntryAccess.entryReference(splittedColumnMatched[i]);
             int size = arrElementVec.length;
 
             assert this.rightOperableVectorDimensionAt(i).intValue() == size;
@@ -346,9 +343,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
 
         assert startIndex == mergedArray.length;
 
-        Vector.Builder vBuilder = Vector.Builder.zeroBuilder(entireVectorDimension);
-        vBuilder.setEntryValue(mergedArray);
-        return vBuilder.build();
+        return VectorEntryAccess.adopt(entireVectorDimension, mergedArray);
     }
 
     /**
@@ -366,7 +361,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
         double[] mergedArray = new double[entireVectorDimension.intValue()];
         int startIndex = 0;
         for (int i = 0; i < splittedRowMatched.length; i++) {
-            double[] arrElementVec = splittedRowMatched[i].entryAsArray();
+            double[] arrElementVec = VectorEntryAccess.entryReference(splittedRowMatched[i]);
             int size = arrElementVec.length;
 
             assert this.leftOperableVectorDimensionAt(i).intValue() == size;
@@ -379,9 +374,7 @@ public final class BlockMatrixStructure<T extends Matrix> {
 
         assert startIndex == mergedArray.length;
 
-        Vector.Builder vBuilder = Vector.Builder.zeroBuilder(entireVectorDimension);
-        vBuilder.setEntryValue(mergedArray);
-        return vBuilder.build();
+        return VectorEntryAccess.adopt(entireVectorDimension, mergedArray);
     }
 
     /**
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core.block;
 
@@ -23,6 +23,7 @@ import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.VectorDimension;
 import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricOrthogonalMatrix;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.ElementsTooManyException;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
@@ -92,7 +93,7 @@ final class SymmetricBlockDiagonalOrthogonalMatrix
 
         Vector[] splitted = new Vector[this.blockSeries.size()];
 
-        double[] arrOperand = operand.entryAsArray();
+        double[] arrOperand = VectorEntryAccess.entryReference(operand);
         int i = 0;
         int startIndex = 0;
         for (OrthogonalMatrix elementMx : this.blockSeries) {
@@ -101,9 +102,7 @@ final class SymmetricBlockDiagonalOrthogonalMatrix
             int endIndex = startIndex + blockSize;
 
             double[] entry = Arrays.copyOfRange(arrOperand, startIndex, endIndex);
-            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(blockDimension.rightOperableVectorDimension());
-            vBuilder.setEntryValue(entry);
-            splitted[i] = vBuilder.build();
+            splitted[i] = VectorEntryAccess.adopt(blockDimension.rightOperableVectorDimension(), entry);
 
             startIndex = endIndex;
             i++;
@@ -122,7 +121,7 @@ final class SymmetricBlockDiagonalOrthogonalMatrix
         double[] mergedArray = new double[entireDimension.intValue()];
         int startIndex = 0;
         for (Vector elementVec : splitted) {
-            double[] arrElementVec = elementVec.entryAsArray();
+            double[] arrElementVec = VectorEntryAccess.entryReference(elementVec);
             int blockSize = arrElementVec.length;
 
             assert startIndex + blockSize <= mergedArray.length;
@@ -134,9 +133,7 @@ final class SymmetricBlockDiagonalOrthogonalMatrix
 
         assert startIndex == mergedArray.length;
 
-        Vector.Builder vBuilder = Vector.Builder.zeroBuilder(entireDimension);
-        vBuilder.setEntryValue(mergedArray);
-        return vBuilder.build();
+        return VectorEntryAccess.adopt(entireDimension, mergedArray);
     }
 
     @Override
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.common;
+
+/**
+ * {@link ArraysUtil} の主要な演算を差し替えるためのカーネル. <br>
+ * 引数の検証は {@link ArraysUtil} 側で済ませてから呼ばれる.
+ * 
+ * @author Matsuura Y.
+ */
+interface ArraysKernel {
+
+    /**
+     * <b>v</b> &larr; <b>v</b> + <b>u</b>.
+     */
+    public abstract void add(double[] operand, double[] reference);
+
+    /**
+     * <b>v</b> &larr; <b>v</b> + <i>c</i> <b>u</b>.
+     */
+    public abstract void addCTimes(double[] operand, double[] reference, double scalar);
+
+    /**
+     * 配列の部分範囲同士の内積.
+     */
+    public abstract double dot(
+            double[] vector1, int offset1, double[] vector2, int offset2, int length);
+
+    /**
+     * ||<b>v</b>||<sub>2</sub><sup>2</sup>.
+     */
+    public abstract double norm2Square(double[] vector);
+
+    /**
+     * ||<b>v</b>||<sub>&infin;</sub>.
+     */
+    public abstract double normMax(double[] vector);
+}
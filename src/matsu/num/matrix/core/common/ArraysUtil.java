@@ -5,24 +5,99 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.25
+ * 2026.10.16
  */
 package matsu.num.matrix.core.common;
 
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * <p>
  * 配列に対するベクトル基本演算を扱う.
  * </p>
+ * 
+ * <p>
+ * {@code jdk.incubator.vector} モジュールが利用可能な場合,
+ * 加算, 内積, ノルムなどの主要な演算はSIMD化されたカーネルで実行される. <br>
+ * カーネルはクラスロード時に1度だけ選択される. <br>
+ * システムプロパティ {@value #KERNEL_PROPERTY_KEY} に {@value #SCALAR_KERNEL} を指定した場合,
+ * モジュールの有無によらずスカラー実装が使われる
+ * (総和の順序が固定されるため, 結果の再現性が必要な場合に用いる).
+ * </p>
  *
  * @author Matsuura Y.
  */
 public final class ArraysUtil {
 
+    /**
+     * カーネルの選択を指定するシステムプロパティのキー.
+     */
+    public static final String KERNEL_PROPERTY_KEY = "matsu.num.matrix.core.kernel";
+
+    /**
+     * スカラー実装を強制する場合のシステムプロパティの値.
+     */
+    public static final String SCALAR_KERNEL = "scalar";
+
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+    private static final String VECTORIZED_KERNEL_CLASS_NAME =
+            "matsu.num.matrix.core.common.VectorizedArraysKernel";
+
+    /**
+     * SIMD化されたカーネル. <br>
+     * 利用できない場合はnullであり, スカラー実装が使われる.
+     */
+    private static final ArraysKernel VECTORIZED_KERNEL = loadVectorizedKernel();
+
     private ArraysUtil() {
         //インスタンス化不可
         throw new AssertionError();
     }
 
+    /**
+     * SIMD化されたカーネルをロードする. <br>
+     * スカラー実装が指定されている場合, モジュールが利用できない場合,
+     * カーネルのクラスが含まれていない場合は, nullを返す.
+     * 
+     * <p>
+     * カーネルのクラスはこのモジュールとは別にコンパイルされ,
+     * このモジュールは {@code jdk.incubator.vector} を静的には読まない. <br>
+     * そのため, モジュールが利用可能な場合に限り, 読み取りエッジを実行時に追加する
+     * (無名モジュールの場合は何もしない).
+     * </p>
+     */
+    private static ArraysKernel loadVectorizedKernel() {
+        if (SCALAR_KERNEL.equals(System.getProperty(KERNEL_PROPERTY_KEY))) {
+            return null;
+        }
+
+        Optional<Module> vectorModule = ModuleLayer.boot().findModule(VECTOR_MODULE_NAME);
+        if (vectorModule.isEmpty()) {
+            return null;
+        }
+
+        try {
+            ArraysUtil.class.getModule().addReads(vectorModule.get());
+            //カーネルのクラスが無い場合はClassNotFoundExceptionが発生する
+            return (ArraysKernel) Class.forName(VECTORIZED_KERNEL_CLASS_NAME)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * SIMD化されたカーネルが使われているかを判定する.
+     * 
+     * @return SIMD化されたカーネルが使われている場合はtrue
+     */
+    public static boolean isVectorizedKernelEnabled() {
+        return Objects.nonNull(VECTORIZED_KERNEL);
+    }
+
     /**
      * <p>
      * あるベクトルを他のベクトルに加算する:
@@ -45,6 +120,10 @@ public final class ArraysUtil {
         if (dimension != reference.length) {
             throw new IllegalArgumentException("size mismatch");
         }
+        if (Objects.nonNull(VECTORIZED_KERNEL)) {
+            VECTORIZED_KERNEL.add(operand, reference);
+            return;
+        }
         for (int i = 0; i < dimension; i++) {
             operand[i] += reference[i];
         }
@@ -101,6 +180,10 @@ public final class ArraysUtil {
         if (dimension != reference.length) {
             throw new IllegalArgumentException("size mismatch");
         }
+        if (Objects.nonNull(VECTORIZED_KERNEL)) {
+            VECTORIZED_KERNEL.addCTimes(operand, reference, scalar);
+            return;
+        }
         for (int i = 0; i < dimension; i++) {
             operand[i] += scalar * reference[i];
         }
@@ -149,6 +232,9 @@ public final class ArraysUtil {
         if (dimension != vector2.length) {
             throw new IllegalArgumentException("size mismatch");
         }
+        if (Objects.nonNull(VECTORIZED_KERNEL)) {
+            return VECTORIZED_KERNEL.dot(vector1, 0, vector2, 0, dimension);
+        }
 
         /*
          * 主要ループで4成分の計算を同時に行う.
@@ -171,6 +257,58 @@ public final class ArraysUtil {
         return (v0 + v1) + (v2 + v3);
     }
 
+    /**
+     * <p>
+     * 2個の配列の部分範囲をベクトルとみなし, その内積を返す:
+     * <b>u</b> &middot; <b>v</b>. <br>
+     * <b>u</b> = ({@code vector1[offset1]}, ..., {@code vector1[offset1 + length - 1]}), <br>
+     * <b>v</b> = ({@code vector2[offset2]}, ..., {@code vector2[offset2 + length - 1]}).
+     * </p>
+     * 
+     * <p>
+     * 行列の行と作用ベクトルの内積のように,
+     * 大きな配列の一部分を扱う場合に用いる. <br>
+     * {@code length} が0の場合, 0が返る.
+     * </p>
+     *
+     * @param vector1 配列1
+     * @param offset1 配列1の開始位置
+     * @param vector2 配列2
+     * @param offset2 配列2の開始位置
+     * @param length 長さ
+     * @return 内積 <b>u</b> &middot; <b>v</b>
+     * @throws IndexOutOfBoundsException 範囲が配列の外にはみ出す場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static double dot(
+            double[] vector1, int offset1, double[] vector2, int offset2, int length) {
+        Objects.checkFromIndexSize(offset1, length, vector1.length);
+        Objects.checkFromIndexSize(offset2, length, vector2.length);
+        if (Objects.nonNull(VECTORIZED_KERNEL)) {
+            return VECTORIZED_KERNEL.dot(vector1, offset1, vector2, offset2, length);
+        }
+
+        /*
+         * 主要ループで4成分の計算を同時に行う.
+         * 影響する変数を分けることで, 並列実行できる可能性がある.
+         */
+        double v0 = 0.0;
+        double v1 = 0.0;
+        double v2 = 0.0;
+        double v3 = 0.0;
+        int k;
+        for (k = 0; k < length - 3; k += 4) {
+            v0 += vector1[offset1 + k] * vector2[offset2 + k];
+            v1 += vector1[offset1 + k + 1] * vector2[offset2 + k + 1];
+            v2 += vector1[offset1 + k + 2] * vector2[offset2 + k + 2];
+            v3 += vector1[offset1 + k + 3] * vector2[offset2 + k + 3];
+        }
+        for (; k < length; k++) {
+            v0 += vector1[offset1 + k] * vector2[offset2 + k];
+        }
+        return (v0 + v1) + (v2 + v3);
+    }
+
     /**
      * <p>
      * ベクトルの1-ノルムを返す:
@@ -328,6 +466,9 @@ public final class ArraysUtil {
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public static final double norm2Square(double[] vector) {
+        if (Objects.nonNull(VECTORIZED_KERNEL)) {
+            return VECTORIZED_KERNEL.norm2Square(vector);
+        }
 
         /*
          * 主要ループで4成分の計算を同時に行う.
@@ -370,6 +511,9 @@ public final class ArraysUtil {
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public static final double normMax(double[] vector) {
+        if (Objects.nonNull(VECTORIZED_KERNEL)) {
+            return VECTORIZED_KERNEL.normMax(vector);
+        }
 
         /*
          * 主要ループで4成分の計算を同時に行う.
@@ -392,6 +536,43 @@ public final class ArraysUtil {
         return Math.max(Math.max(v0, v1), Math.max(v2, v3));
     }
 
+    /**
+     * <p>
+     * ベクトルの成分が全て有限値 (無限大, NaNでない) であるかを判定する.
+     * </p>
+     *
+     * <p>
+     * <b>v</b> のサイズが0の場合, {@code true} が返る.
+     * </p>
+     *
+     * @param vector ベクトル <b>v</b>
+     * @return 全て有限値なら {@code true}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static final boolean allFinite(double[] vector) {
+
+        /*
+         * 有限値に0を掛けると0に, 無限大やNaNに0を掛けるとNaNになる.
+         * これを累積することで, 分岐を含まないループで判定する.
+         * 主要ループで4成分の計算を同時に行う.
+         */
+        int index;
+        double v0 = 0.0;
+        double v1 = 0.0;
+        double v2 = 0.0;
+        double v3 = 0.0;
+        for (index = vector.length - 1; index >= 3; index -= 4) {
+            v0 += vector[index] * 0.0;
+            v1 += vector[index - 1] * 0.0;
+            v2 += vector[index - 2] * 0.0;
+            v3 += vector[index - 3] * 0.0;
+        }
+        for (; index >= 0; index--) {
+            v0 += vector[index] * 0.0;
+        }
+        return (v0 + v1) + (v2 + v3) == 0.0;
+    }
+
     /**
      * <p>
      * 引数のベクトルをEuclidノルムにより規格化する:
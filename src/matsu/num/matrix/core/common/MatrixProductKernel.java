@@ -0,0 +1,390 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.common;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 密行列同士の積 (GEMM) の計算カーネル:
+ * C &larr; &alpha; AB + C.
+ * 
+ * <p>
+ * 行列はいずれも行優先の1次元配列の部分領域で与える. <br>
+ * (<i>i</i>, <i>j</i>) 成分は {@code array[offset + i * leadingDimension + j]} に格納される. <br>
+ * A, B, C は同一の配列であってもよいが, C の領域は A, B の領域と重なってはならない.
+ * </p>
+ * 
+ * <p>
+ * Cの行方向をパネルに分割し, パネルごとに
+ * {@link ForkJoinPool#commonPool()} で並列に計算する. <br>
+ * パネル内では, Bの列方向とAの列方向 (Bの行方向) をキャッシュに収まる大きさのブロックに分け,
+ * Cの2行を同時に更新することで, Bの成分の読み込みを共有する.
+ * </p>
+ * 
+ * <p>
+ * C が正方行列で下三角部分のみが必要な場合 (対称行列の更新, SYRKに相当) のために,
+ * 下三角部分 (対角を含む) のみを更新するメソッドも用意している. <br>
+ * さらに, C の下三角部分が行ごとに詰めて (行の開始位置を配列で与えて) 格納されている場合のためのメソッドも用意している.
+ * </p>
+ * 
+ * <p>
+ * Cの各成分への加算は, Aの列インデックスの昇順に1項ずつ行われる. <br>
+ * よって計算結果は, 並列実行の有無やパネルの分け方によらない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class MatrixProductKernel {
+
+    /**
+     * Aの列方向 (Bの行方向) のブロックサイズ.
+     */
+    private static final int K_BLOCK = 128;
+
+    /**
+     * Bの列方向 (Cの列方向) のブロックサイズ.
+     */
+    private static final int J_BLOCK = 512;
+
+    /**
+     * 並列化の単位となるパネルの最小行数.
+     */
+    private static final int MIN_PANEL_ROWS = 16;
+
+    /**
+     * 並列化を行う演算量 (乗算回数) の閾値.
+     */
+    private static final long PARALLEL_THRESHOLD = 1L << 18;
+
+    private final double alpha;
+    private final double[] a;
+    private final int aOffset;
+    private final int lda;
+    private final double[] b;
+    private final int bOffset;
+    private final int ldb;
+    private final double[] c;
+    private final int cOffset;
+    private final int ldc;
+    /**
+     * C の各行の (i, 0) 成分の位置. <br>
+     * nullの場合は cOffset, ldc により位置が決まる.
+     */
+    private final int[] cRowStart;
+    private final int innerDimension;
+    private final int columnDimension;
+    private final boolean lowerTriangle;
+
+    private MatrixProductKernel(
+            double alpha,
+            double[] a, int aOffset, int lda,
+            double[] b, int bOffset, int ldb,
+            double[] c, int cOffset, int ldc, int[] cRowStart,
+            int innerDimension, int columnDimension, boolean lowerTriangle) {
+        this.alpha = alpha;
+        this.a = a;
+        this.aOffset = aOffset;
+        this.lda = lda;
+        this.b = b;
+        this.bOffset = bOffset;
+        this.ldb = ldb;
+        this.c = c;
+        this.cOffset = cOffset;
+        this.ldc = ldc;
+        this.cRowStart = cRowStart;
+        this.innerDimension = innerDimension;
+        this.columnDimension = columnDimension;
+        this.lowerTriangle = lowerTriangle;
+    }
+
+    /**
+     * 行優先の配列で表現された行列の積を計算する:
+     * C &larr; &alpha; AB + C. <br>
+     * C は <i>m</i> &times; <i>n</i>, A は <i>m</i> &times; <i>l</i>,
+     * B は <i>l</i> &times; <i>n</i> である.
+     * 
+     * <p>
+     * 引数の整合性は {@code assert} オプションで検証される. <br>
+     * 演算量が大きい場合は並列に実行される.
+     * </p>
+     *
+     * @param alpha &alpha;
+     * @param a A を格納する配列
+     * @param aOffset A の (0, 0) 成分の位置
+     * @param lda A の行の間隔
+     * @param b B を格納する配列
+     * @param bOffset B の (0, 0) 成分の位置
+     * @param ldb B の行の間隔
+     * @param c C を格納する配列
+     * @param cOffset C の (0, 0) 成分の位置
+     * @param ldc C の行の間隔
+     * @param rowDimension <i>m</i>
+     * @param innerDimension <i>l</i>
+     * @param columnDimension <i>n</i>
+     */
+    public static void multiplyAndAdd(
+            double alpha,
+            double[] a, int aOffset, int lda,
+            double[] b, int bOffset, int ldb,
+            double[] c, int cOffset, int ldc,
+            int rowDimension, int innerDimension, int columnDimension) {
+
+        assert rowDimension == 0 || innerDimension == 0
+                || aOffset + (rowDimension - 1) * lda + innerDimension <= a.length;
+        assert innerDimension == 0 || columnDimension == 0
+                || bOffset + (innerDimension - 1) * ldb + columnDimension <= b.length;
+        assert rowDimension == 0 || columnDimension == 0
+                || cOffset + (rowDimension - 1) * ldc + columnDimension <= c.length;
+
+        if (alpha == 0d || rowDimension == 0 || innerDimension == 0 || columnDimension == 0) {
+            return;
+        }
+
+        new MatrixProductKernel(
+                alpha, a, aOffset, lda, b, bOffset, ldb, c, cOffset, ldc, null,
+                innerDimension, columnDimension, false)
+                .execute(rowDimension, (long) rowDimension * innerDimension * columnDimension);
+    }
+
+    /**
+     * 行優先の配列で表現された行列の積を, 下三角部分 (対角を含む) に限って計算する:
+     * C &larr; &alpha; AB + C. <br>
+     * C は <i>n</i> &times; <i>n</i>, A は <i>n</i> &times; <i>l</i>,
+     * B は <i>l</i> &times; <i>n</i> である. <br>
+     * C の狭義上三角部分は参照も変更もされない.
+     * 
+     * <p>
+     * 引数の整合性は {@code assert} オプションで検証される. <br>
+     * 演算量が大きい場合は並列に実行される.
+     * </p>
+     *
+     * @param alpha &alpha;
+     * @param a A を格納する配列
+     * @param aOffset A の (0, 0) 成分の位置
+     * @param lda A の行の間隔
+     * @param b B を格納する配列
+     * @param bOffset B の (0, 0) 成分の位置
+     * @param ldb B の行の間隔
+     * @param c C を格納する配列
+     * @param cOffset C の (0, 0) 成分の位置
+     * @param ldc C の行の間隔
+     * @param dimension <i>n</i>
+     * @param innerDimension <i>l</i>
+     */
+    public static void multiplyAndAddLowerTriangle(
+            double alpha,
+            double[] a, int aOffset, int lda,
+            double[] b, int bOffset, int ldb,
+            double[] c, int cOffset, int ldc,
+            int dimension, int innerDimension) {
+
+        assert dimension == 0 || innerDimension == 0
+                || aOffset + (dimension - 1) * lda + innerDimension <= a.length;
+        assert innerDimension == 0 || dimension == 0
+                || bOffset + (innerDimension - 1) * ldb + dimension <= b.length;
+        assert dimension == 0
+                || cOffset + (dimension - 1) * ldc + dimension <= c.length;
+
+        if (alpha == 0d || dimension == 0 || innerDimension == 0) {
+            return;
+        }
+
+        new MatrixProductKernel(
+                alpha, a, aOffset, lda, b, bOffset, ldb, c, cOffset, ldc, null,
+                innerDimension, dimension, true)
+                .execute(dimension, (long) dimension * innerDimension * dimension / 2);
+    }
+
+    /**
+     * 下三角部分が行ごとに詰めて格納された C に対し,
+     * {@link #multiplyAndAddLowerTriangle(double, double[], int, int, double[], int, int, double[], int, int, int, int)}
+     * と同一の計算を行う:
+     * C &larr; &alpha; AB + C (下三角部分のみ). <br>
+     * C の (<i>i</i>, <i>j</i>) 成分 (<i>j</i> &le; <i>i</i>) は
+     * {@code c[cRowStart[i] + j]} に格納される.
+     * 
+     * <p>
+     * 引数の整合性は {@code assert} オプションで検証される. <br>
+     * 演算量が大きい場合は並列に実行される.
+     * </p>
+     *
+     * @param alpha &alpha;
+     * @param a A を格納する配列
+     * @param aOffset A の (0, 0) 成分の位置
+     * @param lda A の行の間隔
+     * @param b B を格納する配列
+     * @param bOffset B の (0, 0) 成分の位置
+     * @param ldb B の行の間隔
+     * @param c C を格納する配列
+     * @param cRowStart C の各行の (<i>i</i>, 0) 成分の位置
+     * @param dimension <i>n</i>
+     * @param innerDimension <i>l</i>
+     */
+    public static void multiplyAndAddLowerTriangle(
+            double alpha,
+            double[] a, int aOffset, int lda,
+            double[] b, int bOffset, int ldb,
+            double[] c, int[] cRowStart,
+            int dimension, int innerDimension) {
+
+        assert dimension == 0 || innerDimension == 0
+                || aOffset + (dimension - 1) * lda + innerDimension <= a.length;
+        assert innerDimension == 0 || dimension == 0
+                || bOffset + (innerDimension - 1) * ldb + dimension <= b.length;
+        assert cRowStart.length >= dimension;
+        assert dimension == 0
+                || cRowStart[dimension - 1] + dimension <= c.length;
+
+        if (alpha == 0d || dimension == 0 || innerDimension == 0) {
+            return;
+        }
+
+        new MatrixProductKernel(
+                alpha, a, aOffset, lda, b, bOffset, ldb, c, 0, 0, cRowStart,
+                innerDimension, dimension, true)
+                .execute(dimension, (long) dimension * innerDimension * dimension / 2);
+    }
+
+    /**
+     * C の (i, 0) 成分の位置を返す.
+     */
+    private int cRowStartOf(int i) {
+        return Objects.isNull(this.cRowStart)
+                ? this.cOffset + i * this.ldc
+                : this.cRowStart[i];
+    }
+
+    /**
+     * 計算を実行する. <br>
+     * 演算量が大きい場合は並列に実行される.
+     */
+    private void execute(int rowDimension, long work) {
+        if (work < PARALLEL_THRESHOLD || rowDimension < 2 * MIN_PANEL_ROWS) {
+            this.computePanel(0, rowDimension);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new PanelAction(0, rowDimension));
+    }
+
+    /**
+     * Cの行 [rowFrom, rowTo) に対する計算を行う.
+     */
+    private void computePanel(int rowFrom, int rowTo) {
+        final int n = this.columnDimension;
+        final int kDim = this.innerDimension;
+
+        for (int j0 = 0; j0 < n; j0 += J_BLOCK) {
+            final int j1 = Math.min(j0 + J_BLOCK, n);
+            for (int k0 = 0; k0 < kDim; k0 += K_BLOCK) {
+                final int k1 = Math.min(k0 + K_BLOCK, kDim);
+
+                int i;
+                for (i = rowFrom; i < rowTo - 1; i += 2) {
+                    this.updateTwoRows(i, j0, j1, k0, k1);
+                }
+                for (; i < rowTo; i++) {
+                    this.updateOneRow(i, j0, j1, k0, k1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cの第i行, 第i+1行のブロックを同時に更新する.
+     */
+    private void updateTwoRows(int i, int j0, int j1, int k0, int k1) {
+        final double[] thisA = this.a;
+        final double[] thisB = this.b;
+        final double[] thisC = this.c;
+
+        //下三角部分に限る場合, 第i行は列iまで, 第i+1行は列i+1まで
+        final int jEnd0 = this.lowerTriangle ? Math.min(j1, i + 1) : j1;
+        final int jEnd1 = this.lowerTriangle ? Math.min(j1, i + 2) : j1;
+        if (jEnd1 <= j0) {
+            return;
+        }
+
+        final int ci0 = this.cRowStartOf(i);
+        final int ci1 = this.cRowStartOf(i + 1);
+        final int ai0 = this.aOffset + i * this.lda;
+        final int ai1 = ai0 + this.lda;
+        for (int k = k0; k < k1; k++) {
+            final double a0 = this.alpha * thisA[ai0 + k];
+            final double a1 = this.alpha * thisA[ai1 + k];
+            final int bk = this.bOffset + k * this.ldb;
+            for (int j = j0; j < jEnd0; j++) {
+                final double bkj = thisB[bk + j];
+                thisC[ci0 + j] += a0 * bkj;
+                thisC[ci1 + j] += a1 * bkj;
+            }
+            for (int j = Math.max(j0, jEnd0); j < jEnd1; j++) {
+                thisC[ci1 + j] += a1 * thisB[bk + j];
+            }
+        }
+    }
+
+    /**
+     * Cの第i行のブロックを更新する.
+     */
+    private void updateOneRow(int i, int j0, int j1, int k0, int k1) {
+        final double[] thisA = this.a;
+        final double[] thisB = this.b;
+        final double[] thisC = this.c;
+
+        final int jEnd = this.lowerTriangle ? Math.min(j1, i + 1) : j1;
+        if (jEnd <= j0) {
+            return;
+        }
+
+        final int ci = this.cRowStartOf(i);
+        final int ai = this.aOffset + i * this.lda;
+        for (int k = k0; k < k1; k++) {
+            final double aik = this.alpha * thisA[ai + k];
+            final int bk = this.bOffset + k * this.ldb;
+            for (int j = j0; j < jEnd; j++) {
+                thisC[ci + j] += aik * thisB[bk + j];
+            }
+        }
+    }
+
+    /**
+     * 行パネルを再帰的に分割して並列に計算するタスク.
+     */
+    private final class PanelAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int rowFrom;
+        private final int rowTo;
+
+        PanelAction(int rowFrom, int rowTo) {
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = this.rowTo - this.rowFrom;
+            if (rows < 2 * MIN_PANEL_ROWS) {
+                computePanel(this.rowFrom, this.rowTo);
+                return;
+            }
+
+            //2行単位の更新を崩さないよう, 分割位置を偶数行にそろえる
+            int mid = this.rowFrom + ((rows / 2) & ~1);
+            invokeAll(
+                    new PanelAction(this.rowFrom, mid),
+                    new PanelAction(mid, this.rowTo));
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.common;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 単位三角行列を係数とする, 複数右辺の線形連立方程式の求解 (TRSM) の計算カーネル:
+ * X &larr; T<sup>-1</sup>X.
+ * 
+ * <p>
+ * X は <i>n</i> &times; <i>m</i> の行列であり,
+ * 行優先の1次元配列 ((<i>i</i>, <i>j</i>) 成分が {@code x[i * m + j]}) で与える. <br>
+ * X の各列が1つの右辺ベクトルに対応し, 結果は X に上書きされる.
+ * </p>
+ * 
+ * <p>
+ * 係数行列 T の第 <i>i</i> 行は, 配列 {@code t} の {@code rowOffset[i]} から始まる領域に格納される. <br>
+ * すなわち, (<i>i</i>, <i>k</i>) 成分は {@code t[rowOffset[i] + k]} である. <br>
+ * 密行列の行優先表現 ({@code rowOffset[i] = i * n})
+ * と下三角部分の行詰め表現 ({@code rowOffset[i] = i(i + 1)/2})
+ * のいずれにも対応する. <br>
+ * 対角成分は1とみなされ, 参照されない.
+ * </p>
+ * 
+ * <p>
+ * 係数行列の各成分は, X の1行分 (全ての右辺) に対してまとめて作用させられる. <br>
+ * X の列方向はキャッシュに収まる大きさのブロックに分けられ,
+ * 右辺の数が多い場合はブロックごとに {@link ForkJoinPool#commonPool()} で並列に計算する. <br>
+ * X の各成分への演算の順序は右辺ごとの前進/後退代入と同一であり,
+ * 計算結果は並列実行の有無によらない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class TriangularSolveKernel {
+
+    /**
+     * X の列方向 (右辺の方向) のブロックサイズ.
+     */
+    private static final int J_BLOCK = 64;
+
+    /**
+     * 並列化を行う演算量 (乗算回数) の閾値.
+     */
+    private static final long PARALLEL_THRESHOLD = 1L << 18;
+
+    /**
+     * 係数行列の形式.
+     */
+    private static enum Form {
+
+        /**
+         * 単位下三角行列 L, X &larr; L<sup>-1</sup>X.
+         */
+        LOWER,
+
+        /**
+         * 単位上三角行列 U, X &larr; U<sup>-1</sup>X.
+         */
+        UPPER,
+
+        /**
+         * 単位下三角行列 L の転置, X &larr; L<sup>-T</sup>X.
+         */
+        LOWER_TRANSPOSE
+    }
+
+    private final Form form;
+    private final double[] t;
+    private final int[] rowOffset;
+    private final double[] x;
+    private final int rowDimension;
+    private final int columnDimension;
+
+    private TriangularSolveKernel(
+            Form form, double[] t, int[] rowOffset,
+            double[] x, int rowDimension, int columnDimension) {
+        this.form = form;
+        this.t = t;
+        this.rowOffset = rowOffset;
+        this.x = x;
+        this.rowDimension = rowDimension;
+        this.columnDimension = columnDimension;
+    }
+
+    /**
+     * 単位下三角行列 L について, X &larr; L<sup>-1</sup>X を計算する (前進代入).
+     * 
+     * <p>
+     * L の (<i>i</i>, <i>k</i>) 成分 (<i>k</i> &lt; <i>i</i>) は
+     * {@code l[rowOffset[i] + k]} である. <br>
+     * 引数の整合性は {@code assert} オプションで検証される.
+     * </p>
+     * 
+     * @param l L を格納する配列
+     * @param rowOffset L の各行の開始位置
+     * @param x X を格納する配列, 結果が上書きされる
+     * @param rowDimension <i>n</i>
+     * @param columnDimension <i>m</i>, 右辺の数
+     */
+    public static void solveUnitLower(
+            double[] l, int[] rowOffset, double[] x, int rowDimension, int columnDimension) {
+        execute(Form.LOWER, l, rowOffset, x, rowDimension, columnDimension);
+    }
+
+    /**
+     * 単位上三角行列 U について, X &larr; U<sup>-1</sup>X を計算する (後退代入).
+     * 
+     * <p>
+     * U の (<i>i</i>, <i>k</i>) 成分 (<i>k</i> &gt; <i>i</i>) は
+     * {@code u[rowOffset[i] + k]} である. <br>
+     * 引数の整合性は {@code assert} オプションで検証される.
+     * </p>
+     * 
+     * @param u U を格納する配列
+     * @param rowOffset U の各行の開始位置
+     * @param x X を格納する配列, 結果が上書きされる
+     * @param rowDimension <i>n</i>
+     * @param columnDimension <i>m</i>, 右辺の数
+     */
+    public static void solveUnitUpper(
+            double[] u, int[] rowOffset, double[] x, int rowDimension, int columnDimension) {
+        execute(Form.UPPER, u, rowOffset, x, rowDimension, columnDimension);
+    }
+
+    /**
+     * 単位下三角行列 L について, X &larr; L<sup>-T</sup>X を計算する (転置による後退代入).
+     * 
+     * <p>
+     * L の (<i>i</i>, <i>k</i>) 成分 (<i>k</i> &lt; <i>i</i>) は
+     * {@code l[rowOffset[i] + k]} である. <br>
+     * L の行を連続に読み出すため, 確定した X の行を上側の行へ配る順序で計算する. <br>
+     * 引数の整合性は {@code assert} オプションで検証される.
+     * </p>
+     * 
+     * @param l L を格納する配列
+     * @param rowOffset L の各行の開始位置
+     * @param x X を格納する配列, 結果が上書きされる
+     * @param rowDimension <i>n</i>
+     * @param columnDimension <i>m</i>, 右辺の数
+     */
+    public static void solveUnitLowerTranspose(
+            double[] l, int[] rowOffset, double[] x, int rowDimension, int columnDimension) {
+        execute(Form.LOWER_TRANSPOSE, l, rowOffset, x, rowDimension, columnDimension);
+    }
+
+    /**
+     * 計算を実行する. <br>
+     * 演算量が大きい場合は並列に実行される.
+     */
+    private static void execute(
+            Form form, double[] t, int[] rowOffset,
+            double[] x, int rowDimension, int columnDimension) {
+
+        assert rowOffset.length >= rowDimension;
+        assert x.length >= rowDimension * columnDimension;
+
+        if (rowDimension <= 1 || columnDimension == 0) {
+            return;
+        }
+
+        TriangularSolveKernel kernel = new TriangularSolveKernel(
+                form, t, rowOffset, x, rowDimension, columnDimension);
+
+        long work = (long) rowDimension * rowDimension * columnDimension / 2;
+        if (work < PARALLEL_THRESHOLD || columnDimension <= J_BLOCK) {
+            kernel.computeColumns(0, columnDimension);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(kernel.new ColumnAction(0, columnDimension));
+    }
+
+    /**
+     * X の列 [columnFrom, columnTo) に対する計算を行う.
+     */
+    private void computeColumns(int columnFrom, int columnTo) {
+        for (int j0 = columnFrom; j0 < columnTo; j0 += J_BLOCK) {
+            final int j1 = Math.min(j0 + J_BLOCK, columnTo);
+            switch (this.form) {
+                case LOWER:
+                    this.solveLowerBlock(j0, j1);
+                    break;
+                case UPPER:
+                    this.solveUpperBlock(j0, j1);
+                    break;
+                case LOWER_TRANSPOSE:
+                    this.solveLowerTransposeBlock(j0, j1);
+                    break;
+                default:
+                    throw new AssertionError("Bug: unreachable");
+            }
+        }
+    }
+
+    /**
+     * 列ブロックに対する前進代入.
+     */
+    private void solveLowerBlock(int j0, int j1) {
+        final double[] thisT = this.t;
+        final double[] thisX = this.x;
+        final int n = this.rowDimension;
+        final int m = this.columnDimension;
+
+        for (int i = 1; i < n; i++) {
+            final int ti = this.rowOffset[i];
+            final int xi = i * m;
+            int xk = 0;
+            for (int k = 0; k < i; k++, xk += m) {
+                final double tik = thisT[ti + k];
+                for (int j = j0; j < j1; j++) {
+                    thisX[xi + j] -= tik * thisX[xk + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * 列ブロックに対する後退代入.
+     */
+    private void solveUpperBlock(int j0, int j1) {
+        final double[] thisT = this.t;
+        final double[] thisX = this.x;
+        final int n = this.rowDimension;
+        final int m = this.columnDimension;
+
+        for (int i = n - 2; i >= 0; i--) {
+            final int ti = this.rowOffset[i];
+            final int xi = i * m;
+            int xk = (i + 1) * m;
+            for (int k = i + 1; k < n; k++, xk += m) {
+                final double tik = thisT[ti + k];
+                for (int j = j0; j < j1; j++) {
+                    thisX[xi + j] -= tik * thisX[xk + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * 列ブロックに対する, 転置による後退代入. <br>
+     * 第k行が確定したら, L の第k行を用いて上側の行を更新する.
+     */
+    private void solveLowerTransposeBlock(int j0, int j1) {
+        final double[] thisT = this.t;
+        final double[] thisX = this.x;
+        final int n = this.rowDimension;
+        final int m = this.columnDimension;
+
+        for (int k = n - 1; k >= 1; k--) {
+            final int tk = this.rowOffset[k];
+            final int xk = k * m;
+            int xi = 0;
+            for (int i = 0; i < k; i++, xi += m) {
+                final double tki = thisT[tk + i];
+                for (int j = j0; j < j1; j++) {
+                    thisX[xi + j] -= tki * thisX[xk + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * X の列範囲を再帰的に分割して並列に計算するタスク.
+     */
+    private final class ColumnAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int columnFrom;
+        private final int columnTo;
+
+        ColumnAction(int columnFrom, int columnTo) {
+            this.columnFrom = columnFrom;
+            this.columnTo = columnTo;
+        }
+
+        @Override
+        protected void compute() {
+            int columns = this.columnTo - this.columnFrom;
+            if (columns <= J_BLOCK) {
+                computeColumns(this.columnFrom, this.columnTo);
+                return;
+            }
+
+            //ブロックの境界を崩さないよう, 分割位置をブロックサイズの倍数にそろえる
+            int mid = this.columnFrom + (columns / 2 + J_BLOCK - 1) / J_BLOCK * J_BLOCK;
+            invokeAll(
+                    new ColumnAction(this.columnFrom, mid),
+                    new ColumnAction(mid, this.columnTo));
+        }
+    }
+}
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core.helper.matrix;
 
@@ -68,6 +68,15 @@ public abstract class SkeletalSymmetricMatrix<T extends SkeletalSymmetricMatrix<
         return this.operate(operand);
     }
 
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public final void operateTransposeInto(Vector operand, double[] out) {
+        this.operateInto(operand, out);
+    }
+
     /**
      * {@code this} を返す.
      * 
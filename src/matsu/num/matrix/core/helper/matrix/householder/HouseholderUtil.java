@@ -6,11 +6,12 @@
  */
 
 /*
- * 2025.1.19
+ * 2026.10.16
  */
 package matsu.num.matrix.core.helper.matrix.householder;
 
 import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 
 /**
  * Householder変換に関連するユーティリティ.
@@ -62,9 +63,7 @@ final class HouseholderUtil {
         }
 
         // normalized(p-e)の候補
-        var builder = Vector.Builder.zeroBuilder(dimension);
-        builder.setEntryValue(diffEntry);
-        var out = builder.build().normalizedEuclidean();
+        var out = VectorEntryAccess.adopt(dimension, diffEntry).normalizedEuclidean();
 
         // p-e が0ベクトルの場合, p=eなので,
         // 返すべき鏡映ベクトルはe'である.
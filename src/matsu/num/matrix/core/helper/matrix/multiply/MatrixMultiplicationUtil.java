@@ -23,6 +23,7 @@ import matsu.num.matrix.core.UnitMatrix;
 import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
 import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricMatrix;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
 
@@ -92,6 +93,13 @@ public final class MatrixMultiplicationUtil {
         final Deque<Matrix> series;
         final MatrixDimension matrixDimension;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    MultiplyingSeries.class,
+                    MultiplyingSeries::acceptsTemporaryView);
+        }
+
         /**
          * 唯一のコンストラクタ.
          */
@@ -148,6 +156,19 @@ public final class MatrixMultiplicationUtil {
                     this);
         }
 
+        /**
+         * 全ての要素の行列が一時的なビューを受け入れるかどうかを判定する. <br>
+         * (要素が作用ベクトル自身を返す場合, 次の要素にも作用ベクトルが渡されるため.)
+         */
+        private boolean acceptsTemporaryView() {
+            for (Matrix mx : this.series) {
+                if (!VectorEntryAccess.acceptsTemporaryView(mx)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         @Override
         public final Deque<Matrix> toSeries() {
             return new LinkedList<>(this.series);
@@ -237,6 +258,13 @@ public final class MatrixMultiplicationUtil {
 
         private final MultipliedMatrix wrappedSeriesMatrix;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    SymmetricMultipliedMatrix.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.wrappedSeriesMatrix));
+        }
+
         /**
          * @throws MatrixNotSymmetricException 中央の行列が対称でない場合
          * @throws MatrixFormatMismatchException 行列のサイズが整合せずに行列積が定義できない場合
@@ -300,6 +328,13 @@ public final class MatrixMultiplicationUtil {
         private final MultipliedMatrix original;
         private final MultipliedMatrix transpose;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    TransposeAttachedMultipliedMatrix.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.original));
+        }
+
         /**
          * 唯一のコンストラクタ.
          * 引数の正当性は検査されていない.
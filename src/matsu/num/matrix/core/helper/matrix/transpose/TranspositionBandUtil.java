@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.1.7
+ * 2026.10.16
  */
 package matsu.num.matrix.core.helper.matrix.transpose;
 
@@ -16,6 +16,7 @@ import matsu.num.matrix.core.BandMatrixDimension;
 import matsu.num.matrix.core.EntryReadableMatrix;
 import matsu.num.matrix.core.Symmetric;
 import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 
 /**
  * {@link BandMatrix}の転置を扱う.
@@ -54,6 +55,13 @@ public final class TranspositionBandUtil {
         private final BandMatrix original;
         private final BandMatrixDimension transposedDimension;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    Transposed.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.original));
+        }
+
         /**
          * 転置行列を作成する.
          * 
@@ -74,6 +82,16 @@ public final class TranspositionBandUtil {
             return this.original.operate(operand);
         }
 
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            this.original.operateTransposeInto(operand, out);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            this.original.operateInto(operand, out);
+        }
+
         @Override
         public double valueAt(int row, int column) {
             return this.original.valueAt(column, row);
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.1.7
+ * 2026.10.16
  */
 package matsu.num.matrix.core.helper.matrix.transpose;
 
@@ -15,6 +15,7 @@ import matsu.num.matrix.core.EntryReadableMatrix;
 import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.Symmetric;
 import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 
 /**
  * {@link EntryReadableMatrix}の転置を扱う.
@@ -53,6 +54,13 @@ public final class TranspositionEntryReadableUtil {
         private final EntryReadableMatrix original;
         private final MatrixDimension transposedDimension;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    Transposed.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.original));
+        }
+
         /**
          * 転置行列を作成する.
          * 
@@ -78,6 +86,16 @@ public final class TranspositionEntryReadableUtil {
             return this.original.operate(operand);
         }
 
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            this.original.operateTransposeInto(operand, out);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            this.original.operateInto(operand, out);
+        }
+
         @Override
         public double valueAt(int row, int column) {
             return this.original.valueAt(column, row);
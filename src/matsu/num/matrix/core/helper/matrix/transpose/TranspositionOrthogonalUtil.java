@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.1.7
+ * 2026.10.16
  */
 package matsu.num.matrix.core.helper.matrix.transpose;
 
@@ -15,6 +15,7 @@ import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.OrthogonalMatrix;
 import matsu.num.matrix.core.Symmetric;
 import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 
 /**
  * {@link OrthogonalMatrix}の転置を扱う.
@@ -55,6 +56,13 @@ public final class TranspositionOrthogonalUtil {
 
         private final Optional<OrthogonalMatrix> original;
 
+        static {
+            //委譲先の行列が受け入れる場合に限り, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(
+                    TransposedOrthogonal.class,
+                    matrix -> VectorEntryAccess.acceptsTemporaryView(matrix.original.get()));
+        }
+
         TransposedOrthogonal(OrthogonalMatrix matrix) {
             this.original = Optional.of(matrix);
         }
@@ -75,6 +83,16 @@ public final class TranspositionOrthogonalUtil {
             return this.original.get().operate(operand);
         }
 
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            this.original.get().operateTransposeInto(operand, out);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            this.original.get().operateInto(operand, out);
+        }
+
         @Override
         public Optional<? extends OrthogonalMatrix> inverse() {
             return this.original;
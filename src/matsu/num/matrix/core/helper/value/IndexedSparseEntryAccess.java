@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.helper.value;
+
+import java.util.Objects;
+
+import matsu.num.matrix.core.sparse.IndexedSparseVector;
+
+/**
+ * モジュール内部から {@link IndexedSparseVector}
+ * の内部表現 (位置配列と値配列) にアクセスするための仕組みを提供する.
+ * 
+ * <p>
+ * スパースなベクトルから構成される演算子 (Householder 行列など) は,
+ * 非ゼロ成分を配列として繰り返し読む. <br>
+ * このクラスはモジュール内部の計算に限り, コピーを経由せずに配列を参照する手段を提供する.
+ * </p>
+ * 
+ * <p>
+ * アクセサ ({@link Accessor}) は {@link IndexedSparseVector} のクラス初期化時に1度だけ登録される. <br>
+ * このパッケージはモジュール外に公開されない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class IndexedSparseEntryAccess {
+
+    //IndexedSparseVectorのクラス初期化時に登録される
+    private static volatile Accessor accessor;
+
+    private IndexedSparseEntryAccess() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * {@link IndexedSparseVector} の内部表現へのアクセサ. <br>
+     * {@link IndexedSparseVector} のみが実装する.
+     */
+    public static interface Accessor {
+
+        /**
+         * 位置配列の参照を返す.
+         * 
+         * @param vector ベクトル
+         * @return 位置配列の参照
+         */
+        public abstract int[] index(IndexedSparseVector vector);
+
+        /**
+         * 値配列の参照を返す.
+         * 
+         * @param vector ベクトル
+         * @return 値配列の参照
+         */
+        public abstract double[] value(IndexedSparseVector vector);
+    }
+
+    /**
+     * アクセサを登録する. <br>
+     * {@link IndexedSparseVector} のクラス初期化時にのみ呼ばれる.
+     * 
+     * @param accessor アクセサ
+     * @throws AssertionError すでに登録されている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static synchronized void register(Accessor accessor) {
+        Objects.requireNonNull(accessor);
+        if (Objects.nonNull(IndexedSparseEntryAccess.accessor)) {
+            throw new AssertionError("Bug: already registered");
+        }
+        IndexedSparseEntryAccess.accessor = accessor;
+    }
+
+    /**
+     * 位置配列の参照を返す.
+     * 
+     * <p>
+     * 非ゼロ成分の位置が狭義単調増加に格納されている. <br>
+     * 戻り値は {@link IndexedSparseVector} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param vector ベクトル
+     * @return 位置配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static int[] index(IndexedSparseVector vector) {
+        return accessor().index(Objects.requireNonNull(vector));
+    }
+
+    /**
+     * 値配列の参照を返す.
+     * 
+     * <p>
+     * 戻り値は {@link IndexedSparseVector} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param vector ベクトル
+     * @return 値配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static double[] value(IndexedSparseVector vector) {
+        return accessor().value(Objects.requireNonNull(vector));
+    }
+
+    /**
+     * 登録されたアクセサを返す. <br>
+     * 未登録の場合は {@link IndexedSparseVector} のクラス初期化を強制する.
+     */
+    private static Accessor accessor() {
+        Accessor out = accessor;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+
+        try {
+            Class.forName(
+                    IndexedSparseVector.class.getName(), true, IndexedSparseVector.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError("Bug: unreachable", e);
+        }
+        return accessor;
+    }
+}
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.12.3
+ * 2026.10.16
  */
 package matsu.num.matrix.core.helper.value;
 
@@ -63,7 +63,15 @@ public enum MatrixRejectionConstant {
     REJECTED_BY_HORIZONTAL(
             m -> new MatrixFormatMismatchException(
                     String.format("horizontal matrix: %s", m)),
-            "REJECTED_BY_HORIZONTAL");
+            "REJECTED_BY_HORIZONTAL"),
+
+    /**
+     * 非ゼロパターン (スパース構造) が想定と異なることを表す.
+     */
+    REJECTED_BY_PATTERN_MISMATCH(
+            m -> new MatrixFormatMismatchException(
+                    String.format("sparsity pattern mismatch: %s", m)),
+            "REJECTED_BY_PATTERN_MISMATCH");
 
     private final MatrixStructureAcceptance reject;
 
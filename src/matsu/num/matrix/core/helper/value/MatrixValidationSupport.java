@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.helper.value;
 
@@ -107,4 +107,49 @@ public final class MatrixValidationSupport {
         }
     }
 
+    /**
+     * 行列にベクトルをoperateし, 結果を配列に書き込めるかを検証する.
+     * 
+     * @param matrixDimension 行列次元
+     * @param vectorDimension ベクトル次元
+     * @param out 出力先の配列
+     * @throws MatrixFormatMismatchException undefined operation, or out length mismatch
+     * @throws NullPointerException null
+     */
+    public static void validateOperateInto(
+            MatrixDimension matrixDimension, VectorDimension vectorDimension, double[] out) {
+        validateOperate(matrixDimension, vectorDimension);
+        validateOutputLength(matrixDimension.leftOperableVectorDimension(), out);
+    }
+
+    /**
+     * 行列にベクトルをoperateTransposeし, 結果を配列に書き込めるかを検証する.
+     * 
+     * @param matrixDimension 行列次元
+     * @param vectorDimension ベクトル次元
+     * @param out 出力先の配列
+     * @throws MatrixFormatMismatchException undefined operation, or out length mismatch
+     * @throws NullPointerException null
+     */
+    public static void validateOperateTransposeInto(
+            MatrixDimension matrixDimension, VectorDimension vectorDimension, double[] out) {
+        validateOperateTranspose(matrixDimension, vectorDimension);
+        validateOutputLength(matrixDimension.rightOperableVectorDimension(), out);
+    }
+
+    /**
+     * 出力先の配列の長さが結果のベクトル次元に一致するかを検証する.
+     * 
+     * @param resultDimension 結果のベクトル次元
+     * @param out 出力先の配列
+     * @throws MatrixFormatMismatchException out length mismatch
+     * @throws NullPointerException null
+     */
+    private static void validateOutputLength(VectorDimension resultDimension, double[] out) {
+        if (!resultDimension.equalsValueOf(out.length)) {
+            throw new MatrixFormatMismatchException(
+                    "size mismatch: result: %s, out.length = %s"
+                            .formatted(resultDimension, out.length));
+        }
+    }
 }
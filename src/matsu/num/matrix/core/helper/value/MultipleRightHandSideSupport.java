@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.helper.value;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 複数の右辺を持つ線形連立方程式 AX = B の求解に関するサポートを提供するクラス.
+ * 
+ * <p>
+ * 右辺と解は, 列ベクトルの成分配列を並べた2次元配列で扱う. <br>
+ * すなわち, {@code b[j]} が B の第 <i>j</i> 列を表す. <br>
+ * 求解のカーネルに渡すための, 行優先の1次元配列との相互変換も提供する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class MultipleRightHandSideSupport {
+
+    private MultipleRightHandSideSupport() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 係数行列に対して, 右辺行列のサイズが適合するかを検証する.
+     * 
+     * @param targetDimension 係数行列 A の次元
+     * @param rightHandSideDimension 右辺行列 B の次元
+     * @throws MatrixFormatMismatchException 行数が一致しない場合
+     * @throws NullPointerException null
+     */
+    public static void validateSolve(
+            MatrixDimension targetDimension, MatrixDimension rightHandSideDimension) {
+        if (targetDimension.rowAsIntValue() != rightHandSideDimension.rowAsIntValue()) {
+            throw new MatrixFormatMismatchException(
+                    "undefined operation: target: %s, right-hand side: %s"
+                            .formatted(targetDimension, rightHandSideDimension));
+        }
+    }
+
+    /**
+     * 係数行列に対して, 右辺と解の出力先の配列の形状が適合するかを検証する.
+     * 
+     * @param targetDimension 係数行列 A の次元
+     * @param b 右辺
+     * @param x 解の出力先
+     * @throws MatrixFormatMismatchException 形状が適合しない場合
+     * @throws NullPointerException null
+     */
+    public static void validateSolveInto(
+            MatrixDimension targetDimension, double[][] b, double[][] x) {
+        if (b.length != x.length) {
+            throw new MatrixFormatMismatchException(
+                    "size mismatch: b.length = %s, x.length = %s"
+                            .formatted(b.length, x.length));
+        }
+
+        final int rowDimension = targetDimension.rowAsIntValue();
+        final int columnDimension = targetDimension.columnAsIntValue();
+        for (int j = 0; j < b.length; j++) {
+            if (b[j].length != rowDimension) {
+                throw new MatrixFormatMismatchException(
+                        "undefined operation: target: %s, b[%s].length = %s"
+                                .formatted(targetDimension, j, b[j].length));
+            }
+            if (x[j].length != columnDimension) {
+                throw new MatrixFormatMismatchException(
+                        "size mismatch: target: %s, x[%s].length = %s"
+                                .formatted(targetDimension, j, x[j].length));
+            }
+        }
+    }
+
+    /**
+     * 行列の各列を成分配列として取り出す.
+     * 
+     * @param matrix 行列
+     * @return 列ベクトルの成分配列の配列
+     * @throws NullPointerException null
+     */
+    public static double[][] columnsOf(EntryReadableMatrix matrix) {
+        final MatrixDimension matrixDimension = matrix.matrixDimension();
+        final int rowDimension = matrixDimension.rowAsIntValue();
+        final int columnDimension = matrixDimension.columnAsIntValue();
+
+        double[][] out = new double[columnDimension][rowDimension];
+        for (int i = 0; i < rowDimension; i++) {
+            for (int j = 0; j < columnDimension; j++) {
+                out[j][i] = matrix.valueAt(i, j);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 列ベクトルの成分配列を並べて行列を生成する.
+     * 
+     * @param matrixDimension 行列の次元
+     * @param columns 列ベクトルの成分配列の配列
+     * @return 行列
+     * @throws NullPointerException null
+     */
+    public static GeneralMatrix matrixOfColumns(MatrixDimension matrixDimension, double[][] columns) {
+        assert matrixDimension.columnAsIntValue() == columns.length;
+
+        GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(matrixDimension);
+        for (int j = 0; j < columns.length; j++) {
+            final double[] column = columns[j];
+            for (int i = 0; i < column.length; i++) {
+                builder.setValue(i, j, column[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 列ベクトルの成分配列を, 行優先の1次元配列にまとめる. <br>
+     * 結果の (<i>i</i>, <i>j</i>) 成分は {@code columns[j][i]} である. <br>
+     * 成分は {@link Vector} が扱うことができる値に修正される.
+     * 
+     * @param columns 列ベクトルの成分配列の配列
+     * @param rowDimension 行数 (各列の長さ)
+     * @return 行優先の1次元配列
+     * @throws NullPointerException null
+     */
+    public static double[] gatherColumns(double[][] columns, int rowDimension) {
+        final int columnDimension = columns.length;
+
+        double[] out = new double[rowDimension * columnDimension];
+        for (int j = 0; j < columnDimension; j++) {
+            final double[] column = columns[j];
+            int c = j;
+            for (int i = 0; i < rowDimension; i++, c += columnDimension) {
+                out[c] = column[i];
+            }
+        }
+        VectorEntryAccess.modify(out);
+        return out;
+    }
+
+    /**
+     * 列ベクトルの成分配列を, 行を並べ替えたうえで行優先の1次元配列にまとめる. <br>
+     * 結果の (<i>i</i>, <i>j</i>) 成分は {@code columns[j][rowOrder[i]]} である. <br>
+     * 成分は {@link Vector} が扱うことができる値に修正される.
+     * 
+     * @param columns 列ベクトルの成分配列の配列
+     * @param rowOrder 行の並び
+     * @return 行優先の1次元配列
+     * @throws NullPointerException null
+     */
+    public static double[] gatherColumns(double[][] columns, int[] rowOrder) {
+        final int rowDimension = rowOrder.length;
+        final int columnDimension = columns.length;
+
+        double[] out = new double[rowDimension * columnDimension];
+        for (int j = 0; j < columnDimension; j++) {
+            final double[] column = columns[j];
+            int c = j;
+            for (int i = 0; i < rowDimension; i++, c += columnDimension) {
+                out[c] = column[rowOrder[i]];
+            }
+        }
+        VectorEntryAccess.modify(out);
+        return out;
+    }
+
+    /**
+     * 行優先の1次元配列の先頭から各列を取り出し, 列ベクトルの成分配列に書き込む. <br>
+     * {@code columns[j][i]} には (<i>i</i>, <i>j</i>) 成分が書き込まれる. <br>
+     * 成分は {@link Vector} が扱うことができる値に修正される.
+     * 
+     * @param rowMajor 行優先の1次元配列, 列数は {@code columns.length}
+     * @param columns 列ベクトルの成分配列の出力先
+     * @throws NullPointerException null
+     */
+    public static void scatterColumns(double[] rowMajor, double[][] columns) {
+        final int columnDimension = columns.length;
+        for (int j = 0; j < columnDimension; j++) {
+            final double[] column = columns[j];
+            int c = j;
+            for (int i = 0; i < column.length; i++, c += columnDimension) {
+                column[i] = rowMajor[c];
+            }
+            VectorEntryAccess.modify(column);
+        }
+    }
+
+    /**
+     * (一般化) 逆行列を列ごとに作用させて, 解を出力先に書き込む.
+     * 
+     * @param targetDimension 係数行列 A の次元
+     * @param inverse 逆行列
+     * @param b 右辺
+     * @param x 解の出力先
+     * @throws NullPointerException null
+     */
+    public static void solveEachColumn(
+            MatrixDimension targetDimension, Matrix inverse, double[][] b, double[][] x) {
+        for (int j = 0; j < b.length; j++) {
+            Vector bj = VectorEntryAccess.adopt(
+                    targetDimension.leftOperableVectorDimension(), b[j].clone());
+            inverse.operateInto(bj, x[j]);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.helper.value;
+
+import java.util.Objects;
+
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+
+/**
+ * モジュール内部から {@link CsrMatrix}, {@link SymmetricCsrMatrix}
+ * の内部表現 (圧縮行格納の配列) にアクセスするための仕組みを提供する.
+ * 
+ * <p>
+ * スパース行列の直接法による分解 ({@code nlsf} パッケージ) は,
+ * 非ゼロパターンを成分の問い合わせ ({@code valueAt}) ではなく配列として読む必要がある. <br>
+ * このクラスはモジュール内部の計算に限り, コピーを経由せずに配列を参照する手段を提供する.
+ * </p>
+ * 
+ * <p>
+ * アクセサ ({@link Accessor}, {@link SymmetricAccessor}) は,
+ * それぞれ {@link CsrMatrix}, {@link SymmetricCsrMatrix} のクラス初期化時に1度だけ登録される. <br>
+ * このパッケージはモジュール外に公開されない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class SparseEntryAccess {
+
+    //CsrMatrixのクラス初期化時に登録される
+    private static volatile Accessor accessor;
+
+    //SymmetricCsrMatrixのクラス初期化時に登録される
+    private static volatile SymmetricAccessor symmetricAccessor;
+
+    private SparseEntryAccess() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * {@link CsrMatrix} の内部表現へのアクセサ. <br>
+     * {@link CsrMatrix} のみが実装する.
+     */
+    public static interface Accessor {
+
+        /**
+         * 行ポインタ配列の参照を返す.
+         * 
+         * @param matrix 行列
+         * @return 行ポインタ配列の参照
+         */
+        public abstract int[] rowPointer(CsrMatrix matrix);
+
+        /**
+         * 列index配列の参照を返す.
+         * 
+         * @param matrix 行列
+         * @return 列index配列の参照
+         */
+        public abstract int[] columnIndex(CsrMatrix matrix);
+
+        /**
+         * 値配列の参照を返す.
+         * 
+         * @param matrix 行列
+         * @return 値配列の参照
+         */
+        public abstract double[] value(CsrMatrix matrix);
+    }
+
+    /**
+     * {@link SymmetricCsrMatrix} の内部表現 (下三角部分の圧縮行格納) へのアクセサ. <br>
+     * {@link SymmetricCsrMatrix} のみが実装する.
+     */
+    public static interface SymmetricAccessor {
+
+        /**
+         * 下三角部分の行ポインタ配列の参照を返す.
+         * 
+         * @param matrix 行列
+         * @return 行ポインタ配列の参照
+         */
+        public abstract int[] lowerRowPointer(SymmetricCsrMatrix matrix);
+
+        /**
+         * 下三角部分の列index配列の参照を返す.
+         * 
+         * @param matrix 行列
+         * @return 列index配列の参照
+         */
+        public abstract int[] lowerColumnIndex(SymmetricCsrMatrix matrix);
+
+        /**
+         * 下三角部分の値配列の参照を返す.
+         * 
+         * @param matrix 行列
+         * @return 値配列の参照
+         */
+        public abstract double[] lowerValue(SymmetricCsrMatrix matrix);
+    }
+
+    /**
+     * アクセサを登録する. <br>
+     * {@link CsrMatrix} のクラス初期化時にのみ呼ばれる.
+     * 
+     * @param accessor アクセサ
+     * @throws AssertionError すでに登録されている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static synchronized void register(Accessor accessor) {
+        Objects.requireNonNull(accessor);
+        if (Objects.nonNull(SparseEntryAccess.accessor)) {
+            throw new AssertionError("Bug: already registered");
+        }
+        SparseEntryAccess.accessor = accessor;
+    }
+
+    /**
+     * 対称行列のアクセサを登録する. <br>
+     * {@link SymmetricCsrMatrix} のクラス初期化時にのみ呼ばれる.
+     * 
+     * @param accessor アクセサ
+     * @throws AssertionError すでに登録されている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static synchronized void registerSymmetric(SymmetricAccessor accessor) {
+        Objects.requireNonNull(accessor);
+        if (Objects.nonNull(SparseEntryAccess.symmetricAccessor)) {
+            throw new AssertionError("Bug: already registered");
+        }
+        SparseEntryAccess.symmetricAccessor = accessor;
+    }
+
+    /**
+     * 行ポインタ配列の参照を返す.
+     * 
+     * <p>
+     * 行 <i>i</i> の非ゼロ成分は, インデックス {@code rowPointer[i]} 以上
+     * {@code rowPointer[i + 1]} 未満の位置に列indexの昇順で格納されている. <br>
+     * 戻り値は {@link CsrMatrix} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param matrix 行列
+     * @return 行ポインタ配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static int[] rowPointer(CsrMatrix matrix) {
+        return accessor().rowPointer(Objects.requireNonNull(matrix));
+    }
+
+    /**
+     * 列index配列の参照を返す.
+     * 
+     * <p>
+     * 戻り値は {@link CsrMatrix} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param matrix 行列
+     * @return 列index配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static int[] columnIndex(CsrMatrix matrix) {
+        return accessor().columnIndex(Objects.requireNonNull(matrix));
+    }
+
+    /**
+     * 値配列の参照を返す.
+     * 
+     * <p>
+     * 戻り値は {@link CsrMatrix} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param matrix 行列
+     * @return 値配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static double[] value(CsrMatrix matrix) {
+        return accessor().value(Objects.requireNonNull(matrix));
+    }
+
+    /**
+     * 対称行列の下三角部分の行ポインタ配列の参照を返す.
+     * 
+     * <p>
+     * 行 <i>i</i> の下三角部分 (対角を含む) の非ゼロ成分は, インデックス {@code lowerRowPointer[i]} 以上
+     * {@code lowerRowPointer[i + 1]} 未満の位置に列indexの昇順で格納されている. <br>
+     * 戻り値は {@link SymmetricCsrMatrix} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param matrix 行列
+     * @return 行ポインタ配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static int[] lowerRowPointer(SymmetricCsrMatrix matrix) {
+        return symmetricAccessor().lowerRowPointer(Objects.requireNonNull(matrix));
+    }
+
+    /**
+     * 対称行列の下三角部分の列index配列の参照を返す.
+     * 
+     * <p>
+     * 戻り値は {@link SymmetricCsrMatrix} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param matrix 行列
+     * @return 列index配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static int[] lowerColumnIndex(SymmetricCsrMatrix matrix) {
+        return symmetricAccessor().lowerColumnIndex(Objects.requireNonNull(matrix));
+    }
+
+    /**
+     * 対称行列の下三角部分の値配列の参照を返す.
+     * 
+     * <p>
+     * 戻り値は {@link SymmetricCsrMatrix} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     * 
+     * @param matrix 行列
+     * @return 値配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static double[] lowerValue(SymmetricCsrMatrix matrix) {
+        return symmetricAccessor().lowerValue(Objects.requireNonNull(matrix));
+    }
+
+    /**
+     * 登録されたアクセサを返す. <br>
+     * 未登録の場合は {@link CsrMatrix} のクラス初期化を強制する.
+     */
+    private static Accessor accessor() {
+        Accessor out = accessor;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+
+        try {
+            Class.forName(CsrMatrix.class.getName(), true, CsrMatrix.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError("Bug: unreachable", e);
+        }
+        return accessor;
+    }
+
+    /**
+     * 登録された対称行列のアクセサを返す. <br>
+     * 未登録の場合は {@link SymmetricCsrMatrix} のクラス初期化を強制する.
+     */
+    private static SymmetricAccessor symmetricAccessor() {
+        SymmetricAccessor out = symmetricAccessor;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+
+        try {
+            Class.forName(SymmetricCsrMatrix.class.getName(), true, SymmetricCsrMatrix.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError("Bug: unreachable", e);
+        }
+        return symmetricAccessor;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.helper.value;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * モジュール内部から {@link Vector} の内部表現にアクセスするための仕組みを提供する.
+ *
+ * <p>
+ * {@link Vector} は成分配列をカプセル化しているため,
+ * 行列ベクトル積などのコアな計算において, 作用ベクトルの成分を読むたびに配列のコピーが生じる. <br>
+ * このクラスはモジュール内部の計算に限り, コピーを経由せずに成分配列を参照する手段を提供する.
+ * </p>
+ *
+ * <p>
+ * アクセサ ({@link Accessor}) は {@link Vector} のクラス初期化時に1度だけ登録される. <br>
+ * このパッケージはモジュール外に公開されない.
+ * </p>
+ *
+ * <p>
+ * また, 一時的なビュー ({@link #temporaryView(VectorDimension, double[])})
+ * を作用ベクトルとして受け入れる行列のクラスを, 各クラスの初期化時に登録する仕組みを提供する. <br>
+ * 登録はクラスの完全一致で判定されるため, ユーザーが定義したサブクラスは登録されたものとみなされない.
+ * </p>
+ *
+ * @author Matsuura Y.
+ */
+public final class VectorEntryAccess {
+
+    //Vectorのクラス初期化時に登録される
+    private static volatile Accessor accessor;
+
+    private VectorEntryAccess() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * {@link Vector} の内部表現へのアクセサ. <br>
+     * {@link Vector} のみが実装する.
+     */
+    public static interface Accessor {
+
+        /**
+         * ベクトルの成分配列の参照を返す.
+         *
+         * @param vector ベクトル
+         * @return 成分配列の参照
+         */
+        public abstract double[] entryReference(Vector vector);
+
+        /**
+         * 配列の各成分を, {@link Vector} が扱うことができる値に修正する.
+         *
+         * @param values 配列
+         */
+        public abstract void modify(double[] values);
+
+        /**
+         * 成分配列の所有権を引き取り, ベクトルを生成する.
+         *
+         * @param vectorDimension ベクトルの次元
+         * @param entry 成分配列
+         * @return ベクトル
+         */
+        public abstract Vector adopt(VectorDimension vectorDimension, double[] entry);
+    }
+
+    //一時的なビューを作用ベクトルとして受け入れる行列のクラスと, インスタンスが満たすべき条件
+    private static final Map<Class<?>, Predicate<Matrix>> viewAcceptingMatrices = new ConcurrentHashMap<>();
+
+    /**
+     * アクセサを登録する. <br>
+     * {@link Vector} のクラス初期化時にのみ呼ばれる.
+     *
+     * @param accessor アクセサ
+     * @throws AssertionError すでに登録されている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static synchronized void register(Accessor accessor) {
+        Objects.requireNonNull(accessor);
+        if (Objects.nonNull(VectorEntryAccess.accessor)) {
+            throw new AssertionError("Bug: already registered");
+        }
+        VectorEntryAccess.accessor = accessor;
+    }
+
+    /**
+     * ベクトルの成分配列の参照を返す.
+     *
+     * <p>
+     * 戻り値は {@link Vector} の内部表現そのものであるので,
+     * 書き換えてはならず, モジュール外に漏洩させてもならない.
+     * </p>
+     *
+     * @param vector ベクトル
+     * @return 成分配列の参照
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static double[] entryReference(Vector vector) {
+        return accessor().entryReference(Objects.requireNonNull(vector));
+    }
+
+    /**
+     * 配列の各成分を, {@link Vector} が扱うことができる値に修正する. <br>
+     * 修正のルールは {@link Vector.Builder#setEntryValue(double...)} と同一である.
+     *
+     * @param values 配列
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static void modify(double[] values) {
+        accessor().modify(Objects.requireNonNull(values));
+    }
+
+    /**
+     * 成分配列の所有権を引き取り, ベクトルを生成する. <br>
+     * {@link Vector.Builder} を経由する場合と異なり, 配列はコピーされない.
+     *
+     * <p>
+     * 配列に不正値が含まれる場合に限り, {@link #modify(double[])} と同一のルールで修正される. <br>
+     * 呼び出し後は配列を書き換えてはならず, 参照を保持してもならない.
+     * </p>
+     *
+     * @param vectorDimension ベクトルの次元
+     * @param entry 成分配列
+     * @return 配列を成分とするベクトル
+     * @throws MatrixFormatMismatchException 配列の長さがベクトルの次元と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static Vector adopt(VectorDimension vectorDimension, double[] entry) {
+        if (!vectorDimension.equalsValueOf(entry.length)) {
+            throw new MatrixFormatMismatchException(
+                    "size mismatch: vec-dim: %s, entry.length = %s"
+                            .formatted(vectorDimension, entry.length));
+        }
+        return accessor().adopt(vectorDimension, entry);
+    }
+
+    /**
+     * 作業配列を成分とする一時的なベクトルを生成する. <br>
+     * 反復計算において, 作業配列を行列ベクトル積の作用ベクトルとして渡すために用いる.
+     *
+     * <p>
+     * {@link #adopt(VectorDimension, double[])} と同様に配列はコピーされず,
+     * 不正値が含まれる場合は修正される. <br>
+     * ただし, 戻り値は呼び出し中にのみ参照される用途
+     * ({@link #acceptsTemporaryView(Matrix)} を満たす行列の
+     * {@link Matrix#operateInto(Vector, double[])} の作用ベクトルなど)
+     * に限って使用し, 保持してはならない. <br>
+     * 戻り値が参照されなくなった後であれば, 配列を書き換えてよい.
+     * </p>
+     *
+     * @param vectorDimension ベクトルの次元
+     * @param entry 作業配列
+     * @return 作業配列を成分とするベクトル
+     * @throws MatrixFormatMismatchException 配列の長さがベクトルの次元と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static Vector temporaryView(VectorDimension vectorDimension, double[] entry) {
+        return adopt(vectorDimension, entry);
+    }
+
+    /**
+     * 一時的なビューを作用ベクトルとして受け入れる行列のクラスを登録する. <br>
+     * 各クラスの初期化時にのみ呼ばれる.
+     *
+     * <p>
+     * 登録するクラスの行列ベクトル積
+     * ({@code operate}, {@code operateTranspose} およびその {@code Into} 版) は,
+     * 作用ベクトルと出力先配列を呼び出し後に保持してはならない. <br>
+     * また, 作用ベクトル (作用ベクトル自身を返した結果を含む) や出力先配列を他の行列に渡す場合は,
+     * その行列が一時的なビューを受け入れることを {@code condition} で確かめなければならない.
+     * </p>
+     *
+     * @param <T> 行列の型
+     * @param type 行列のクラス
+     * @param condition インスタンスが一時的なビューを受け入れる条件
+     * @throws AssertionError すでに登録されている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static <T extends Matrix> void registerViewAccepting(
+            Class<T> type, Predicate<? super T> condition) {
+        Objects.requireNonNull(condition);
+        Predicate<Matrix> castedCondition = matrix -> condition.test(type.cast(matrix));
+        if (Objects.nonNull(viewAcceptingMatrices.putIfAbsent(type, castedCondition))) {
+            throw new AssertionError("Bug: already registered");
+        }
+    }
+
+    /**
+     * 一時的なビューを無条件に作用ベクトルとして受け入れる行列のクラスを登録する. <br>
+     * 作用ベクトルを他の行列に渡さないクラスに限る.
+     *
+     * @param type 行列のクラス
+     * @throws AssertionError すでに登録されている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #registerViewAccepting(Class, Predicate)
+     */
+    public static void registerViewAccepting(Class<? extends Matrix> type) {
+        registerViewAccepting(type, matrix -> true);
+    }
+
+    /**
+     * 行列が一時的なビュー ({@link #temporaryView(VectorDimension, double[])})
+     * を作用ベクトルとして受け入れるかどうかを判定する. <br>
+     * 受け入れる行列には, {@code Into} 版の行列ベクトル積の出力先として,
+     * 参照を外部に漏らしてはならない配列を渡してもよい.
+     *
+     * @param matrix 行列
+     * @return 受け入れる場合はtrue
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static boolean acceptsTemporaryView(Matrix matrix) {
+        Predicate<Matrix> condition = viewAcceptingMatrices.get(matrix.getClass());
+        return Objects.nonNull(condition) && condition.test(matrix);
+    }
+
+    /**
+     * アクセサを取得する. <br>
+     * 未登録の場合は, {@link Vector} のクラス初期化を行ってから取得する.
+     */
+    private static Accessor accessor() {
+        Accessor out = accessor;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+
+        try {
+            Class.forName(Vector.class.getName(), true, Vector.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError("Bug: unreachable", e);
+        }
+        return accessor;
+    }
+}
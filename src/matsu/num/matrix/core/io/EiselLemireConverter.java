@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.io;
+
+import java.math.BigInteger;
+
+/**
+ * 10進数 <i>w</i> &times; 10<sup><i>q</i></sup> を, 最近接丸めの浮動小数点数に変換する
+ * (Eisel-Lemire のアルゴリズム).
+ * 
+ * <p>
+ * 10の冪の128ビットの近似 (切り捨て) との積の上位ビットから, 結果の仮数と指数を決定する. <br>
+ * 近似の誤差により丸めの方向が確定しない場合 (および結果が非正規化数, 無限大となる場合) は変換に失敗し,
+ * 呼び出し側は厳密な変換にフォールバックする. <br>
+ * 失敗はまれであり, 変換に成功した場合の結果は常に正しく丸められている.
+ * </p>
+ * 
+ * <p>
+ * 参考: D. Lemire, Number Parsing at a Gigabyte per Second,
+ * Software: Practice and Experience 51(8), 2021.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class EiselLemireConverter {
+
+    private static final int MIN_EXPONENT = -348;
+    private static final int MAX_EXPONENT = 347;
+
+    /**
+     * 10<sup><i>q</i></sup> の仮数の128ビットの近似 (切り捨て) の上位, 下位64ビット. <br>
+     * 最上位ビットが1となるように正規化されている.
+     */
+    private static final long[] POWER_OF_TEN_HIGH;
+    private static final long[] POWER_OF_TEN_LOW;
+
+    static {
+        final int size = MAX_EXPONENT - MIN_EXPONENT + 1;
+        POWER_OF_TEN_HIGH = new long[size];
+        POWER_OF_TEN_LOW = new long[size];
+        for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; q++) {
+            final BigInteger power = BigInteger.TEN.pow(Math.abs(q));
+            final int bitLength = power.bitLength();
+            final BigInteger mantissa;
+            if (q >= 0) {
+                mantissa = bitLength > 128
+                        ? power.shiftRight(bitLength - 128)
+                        : power.shiftLeft(128 - bitLength);
+            } else {
+                //2^127 < 2^(127 + bitLength) / 10^|q| < 2^128
+                mantissa = BigInteger.ONE.shiftLeft(127 + bitLength).divide(power);
+            }
+            POWER_OF_TEN_HIGH[q - MIN_EXPONENT] = mantissa.shiftRight(64).longValue();
+            POWER_OF_TEN_LOW[q - MIN_EXPONENT] = mantissa.longValue();
+        }
+    }
+
+    private EiselLemireConverter() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * <i>w</i> &times; 10<sup><i>q</i></sup> を最近接丸めで浮動小数点数に変換する.
+     * 
+     * @param w <i>w</i>, 正の値
+     * @param q <i>q</i>
+     * @return 変換結果, 変換に失敗した場合は NaN
+     */
+    static double toDouble(long w, int q) {
+        assert w > 0;
+        if (q < MIN_EXPONENT || MAX_EXPONENT < q) {
+            return Double.NaN;
+        }
+
+        //正規化
+        final int leadingZeros = Long.numberOfLeadingZeros(w);
+        final long man = w << leadingZeros;
+        long retExp2 = ((217706L * q) >> 16) + 64 + 1023 - leadingZeros;
+
+        //乗算
+        final long powerHigh = POWER_OF_TEN_HIGH[q - MIN_EXPONENT];
+        long xHi = unsignedMultiplyHigh(man, powerHigh);
+        long xLo = man * powerHigh;
+
+        //下位ビットが丸めに影響しうる場合は, 10の冪の下位64ビットまで用いる
+        if ((xHi & 0x1FF) == 0x1FF && Long.compareUnsigned(xLo + man, man) < 0) {
+            final long powerLow = POWER_OF_TEN_LOW[q - MIN_EXPONENT];
+            final long yHi = unsignedMultiplyHigh(man, powerLow);
+            final long yLo = man * powerLow;
+            long mergedHi = xHi;
+            final long mergedLo = xLo + yHi;
+            if (Long.compareUnsigned(mergedLo, xLo) < 0) {
+                mergedHi++;
+            }
+            if ((mergedHi & 0x1FF) == 0x1FF && mergedLo + 1 == 0
+                    && Long.compareUnsigned(yLo + man, man) < 0) {
+                return Double.NaN;
+            }
+            xHi = mergedHi;
+            xLo = mergedLo;
+        }
+
+        //54ビットへのシフト
+        final long msb = xHi >>> 63;
+        long retMantissa = xHi >>> (msb + 9);
+        retExp2 -= 1 ^ msb;
+
+        //ちょうど中間の場合は丸めの方向が確定しない
+        if (xLo == 0 && (xHi & 0x1FF) == 0 && (retMantissa & 3) == 1) {
+            return Double.NaN;
+        }
+
+        //54ビットから53ビットへの丸め
+        retMantissa += retMantissa & 1;
+        retMantissa >>>= 1;
+        if ((retMantissa >>> 53) > 0) {
+            retMantissa >>>= 1;
+            retExp2++;
+        }
+
+        //非正規化数, 無限大となる場合
+        if (retExp2 <= 0 || retExp2 >= 0x7FF) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble((retExp2 << 52) | (retMantissa & 0x000F_FFFF_FFFF_FFFFL));
+    }
+
+    /**
+     * 符号なし64ビット整数の積の上位64ビットを返す.
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
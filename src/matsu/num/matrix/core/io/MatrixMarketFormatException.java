@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.io;
+
+import java.io.IOException;
+
+/**
+ * 読み込んだ Matrix Market 形式のデータが不正であることを報告する例外.
+ * 
+ * @author Matsuura Y.
+ */
+public class MatrixMarketFormatException extends IOException {
+
+    private static final long serialVersionUID = -3412875601457201158L;
+
+    /**
+     * メッセージ無しの例外を生成する.
+     */
+    public MatrixMarketFormatException() {
+        super();
+    }
+
+    /**
+     * メッセージ有りの例外を生成する.
+     * 
+     * @param string メッセージ
+     */
+    public MatrixMarketFormatException(String string) {
+        super(string);
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Objects;
+
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+import matsu.num.matrix.core.validation.ElementsTooManyException;
+
+/**
+ * Matrix Market 形式 (.mtx) のデータを読み込み, 行列を生成するユーティリティクラス.
+ * 
+ * <p>
+ * ヘッダ行 {@code %%MatrixMarket matrix <format> <field> <symmetry>} を解析し,
+ * 次の形式に対応する. <br>
+ * (大文字と小文字は区別しない.)
+ * </p>
+ * 
+ * <ul>
+ * <li>format: {@code coordinate}, {@code array}</li>
+ * <li>field: {@code real}, {@code double}, {@code integer}, {@code pattern}
+ * ({@code pattern} は {@code coordinate} のみ, 値は1とみなす)</li>
+ * <li>symmetry: {@code general}, {@code symmetric}, {@code skew-symmetric}</li>
+ * </ul>
+ * 
+ * <p>
+ * 戻り値の型は, 形式と非ゼロ構造に応じて, 成分の格納に要するメモリ量が最も少ないものが選ばれる.
+ * </p>
+ * 
+ * <ul>
+ * <li>{@code array general}, {@code array skew-symmetric}: {@link GeneralMatrix}</li>
+ * <li>{@code array symmetric}: {@link SymmetricMatrix}</li>
+ * <li>{@code coordinate general}, {@code coordinate skew-symmetric}:
+ * {@link GeneralMatrix}, {@link GeneralBandMatrix} (正方の場合), {@link CsrMatrix}
+ * のうちいずれか</li>
+ * <li>{@code coordinate symmetric}:
+ * {@link SymmetricMatrix}, {@link SymmetricBandMatrix}, {@link SymmetricCsrMatrix}
+ * のうちいずれか</li>
+ * </ul>
+ * 
+ * <p>
+ * {@code coordinate} 形式で同一の位置が複数回現れる場合, 値は足し合わされる. <br>
+ * 成分の値が行列で扱えない値 (無限大, NaN) である場合は, 正常値に修正される
+ * (see: {@link EntryReadableMatrix#acceptValue(double)}).
+ * </p>
+ * 
+ * <p>
+ * データはバッファを介してバイト列のまま解析され,
+ * 整数と有効桁数の少ない浮動小数点数はトークンごとの文字列を生成せずに変換される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class MatrixMarketReader {
+
+    private static final String BANNER = "%%MatrixMarket";
+
+    private MatrixMarketReader() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * ファイルから行列を読み込む.
+     * 
+     * @param path ファイルのパス
+     * @return 行列
+     * @throws MatrixMarketFormatException データが Matrix Market 形式として不正な場合,
+     *             対応していない形式の場合
+     * @throws IOException 入出力エラーが発生した場合
+     * @throws ElementsTooManyException 行列の有効要素数が大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static EntryReadableMatrix read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * 入力ストリームから行列を読み込む. <br>
+     * ストリームは閉じられない.
+     * 
+     * @param in 入力ストリーム
+     * @return 行列
+     * @throws MatrixMarketFormatException データが Matrix Market 形式として不正な場合,
+     *             対応していない形式の場合
+     * @throws IOException 入出力エラーが発生した場合
+     * @throws ElementsTooManyException 行列の有効要素数が大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static EntryReadableMatrix read(InputStream in) throws IOException {
+        return read(Channels.newChannel(in));
+    }
+
+    private static EntryReadableMatrix read(ReadableByteChannel channel) throws IOException {
+        MatrixMarketTokenizer tokenizer = new MatrixMarketTokenizer(channel);
+        Header header = Header.parse(tokenizer);
+
+        EntryReadableMatrix out = header.coordinate
+                ? readCoordinate(tokenizer, header)
+                : readArray(tokenizer, header);
+
+        if (tokenizer.skipWhitespace()) {
+            throw tokenizer.formatException("too many entries");
+        }
+        return out;
+    }
+
+    /**
+     * array 形式の成分を読み込む.
+     */
+    private static EntryReadableMatrix readArray(
+            MatrixMarketTokenizer tokenizer, Header header) throws IOException {
+        final int rows = header.rows;
+        final int columns = header.columns;
+        final MatrixDimension matrixDimension = MatrixDimension.rectangle(rows, columns);
+
+        switch (header.symmetry) {
+            case GENERAL: {
+                GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(matrixDimension);
+                for (int j = 0; j < columns; j++) {
+                    for (int i = 0; i < rows; i++) {
+                        builder.setValue(i, j, tokenizer.nextDouble());
+                    }
+                }
+                return builder.build();
+            }
+            case SYMMETRIC: {
+                SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(matrixDimension);
+                for (int j = 0; j < columns; j++) {
+                    for (int i = j; i < rows; i++) {
+                        builder.setValue(i, j, tokenizer.nextDouble());
+                    }
+                }
+                return builder.build();
+            }
+            case SKEW_SYMMETRIC: {
+                GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(matrixDimension);
+                for (int j = 0; j < columns; j++) {
+                    for (int i = j + 1; i < rows; i++) {
+                        double value = tokenizer.nextDouble();
+                        builder.setValue(i, j, value);
+                        builder.setValue(j, i, -value);
+                    }
+                }
+                return builder.build();
+            }
+            default:
+                throw new AssertionError("Bug");
+        }
+    }
+
+    /**
+     * coordinate 形式の成分を読み込む.
+     */
+    private static EntryReadableMatrix readCoordinate(
+            MatrixMarketTokenizer tokenizer, Header header) throws IOException {
+        final int rows = header.rows;
+        final int columns = header.columns;
+        final long entries = header.entries;
+        final boolean pattern = header.pattern;
+        final MatrixDimension matrixDimension = MatrixDimension.rectangle(rows, columns);
+
+        if (header.symmetry == Symmetry.SYMMETRIC) {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(matrixDimension);
+            for (long k = 0; k < entries; k++) {
+                int i = nextIndex(tokenizer, rows);
+                int j = nextIndex(tokenizer, columns);
+                builder.addValue(i, j, pattern ? 1d : tokenizer.nextDouble());
+            }
+            return compact(builder.build());
+        }
+
+        final boolean skew = header.symmetry == Symmetry.SKEW_SYMMETRIC;
+        CsrMatrix.Builder builder = CsrMatrix.Builder.zero(matrixDimension);
+        for (long k = 0; k < entries; k++) {
+            int i = nextIndex(tokenizer, rows);
+            int j = nextIndex(tokenizer, columns);
+            double value = pattern ? 1d : tokenizer.nextDouble();
+            if (!skew) {
+                builder.addValue(i, j, value);
+                continue;
+            }
+            if (i == j) {
+                throw tokenizer.formatException("diagonal entry in skew-symmetric matrix");
+            }
+            builder.addValue(i, j, value);
+            builder.addValue(j, i, -value);
+        }
+        return compact(builder.build());
+    }
+
+    /**
+     * 1始まりの index を読み込み, 0始まりにして返す.
+     */
+    private static int nextIndex(MatrixMarketTokenizer tokenizer, int bound) throws IOException {
+        long index = tokenizer.nextLong();
+        if (index < 1 || index > bound) {
+            throw tokenizer.formatException("index out of range: %s".formatted(index));
+        }
+        return (int) (index - 1);
+    }
+
+    /**
+     * スパース行列を, 格納に要するメモリ量が最も少ない型に変換する. <br>
+     * 比較は, 密行列 (8 * 行数 * 列数), 帯行列 (8 * 次元 * (帯幅 + 1)),
+     * CSR 形式 (12 * 非ゼロ数 + 4 * 行数) のバイト数で行う.
+     */
+    private static EntryReadableMatrix compact(CsrMatrix matrix) {
+        final MatrixDimension matrixDimension = matrix.matrixDimension();
+        final int rows = matrixDimension.rowAsIntValue();
+        final int columns = matrixDimension.columnAsIntValue();
+        final int[] rowPointer = SparseEntryAccess.rowPointer(matrix);
+        final int[] columnIndex = SparseEntryAccess.columnIndex(matrix);
+        final double[] value = SparseEntryAccess.value(matrix);
+
+        int lower = 0;
+        int upper = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                lower = Math.max(lower, i - columnIndex[p]);
+                upper = Math.max(upper, columnIndex[p] - i);
+            }
+        }
+
+        final long sparseBytes = 12L * matrix.numberOfNonZeros() + 4L * (rows + 1);
+        final long denseBytes = GeneralMatrix.Builder.accepts(matrixDimension).isReject()
+                ? Long.MAX_VALUE
+                : 8L * rows * columns;
+        long bandBytes = Long.MAX_VALUE;
+        BandMatrixDimension bandMatrixDimension = null;
+        if (matrixDimension.isSquare()) {
+            bandMatrixDimension = BandMatrixDimension.of(matrixDimension, lower, upper);
+            if (GeneralBandMatrix.Builder.accepts(bandMatrixDimension).isAccept()) {
+                bandBytes = 8L * rows * (lower + upper + 1);
+            }
+        }
+
+        if (denseBytes <= bandBytes && denseBytes <= sparseBytes) {
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(matrixDimension);
+            for (int i = 0; i < rows; i++) {
+                for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                    builder.setValue(i, columnIndex[p], value[p]);
+                }
+            }
+            return builder.build();
+        }
+        if (bandBytes <= sparseBytes) {
+            GeneralBandMatrix.Builder builder = GeneralBandMatrix.Builder.zero(bandMatrixDimension);
+            for (int i = 0; i < rows; i++) {
+                for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                    builder.setValue(i, columnIndex[p], value[p]);
+                }
+            }
+            return builder.build();
+        }
+        return matrix;
+    }
+
+    /**
+     * 対称なスパース行列を, 格納に要するメモリ量が最も少ない型に変換する. <br>
+     * 比較は, 密な対称行列 (8 * 次元 * (次元 + 1) / 2), 対称帯行列 (8 * 次元 * (帯幅 + 1)),
+     * 下三角部分の CSR 形式 (12 * 非ゼロ数 + 4 * 行数) のバイト数で行う.
+     */
+    private static EntryReadableMatrix compact(SymmetricCsrMatrix matrix) {
+        final MatrixDimension matrixDimension = matrix.matrixDimension();
+        final int n = matrixDimension.rowAsIntValue();
+        final int[] rowPointer = SparseEntryAccess.lowerRowPointer(matrix);
+        final int[] columnIndex = SparseEntryAccess.lowerColumnIndex(matrix);
+        final double[] value = SparseEntryAccess.lowerValue(matrix);
+
+        int bandWidth = 0;
+        for (int i = 0; i < n; i++) {
+            for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                bandWidth = Math.max(bandWidth, i - columnIndex[p]);
+            }
+        }
+
+        final long sparseBytes = 12L * rowPointer[n] + 4L * (n + 1);
+        final long denseBytes = SymmetricMatrix.Builder.accepts(matrixDimension).isReject()
+                ? Long.MAX_VALUE
+                : 8L * n * (n + 1) / 2;
+        final BandMatrixDimension bandMatrixDimension = BandMatrixDimension.symmetric(matrixDimension, bandWidth);
+        final long bandBytes = SymmetricBandMatrix.Builder.accepts(bandMatrixDimension).isReject()
+                ? Long.MAX_VALUE
+                : 8L * n * (bandWidth + 1);
+
+        if (denseBytes <= bandBytes && denseBytes <= sparseBytes) {
+            SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(matrixDimension);
+            for (int i = 0; i < n; i++) {
+                for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                    builder.setValue(i, columnIndex[p], value[p]);
+                }
+            }
+            return builder.build();
+        }
+        if (bandBytes <= sparseBytes) {
+            SymmetricBandMatrix.Builder builder = SymmetricBandMatrix.Builder.zero(bandMatrixDimension);
+            for (int i = 0; i < n; i++) {
+                for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                    builder.setValue(i, columnIndex[p], value[p]);
+                }
+            }
+            return builder.build();
+        }
+        return matrix;
+    }
+
+    private static enum Symmetry {
+        GENERAL, SYMMETRIC, SKEW_SYMMETRIC;
+    }
+
+    /**
+     * ヘッダ行とサイズ行の情報.
+     */
+    private static final class Header {
+
+        final boolean coordinate;
+        final boolean pattern;
+        final Symmetry symmetry;
+        final int rows;
+        final int columns;
+        final long entries;
+
+        private Header(boolean coordinate, boolean pattern, Symmetry symmetry,
+                int rows, int columns, long entries) {
+            this.coordinate = coordinate;
+            this.pattern = pattern;
+            this.symmetry = symmetry;
+            this.rows = rows;
+            this.columns = columns;
+            this.entries = entries;
+        }
+
+        /**
+         * ヘッダ行, コメント行, サイズ行を読み込む.
+         */
+        static Header parse(MatrixMarketTokenizer tokenizer) throws IOException {
+            String banner = tokenizer.readLine();
+            if (Objects.isNull(banner)) {
+                throw tokenizer.formatException("empty data");
+            }
+            String[] tokens = banner.trim().split("\\s+");
+            if (tokens.length != 5 || !tokens[0].equals(BANNER)) {
+                throw tokenizer.formatException("invalid header: %s".formatted(banner));
+            }
+            if (!tokens[1].equalsIgnoreCase("matrix")) {
+                throw tokenizer.formatException("unsupported object: %s".formatted(tokens[1]));
+            }
+
+            final boolean coordinate;
+            switch (tokens[2].toLowerCase(Locale.ROOT)) {
+                case "coordinate":
+                    coordinate = true;
+                    break;
+                case "array":
+                    coordinate = false;
+                    break;
+                default:
+                    throw tokenizer.formatException("unsupported format: %s".formatted(tokens[2]));
+            }
+
+            final boolean pattern;
+            switch (tokens[3].toLowerCase(Locale.ROOT)) {
+                case "real":
+                case "double":
+                case "integer":
+                    pattern = false;
+                    break;
+                case "pattern":
+                    if (!coordinate) {
+                        throw tokenizer.formatException("pattern field requires coordinate format");
+                    }
+                    pattern = true;
+                    break;
+                default:
+                    throw tokenizer.formatException("unsupported field: %s".formatted(tokens[3]));
+            }
+
+            final Symmetry symmetry;
+            switch (tokens[4].toLowerCase(Locale.ROOT)) {
+                case "general":
+                    symmetry = Symmetry.GENERAL;
+                    break;
+                case "symmetric":
+                    symmetry = Symmetry.SYMMETRIC;
+                    break;
+                case "skew-symmetric":
+                    symmetry = Symmetry.SKEW_SYMMETRIC;
+                    break;
+                default:
+                    throw tokenizer.formatException("unsupported symmetry: %s".formatted(tokens[4]));
+            }
+
+            //コメント行と空行を読み飛ばす
+            String sizeLine;
+            do {
+                sizeLine = tokenizer.readLine();
+                if (Objects.isNull(sizeLine)) {
+                    throw tokenizer.formatException("size line not found");
+                }
+                sizeLine = sizeLine.trim();
+            } while (sizeLine.isEmpty() || sizeLine.startsWith("%"));
+
+            String[] sizeTokens = sizeLine.split("\\s+");
+            if (sizeTokens.length != (coordinate ? 3 : 2)) {
+                throw tokenizer.formatException("invalid size line: %s".formatted(sizeLine));
+            }
+            final long rows;
+            final long columns;
+            final long entries;
+            try {
+                rows = Long.parseLong(sizeTokens[0]);
+                columns = Long.parseLong(sizeTokens[1]);
+                entries = coordinate ? Long.parseLong(sizeTokens[2]) : 0L;
+            } catch (NumberFormatException nfe) {
+                throw tokenizer.formatException("invalid size line: %s".formatted(sizeLine));
+            }
+            if (rows < 1 || columns < 1 || rows > Integer.MAX_VALUE || columns > Integer.MAX_VALUE
+                    || entries < 0) {
+                throw tokenizer.formatException("invalid size: %s".formatted(sizeLine));
+            }
+            if (symmetry != Symmetry.GENERAL && rows != columns) {
+                throw tokenizer.formatException("not square: %s".formatted(sizeLine));
+            }
+
+            return new Header(coordinate, pattern, symmetry, (int) rows, (int) columns, entries);
+        }
+    }
+}
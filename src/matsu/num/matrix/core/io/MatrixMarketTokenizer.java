@@ -0,0 +1,369 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Matrix Market 形式のデータを, バイト列のまま字句解析する.
+ * 
+ * <p>
+ * チャネルから固定長のバッファに読み込み, 数値のトークンをバイト列から直接解析する. <br>
+ * 整数と, 有効桁数が18桁以下の浮動小数点数はオブジェクトを生成せずに変換される. <br>
+ * 仮数が 2<sup>53</sup> 以下かつ10の指数の絶対値が22以下であれば, 1回の乗除算で厳密に変換される. <br>
+ * それ以外 (例えば17桁で出力された値) は, Eisel-Lemire のアルゴリズム
+ * ({@link EiselLemireConverter}) により正しく丸めて変換される. <br>
+ * 有効桁数が18桁を超える場合, 結果が非正規化数や無限大となる場合,
+ * および Eisel-Lemire のアルゴリズムで丸めの方向が確定しないまれな場合に限り,
+ * 再利用される文字配列を経由して {@link Double#parseDouble(String)} により変換される.
+ * </p>
+ * 
+ * <p>
+ * ヘッダやコメントの行は {@link #readLine()} により文字列として読み込む.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class MatrixMarketTokenizer {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * 厳密に変換できる10の冪.
+     */
+    private static final double[] POWER_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22 };
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean endOfStream;
+
+    private long lineNumber;
+
+    //フォールバック用のトークンの文字配列
+    private char[] token;
+    private int tokenLength;
+
+    /**
+     * チャネルを読み込む字句解析器を生成する. <br>
+     * チャネルは閉じられない.
+     */
+    MatrixMarketTokenizer(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.buffer.limit(0);
+        this.endOfStream = false;
+        this.lineNumber = 1;
+        this.token = new char[64];
+    }
+
+    /**
+     * 現在の行番号 (1始まり) を返す.
+     */
+    long lineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * 次のバイトを消費せずに返す. <br>
+     * 終端に達した場合は -1 を返す.
+     */
+    private int peek() throws IOException {
+        if (!this.buffer.hasRemaining() && !this.fill()) {
+            return -1;
+        }
+        return this.buffer.get(this.buffer.position()) & 0xFF;
+    }
+
+    /**
+     * 次のバイトを消費する.
+     */
+    private void skip() {
+        this.buffer.position(this.buffer.position() + 1);
+    }
+
+    /**
+     * バッファを読み足す. <br>
+     * 1バイト以上読めた場合は true.
+     */
+    private boolean fill() throws IOException {
+        if (this.endOfStream) {
+            return false;
+        }
+        this.buffer.compact();
+        try {
+            while (this.buffer.position() == 0) {
+                if (this.channel.read(this.buffer) < 0) {
+                    this.endOfStream = true;
+                    break;
+                }
+            }
+        } finally {
+            this.buffer.flip();
+        }
+        return this.buffer.hasRemaining();
+    }
+
+    /**
+     * 1行を読み込み, 行末の改行を除いた文字列を返す. <br>
+     * 終端に達している場合は null を返す.
+     */
+    String readLine() throws IOException {
+        int c = this.peek();
+        if (c < 0) {
+            return null;
+        }
+        var sb = new StringBuilder();
+        while (c >= 0) {
+            this.skip();
+            if (c == '\n') {
+                this.lineNumber++;
+                break;
+            }
+            if (c != '\r') {
+                sb.append((char) c);
+            }
+            c = this.peek();
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 空白文字 (改行を含む) を読み飛ばす. <br>
+     * 終端に達した場合は false.
+     */
+    boolean skipWhitespace() throws IOException {
+        while (true) {
+            int c = this.peek();
+            if (c < 0) {
+                return false;
+            }
+            if (!isWhitespace(c)) {
+                return true;
+            }
+            if (c == '\n') {
+                this.lineNumber++;
+            }
+            this.skip();
+        }
+    }
+
+    /**
+     * 次のトークンを整数として読み込む.
+     * 
+     * @throws MatrixMarketFormatException トークンが無い場合, 整数でない場合
+     */
+    long nextLong() throws IOException {
+        if (!this.skipWhitespace()) {
+            throw this.formatException("unexpected end of data");
+        }
+
+        int c = this.peek();
+        boolean negative = false;
+        if (c == '+' || c == '-') {
+            negative = c == '-';
+            this.skip();
+            c = this.peek();
+        }
+        if (!isDigit(c)) {
+            throw this.formatException("integer expected");
+        }
+        long value = 0;
+        while (isDigit(c)) {
+            if (value > (Long.MAX_VALUE - 9) / 10) {
+                throw this.formatException("integer overflow");
+            }
+            value = value * 10 + (c - '0');
+            this.skip();
+            c = this.peek();
+        }
+        if (c >= 0 && !isWhitespace(c)) {
+            throw this.formatException("integer expected");
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 次のトークンを浮動小数点数として読み込む. <br>
+     * 指数部の記号として, e, E の他に Fortran 形式の d, D を受け付ける.
+     * 
+     * @throws MatrixMarketFormatException トークンが無い場合, 数値でない場合
+     */
+    double nextDouble() throws IOException {
+        if (!this.skipWhitespace()) {
+            throw this.formatException("unexpected end of data");
+        }
+        this.tokenLength = 0;
+
+        int c = this.peek();
+        boolean negative = false;
+        if (c == '+' || c == '-') {
+            negative = c == '-';
+            this.consumeToToken(c);
+            c = this.peek();
+        }
+
+        long mantissa = 0;
+        int digitCount = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean anyDigit = false;
+
+        //整数部
+        while (isDigit(c)) {
+            anyDigit = true;
+            if (mantissa != 0 || c != '0') {
+                if (digitCount < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digitCount++;
+                } else {
+                    exact = false;
+                    exponent++;
+                }
+            }
+            this.consumeToToken(c);
+            c = this.peek();
+        }
+        //小数部
+        if (c == '.') {
+            this.consumeToToken(c);
+            c = this.peek();
+            while (isDigit(c)) {
+                anyDigit = true;
+                if (mantissa != 0 || c != '0') {
+                    if (digitCount < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digitCount++;
+                        exponent--;
+                    } else {
+                        exact = false;
+                    }
+                } else {
+                    exponent--;
+                }
+                this.consumeToToken(c);
+                c = this.peek();
+            }
+        }
+        //指数部
+        if (anyDigit && (c == 'e' || c == 'E' || c == 'd' || c == 'D')) {
+            this.consumeToToken('e');
+            c = this.peek();
+            boolean negativeExponent = false;
+            if (c == '+' || c == '-') {
+                negativeExponent = c == '-';
+                this.consumeToToken(c);
+                c = this.peek();
+            }
+            if (!isDigit(c)) {
+                throw this.formatException("number expected");
+            }
+            int e = 0;
+            while (isDigit(c)) {
+                if (e < 100_000) {
+                    e = e * 10 + (c - '0');
+                }
+                this.consumeToToken(c);
+                c = this.peek();
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+
+        if (c >= 0 && !isWhitespace(c)) {
+            //inf, nan などの特殊な表記, または不正なトークン
+            while (c >= 0 && !isWhitespace(c)) {
+                this.consumeToToken(c);
+                c = this.peek();
+            }
+            return this.parseSpecialToken();
+        }
+        if (!anyDigit) {
+            throw this.formatException("number expected");
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0d : 0d;
+        }
+        if (exact) {
+            //末尾の0を指数に移す (値は変わらない)
+            while (mantissa % 10 == 0) {
+                mantissa /= 10;
+                exponent++;
+            }
+            if (mantissa <= MAX_EXACT_MANTISSA && Math.abs(exponent) < POWER_OF_TEN.length) {
+                double value = exponent >= 0
+                        ? mantissa * POWER_OF_TEN[exponent]
+                        : mantissa / POWER_OF_TEN[-exponent];
+                return negative ? -value : value;
+            }
+            double value = EiselLemireConverter.toDouble(mantissa, exponent);
+            if (!Double.isNaN(value)) {
+                return negative ? -value : value;
+            }
+        }
+        return Double.parseDouble(new String(this.token, 0, this.tokenLength));
+    }
+
+    /**
+     * トークンの文字列を, inf, nan などを含めて解析する.
+     */
+    private double parseSpecialToken() throws MatrixMarketFormatException {
+        String s = new String(this.token, 0, this.tokenLength);
+        String lower = s.toLowerCase();
+        String unsigned = lower.startsWith("+") || lower.startsWith("-") ? lower.substring(1) : lower;
+        boolean negative = lower.startsWith("-");
+        if (unsigned.equals("inf") || unsigned.equals("infinity")) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        if (unsigned.equals("nan")) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(s);
+        } catch (NumberFormatException nfe) {
+            throw this.formatException("number expected: %s".formatted(s));
+        }
+    }
+
+    /**
+     * 現在のバイトを消費し, トークンの文字配列に追加する.
+     */
+    private void consumeToToken(int c) {
+        if (this.tokenLength == this.token.length) {
+            this.token = Arrays.copyOf(this.token, this.token.length * 2);
+        }
+        this.token[this.tokenLength++] = (char) c;
+        this.skip();
+    }
+
+    /**
+     * 現在の行番号を含むメッセージを持つ例外を生成する.
+     */
+    MatrixMarketFormatException formatException(String message) {
+        return new MatrixMarketFormatException(
+                "line %s: %s".formatted(this.lineNumber, message));
+    }
+
+    private static boolean isDigit(int c) {
+        return '0' <= c && c <= '9';
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+}
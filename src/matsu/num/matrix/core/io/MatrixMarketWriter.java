@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import matsu.num.matrix.core.BandMatrix;
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+
+/**
+ * 行列を Matrix Market 形式 (.mtx) で書き出すユーティリティクラス.
+ * 
+ * <p>
+ * 書き出す形式は行列の型により, 次のように選ばれる.
+ * </p>
+ * 
+ * <ul>
+ * <li>{@link SymmetricCsrMatrix}: {@code coordinate real symmetric}
+ * (格納されている下三角部分の成分)</li>
+ * <li>{@link CsrMatrix}: {@code coordinate real general} (格納されている成分)</li>
+ * <li>{@link BandMatrix} かつ {@link Symmetric}: {@code coordinate real symmetric}
+ * (帯の下三角部分の非ゼロ成分)</li>
+ * <li>{@link BandMatrix}: {@code coordinate real general} (帯の非ゼロ成分)</li>
+ * <li>その他の {@link Symmetric} な行列: {@code array real symmetric}</li>
+ * <li>その他の行列: {@code array real general}</li>
+ * </ul>
+ * 
+ * <p>
+ * 値は {@link Double#toString(double)} と同等の表現で書き出されるため,
+ * {@link MatrixMarketReader} で読み込むと元の値が正確に復元される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class MatrixMarketWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private MatrixMarketWriter() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 行列をファイルに書き出す. <br>
+     * ファイルが存在する場合は上書きされる.
+     * 
+     * @param matrix 行列
+     * @param path ファイルのパス
+     * @throws IOException 入出力エラーが発生した場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static void write(EntryReadableMatrix matrix, Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(matrix, out);
+        }
+    }
+
+    /**
+     * 行列を出力ストリームに書き出す. <br>
+     * 書き出し後にストリームはフラッシュされるが, 閉じられない.
+     * 
+     * @param matrix 行列
+     * @param out 出力ストリーム
+     * @throws IOException 入出力エラーが発生した場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static void write(EntryReadableMatrix matrix, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.US_ASCII), BUFFER_SIZE);
+        new LineWriter(writer).write(matrix);
+        writer.flush();
+    }
+
+    /**
+     * 1行分の文字列を再利用するバッファに組み立てて書き出す.
+     */
+    private static final class LineWriter {
+
+        private final Writer writer;
+        private final StringBuilder line;
+
+        LineWriter(Writer writer) {
+            this.writer = writer;
+            this.line = new StringBuilder(64);
+        }
+
+        void write(EntryReadableMatrix matrix) throws IOException {
+            if (matrix instanceof SymmetricCsrMatrix symmetricCsr) {
+                this.writeSymmetricCsr(symmetricCsr);
+                return;
+            }
+            if (matrix instanceof CsrMatrix csr) {
+                this.writeCsr(csr);
+                return;
+            }
+            if (matrix instanceof BandMatrix band) {
+                this.writeBand(band, matrix instanceof Symmetric);
+                return;
+            }
+            this.writeArray(matrix, matrix instanceof Symmetric);
+        }
+
+        private void writeSymmetricCsr(SymmetricCsrMatrix matrix) throws IOException {
+            final int n = matrix.matrixDimension().rowAsIntValue();
+            final int[] rowPointer = SparseEntryAccess.lowerRowPointer(matrix);
+            final int[] columnIndex = SparseEntryAccess.lowerColumnIndex(matrix);
+            final double[] value = SparseEntryAccess.lowerValue(matrix);
+
+            this.writeHeader("coordinate", "symmetric");
+            this.writeSize(matrix.matrixDimension(), rowPointer[n]);
+            for (int i = 0; i < n; i++) {
+                for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                    this.writeEntry(i, columnIndex[p], value[p]);
+                }
+            }
+        }
+
+        private void writeCsr(CsrMatrix matrix) throws IOException {
+            final int rows = matrix.matrixDimension().rowAsIntValue();
+            final int[] rowPointer = SparseEntryAccess.rowPointer(matrix);
+            final int[] columnIndex = SparseEntryAccess.columnIndex(matrix);
+            final double[] value = SparseEntryAccess.value(matrix);
+
+            this.writeHeader("coordinate", "general");
+            this.writeSize(matrix.matrixDimension(), rowPointer[rows]);
+            for (int i = 0; i < rows; i++) {
+                for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                    this.writeEntry(i, columnIndex[p], value[p]);
+                }
+            }
+        }
+
+        private void writeBand(BandMatrix matrix, boolean symmetric) throws IOException {
+            final BandMatrixDimension bandMatrixDimension = matrix.bandMatrixDimension();
+            final int n = bandMatrixDimension.dimension().rowAsIntValue();
+            final int lower = bandMatrixDimension.lowerBandWidth();
+            final int upper = symmetric ? 0 : bandMatrixDimension.upperBandWidth();
+
+            long count = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = Math.max(0, i - lower), je = Math.min(n - 1, i + upper); j <= je; j++) {
+                    if (matrix.valueAt(i, j) != 0d) {
+                        count++;
+                    }
+                }
+            }
+
+            this.writeHeader("coordinate", symmetric ? "symmetric" : "general");
+            this.writeSize(matrix.matrixDimension(), count);
+            for (int i = 0; i < n; i++) {
+                for (int j = Math.max(0, i - lower), je = Math.min(n - 1, i + upper); j <= je; j++) {
+                    double v = matrix.valueAt(i, j);
+                    if (v != 0d) {
+                        this.writeEntry(i, j, v);
+                    }
+                }
+            }
+        }
+
+        private void writeArray(EntryReadableMatrix matrix, boolean symmetric) throws IOException {
+            final int rows = matrix.matrixDimension().rowAsIntValue();
+            final int columns = matrix.matrixDimension().columnAsIntValue();
+
+            this.writeHeader("array", symmetric ? "symmetric" : "general");
+            this.line.setLength(0);
+            this.line.append(rows).append(' ').append(columns).append('\n');
+            this.writer.append(this.line);
+
+            //列優先, 対称な場合は下三角部分のみ
+            for (int j = 0; j < columns; j++) {
+                for (int i = symmetric ? j : 0; i < rows; i++) {
+                    this.line.setLength(0);
+                    this.line.append(matrix.valueAt(i, j)).append('\n');
+                    this.writer.append(this.line);
+                }
+            }
+        }
+
+        private void writeHeader(String format, String symmetry) throws IOException {
+            this.writer.write("%%MatrixMarket matrix " + format + " real " + symmetry + "\n");
+        }
+
+        private void writeSize(MatrixDimension matrixDimension, long entries) throws IOException {
+            this.line.setLength(0);
+            this.line.append(matrixDimension.rowAsIntValue()).append(' ')
+                    .append(matrixDimension.columnAsIntValue()).append(' ')
+                    .append(entries).append('\n');
+            this.writer.append(this.line);
+        }
+
+        /**
+         * 0始まりの index を1始まりにして書き出す.
+         */
+        private void writeEntry(int row, int column, double value) throws IOException {
+            this.line.setLength(0);
+            this.line.append(row + 1).append(' ').append(column + 1).append(' ')
+                    .append(value).append('\n');
+            this.writer.append(this.line);
+        }
+    }
+}
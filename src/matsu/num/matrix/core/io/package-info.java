@@ -0,0 +1,11 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/**
+ * 行列を Matrix Market 形式 (.mtx) で読み込み, 書き出すパッケージ.
+ */
+package matsu.num.matrix.core.io;
@@ -0,0 +1,310 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.iterative;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 正方行列を係数とする線形連立方程式 A<b>x</b> = <b>b</b> を,
+ * 安定化双共役勾配法 (BiCGStab 法) により解く.
+ * 
+ * <p>
+ * 係数行列 A は正方行列であれば良く, 対称性や成分へのアクセスは必要としない. <br>
+ * A の作用は {@link Matrix#operateInto(Vector, double[])} によってのみ計算され,
+ * 1回の反復で2回の行列ベクトル積を要する. <br>
+ * 必要なメモリは次元 <i>n</i> に対して O(<i>n</i>) である.
+ * </p>
+ * 
+ * <p>
+ * 前処理 ({@link Preconditioner}) を左または右に指定することができる. <br>
+ * 反復中の残差は漸化式により更新され, 左前処理では前処理後の残差
+ * M<sup>-1</sup>(<b>b</b> - A<b>x</b>) を追跡する. <br>
+ * 漸化式による残差が停止条件を満たした場合,
+ * および反復が破綻した場合 (内積が0になる場合) は,
+ * 残差 <b>b</b> - A<b>x</b> を直接計算し,
+ * それが停止条件を満たしていれば収束とみなし, そうでなければ現在の近似解からリスタートする.
+ * </p>
+ * 
+ * <p>
+ * 求解において, 作業配列は反復の開始前に1度だけ確保され, 反復中は再利用される. <br>
+ * ただし, このモジュールの外部で定義された行列 (およびそれを含む演算子) には,
+ * 作用のたびに作業配列のコピーが渡される.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである. <br>
+ * インスタンスは {@link #of(Matrix)}, {@link #of(Matrix, Preconditioner)}
+ * により得ることができる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class BiCGStab {
+
+    private final Matrix matrix;
+
+    /**
+     * 前処理, 前処理無しの場合はnull.
+     */
+    private final Preconditioner preconditioner;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private BiCGStab(Matrix matrix, Preconditioner preconditioner) {
+        this.matrix = matrix;
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * 係数行列 A を返す.
+     * 
+     * @return 係数行列
+     */
+    public Matrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * 前処理を返す.
+     * 
+     * @return 前処理, 前処理無しの場合は空
+     */
+    public Optional<Preconditioner> preconditioner() {
+        return Optional.ofNullable(this.preconditioner);
+    }
+
+    /**
+     * 初期近似解を零ベクトルとして, 線形連立方程式 A<b>x</b> = <b>b</b> を解く.
+     * 
+     * @param right <b>b</b>, 右辺ベクトル
+     * @param control 停止条件
+     * @return 求解結果
+     * @throws MatrixFormatMismatchException 右辺ベクトルの次元が係数行列と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IterativeSolution solve(Vector right, IterationControl control) {
+        return this.solve(right, Vector.Builder.zeroBuilder(right.vectorDimension()).build(), control);
+    }
+
+    /**
+     * 初期近似解を指定して, 線形連立方程式 A<b>x</b> = <b>b</b> を解く.
+     * 
+     * @param right <b>b</b>, 右辺ベクトル
+     * @param initial <b>x</b><sub>0</sub>, 初期近似解
+     * @param control 停止条件
+     * @return 求解結果
+     * @throws MatrixFormatMismatchException 右辺ベクトル, 初期近似解の次元が係数行列と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IterativeSolution solve(Vector right, Vector initial, IterationControl control) {
+        IterationSupport.validateSolve(this.matrix, right, initial, control);
+
+        final VectorDimension vectorDimension = right.vectorDimension();
+        final int dimension = vectorDimension.intValue();
+
+        final double[] b = VectorEntryAccess.entryReference(right);
+        final double bNorm = ArraysUtil.norm2(b);
+        if (bNorm == 0d) {
+            return IterationSupport.zeroSolution(vectorDimension);
+        }
+        final double threshold = control.relativeTolerance() * bNorm;
+
+        final Matrix precond = Objects.isNull(this.preconditioner) ? null : this.preconditioner.inverse();
+        final boolean leftPrecond = Objects.nonNull(precond)
+                && this.preconditioner.side() == Preconditioner.Side.LEFT;
+        final boolean rightPrecond = Objects.nonNull(precond) && !leftPrecond;
+
+        //作業配列: 反復中は再利用される
+        final double[] x = VectorEntryAccess.entryReference(initial).clone();
+        final double[] r = new double[dimension];
+        final double[] rShadow = new double[dimension];
+        final double[] p = new double[dimension];
+        final double[] v = new double[dimension];
+        final double[] t = new double[dimension];
+        final double[] work = new double[dimension];
+        final double[] pHat = rightPrecond ? new double[dimension] : p;
+        final double[] sHat = rightPrecond ? new double[dimension] : r;
+
+        //左前処理の場合, 漸化式による残差は ||M^{-1}b|| に対する相対値で判定する
+        final double innerThreshold;
+        if (leftPrecond) {
+            IterationSupport.operate(precond, vectorDimension, b, work);
+            innerThreshold = control.relativeTolerance() * ArraysUtil.norm2(work);
+        } else {
+            innerThreshold = threshold;
+        }
+
+        int iterationCount = 0;
+        double rNorm;
+        boolean converged;
+        while (true) {
+            IterationSupport.residual(this.matrix, vectorDimension, b, x, r);
+            rNorm = ArraysUtil.norm2(r);
+            converged = rNorm <= threshold;
+            if (converged || iterationCount >= control.maxIterations()) {
+                break;
+            }
+
+            if (leftPrecond) {
+                IterationSupport.operate(precond, vectorDimension, r, work);
+                System.arraycopy(work, 0, r, 0, dimension);
+            }
+            System.arraycopy(r, 0, rShadow, 0, dimension);
+            Arrays.fill(p, 0d);
+            Arrays.fill(v, 0d);
+            double rho = 1d;
+            double alpha = 1d;
+            double omega = 1d;
+
+            int cycleIterationCount = 0;
+            while (iterationCount < control.maxIterations()) {
+                final double rhoNext = ArraysUtil.dot(rShadow, r);
+                if (!(rhoNext != 0d && Double.isFinite(rhoNext))) {
+                    break;
+                }
+                final double beta = (rhoNext / rho) * (alpha / omega);
+                rho = rhoNext;
+
+                // p = r + beta * (p - omega * v)
+                for (int i = 0; i < dimension; i++) {
+                    p[i] = r[i] + beta * (p[i] - omega * v[i]);
+                }
+                VectorEntryAccess.modify(p);
+
+                // v = A M^{-1} p
+                if (rightPrecond) {
+                    IterationSupport.operate(precond, vectorDimension, p, pHat);
+                }
+                this.applyOperator(vectorDimension, precond, leftPrecond, pHat, work, v);
+                final double rv = ArraysUtil.dot(rShadow, v);
+                if (!(rv != 0d && Double.isFinite(rv))) {
+                    break;
+                }
+                alpha = rho / rv;
+
+                // s = r - alpha * v (rを上書きする)
+                ArraysUtil.addCTimes(r, v, -alpha);
+                ArraysUtil.addCTimes(x, pHat, alpha);
+                VectorEntryAccess.modify(r);
+                VectorEntryAccess.modify(x);
+                iterationCount++;
+                cycleIterationCount++;
+
+                if (ArraysUtil.norm2(r) <= innerThreshold) {
+                    break;
+                }
+
+                // t = A M^{-1} s
+                if (rightPrecond) {
+                    IterationSupport.operate(precond, vectorDimension, r, sHat);
+                }
+                this.applyOperator(vectorDimension, precond, leftPrecond, sHat, work, t);
+                final double tt = ArraysUtil.norm2Square(t);
+                if (!(tt > 0d && Double.isFinite(tt))) {
+                    break;
+                }
+                omega = ArraysUtil.dot(t, r) / tt;
+
+                // x = x + omega * sHat, r = s - omega * t
+                ArraysUtil.addCTimes(x, sHat, omega);
+                ArraysUtil.addCTimes(r, t, -omega);
+                VectorEntryAccess.modify(x);
+                VectorEntryAccess.modify(r);
+
+                if (omega == 0d || ArraysUtil.norm2(r) <= innerThreshold) {
+                    break;
+                }
+            }
+            if (cycleIterationCount == 0) {
+                //反復が進まない
+                break;
+            }
+        }
+
+        return new IterativeSolution(
+                VectorEntryAccess.adopt(vectorDimension, x), iterationCount,
+                rNorm, rNorm / bNorm, converged);
+    }
+
+    /**
+     * 前処理を考慮した演算子を作用させる: <br>
+     * 左前処理: out = M<sup>-1</sup>A<b>v</b>,
+     * それ以外: out = A<b>v</b>.
+     */
+    private void applyOperator(
+            VectorDimension vectorDimension, Matrix precond, boolean leftPrecond,
+            double[] v, double[] work, double[] out) {
+        if (leftPrecond) {
+            IterationSupport.operate(this.matrix, vectorDimension, v, work);
+            IterationSupport.operate(precond, vectorDimension, work, out);
+            return;
+        }
+        IterationSupport.operate(this.matrix, vectorDimension, v, out);
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code BiCGStab[%dimension, preconditioner: %side]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "BiCGStab[%s, preconditioner: %s]"
+                .formatted(
+                        this.matrix.matrixDimension(),
+                        Objects.isNull(this.preconditioner) ? "none" : this.preconditioner.side());
+    }
+
+    /**
+     * 前処理無しの BiCGStab 法のインスタンスを生成する.
+     * 
+     * @param matrix A, 係数行列
+     * @return BiCGStab 法
+     * @throws MatrixFormatMismatchException 係数行列が正方行列でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static BiCGStab of(Matrix matrix) {
+        IterationSupport.validateSquare(matrix);
+        return new BiCGStab(matrix, null);
+    }
+
+    /**
+     * 前処理付きの BiCGStab 法のインスタンスを生成する.
+     * 
+     * @param matrix A, 係数行列
+     * @param preconditioner 前処理
+     * @return 前処理付き BiCGStab 法
+     * @throws MatrixFormatMismatchException 係数行列が正方行列でない場合,
+     *             前処理行列のサイズが係数行列と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static BiCGStab of(Matrix matrix, Preconditioner preconditioner) {
+        IterationSupport.validateSquare(matrix);
+        IterationSupport.validatePreconditioner(matrix, preconditioner.inverse());
+        return new BiCGStab(matrix, preconditioner);
+    }
+}
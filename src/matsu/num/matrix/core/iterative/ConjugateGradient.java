@@ -0,0 +1,267 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.iterative;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
+
+/**
+ * 正定値対称行列を係数とする線形連立方程式 A<b>x</b> = <b>b</b> を,
+ * (前処理付き) 共役勾配法 (CG法, PCG法) により解く.
+ * 
+ * <p>
+ * 係数行列 A は {@link Matrix} かつ {@link Symmetric} であれば良く,
+ * 成分へのアクセスは必要としない. <br>
+ * A の作用は {@link Matrix#operateInto(Vector, double[])} によってのみ計算されるので,
+ * 例えば {@link Matrix#symmetrizedSquare(Matrix)} や,
+ * ブロック行列のような演算子として表現された行列を扱うことができる. <br>
+ * A が正定値でない場合, 反復は破綻し, 収束しない結果が返される.
+ * </p>
+ * 
+ * <p>
+ * 前処理行列 M<sup>-1</sup> (A<sup>-1</sup> の近似) を指定することができる. <br>
+ * 前処理行列は正定値対称であることが期待され,
+ * その作用も {@link Matrix#operateInto(Vector, double[])} によって計算される. <br>
+ * 例えば, 対角成分の逆数を並べた対角行列 (Jacobi 前処理) や,
+ * 近似行列の行列分解による逆行列を前処理行列として用いることができる.
+ * </p>
+ * 
+ * <p>
+ * 求解 ({@link #solve(Vector, IterationControl)}) において,
+ * 作業配列は反復の開始前に1度だけ確保され, 反復中は再利用される. <br>
+ * ただし, このモジュールの外部で定義された行列 (およびそれを含む演算子) には,
+ * 作用のたびに作業配列のコピーが渡される. <br>
+ * 1回の反復では, A と M<sup>-1</sup> の作用がそれぞれ1回計算される.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである. <br>
+ * インスタンスは {@link #of(Matrix)}, {@link #of(Matrix, Matrix)}
+ * により得ることができる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ConjugateGradient {
+
+    private final Matrix matrix;
+
+    /**
+     * 前処理行列, 前処理無しの場合はnull.
+     */
+    private final Matrix preconditioner;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private ConjugateGradient(Matrix matrix, Matrix preconditioner) {
+        this.matrix = matrix;
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * 係数行列 A を返す.
+     * 
+     * @return 係数行列
+     */
+    public Matrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * 前処理行列 M<sup>-1</sup> を返す.
+     * 
+     * @return 前処理行列, 前処理無しの場合は空
+     */
+    public Optional<Matrix> preconditioner() {
+        return Optional.ofNullable(this.preconditioner);
+    }
+
+    /**
+     * 初期近似解を零ベクトルとして, 線形連立方程式 A<b>x</b> = <b>b</b> を解く.
+     * 
+     * @param right <b>b</b>, 右辺ベクトル
+     * @param control 停止条件
+     * @return 求解結果
+     * @throws MatrixFormatMismatchException 右辺ベクトルの次元が係数行列と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IterativeSolution solve(Vector right, IterationControl control) {
+        final VectorDimension vectorDimension = right.vectorDimension();
+        return this.solve(right, Vector.Builder.zeroBuilder(vectorDimension).build(), control);
+    }
+
+    /**
+     * 初期近似解を指定して, 線形連立方程式 A<b>x</b> = <b>b</b> を解く.
+     * 
+     * @param right <b>b</b>, 右辺ベクトル
+     * @param initial <b>x</b><sub>0</sub>, 初期近似解
+     * @param control 停止条件
+     * @return 求解結果
+     * @throws MatrixFormatMismatchException 右辺ベクトル, 初期近似解の次元が係数行列と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IterativeSolution solve(Vector right, Vector initial, IterationControl control) {
+        IterationSupport.validateSolve(this.matrix, right, initial, control);
+
+        final VectorDimension vectorDimension = right.vectorDimension();
+        final int dimension = vectorDimension.intValue();
+
+        final double[] b = VectorEntryAccess.entryReference(right);
+        final double bNorm = ArraysUtil.norm2(b);
+        if (bNorm == 0d) {
+            return IterationSupport.zeroSolution(vectorDimension);
+        }
+        final double threshold = control.relativeTolerance() * bNorm;
+
+        //作業配列: 反復中は再利用される
+        final double[] x = VectorEntryAccess.entryReference(initial).clone();
+        final double[] r = new double[dimension];
+        final double[] z = Objects.isNull(this.preconditioner) ? r : new double[dimension];
+        final double[] p = new double[dimension];
+        final double[] q = new double[dimension];
+
+        // r = b - Ax
+        IterationSupport.residual(this.matrix, vectorDimension, b, x, r);
+        double rNorm = ArraysUtil.norm2(r);
+
+        boolean converged = rNorm <= threshold;
+        int iterationCount = 0;
+        if (!converged) {
+            // z = M^{-1}r, p = z
+            this.applyPreconditioner(vectorDimension, r, z);
+            System.arraycopy(z, 0, p, 0, dimension);
+            double rz = ArraysUtil.dot(r, z);
+
+            while (iterationCount < control.maxIterations()) {
+                // q = Ap
+                IterationSupport.operate(this.matrix, vectorDimension, p, q);
+                final double pq = ArraysUtil.dot(p, q);
+                if (!(rz > 0d && pq > 0d && Double.isFinite(rz) && Double.isFinite(pq))) {
+                    //A または M^{-1} が正定値でないことによる破綻
+                    break;
+                }
+                iterationCount++;
+
+                final double alpha = rz / pq;
+                ArraysUtil.addCTimes(x, p, alpha);
+                ArraysUtil.addCTimes(r, q, -alpha);
+                VectorEntryAccess.modify(x);
+                VectorEntryAccess.modify(r);
+
+                rNorm = ArraysUtil.norm2(r);
+                if (rNorm <= threshold) {
+                    converged = true;
+                    break;
+                }
+
+                this.applyPreconditioner(vectorDimension, r, z);
+                final double rzNext = ArraysUtil.dot(r, z);
+                final double beta = rzNext / rz;
+                rz = rzNext;
+
+                // p = z + beta * p
+                ArraysUtil.multiply(p, beta);
+                ArraysUtil.add(p, z);
+                VectorEntryAccess.modify(p);
+            }
+        }
+
+        return new IterativeSolution(
+                VectorEntryAccess.adopt(vectorDimension, x), iterationCount,
+                rNorm, rNorm / bNorm, converged);
+    }
+
+    /**
+     * 前処理 z = M<sup>-1</sup>r を計算する. <br>
+     * 前処理無しの場合, z と r は同一の配列であり, 何もしない.
+     */
+    private void applyPreconditioner(VectorDimension vectorDimension, double[] r, double[] z) {
+        if (Objects.isNull(this.preconditioner)) {
+            return;
+        }
+        IterationSupport.operate(this.preconditioner, vectorDimension, r, z);
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code ConjugateGradient[%matrix, preconditioned: %bool]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "ConjugateGradient[%s, preconditioned: %s]"
+                .formatted(this.matrix.matrixDimension(), Objects.nonNull(this.preconditioner));
+    }
+
+    /**
+     * 前処理無しの共役勾配法のインスタンスを生成する.
+     * 
+     * <p>
+     * 係数行列は {@link Symmetric} が付与されていなければならない.
+     * </p>
+     * 
+     * @param matrix A, 係数行列
+     * @return 共役勾配法
+     * @throws MatrixNotSymmetricException 係数行列が対称行列でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static ConjugateGradient of(Matrix matrix) {
+        validateSymmetric(matrix);
+        return new ConjugateGradient(matrix, null);
+    }
+
+    /**
+     * 前処理付きの共役勾配法のインスタンスを生成する.
+     * 
+     * <p>
+     * 係数行列は {@link Symmetric} が付与されていなければならない.
+     * </p>
+     * 
+     * @param matrix A, 係数行列
+     * @param preconditioner M<sup>-1</sup>, 前処理行列
+     * @return 前処理付き共役勾配法
+     * @throws MatrixNotSymmetricException 係数行列が対称行列でない場合
+     * @throws MatrixFormatMismatchException 前処理行列のサイズが係数行列と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static ConjugateGradient of(Matrix matrix, Matrix preconditioner) {
+        validateSymmetric(matrix);
+        IterationSupport.validatePreconditioner(matrix, preconditioner);
+        return new ConjugateGradient(matrix, preconditioner);
+    }
+
+    /**
+     * @throws MatrixNotSymmetricException 行列が対称行列でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    private static void validateSymmetric(Matrix matrix) {
+        if (!(Objects.requireNonNull(matrix) instanceof Symmetric)) {
+            throw new MatrixNotSymmetricException(
+                    "not symmetric: %s".formatted(matrix.matrixDimension()));
+        }
+    }
+}
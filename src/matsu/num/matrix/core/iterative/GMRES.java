@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.iterative;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 正方行列を係数とする線形連立方程式 A<b>x</b> = <b>b</b> を,
+ * リスタート付き GMRES 法 (GMRES(<i>m</i>) 法) により解く.
+ * 
+ * <p>
+ * 係数行列 A は正方行列であれば良く, 対称性や成分へのアクセスは必要としない. <br>
+ * A の作用は {@link Matrix#operateInto(Vector, double[])} によってのみ計算される. <br>
+ * 必要なメモリはリスタート周期 <i>m</i> と次元 <i>n</i> に対して
+ * O(<i>mn</i>) であり, 密行列の LU 分解の O(<i>n</i><sup>2</sup>) に比べて小さい.
+ * </p>
+ * 
+ * <p>
+ * <i>m</i> 回の反復 (Arnoldi 過程の1ステップを1回の反復と数える) ごとに,
+ * Krylov 部分空間上で残差を最小化する近似解を求めてリスタートする. <br>
+ * Krylov 部分空間の基底は修正 Gram-Schmidt 法により直交化され,
+ * 最小二乗問題は Givens 回転により逐次的に解かれる.
+ * </p>
+ * 
+ * <p>
+ * 前処理 ({@link Preconditioner}) を左または右に指定することができる. <br>
+ * 反復中の残差の推定は, 左前処理では前処理後の残差 M<sup>-1</sup>(<b>b</b> - A<b>x</b>) に,
+ * 右前処理では前処理前の残差に対するものである. <br>
+ * 前処理の有無や左右によらず, 各リスタート周期の終わりに残差 <b>b</b> - A<b>x</b> を直接計算し,
+ * それが停止条件を満たしたときに収束とみなす.
+ * </p>
+ * 
+ * <p>
+ * 求解において, 作業配列は反復の開始前に1度だけ確保され, 反復中は再利用される. <br>
+ * ただし, このモジュールの外部で定義された行列 (およびそれを含む演算子) には,
+ * 作用のたびに作業配列のコピーが渡される.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである. <br>
+ * インスタンスは {@link #of(Matrix, int)}, {@link #of(Matrix, int, Preconditioner)}
+ * により得ることができる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GMRES {
+
+    private final Matrix matrix;
+    private final int restart;
+
+    /**
+     * 前処理, 前処理無しの場合はnull.
+     */
+    private final Preconditioner preconditioner;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private GMRES(Matrix matrix, int restart, Preconditioner preconditioner) {
+        this.matrix = matrix;
+        this.restart = restart;
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * 係数行列 A を返す.
+     * 
+     * @return 係数行列
+     */
+    public Matrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * リスタート周期 <i>m</i> を返す.
+     * 
+     * @return リスタート周期
+     */
+    public int restart() {
+        return this.restart;
+    }
+
+    /**
+     * 前処理を返す.
+     * 
+     * @return 前処理, 前処理無しの場合は空
+     */
+    public Optional<Preconditioner> preconditioner() {
+        return Optional.ofNullable(this.preconditioner);
+    }
+
+    /**
+     * 初期近似解を零ベクトルとして, 線形連立方程式 A<b>x</b> = <b>b</b> を解く.
+     * 
+     * @param right <b>b</b>, 右辺ベクトル
+     * @param control 停止条件
+     * @return 求解結果
+     * @throws MatrixFormatMismatchException 右辺ベクトルの次元が係数行列と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IterativeSolution solve(Vector right, IterationControl control) {
+        return this.solve(right, Vector.Builder.zeroBuilder(right.vectorDimension()).build(), control);
+    }
+
+    /**
+     * 初期近似解を指定して, 線形連立方程式 A<b>x</b> = <b>b</b> を解く.
+     * 
+     * @param right <b>b</b>, 右辺ベクトル
+     * @param initial <b>x</b><sub>0</sub>, 初期近似解
+     * @param control 停止条件
+     * @return 求解結果
+     * @throws MatrixFormatMismatchException 右辺ベクトル, 初期近似解の次元が係数行列と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IterativeSolution solve(Vector right, Vector initial, IterationControl control) {
+        IterationSupport.validateSolve(this.matrix, right, initial, control);
+
+        final VectorDimension vectorDimension = right.vectorDimension();
+        final int dimension = vectorDimension.intValue();
+
+        final double[] b = VectorEntryAccess.entryReference(right);
+        final double bNorm = ArraysUtil.norm2(b);
+        if (bNorm == 0d) {
+            return IterationSupport.zeroSolution(vectorDimension);
+        }
+        final double threshold = control.relativeTolerance() * bNorm;
+
+        final Matrix precond = Objects.isNull(this.preconditioner) ? null : this.preconditioner.inverse();
+        final boolean leftPrecond = Objects.nonNull(precond)
+                && this.preconditioner.side() == Preconditioner.Side.LEFT;
+        final boolean rightPrecond = Objects.nonNull(precond) && !leftPrecond;
+
+        //左前処理の場合, 反復中の残差の推定は ||M^{-1}b|| に対する相対値で判定する
+        final double innerThreshold;
+        final int m = Math.min(this.restart, dimension);
+
+        //作業配列: 反復中は再利用される
+        final double[] x = VectorEntryAccess.entryReference(initial).clone();
+        final double[] r = new double[dimension];
+        final double[] w = new double[dimension];
+        final double[] work = new double[dimension];
+        final double[][] basis = new double[m + 1][dimension];
+        final double[][] hessenberg = new double[m + 1][m];
+        final double[] cs = new double[m];
+        final double[] sn = new double[m];
+        final double[] g = new double[m + 1];
+        final double[] y = new double[m];
+
+        if (leftPrecond) {
+            IterationSupport.operate(precond, vectorDimension, b, work);
+            innerThreshold = control.relativeTolerance() * ArraysUtil.norm2(work);
+        } else {
+            innerThreshold = threshold;
+        }
+
+        int iterationCount = 0;
+        double rNorm;
+        boolean converged;
+        while (true) {
+            IterationSupport.residual(this.matrix, vectorDimension, b, x, r);
+            rNorm = ArraysUtil.norm2(r);
+            converged = rNorm <= threshold;
+            if (converged || iterationCount >= control.maxIterations()) {
+                break;
+            }
+
+            // v_0 = r / beta (左前処理ではrをM^{-1}rに置き換える)
+            final double[] v0 = basis[0];
+            if (leftPrecond) {
+                IterationSupport.operate(precond, vectorDimension, r, v0);
+            } else {
+                System.arraycopy(r, 0, v0, 0, dimension);
+            }
+            final double beta = ArraysUtil.norm2(v0);
+            if (!(beta > 0d && Double.isFinite(beta))) {
+                break;
+            }
+            ArraysUtil.multiply(v0, 1d / beta);
+            Arrays.fill(g, 0d);
+            g[0] = beta;
+
+            //Arnoldi過程
+            int k = 0;
+            while (k < m && iterationCount < control.maxIterations()) {
+                final int j = k;
+                this.applyOperator(vectorDimension, precond, leftPrecond, basis[j], work, w);
+
+                //修正Gram-Schmidt
+                for (int i = 0; i <= j; i++) {
+                    final double h = ArraysUtil.dot(w, basis[i]);
+                    hessenberg[i][j] = h;
+                    ArraysUtil.addCTimes(w, basis[i], -h);
+                }
+                final double hNext = ArraysUtil.norm2(w);
+                hessenberg[j + 1][j] = hNext;
+
+                //過去のGivens回転を新しい列に適用
+                for (int i = 0; i < j; i++) {
+                    final double h0 = hessenberg[i][j];
+                    final double h1 = hessenberg[i + 1][j];
+                    hessenberg[i][j] = cs[i] * h0 + sn[i] * h1;
+                    hessenberg[i + 1][j] = -sn[i] * h0 + cs[i] * h1;
+                }
+                //新しいGivens回転
+                final double hjj = hessenberg[j][j];
+                final double denom = Math.hypot(hjj, hNext);
+                if (denom == 0d) {
+                    break;
+                }
+                cs[j] = hjj / denom;
+                sn[j] = hNext / denom;
+                hessenberg[j][j] = denom;
+                hessenberg[j + 1][j] = 0d;
+                g[j + 1] = -sn[j] * g[j];
+                g[j] = cs[j] * g[j];
+
+                iterationCount++;
+                k++;
+
+                if (hNext == 0d || Math.abs(g[j + 1]) <= innerThreshold) {
+                    break;
+                }
+                System.arraycopy(w, 0, basis[j + 1], 0, dimension);
+                ArraysUtil.multiply(basis[j + 1], 1d / hNext);
+            }
+            if (k == 0) {
+                //反復が進まない
+                break;
+            }
+
+            //上三角系 H y = g を解く
+            for (int i = k - 1; i >= 0; i--) {
+                double v = g[i];
+                for (int l = i + 1; l < k; l++) {
+                    v -= hessenberg[i][l] * y[l];
+                }
+                y[i] = v / hessenberg[i][i];
+            }
+
+            //近似解の更新: x += V y (右前処理では x += M^{-1} V y)
+            Arrays.fill(w, 0d);
+            for (int i = 0; i < k; i++) {
+                ArraysUtil.addCTimes(w, basis[i], y[i]);
+            }
+            VectorEntryAccess.modify(w);
+            if (rightPrecond) {
+                IterationSupport.operate(precond, vectorDimension, w, work);
+                ArraysUtil.add(x, work);
+            } else {
+                ArraysUtil.add(x, w);
+            }
+            VectorEntryAccess.modify(x);
+        }
+
+        return new IterativeSolution(
+                VectorEntryAccess.adopt(vectorDimension, x), iterationCount,
+                rNorm, rNorm / bNorm, converged);
+    }
+
+    /**
+     * 前処理を考慮した演算子を作用させる: <br>
+     * 前処理無し: out = A<b>v</b>,
+     * 左前処理: out = M<sup>-1</sup>A<b>v</b>,
+     * 右前処理: out = AM<sup>-1</sup><b>v</b>.
+     */
+    private void applyOperator(
+            VectorDimension vectorDimension, Matrix precond, boolean leftPrecond,
+            double[] v, double[] work, double[] out) {
+        if (Objects.isNull(precond)) {
+            IterationSupport.operate(this.matrix, vectorDimension, v, out);
+            return;
+        }
+        if (leftPrecond) {
+            IterationSupport.operate(this.matrix, vectorDimension, v, work);
+            IterationSupport.operate(precond, vectorDimension, work, out);
+            return;
+        }
+        IterationSupport.operate(precond, vectorDimension, v, work);
+        IterationSupport.operate(this.matrix, vectorDimension, work, out);
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code GMRES[%dimension, restart: %restart, preconditioner: %side]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "GMRES[%s, restart: %s, preconditioner: %s]"
+                .formatted(
+                        this.matrix.matrixDimension(), this.restart,
+                        Objects.isNull(this.preconditioner) ? "none" : this.preconditioner.side());
+    }
+
+    /**
+     * 前処理無しの GMRES(<i>m</i>) 法のインスタンスを生成する.
+     * 
+     * @param matrix A, 係数行列
+     * @param restart <i>m</i>, リスタート周期
+     * @return GMRES(<i>m</i>) 法
+     * @throws MatrixFormatMismatchException 係数行列が正方行列でない場合
+     * @throws IllegalArgumentException リスタート周期が1未満の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static GMRES of(Matrix matrix, int restart) {
+        IterationSupport.validateSquare(matrix);
+        validateRestart(restart);
+        return new GMRES(matrix, restart, null);
+    }
+
+    /**
+     * 前処理付きの GMRES(<i>m</i>) 法のインスタンスを生成する.
+     * 
+     * @param matrix A, 係数行列
+     * @param restart <i>m</i>, リスタート周期
+     * @param preconditioner 前処理
+     * @return 前処理付き GMRES(<i>m</i>) 法
+     * @throws MatrixFormatMismatchException 係数行列が正方行列でない場合,
+     *             前処理行列のサイズが係数行列と一致しない場合
+     * @throws IllegalArgumentException リスタート周期が1未満の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static GMRES of(Matrix matrix, int restart, Preconditioner preconditioner) {
+        IterationSupport.validateSquare(matrix);
+        IterationSupport.validatePreconditioner(matrix, preconditioner.inverse());
+        validateRestart(restart);
+        return new GMRES(matrix, restart, preconditioner);
+    }
+
+    /**
+     * @throws IllegalArgumentException リスタート周期が1未満の場合
+     */
+    private static void validateRestart(int restart) {
+        if (restart < 1) {
+            throw new IllegalArgumentException("illegal restart: restart = %s".formatted(restart));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.iterative;
+
+/**
+ * 反復解法の停止条件 (収束判定の許容誤差と最大反復回数) を表す.
+ * 
+ * <p>
+ * 線形連立方程式 A<b>x</b> = <b>b</b> の反復解法において,
+ * 残差 <b>r</b> = <b>b</b> - A<b>x</b> が
+ * ||<b>r</b>||<sub>2</sub> &le; &epsilon; ||<b>b</b>||<sub>2</sub>
+ * を満たしたときに収束したとみなす
+ * (&epsilon; は相対許容誤差). <br>
+ * 反復回数が最大反復回数に達した場合は, 収束していなくても反復を打ち切る.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである. <br>
+ * インスタンスは {@link #of(double, int)} により得ることができる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class IterationControl {
+
+    private final double relativeTolerance;
+    private final int maxIterations;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private IterationControl(double relativeTolerance, int maxIterations) {
+        this.relativeTolerance = relativeTolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * 相対許容誤差を返す.
+     * 
+     * @return 相対許容誤差
+     */
+    public double relativeTolerance() {
+        return this.relativeTolerance;
+    }
+
+    /**
+     * 最大反復回数を返す.
+     * 
+     * @return 最大反復回数
+     */
+    public int maxIterations() {
+        return this.maxIterations;
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code IterationControl[tol: %relativeTolerance, max: %maxIterations]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "IterationControl[tol: %s, max: %s]"
+                .formatted(this.relativeTolerance, this.maxIterations);
+    }
+
+    /**
+     * 相対許容誤差と最大反復回数を指定して, 停止条件を生成する.
+     * 
+     * @param relativeTolerance 相対許容誤差
+     * @param maxIterations 最大反復回数
+     * @return 停止条件
+     * @throws IllegalArgumentException 相対許容誤差が正の有限数でない場合,
+     *             最大反復回数が1未満の場合
+     */
+    public static IterationControl of(double relativeTolerance, int maxIterations) {
+        if (!(relativeTolerance > 0d && Double.isFinite(relativeTolerance))) {
+            throw new IllegalArgumentException(
+                    "illegal tolerance: relativeTolerance = %s".formatted(relativeTolerance));
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException(
+                    "illegal iterations: maxIterations = %s".formatted(maxIterations));
+        }
+
+        return new IterationControl(relativeTolerance, maxIterations);
+    }
+}
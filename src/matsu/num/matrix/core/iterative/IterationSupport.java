@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.iterative;
+
+import java.util.Objects;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 反復解法の実装で共通に使われる検証と計算を扱う.
+ * 
+ * <p>
+ * 行列ベクトル積では, 作業配列をコピーせずに作用ベクトルとして渡す
+ * ({@link VectorEntryAccess#temporaryView(VectorDimension, double[])}). <br>
+ * ただしこれは, 作用ベクトルを保持しないことが分かっている本モジュールの行列
+ * ({@link VectorEntryAccess#acceptsTemporaryView(Matrix)} を満たすもの) に限る. <br>
+ * それ以外の行列 (ユーザー定義の行列や, それを内部に持つ行列) には,
+ * 作業配列のコピーから生成したベクトルを渡す.
+ * 作業配列はその後書き換えられるため, 不変であるべき {@link Vector} が
+ * 外部から変化して見えることを防ぐためである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class IterationSupport {
+
+    private IterationSupport() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 係数行列が正方行列であることを検証する.
+     * 
+     * @throws MatrixFormatMismatchException 正方行列でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    static void validateSquare(Matrix matrix) {
+        if (!matrix.matrixDimension().isSquare()) {
+            throw new MatrixFormatMismatchException(
+                    "not square: %s".formatted(matrix.matrixDimension()));
+        }
+    }
+
+    /**
+     * 前処理行列のサイズが係数行列と一致することを検証する.
+     * 
+     * @throws MatrixFormatMismatchException サイズが一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    static void validatePreconditioner(Matrix matrix, Matrix preconditioner) {
+        if (!matrix.matrixDimension().equals(preconditioner.matrixDimension())) {
+            throw new MatrixFormatMismatchException(
+                    "size mismatch: matrix: %s, preconditioner: %s"
+                            .formatted(matrix.matrixDimension(), preconditioner.matrixDimension()));
+        }
+    }
+
+    /**
+     * 右辺ベクトルと初期近似解の次元が係数行列と整合することを検証する.
+     * 
+     * @throws MatrixFormatMismatchException 次元が整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    static void validateSolve(Matrix matrix, Vector right, Vector initial, IterationControl control) {
+        Objects.requireNonNull(control);
+        final MatrixDimension matrixDimension = matrix.matrixDimension();
+        if (!(matrixDimension.leftOperable(right.vectorDimension())
+                && matrixDimension.rightOperable(initial.vectorDimension()))) {
+            throw new MatrixFormatMismatchException(
+                    "undefined operation: matrix: %s, right: %s, initial: %s"
+                            .formatted(matrixDimension, right.vectorDimension(), initial.vectorDimension()));
+        }
+    }
+
+    /**
+     * 右辺ベクトルが零ベクトルである場合の求解結果 (零ベクトル) を返す.
+     */
+    static IterativeSolution zeroSolution(VectorDimension vectorDimension) {
+        return new IterativeSolution(
+                Vector.Builder.zeroBuilder(vectorDimension).build(), 0, 0d, 0d, true);
+    }
+
+    /**
+     * 残差 <b>r</b> = <b>b</b> - A<b>x</b> を計算する.
+     * 
+     * @param matrix A
+     * @param vectorDimension ベクトルの次元
+     * @param b <b>b</b>
+     * @param x <b>x</b>
+     * @param r 結果を格納する配列
+     */
+    static void residual(Matrix matrix, VectorDimension vectorDimension, double[] b, double[] x, double[] r) {
+        matrix.operateInto(operand(matrix, vectorDimension, x), r);
+        for (int i = 0, len = r.length; i < len; i++) {
+            r[i] = b[i] - r[i];
+        }
+        VectorEntryAccess.modify(r);
+    }
+
+    /**
+     * 作業配列に行列を作用させる: out = M<b>v</b>.
+     * 
+     * @param matrix M
+     * @param vectorDimension ベクトルの次元
+     * @param v <b>v</b>
+     * @param out 結果を格納する配列
+     */
+    static void operate(Matrix matrix, VectorDimension vectorDimension, double[] v, double[] out) {
+        matrix.operateInto(operand(matrix, vectorDimension, v), out);
+    }
+
+    /**
+     * 作業配列を, 行列に作用させるベクトルに変換する. <br>
+     * 作用ベクトルを保持しないことが分かっている行列にはコピーしないビューを,
+     * それ以外には作業配列のコピーを返す.
+     */
+    static Vector operand(Matrix matrix, VectorDimension vectorDimension, double[] v) {
+        return VectorEntryAccess.acceptsTemporaryView(matrix)
+                ? VectorEntryAccess.temporaryView(vectorDimension, v)
+                : VectorEntryAccess.adopt(vectorDimension, v.clone());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.iterative;
+
+import matsu.num.matrix.core.Vector;
+
+/**
+ * 反復解法による線形連立方程式 A<b>x</b> = <b>b</b> の求解結果を表す.
+ * 
+ * <p>
+ * 近似解 <b>x</b> に加えて,
+ * 実行した反復回数, 残差ノルム ||<b>b</b> - A<b>x</b>||<sub>2</sub>,
+ * 停止条件 ({@link IterationControl}) を満たして収束したかどうかを保持する. <br>
+ * 残差ノルムは反復の漸化式により更新された値であり,
+ * 丸め誤差のため, 近似解から直接計算した値とは僅かに異なる場合がある.
+ * </p>
+ * 
+ * <p>
+ * 収束しなかった場合 ({@link #isConverged()} が {@code false} の場合) でも,
+ * 打ち切り時点の近似解が返される.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class IterativeSolution {
+
+    private final Vector solution;
+    private final int iterationCount;
+    private final double residualNorm;
+    private final double relativeResidualNorm;
+    private final boolean converged;
+
+    /**
+     * 反復解法の実装から呼ばれる.
+     */
+    IterativeSolution(
+            Vector solution, int iterationCount,
+            double residualNorm, double relativeResidualNorm, boolean converged) {
+        this.solution = solution;
+        this.iterationCount = iterationCount;
+        this.residualNorm = residualNorm;
+        this.relativeResidualNorm = relativeResidualNorm;
+        this.converged = converged;
+    }
+
+    /**
+     * 近似解 <b>x</b> を返す.
+     * 
+     * @return 近似解
+     */
+    public Vector solution() {
+        return this.solution;
+    }
+
+    /**
+     * 実行した反復回数を返す.
+     * 
+     * @return 反復回数
+     */
+    public int iterationCount() {
+        return this.iterationCount;
+    }
+
+    /**
+     * 残差ノルム ||<b>b</b> - A<b>x</b>||<sub>2</sub> を返す.
+     * 
+     * @return 残差ノルム
+     */
+    public double residualNorm() {
+        return this.residualNorm;
+    }
+
+    /**
+     * 相対残差ノルム
+     * ||<b>b</b> - A<b>x</b>||<sub>2</sub> / ||<b>b</b>||<sub>2</sub>
+     * を返す. <br>
+     * <b>b</b> = <b>0</b> の場合は0である.
+     * 
+     * @return 相対残差ノルム
+     */
+    public double relativeResidualNorm() {
+        return this.relativeResidualNorm;
+    }
+
+    /**
+     * 停止条件を満たして収束したかどうかを判定する.
+     * 
+     * @return 収束した場合は {@code true}
+     */
+    public boolean isConverged() {
+        return this.converged;
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code IterativeSolution[converged: %converged, iterations: %iterationCount,
+     * residual: %relativeResidualNorm]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "IterativeSolution[converged: %s, iterations: %s, residual: %s]"
+                .formatted(this.converged, this.iterationCount, this.relativeResidualNorm);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.iterative;
+
+import java.util.Objects;
+
+import matsu.num.matrix.core.Inversion;
+import matsu.num.matrix.core.Matrix;
+
+/**
+ * 非対称行列向けの反復解法 ({@link GMRES}, {@link BiCGStab}) に与える前処理を表す.
+ * 
+ * <p>
+ * 前処理は, 係数行列 A の逆行列の近似 M<sup>-1</sup> と,
+ * それを作用させる側 (左または右) の組である. <br>
+ * 左前処理では M<sup>-1</sup>A<b>x</b> = M<sup>-1</sup><b>b</b> を,
+ * 右前処理では AM<sup>-1</sup><b>u</b> = <b>b</b>, <b>x</b> = M<sup>-1</sup><b>u</b>
+ * を解くことになる. <br>
+ * いずれの場合も, 収束判定は前処理前の残差 <b>b</b> - A<b>x</b> に対して行われる
+ * (see: {@link IterationControl}).
+ * </p>
+ * 
+ * <p>
+ * M<sup>-1</sup> は {@link Matrix} として与えるほか,
+ * {@link Inversion} (例えば, 帯行列による近似を分解した
+ * {@link matsu.num.matrix.core.nlsf.LUTypeSolver}) から生成することができる.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class Preconditioner {
+
+    /**
+     * 前処理行列を作用させる側を表す.
+     */
+    public static enum Side {
+
+        /**
+         * 左前処理: M<sup>-1</sup>A<b>x</b> = M<sup>-1</sup><b>b</b>.
+         */
+        LEFT,
+
+        /**
+         * 右前処理: AM<sup>-1</sup><b>u</b> = <b>b</b>.
+         */
+        RIGHT;
+    }
+
+    private final Matrix inverse;
+    private final Side side;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private Preconditioner(Matrix inverse, Side side) {
+        this.inverse = inverse;
+        this.side = side;
+    }
+
+    /**
+     * 前処理行列 M<sup>-1</sup> を返す.
+     * 
+     * @return 前処理行列
+     */
+    public Matrix inverse() {
+        return this.inverse;
+    }
+
+    /**
+     * 前処理行列を作用させる側を返す.
+     * 
+     * @return 作用させる側
+     */
+    public Side side() {
+        return this.side;
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code Preconditioner[%side, %dimension]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "Preconditioner[%s, %s]"
+                .formatted(this.side, this.inverse.matrixDimension());
+    }
+
+    /**
+     * 前処理行列を与えて, 左前処理を生成する.
+     * 
+     * @param inverse M<sup>-1</sup>, 前処理行列
+     * @return 左前処理
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static Preconditioner left(Matrix inverse) {
+        return new Preconditioner(Objects.requireNonNull(inverse), Side.LEFT);
+    }
+
+    /**
+     * 前処理行列を与えて, 右前処理を生成する.
+     * 
+     * @param inverse M<sup>-1</sup>, 前処理行列
+     * @return 右前処理
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static Preconditioner right(Matrix inverse) {
+        return new Preconditioner(Objects.requireNonNull(inverse), Side.RIGHT);
+    }
+
+    /**
+     * 近似行列 M の逆行列を与えて, 左前処理を生成する. <br>
+     * 前処理行列は {@link Inversion#inverse()} である.
+     * 
+     * @param inversion M の逆行列
+     * @return 左前処理
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static Preconditioner left(Inversion inversion) {
+        return left(inversion.inverse());
+    }
+
+    /**
+     * 近似行列 M の逆行列を与えて, 右前処理を生成する. <br>
+     * 前処理行列は {@link Inversion#inverse()} である.
+     * 
+     * @param inversion M の逆行列
+     * @return 右前処理
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static Preconditioner right(Inversion inversion) {
+        return right(inversion.inverse());
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/**
+ * 反復法による線形連立方程式の解法を扱うパッケージ.
+ * 
+ * <p>
+ * {@link matsu.num.matrix.core.nlsf} パッケージ,
+ * {@link matsu.num.matrix.core.qr} パッケージの行列分解とは異なり,
+ * 係数行列の成分へのアクセスを必要とせず,
+ * 行列ベクトル積 ({@link matsu.num.matrix.core.Matrix#operateInto(matsu.num.matrix.core.Vector, double[])})
+ * のみを用いて解を計算する. <br>
+ * 求解の結果は近似解, 反復回数, 残差ノルムをまとめた
+ * {@link matsu.num.matrix.core.iterative.IterativeSolution}
+ * として返される. <br>
+ * 停止条件は {@link matsu.num.matrix.core.iterative.IterationControl} により指定する.
+ * </p>
+ * 
+ * <p>
+ * このパッケージでは, 次のような解法が用意されている.
+ * </p>
+ * 
+ * <ul>
+ * <li>{@link matsu.num.matrix.core.iterative.ConjugateGradient}:
+ * 正定値対称行列向けの (前処理付き) 共役勾配法</li>
+ * <li>{@link matsu.num.matrix.core.iterative.GMRES}:
+ * 一般の正方行列向けのリスタート付き GMRES 法</li>
+ * <li>{@link matsu.num.matrix.core.iterative.BiCGStab}:
+ * 一般の正方行列向けの BiCGStab 法</li>
+ * </ul>
+ * 
+ * <p>
+ * 非対称行列向けの解法には, 左または右の前処理
+ * ({@link matsu.num.matrix.core.iterative.Preconditioner}) を指定できる. <br>
+ * 前処理行列は {@link matsu.num.matrix.core.Inversion} から生成することもでき,
+ * 例えば近似行列の LU 分解 ({@link matsu.num.matrix.core.nlsf.LUTypeSolver}) を用いることができる.
+ * </p>
+ */
+package matsu.num.matrix.core.iterative;
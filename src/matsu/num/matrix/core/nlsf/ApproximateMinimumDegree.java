@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Arrays;
+
+/**
+ * 対称な非ゼロパターンに対して, 近似最小次数 (AMD) 順序付けを計算する.
+ * 
+ * <p>
+ * 消去の過程を商グラフ (変数と, 消去済みの変数が作る要素からなるグラフ) で表現し,
+ * 各段階で近似次数が最小の変数を消去する. <br>
+ * 近似次数は Amestoy-Davis-Duff の上界 <br>
+ * <i>d</i><sub>i</sub> &le; |A<sub>i</sub>| + |L<sub>p</sub> \ i|
+ * + &Sigma;<sub>e</sub> |L<sub>e</sub> \ L<sub>p</sub>| <br>
+ * により計算され, L<sub>e</sub> &sube; L<sub>p</sub> となった要素は吸収される (aggressive absorption). <br>
+ * 超変数 (同一の隣接構造を持つ変数の組) の検出は行わない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ApproximateMinimumDegree {
+
+    private ApproximateMinimumDegree() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 対称な非ゼロパターンの消去順序を計算する.
+     * 
+     * <p>
+     * パターンは隣接リストで与える:
+     * 変数 <i>i</i> に隣接する変数は {@code adjacency[adjacencyPointer[i]]} から
+     * {@code adjacency[adjacencyPointer[i + 1] - 1]} である. <br>
+     * 隣接リストは対称でなければならず, 自身と重複を含んではならない.
+     * </p>
+     * 
+     * @param adjacencyPointer 隣接リストのポインタ, 長さ n + 1
+     * @param adjacency 隣接リスト
+     * @return 消去順序, order[k] が k 番目に消去される変数
+     */
+    static int[] order(int[] adjacencyPointer, int[] adjacency) {
+        final int n = adjacencyPointer.length - 1;
+
+        //変数の隣接変数, 隣接要素
+        final int[][] variableAdjacency = new int[n][];
+        final int[] variableAdjacencySize = new int[n];
+        final int[][] elementAdjacency = new int[n][];
+        final int[] elementAdjacencySize = new int[n];
+
+        //要素 (消去済み変数) が持つ変数の集合 L_e
+        final int[][] elementVariables = new int[n][];
+
+        //0: 変数, 1: 要素, 2: 吸収された要素
+        final byte[] state = new byte[n];
+
+        final int[] degree = new int[n];
+
+        //次数ごとの双方向リスト
+        final int[] head = new int[n];
+        final int[] next = new int[n];
+        final int[] prev = new int[n];
+        Arrays.fill(head, -1);
+
+        for (int i = 0; i < n; i++) {
+            final int start = adjacencyPointer[i];
+            final int size = adjacencyPointer[i + 1] - start;
+            variableAdjacency[i] = Arrays.copyOfRange(adjacency, start, start + size);
+            variableAdjacencySize[i] = size;
+            elementAdjacency[i] = new int[2];
+            degree[i] = size;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            insert(head, next, prev, degree[i], i);
+        }
+
+        final int[] mark = new int[n];
+        final int[] elementMark = new int[n];
+        final int[] externalSize = new int[n];
+        final int[] lp = new int[n];
+        int stamp = 0;
+        int minDegree = 0;
+
+        final int[] order = new int[n];
+        for (int step = 0; step < n; step++) {
+            while (head[minDegree] < 0) {
+                minDegree++;
+            }
+            final int p = head[minDegree];
+            remove(head, next, prev, degree[p], p);
+
+            //L_p = (A_p ∪ (∪_{e ∈ E_p} L_e)) \ p
+            stamp++;
+            mark[p] = stamp;
+            int lpSize = 0;
+            {
+                final int[] adj = variableAdjacency[p];
+                for (int k = 0, l = variableAdjacencySize[p]; k < l; k++) {
+                    final int v = adj[k];
+                    if (state[v] == 0 && mark[v] != stamp) {
+                        mark[v] = stamp;
+                        lp[lpSize++] = v;
+                    }
+                }
+            }
+            {
+                final int[] adj = elementAdjacency[p];
+                for (int k = 0, l = elementAdjacencySize[p]; k < l; k++) {
+                    final int e = adj[k];
+                    if (state[e] != 1) {
+                        continue;
+                    }
+                    for (int v : elementVariables[e]) {
+                        if (state[v] == 0 && mark[v] != stamp) {
+                            mark[v] = stamp;
+                            lp[lpSize++] = v;
+                        }
+                    }
+                    //L_e は L_p に含まれるため吸収される
+                    state[e] = 2;
+                    elementVariables[e] = null;
+                }
+            }
+            state[p] = 1;
+            elementVariables[p] = Arrays.copyOf(lp, lpSize);
+            variableAdjacency[p] = null;
+            elementAdjacency[p] = null;
+            order[step] = p;
+
+            //|L_e \ L_p| を計算する
+            for (int s = 0; s < lpSize; s++) {
+                final int i = lp[s];
+                remove(head, next, prev, degree[i], i);
+                final int[] adj = elementAdjacency[i];
+                for (int k = 0, l = elementAdjacencySize[i]; k < l; k++) {
+                    final int e = adj[k];
+                    if (state[e] != 1) {
+                        continue;
+                    }
+                    if (elementMark[e] != stamp) {
+                        elementMark[e] = stamp;
+                        externalSize[e] = elementVariables[e].length;
+                    }
+                    externalSize[e]--;
+                }
+            }
+
+            //隣接構造と近似次数を更新する
+            final int remaining = n - step - 1;
+            for (int s = 0; s < lpSize; s++) {
+                final int i = lp[s];
+
+                int externalDegree = 0;
+                int[] eAdj = elementAdjacency[i];
+                int eSize = 0;
+                for (int k = 0, l = elementAdjacencySize[i]; k < l; k++) {
+                    final int e = eAdj[k];
+                    if (state[e] != 1) {
+                        continue;
+                    }
+                    if (externalSize[e] == 0) {
+                        //L_e ⊆ L_p: 吸収
+                        state[e] = 2;
+                        elementVariables[e] = null;
+                        continue;
+                    }
+                    externalDegree += externalSize[e];
+                    eAdj[eSize++] = e;
+                }
+                if (eSize == eAdj.length) {
+                    eAdj = Arrays.copyOf(eAdj, eAdj.length * 2);
+                    elementAdjacency[i] = eAdj;
+                }
+                eAdj[eSize++] = p;
+                elementAdjacencySize[i] = eSize;
+
+                //L_p に含まれる変数は要素 p を通じて隣接するため, 変数の隣接から除く
+                final int[] vAdj = variableAdjacency[i];
+                int vSize = 0;
+                for (int k = 0, l = variableAdjacencySize[i]; k < l; k++) {
+                    final int v = vAdj[k];
+                    if (state[v] == 0 && mark[v] != stamp) {
+                        vAdj[vSize++] = v;
+                    }
+                }
+                variableAdjacencySize[i] = vSize;
+
+                int d = vSize + (lpSize - 1) + externalDegree;
+                d = Math.min(d, degree[i] + lpSize - 1);
+                d = Math.min(d, remaining - 1);
+                degree[i] = Math.max(d, 0);
+                insert(head, next, prev, degree[i], i);
+                minDegree = Math.min(minDegree, degree[i]);
+            }
+        }
+
+        return order;
+    }
+
+    private static void insert(int[] head, int[] next, int[] prev, int d, int i) {
+        final int h = head[d];
+        next[i] = h;
+        prev[i] = -1;
+        if (h >= 0) {
+            prev[h] = i;
+        }
+        head[d] = i;
+    }
+
+    private static void remove(int[] head, int[] next, int[] prev, int d, int i) {
+        final int nx = next[i];
+        final int pv = prev[i];
+        if (pv >= 0) {
+            next[pv] = nx;
+        } else {
+            head[d] = nx;
+        }
+        if (nx >= 0) {
+            prev[nx] = pv;
+        }
+    }
+}
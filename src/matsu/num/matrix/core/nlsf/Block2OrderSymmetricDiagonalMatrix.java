@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.27
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -27,6 +27,7 @@ import matsu.num.matrix.core.helper.value.BandDimensionPositionState;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
 import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
 import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -343,9 +344,7 @@ interface Block2OrderSymmetricDiagonalMatrix
                     resultEntry[i] += thisSubdiagonalEntry[i] * operandEntry[i + 1];
                 }
 
-                Vector.Builder builder = Vector.Builder.zeroBuilder(vectorDimension);
-                builder.setEntryValue(resultEntry);
-                return builder.build();
+                return VectorEntryAccess.adopt(vectorDimension, resultEntry);
             }
 
             /**
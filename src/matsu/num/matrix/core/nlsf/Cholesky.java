@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -15,12 +15,20 @@ import java.util.Optional;
 import matsu.num.matrix.core.DiagonalMatrix;
 import matsu.num.matrix.core.EntryReadableMatrix;
 import matsu.num.matrix.core.LowerUnitriangular;
+import matsu.num.matrix.core.LowerUnitriangularMatrix;
 import matsu.num.matrix.core.Matrix;
 import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.PseudoRegularMatrixProcess;
 import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.common.TriangularSolveKernel;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
 import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.MultipleRightHandSideSupport;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
 
 /**
@@ -36,7 +44,15 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * </p>
  * 
  * <p>
- * この行列分解が提供する逆行列には {@link Symmetric} が付与されている.
+ * この行列分解が提供する逆行列には {@link Symmetric} が付与されている. <br>
+ * 逆行列の作用は, 分解された成分を保持する配列から直接,
+ * 前進代入, 対角成分による除算, 転置による後退代入を1本の作業配列上で行うことで計算される.
+ * </p>
+ * 
+ * <p>
+ * 階数1の修正を加えた行列 A &plusmn; <b>vv</b><sup>T</sup> の分解は,
+ * {@link #update(Vector)}, {@link #downdate(Vector)} により,
+ * 分解をやり直すことなく O(n<sup>2</sup>) で得られる.
  * </p>
  * 
  * @author Matsuura Y.
@@ -52,6 +68,14 @@ public final class Cholesky
     private final DiagonalMatrix mxSqrtD;
     private final LowerUnitriangular mxL;
 
+    /*
+     * 求解に用いる, 分解された成分.
+     * 下三角部分の行詰め表現として, 狭義下三角部分に L を格納する.
+     */
+    private final double[] factorizedLowerEntry;
+    private final int[] rowOffset;
+    private final double[] sqrtDiagonalEntry;
+
     /**
      * この形式の行列分解を得るためのエグゼキュータを返す.
      * 
@@ -75,6 +99,46 @@ public final class Cholesky
 
         this.mxL = fact.getMxL();
         this.mxSqrtD = fact.getMxSqrtD();
+
+        final int dimension = matrix.matrixDimension().rowAsIntValue();
+        final double sqrtScale = Math.sqrt(fact.getScale());
+        this.factorizedLowerEntry = fact.getFactorizedLowerEntry();
+        this.rowOffset = new int[dimension];
+        this.sqrtDiagonalEntry = new double[dimension];
+        int c = 0;
+        for (int i = 0; i < dimension; i++) {
+            this.rowOffset[i] = c;
+            c += i;
+            //対角成分はスケールを反映する(D^{1/2}と同一)
+            this.sqrtDiagonalEntry[i] = this.factorizedLowerEntry[c] * sqrtScale;
+            c++;
+        }
+    }
+
+    /**
+     * 修正された分解の成分から呼ばれる. <br>
+     * 配列は参照が漏洩していないものを渡さなければならない.
+     */
+    private Cholesky(final EntryReadableMatrix matrix,
+            final double[] factorizedLowerEntry, final int[] rowOffset, final double[] sqrtDiagonalEntry) {
+        this.matrix = matrix;
+        this.factorizedLowerEntry = factorizedLowerEntry;
+        this.rowOffset = rowOffset;
+        this.sqrtDiagonalEntry = sqrtDiagonalEntry;
+
+        final MatrixDimension matrixDimension = matrix.matrixDimension();
+        final int dimension = matrixDimension.rowAsIntValue();
+        DiagonalMatrix.Builder mxSqrtDBuilder = DiagonalMatrix.Builder.zeroBuilder(matrixDimension);
+        LowerUnitriangularMatrix.Builder mxLBuilder = LowerUnitriangularMatrix.Builder.unit(matrixDimension);
+        for (int i = 0; i < dimension; i++) {
+            final int offset = rowOffset[i];
+            for (int k = 0; k < i; k++) {
+                mxLBuilder.setValue(i, k, factorizedLowerEntry[offset + k]);
+            }
+            mxSqrtDBuilder.setValue(i, sqrtDiagonalEntry[i]);
+        }
+        this.mxSqrtD = mxSqrtDBuilder.build();
+        this.mxL = mxLBuilder.build();
     }
 
     @Override
@@ -82,6 +146,173 @@ public final class Cholesky
         return this.matrix;
     }
 
+    /**
+     * 行列 A に階数1の修正を加えた A + <b>vv</b><sup>T</sup> の Cholesky 分解を返す.
+     * 
+     * <p>
+     * 分解はこのインスタンスの分解を修正することにより, O(n<sup>2</sup>) で求められる. <br>
+     * 返される分解の {@link #target()} は, A + <b>vv</b><sup>T</sup> を成分に持つ対称行列である.
+     * </p>
+     * 
+     * @param v <b>v</b>
+     * @return A + <b>vv</b><sup>T</sup> の Cholesky 分解
+     * @throws MatrixFormatMismatchException 行列とベクトルの次元が整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Cholesky update(Vector v) {
+        return this.modify(v, false, 0d).get();
+    }
+
+    /**
+     * 行列 A に階数1の修正を加えた A - <b>vv</b><sup>T</sup> の Cholesky 分解を返す. <br>
+     * 相対epsilonはデフォルト値が使用される.
+     * 
+     * <p>
+     * 動作は {@link #downdate(Vector, double)} に従う.
+     * </p>
+     * 
+     * @param v <b>v</b>
+     * @return A - <b>vv</b><sup>T</sup> の Cholesky 分解, 正定値でなくなる場合は空
+     * @throws MatrixFormatMismatchException 行列とベクトルの次元が整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Optional<Cholesky> downdate(Vector v) {
+        return this.downdate(v, PseudoRegularMatrixProcess.DEFAULT_EPSILON);
+    }
+
+    /**
+     * 行列 A に階数1の修正を加えた A - <b>vv</b><sup>T</sup> の Cholesky 分解を返す.
+     * 
+     * <p>
+     * 分解はこのインスタンスの分解を修正することにより, O(n<sup>2</sup>) で求められる. <br>
+     * 返される分解の {@link #target()} は, A - <b>vv</b><sup>T</sup> を成分に持つ対称行列である. <br>
+     * A - <b>vv</b><sup>T</sup> が ({@code epsilon} のもとで) 正定値でない場合は空を返す.
+     * 正定値性の判定は, {@link Executor} による分解と同等である.
+     * </p>
+     * 
+     * @param v <b>v</b>
+     * @param epsilon 相対epsilon
+     * @return A - <b>vv</b><sup>T</sup> の Cholesky 分解, 正定値でなくなる場合は空
+     * @throws MatrixFormatMismatchException 行列とベクトルの次元が整合しない場合
+     * @throws IllegalArgumentException epsilonが0以上の有限数でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Optional<Cholesky> downdate(Vector v, double epsilon) {
+        if (!Double.isFinite(epsilon) || epsilon < 0) {
+            throw new IllegalArgumentException(String.format("illegal: epsilon = %s", epsilon));
+        }
+        return this.modify(v, true, epsilon);
+    }
+
+    /**
+     * 階数1の修正を行う.
+     */
+    private Optional<Cholesky> modify(Vector v, boolean downdate, double epsilon) {
+        final MatrixDimension matrixDimension = this.matrix.matrixDimension();
+        MatrixValidationSupport.validateOperate(matrixDimension, v.vectorDimension());
+
+        final int dimension = matrixDimension.rowAsIntValue();
+        final double sign = downdate ? -1d : 1d;
+        final double[] w = v.entryAsArray();
+
+        SymmetricMatrix.Builder targetBuilder = SymmetricMatrix.Builder.zero(matrixDimension);
+        for (int i = 0; i < dimension; i++) {
+            for (int k = 0; k <= i; k++) {
+                targetBuilder.setValue(i, k, this.matrix.valueAt(i, k) + sign * w[i] * w[k]);
+            }
+        }
+        final SymmetricMatrix modifiedMatrix = targetBuilder.build();
+        final double scale = modifiedMatrix.entryNormMax();
+        if (scale == 0d) {
+            return Optional.empty();
+        }
+
+        // G = LD^{1/2} を組み立てる
+        final double[] g = this.factorizedLowerEntry.clone();
+        for (int i = 0; i < dimension; i++) {
+            final int offset = this.rowOffset[i];
+            for (int k = 0; k < i; k++) {
+                g[offset + k] *= this.sqrtDiagonalEntry[k];
+            }
+            g[offset + i] = this.sqrtDiagonalEntry[i];
+        }
+
+        if (!CholeskyRankOneModificationHelper.modifyDense(
+                g, this.rowOffset, w, downdate, (epsilon + EPSILON_A) * scale)) {
+            return Optional.empty();
+        }
+
+        // G' = L'D'^{1/2} から L' と D'^{1/2} を取り出す
+        final double[] sqrtD = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            sqrtD[i] = g[this.rowOffset[i] + i];
+        }
+        for (int i = 0; i < dimension; i++) {
+            final int offset = this.rowOffset[i];
+            for (int k = 0; k < i; k++) {
+                g[offset + k] /= sqrtD[k];
+            }
+        }
+        return Optional.of(new Cholesky(modifiedMatrix, g, this.rowOffset, sqrtD));
+    }
+
+    /**
+     * @implSpec
+     *               全ての右辺を行優先の作業配列にまとめ,
+     *               前進代入, 対角成分による除算, 転置による後退代入を順に行う.
+     */
+    @Override
+    public void solveInto(double[][] b, double[][] x) {
+        final MatrixDimension targetDimension = this.matrix.matrixDimension();
+        MultipleRightHandSideSupport.validateSolveInto(targetDimension, b, x);
+
+        final int dimension = targetDimension.rowAsIntValue();
+        final int rhsCount = b.length;
+
+        // X = L^{-T}D^{-1/2}D^{-1/2}L^{-1}B
+        double[] work = MultipleRightHandSideSupport.gatherColumns(b, dimension);
+        TriangularSolveKernel.solveUnitLower(
+                this.factorizedLowerEntry, this.rowOffset, work, dimension, rhsCount);
+        int c = 0;
+        for (int i = 0; i < dimension; i++) {
+            final double sqrtD = this.sqrtDiagonalEntry[i];
+            for (int j = 0; j < rhsCount; j++, c++) {
+                work[c] = work[c] / sqrtD / sqrtD;
+            }
+        }
+        TriangularSolveKernel.solveUnitLowerTranspose(
+                this.factorizedLowerEntry, this.rowOffset, work, dimension, rhsCount);
+        MultipleRightHandSideSupport.scatterColumns(work, x);
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    Matrix createInverse(InversionDeterminantableImplementation<Matrix, Matrix> sqrtMatrixStructure) {
+        // A^{-1} = L^{-T}D^{-1/2}D^{-1/2}L^{-1}
+        return InPlaceSolvingInverse.symmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        InPlaceSubstitution.solveUnitLower(factorizedLowerEntry, rowOffset, work);
+                        InPlaceSubstitution.divide(sqrtDiagonalEntry, work);
+                        InPlaceSubstitution.divide(sqrtDiagonalEntry, work);
+                        InPlaceSubstitution.solveUnitLowerTranspose(factorizedLowerEntry, rowOffset, work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        this.solveInPlace(work);
+                    }
+                });
+    }
+
     /**
      * -
      * 
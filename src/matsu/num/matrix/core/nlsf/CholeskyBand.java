@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -16,11 +16,18 @@ import matsu.num.matrix.core.BandMatrix;
 import matsu.num.matrix.core.BandMatrixDimension;
 import matsu.num.matrix.core.DiagonalMatrix;
 import matsu.num.matrix.core.LowerUnitriangular;
+import matsu.num.matrix.core.LowerUnitriangularBandMatrix;
 import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.PseudoRegularMatrixProcess;
 import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
 import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
 
 /**
@@ -36,7 +43,16 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * </p>
  * 
  * <p>
- * この行列分解が提供する逆行列には {@link Symmetric} が付与されている.
+ * この行列分解が提供する逆行列には {@link Symmetric} が付与されている. <br>
+ * 逆行列の作用は, 分解された帯成分を保持する配列から直接,
+ * 前進代入, 対角成分による除算, 転置による後退代入を1本の作業配列上で行うことで計算される.
+ * </p>
+ * 
+ * <p>
+ * 階数1の修正を加えた行列 A &plusmn; <b>vv</b><sup>T</sup> の分解は,
+ * <b>vv</b><sup>T</sup> が A の帯の内側に収まる場合に限り,
+ * {@link #update(Vector)}, {@link #downdate(Vector)} により,
+ * 分解をやり直すことなく O(nb) (b: 帯幅) で得られる.
  * </p>
  * 
  * @author Matsuura Y.
@@ -51,6 +67,14 @@ public final class CholeskyBand
     private final DiagonalMatrix mxSqrtD;
     private final LowerUnitriangular mxL;
 
+    /*
+     * 求解に用いる, 分解された成分.
+     * L の (i + j + 1, i) 成分は lowerEntry[i * bandWidth + j] である.
+     */
+    private final double[] sqrtDiagonalEntry;
+    private final double[] lowerEntry;
+    private final int bandWidth;
+
     /**
      * この形式の行列分解を得るためのエグゼキュータを返す.
      * 
@@ -74,6 +98,43 @@ public final class CholeskyBand
 
         this.mxSqrtD = fact.getMxSqrtD();
         this.mxL = fact.getMxL();
+
+        final double sqrtScale = Math.sqrt(fact.getScale());
+        //対角成分はスケールを反映する(D^{1/2}と同一)
+        this.sqrtDiagonalEntry = fact.getFactorizedDiagonalEntry().clone();
+        for (int i = 0; i < this.sqrtDiagonalEntry.length; i++) {
+            this.sqrtDiagonalEntry[i] *= sqrtScale;
+        }
+        this.lowerEntry = fact.getFactorizedLowerEntry();
+        this.bandWidth = matrix.bandMatrixDimension().lowerBandWidth();
+    }
+
+    /**
+     * 修正された分解の成分から呼ばれる. <br>
+     * 配列は参照が漏洩していないものを渡さなければならない.
+     */
+    private CholeskyBand(final BandMatrix matrix,
+            final double[] sqrtDiagonalEntry, final double[] lowerEntry) {
+        this.matrix = matrix;
+        this.sqrtDiagonalEntry = sqrtDiagonalEntry;
+        this.lowerEntry = lowerEntry;
+        this.bandWidth = matrix.bandMatrixDimension().lowerBandWidth();
+
+        final MatrixDimension matrixDimension = matrix.matrixDimension();
+        final int dimension = matrixDimension.rowAsIntValue();
+        final int thisBandWidth = this.bandWidth;
+        DiagonalMatrix.Builder mxSqrtDBuilder = DiagonalMatrix.Builder.zeroBuilder(matrixDimension);
+        LowerUnitriangularBandMatrix.Builder mxLBuilder = LowerUnitriangularBandMatrix.Builder.unit(
+                BandMatrixDimension.of(matrixDimension, thisBandWidth, 0));
+        for (int i = 0; i < dimension; i++) {
+            mxSqrtDBuilder.setValue(i, sqrtDiagonalEntry[i]);
+            final int shift = i * thisBandWidth;
+            for (int j = 0, l = Math.min(thisBandWidth, dimension - i - 1); j < l; j++) {
+                mxLBuilder.setValue(i + j + 1, i, lowerEntry[shift + j]);
+            }
+        }
+        this.mxSqrtD = mxSqrtDBuilder.build();
+        this.mxL = mxLBuilder.build();
     }
 
     @Override
@@ -81,6 +142,164 @@ public final class CholeskyBand
         return this.matrix;
     }
 
+    /**
+     * 行列 A に階数1の修正を加えた A + <b>vv</b><sup>T</sup> の Cholesky 分解を返す.
+     * 
+     * <p>
+     * <b>v</b> の非ゼロ成分は, 連続する (b + 1) 個の成分 (b: 帯幅) に収まっていなければならない. <br>
+     * 分解はこのインスタンスの分解を修正することにより, O(nb) で求められる. <br>
+     * 返される分解の {@link #target()} は,
+     * A + <b>vv</b><sup>T</sup> を成分に持つ, A と同じ帯構造の対称帯行列である.
+     * </p>
+     * 
+     * @param v <b>v</b>
+     * @return A + <b>vv</b><sup>T</sup> の Cholesky 分解
+     * @throws MatrixFormatMismatchException 行列とベクトルの次元が整合しない場合
+     * @throws IllegalArgumentException <b>vv</b><sup>T</sup> が帯の内側に収まらない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public CholeskyBand update(Vector v) {
+        return this.modify(v, false, 0d).get();
+    }
+
+    /**
+     * 行列 A に階数1の修正を加えた A - <b>vv</b><sup>T</sup> の Cholesky 分解を返す. <br>
+     * 相対epsilonはデフォルト値が使用される.
+     * 
+     * <p>
+     * 動作は {@link #downdate(Vector, double)} に従う.
+     * </p>
+     * 
+     * @param v <b>v</b>
+     * @return A - <b>vv</b><sup>T</sup> の Cholesky 分解, 正定値でなくなる場合は空
+     * @throws MatrixFormatMismatchException 行列とベクトルの次元が整合しない場合
+     * @throws IllegalArgumentException <b>vv</b><sup>T</sup> が帯の内側に収まらない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Optional<CholeskyBand> downdate(Vector v) {
+        return this.downdate(v, PseudoRegularMatrixProcess.DEFAULT_EPSILON);
+    }
+
+    /**
+     * 行列 A に階数1の修正を加えた A - <b>vv</b><sup>T</sup> の Cholesky 分解を返す.
+     * 
+     * <p>
+     * <b>v</b> の非ゼロ成分は, 連続する (b + 1) 個の成分 (b: 帯幅) に収まっていなければならない. <br>
+     * 分解はこのインスタンスの分解を修正することにより, O(nb) で求められる. <br>
+     * 返される分解の {@link #target()} は,
+     * A - <b>vv</b><sup>T</sup> を成分に持つ, A と同じ帯構造の対称帯行列である. <br>
+     * A - <b>vv</b><sup>T</sup> が ({@code epsilon} のもとで) 正定値でない場合は空を返す.
+     * 正定値性の判定は, {@link Executor} による分解と同等である.
+     * </p>
+     * 
+     * @param v <b>v</b>
+     * @param epsilon 相対epsilon
+     * @return A - <b>vv</b><sup>T</sup> の Cholesky 分解, 正定値でなくなる場合は空
+     * @throws MatrixFormatMismatchException 行列とベクトルの次元が整合しない場合
+     * @throws IllegalArgumentException <b>vv</b><sup>T</sup> が帯の内側に収まらない場合,
+     *             epsilonが0以上の有限数でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Optional<CholeskyBand> downdate(Vector v, double epsilon) {
+        if (!Double.isFinite(epsilon) || epsilon < 0) {
+            throw new IllegalArgumentException(String.format("illegal: epsilon = %s", epsilon));
+        }
+        return this.modify(v, true, epsilon);
+    }
+
+    /**
+     * 階数1の修正を行う.
+     */
+    private Optional<CholeskyBand> modify(Vector v, boolean downdate, double epsilon) {
+        final BandMatrixDimension bandMatrixDimension = this.matrix.bandMatrixDimension();
+        final MatrixDimension matrixDimension = bandMatrixDimension.dimension();
+        MatrixValidationSupport.validateOperate(matrixDimension, v.vectorDimension());
+
+        final int dimension = matrixDimension.rowAsIntValue();
+        final int thisBandWidth = this.bandWidth;
+        final double sign = downdate ? -1d : 1d;
+        final double[] w = v.entryAsArray();
+
+        //非ゼロ成分の範囲
+        int from = 0;
+        while (from < dimension && w[from] == 0d) {
+            from++;
+        }
+        int to = dimension - 1;
+        while (to > from && w[to] == 0d) {
+            to--;
+        }
+        if (to - from > thisBandWidth) {
+            throw new IllegalArgumentException(
+                    "vector support exceeds band: support: [%s, %s], band: %s"
+                            .formatted(from, to, bandMatrixDimension));
+        }
+
+        SymmetricBandMatrix.Builder targetBuilder = SymmetricBandMatrix.Builder.zero(bandMatrixDimension);
+        for (int i = 0; i < dimension; i++) {
+            for (int k = Math.max(0, i - thisBandWidth); k <= i; k++) {
+                targetBuilder.setValue(i, k, this.matrix.valueAt(i, k) + sign * w[i] * w[k]);
+            }
+        }
+        final SymmetricBandMatrix modifiedMatrix = targetBuilder.build();
+        final double scale = modifiedMatrix.entryNormMax();
+        if (scale == 0d) {
+            return Optional.empty();
+        }
+
+        // G = LD^{1/2} を組み立てる
+        final double[] diagonal = this.sqrtDiagonalEntry.clone();
+        final double[] lower = this.lowerEntry.clone();
+        for (int i = 0; i < dimension; i++) {
+            final int shift = i * thisBandWidth;
+            for (int j = 0, l = Math.min(thisBandWidth, dimension - i - 1); j < l; j++) {
+                lower[shift + j] *= diagonal[i];
+            }
+        }
+
+        if (!CholeskyRankOneModificationHelper.modifyBand(
+                diagonal, lower, thisBandWidth, w, from, downdate, (epsilon + EPSILON_A) * scale)) {
+            return Optional.empty();
+        }
+
+        // G' = L'D'^{1/2} から L' を取り出す
+        for (int i = 0; i < dimension; i++) {
+            final int shift = i * thisBandWidth;
+            for (int j = 0, l = Math.min(thisBandWidth, dimension - i - 1); j < l; j++) {
+                lower[shift + j] /= diagonal[i];
+            }
+        }
+        return Optional.of(new CholeskyBand(modifiedMatrix, diagonal, lower));
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    Matrix createInverse(InversionDeterminantableImplementation<Matrix, Matrix> sqrtMatrixStructure) {
+        // A^{-1} = L^{-T}D^{-1/2}D^{-1/2}L^{-1}
+        return InPlaceSolvingInverse.symmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        InPlaceSubstitution.solveUnitLowerBand(lowerEntry, bandWidth, work);
+                        InPlaceSubstitution.divide(sqrtDiagonalEntry, work);
+                        InPlaceSubstitution.divide(sqrtDiagonalEntry, work);
+                        InPlaceSubstitution.solveUnitLowerBandTranspose(lowerEntry, bandWidth, work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        this.solveInPlace(work);
+                    }
+                });
+    }
+
     /**
      * -
      * 
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.11.23
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -63,6 +63,28 @@ final class CholeskyBandFactorizationHelper {
         return this.mxL;
     }
 
+    /**
+     * 分解された対角成分 (スケール前の D<sup>1/2</sup>) を返す.
+     */
+    double[] getFactorizedDiagonalEntry() {
+        return this.mxDiagonalEntry;
+    }
+
+    /**
+     * 分解された狭義下三角成分を返す. <br>
+     * L の (i + j + 1, i) 成分は, 第 {@code i * bandWidth + j} 要素である.
+     */
+    double[] getFactorizedLowerEntry() {
+        return this.mxLowerEntry;
+    }
+
+    /**
+     * 分解前に行列に施したスケールを返す.
+     */
+    double getScale() {
+        return this.scale;
+    }
+
     /**
      * 対角成分を配列へ.
      * 成分を配列に落とし込む際にスケールする.
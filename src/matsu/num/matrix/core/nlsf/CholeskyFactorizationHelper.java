@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.28
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -15,6 +15,7 @@ import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.LowerUnitriangularMatrix;
 import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.common.CalcUtil;
+import matsu.num.matrix.core.common.MatrixProductKernel;
 
 /**
  * Cholesky分解のヘルパ.
@@ -24,11 +25,29 @@ import matsu.num.matrix.core.common.CalcUtil;
  * 数値安定性を得るため, 与えられた行列Aを最初に定数倍してから分解する. <br>
  * その定数倍は対角行列Dに押し付ける.
  * </p>
+ * 
+ * <p>
+ * 次元が大きい場合, 列方向のパネルごとに分解し,
+ * 残りの部分行列 (下三角部分) の更新を行列積としてまとめて行うブロック版のアルゴリズムを用いる. <br>
+ * ブロック版も分解結果の配列 (下三角部分を行ごとに詰めた配列) 上でそのまま分解を行い,
+ * 追加の作業領域はパネルの幅に比例する大きさのみである. <br>
+ * 各成分に対する演算の順序は非ブロック版と同一であり, 結果は一致する.
+ * </p>
  *
  * @author Matsuura Y.
  */
 final class CholeskyFactorizationHelper {
 
+    /**
+     * ブロック版のアルゴリズムを用いる次元の下限.
+     */
+    private static final int BLOCKED_THRESHOLD = 192;
+
+    /**
+     * ブロック版のアルゴリズムにおけるパネルの幅.
+     */
+    private static final int BLOCK_SIZE = 64;
+
     private final double scale;
     private final MatrixDimension matrixDimension;
     private final double[] mxLowerEntry;
@@ -50,7 +69,7 @@ final class CholeskyFactorizationHelper {
         }
 
         this.mxLowerEntry = lowerSideOfMatrixToArray(matrix);
-        this.factorize(relativeEpsilon);
+        factorizeLowerEntry(this.mxLowerEntry, this.matrixDimension.rowAsIntValue(), relativeEpsilon);
         this.convertToEachMatrix();
     }
 
@@ -62,6 +81,21 @@ final class CholeskyFactorizationHelper {
         return this.mxL;
     }
 
+    /**
+     * 分解された成分を返す. <br>
+     * 下三角部分の行詰め表現として, 狭義下三角部分に L, 対角部分にスケール前の D<sup>1/2</sup> を格納する.
+     */
+    double[] getFactorizedLowerEntry() {
+        return this.mxLowerEntry;
+    }
+
+    /**
+     * 分解前に行列に施したスケールを返す.
+     */
+    double getScale() {
+        return this.scale;
+    }
+
     /**
      * 成分を配列に落とし込む際にスケールする.
      */
@@ -80,14 +114,37 @@ final class CholeskyFactorizationHelper {
         return outArray;
     }
 
+    /**
+     * 下三角部分を行ごとに詰めた配列上で, 対称行列を
+     * LD<sup>1/2</sup>D<sup>1/2</sup>L<sup>T</sup> の形に分解する. <br>
+     * 結果は, 狭義下三角部分に L, 対角部分に D<sup>1/2</sup> として上書きされる.
+     * 
+     * <p>
+     * 次元が大きい場合はブロック版のアルゴリズムを用いる. <br>
+     * スパース Cholesky 分解のスーパーノードの対角ブロックの分解にも用いられる.
+     * </p>
+     *
+     * @param lowerEntry 下三角部分を行ごとに詰めた配列
+     * @param dimension 次元
+     * @param threshold 対角成分 (D) の下限
+     * @throws ProcessFailedException 行列が正定値でない場合
+     */
+    static void factorizeLowerEntry(double[] lowerEntry, int dimension, double threshold)
+            throws ProcessFailedException {
+        if (dimension >= BLOCKED_THRESHOLD) {
+            factorizeBlocked(lowerEntry, dimension, threshold);
+        } else {
+            factorize(lowerEntry, dimension, threshold);
+        }
+    }
+
     /**
      * 行列を分解する.
      *
      * @throws ProcessFailedException 行列が正定値でない場合
      */
-    private void factorize(double threshold) throws ProcessFailedException {
-        final int thisDimension = this.matrixDimension.rowAsIntValue();
-        final double[] thisMxEntry = this.mxLowerEntry;
+    private static void factorize(final double[] thisMxEntry, final int thisDimension, double threshold)
+            throws ProcessFailedException {
         final double[] thisMxUEntry_bk = new double[thisDimension];
 
         int in = 0;
@@ -120,6 +177,80 @@ final class CholeskyFactorizationHelper {
         }
     }
 
+    /**
+     * 行列をブロック版のアルゴリズムで分解する. <br>
+     * {@link #factorize(double[], int, double)} と同様に, 下三角部分を行ごとに詰めた配列上で分解する.
+     *
+     * @throws ProcessFailedException 行列が正定値でない場合
+     */
+    private static void factorizeBlocked(final double[] thisMxEntry, final int thisDimension, double threshold)
+            throws ProcessFailedException {
+
+        //各行の開始位置
+        final int[] rowStart = new int[thisDimension];
+        for (int j = 1; j < thisDimension; j++) {
+            rowStart[j] = rowStart[j - 1] + j;
+        }
+
+        //パネルの各列のスケール前の値を, 転置して保持する
+        final double[] panelUEntry_bk = new double[BLOCK_SIZE * thisDimension];
+        //パネルより下の L の成分を, 行優先で詰めて保持する
+        final double[] panelLEntry = new double[BLOCK_SIZE * thisDimension];
+        //残りの部分行列の各行の開始位置
+        final int[] trailingRowStart = new int[thisDimension];
+
+        for (int i0 = 0; i0 < thisDimension; i0 += BLOCK_SIZE) {
+            final int i1 = Math.min(i0 + BLOCK_SIZE, thisDimension);
+
+            //パネル(列i0からi1-1)の分解
+            for (int i = i0; i < i1; i++) {
+                final int bn = (i - i0) * thisDimension;
+                //正則性チェック
+                final double d = thisMxEntry[rowStart[i] + i];
+                if (!(d >= threshold)) {
+                    throw new ProcessFailedException("not positive definite");
+                }
+                //Dの計算
+                final double invD = 1 / d;
+                thisMxEntry[rowStart[i] + i] = Math.sqrt(d);
+                //Lの計算と引っ張り
+                for (int j = i + 1; j < thisDimension; j++) {
+                    final int jn = rowStart[j];
+                    panelUEntry_bk[bn + j] = thisMxEntry[jn + i];
+                    thisMxEntry[jn + i] *= invD;
+                }
+                //パネル内の前進消去
+                for (int j = i + 1; j < thisDimension; j++) {
+                    final int jn = rowStart[j];
+                    final double l_j = thisMxEntry[jn + i];
+                    final int kEnd = Math.min(j, i1 - 1);
+                    for (int k = i + 1; k <= kEnd; k++) {
+                        thisMxEntry[jn + k] -= l_j * panelUEntry_bk[bn + k];
+                    }
+                }
+            }
+
+            final int trailing = thisDimension - i1;
+            if (trailing == 0) {
+                break;
+            }
+
+            //残りの部分行列(下三角部分)の更新: A22 <- A22 - L21 * U12
+            final int panelWidth = i1 - i0;
+            for (int j = i1; j < thisDimension; j++) {
+                System.arraycopy(thisMxEntry, rowStart[j] + i0,
+                        panelLEntry, (j - i1) * panelWidth, panelWidth);
+                trailingRowStart[j - i1] = rowStart[j] + i1;
+            }
+            MatrixProductKernel.multiplyAndAddLowerTriangle(
+                    -1d,
+                    panelLEntry, 0, panelWidth,
+                    panelUEntry_bk, i1, thisDimension,
+                    thisMxEntry, trailingRowStart,
+                    trailing, panelWidth);
+        }
+    }
+
     /**
      * 分解されたmxEntryを行列オブジェクトに変換.
      *
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+/**
+ * Cholesky分解の階数1の修正 (update, downdate) を行うユーティリティ.
+ * 
+ * <p>
+ * A = GG<sup>T</sup> (G: 対角成分が正の下三角行列) に対し,
+ * A &plusmn; <b>ww</b><sup>T</sup> = G'G'<sup>T</sup> となる G' を,
+ * G の列ごとに回転を施すことで求める. <br>
+ * 第 <i>k</i> 列では, r<sup>2</sup> = G<sub>kk</sub><sup>2</sup> &plusmn; w<sub>k</sub><sup>2</sup>,
+ * c = r / G<sub>kk</sub>, s = w<sub>k</sub> / G<sub>kk</sub> として,
+ * G'<sub>kk</sub> = r,
+ * G'<sub>ik</sub> = (G<sub>ik</sub> &plusmn; s w<sub>i</sub>) / c,
+ * w<sub>i</sub> &larr; c w<sub>i</sub> - s G'<sub>ik</sub> (<i>i</i> &gt; <i>k</i>)
+ * とする.
+ * </p>
+ * 
+ * <p>
+ * 密行列の G は, 第 <i>i</i> 行が配列 {@code g} の {@code rowOffset[i]} から始まる形式
+ * (対角成分を含む) で与える. <br>
+ * 帯行列の G は, 対角成分を {@code diagonal} に,
+ * (<i>i</i> + <i>j</i> + 1, <i>i</i>) 成分を {@code lower[i * bandWidth + j]} に与える. <br>
+ * いずれも, 引数の配列は結果で上書きされる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class CholeskyRankOneModificationHelper {
+
+    private CholeskyRankOneModificationHelper() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 密行列の G を修正する.
+     * 
+     * @param g G
+     * @param rowOffset G の各行の開始位置
+     * @param w <b>w</b>, 作業領域として破壊される
+     * @param downdate downdate の場合は true
+     * @param threshold downdate において, G'<sub>kk</sub><sup>2</sup> に要求する下限
+     * @return 修正に成功した場合は true, downdate で正定値でなくなった場合は false
+     */
+    static boolean modifyDense(double[] g, int[] rowOffset, double[] w, boolean downdate, double threshold) {
+        final int dimension = w.length;
+        final double sign = downdate ? -1d : 1d;
+        for (int k = 0; k < dimension; k++) {
+            final double w_k = w[k];
+            if (w_k == 0d) {
+                continue;
+            }
+            final int kk = rowOffset[k] + k;
+            final double g_kk = g[kk];
+            final double r;
+            if (downdate) {
+                final double r2 = (g_kk - w_k) * (g_kk + w_k);
+                if (!(r2 >= threshold)) {
+                    return false;
+                }
+                r = Math.sqrt(r2);
+            } else {
+                r = Math.hypot(g_kk, w_k);
+            }
+            final double c = r / g_kk;
+            final double s = w_k / g_kk;
+            g[kk] = r;
+            for (int i = k + 1; i < dimension; i++) {
+                final int ik = rowOffset[i] + k;
+                final double g_ik = (g[ik] + sign * s * w[i]) / c;
+                g[ik] = g_ik;
+                w[i] = c * w[i] - s * g_ik;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 帯行列の G を修正する. <br>
+     * <b>w</b> の非ゼロ成分は, 第 {@code from} 成分から帯幅の範囲に収まっていなければならない.
+     * 
+     * @param diagonal G の対角成分
+     * @param lower G の狭義下三角成分
+     * @param bandWidth 帯幅
+     * @param w <b>w</b>, 作業領域として破壊される
+     * @param from <b>w</b> の最初の非ゼロ成分の位置
+     * @param downdate downdate の場合は true
+     * @param threshold downdate において, G'<sub>kk</sub><sup>2</sup> に要求する下限
+     * @return 修正に成功した場合は true, downdate で正定値でなくなった場合は false
+     */
+    static boolean modifyBand(double[] diagonal, double[] lower, int bandWidth,
+            double[] w, int from, boolean downdate, double threshold) {
+        final int dimension = w.length;
+        final double sign = downdate ? -1d : 1d;
+        for (int k = from; k < dimension; k++) {
+            final double w_k = w[k];
+            if (w_k == 0d) {
+                continue;
+            }
+            final double g_kk = diagonal[k];
+            final double r;
+            if (downdate) {
+                final double r2 = (g_kk - w_k) * (g_kk + w_k);
+                if (!(r2 >= threshold)) {
+                    return false;
+                }
+                r = Math.sqrt(r2);
+            } else {
+                r = Math.hypot(g_kk, w_k);
+            }
+            final double c = r / g_kk;
+            final double s = w_k / g_kk;
+            diagonal[k] = r;
+            //G の第k列は帯の内側にあり, w の非ゼロ成分も k + bandWidth を超えない
+            final int kn = k * bandWidth;
+            for (int j = 0, l = Math.min(bandWidth, dimension - k - 1); j < l; j++) {
+                final int i = k + j + 1;
+                final double g_ik = (lower[kn + j] + sign * s * w[i]) / c;
+                lower[kn + j] = g_ik;
+                w[i] = c * w[i] - s * g_ik;
+            }
+        }
+        return true;
+    }
+}
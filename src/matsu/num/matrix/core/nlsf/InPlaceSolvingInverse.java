@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
+import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricMatrix;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+
+/**
+ * 行列分解の成分から, 1本の作業配列上で直接求解する逆行列を扱う.
+ * 
+ * <p>
+ * 置換, 前進代入, 対角成分による除算, 後退代入を個別の行列の積として合成すると,
+ * 1回の求解ごとに段数分の中間ベクトルが生成される. <br>
+ * このクラスが生成する逆行列は, 作用ベクトルを出力先の配列にコピーし,
+ * その配列上で全ての段を実行する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class InPlaceSolvingInverse {
+
+    private InPlaceSolvingInverse() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 作業配列上で線形連立方程式を解くソルバ.
+     */
+    static interface Solver {
+
+        /**
+         * <b>w</b> &larr; A<sup>-1</sup><b>w</b> を計算する.
+         * 
+         * @param work 作業配列 <b>w</b>
+         */
+        public abstract void solveInPlace(double[] work);
+
+        /**
+         * <b>w</b> &larr; A<sup>-T</sup><b>w</b> を計算する.
+         * 
+         * @param work 作業配列 <b>w</b>
+         */
+        public abstract void solveTransposeInPlace(double[] work);
+
+        /**
+         * <b>w</b> &larr; A<sup>-1</sup><b>b</b> を計算する. <br>
+         * {@code source} は書き換えず, 出力先 {@code out} のみを作業配列として用いる.
+         * 
+         * <p>
+         * 置換を含む分解では, 置換を {@code source} からのコピーに合成することで,
+         * 中間ベクトルを生成せずに求解できる. <br>
+         * デフォルトでは, コピーした後に {@link #solveInPlace(double[])} を実行する.
+         * </p>
+         * 
+         * @param source <b>b</b>, {@code out} とは異なる配列
+         * @param out 出力先 <b>w</b>
+         */
+        public default void solveInto(double[] source, double[] out) {
+            System.arraycopy(source, 0, out, 0, out.length);
+            this.solveInPlace(out);
+        }
+
+        /**
+         * <b>w</b> &larr; A<sup>-T</sup><b>b</b> を計算する. <br>
+         * {@code source} は書き換えず, 出力先 {@code out} のみを作業配列として用いる.
+         * 
+         * <p>
+         * デフォルトでは, コピーした後に {@link #solveTransposeInPlace(double[])} を実行する.
+         * </p>
+         * 
+         * @param source <b>b</b>, {@code out} とは異なる配列
+         * @param out 出力先 <b>w</b>
+         */
+        public default void solveTransposeInto(double[] source, double[] out) {
+            System.arraycopy(source, 0, out, 0, out.length);
+            this.solveTransposeInPlace(out);
+        }
+    }
+
+    /**
+     * 非対称な行列の逆行列を生成する.
+     * 
+     * @param matrixDimension 行列の次元
+     * @param solver ソルバ
+     * @return 逆行列
+     */
+    static Matrix asymmetric(MatrixDimension matrixDimension, Solver solver) {
+        return new AsymmetricInverse(matrixDimension, solver);
+    }
+
+    /**
+     * 対称行列の逆行列を生成する. <br>
+     * {@link Solver#solveTransposeInPlace(double[])} は使用されない.
+     * 
+     * @param matrixDimension 行列の次元
+     * @param solver ソルバ
+     * @return 逆行列, {@link Symmetric} が付与されている
+     */
+    static Matrix symmetric(MatrixDimension matrixDimension, Solver solver) {
+        return new SymmetricInverse(matrixDimension, solver);
+    }
+
+    private static final class AsymmetricInverse extends SkeletalAsymmetricMatrix<Matrix> {
+
+        private final MatrixDimension matrixDimension;
+        private final Solver solver;
+
+        static {
+            //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(AsymmetricInverse.class);
+        }
+
+        AsymmetricInverse(MatrixDimension matrixDimension, Solver solver) {
+            super();
+            this.matrixDimension = matrixDimension;
+            this.solver = solver;
+        }
+
+        @Override
+        public MatrixDimension matrixDimension() {
+            return this.matrixDimension;
+        }
+
+        @Override
+        public Vector operate(Vector operand) {
+            final var resultDimension = this.matrixDimension.leftOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            this.solver.solveInto(VectorEntryAccess.entryReference(operand), out);
+            VectorEntryAccess.modify(out);
+        }
+
+        @Override
+        public Vector operateTranspose(Vector operand) {
+            final var resultDimension = this.matrixDimension.rightOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateTransposeInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateTransposeInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            this.solver.solveTransposeInto(VectorEntryAccess.entryReference(operand), out);
+            VectorEntryAccess.modify(out);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         * 
+         * @return -
+         */
+        @Override
+        protected Matrix createTranspose() {
+            return Matrix.createTransposedOf(this);
+        }
+    }
+
+    private static final class SymmetricInverse extends SkeletalSymmetricMatrix<SymmetricInverse> {
+
+        private final MatrixDimension matrixDimension;
+        private final Solver solver;
+
+        static {
+            //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(SymmetricInverse.class);
+        }
+
+        SymmetricInverse(MatrixDimension matrixDimension, Solver solver) {
+            super();
+            this.matrixDimension = matrixDimension;
+            this.solver = solver;
+        }
+
+        @Override
+        public MatrixDimension matrixDimension() {
+            return this.matrixDimension;
+        }
+
+        @Override
+        public Vector operate(Vector operand) {
+            final var resultDimension = this.matrixDimension.leftOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            this.solver.solveInto(VectorEntryAccess.entryReference(operand), out);
+            VectorEntryAccess.modify(out);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         * 
+         * @return -
+         */
+        @Override
+        protected SymmetricInverse self() {
+            return this;
+        }
+    }
+}
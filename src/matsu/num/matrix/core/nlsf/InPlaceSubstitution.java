@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import matsu.num.matrix.core.common.ArraysUtil;
+
+/**
+ * 行列分解の成分を用いて, 1本の作業配列上で前進/後退代入等を行うユーティリティ. <br>
+ * 作業配列の長さが行列の次元を表す.
+ * 
+ * <p>
+ * 密行列の三角成分は, 第 <i>i</i> 行が配列 {@code t} の {@code rowOffset[i]} から始まる形式で与える. <br>
+ * すなわち, (<i>i</i>, <i>k</i>) 成分は {@code t[rowOffset[i] + k]} である. <br>
+ * 帯行列の下三角成分は, 列ごとに詰めた形式で与える. <br>
+ * すなわち, (<i>i</i> + <i>j</i> + 1, <i>i</i>) 成分は {@code l[i * bandWidth + j]} である. <br>
+ * いずれの場合も, 対角成分は1とみなされ, 参照されない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class InPlaceSubstitution {
+
+    private InPlaceSubstitution() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 密な単位下三角行列 L について, <b>w</b> &larr; L<sup>-1</sup><b>w</b> を計算する.
+     */
+    static void solveUnitLower(double[] t, int[] rowOffset, double[] w) {
+        final int dimension = w.length;
+        for (int i = 1; i < dimension; i++) {
+            w[i] -= ArraysUtil.dot(t, rowOffset[i], w, 0, i);
+        }
+    }
+
+    /**
+     * 密な単位下三角行列 L について, <b>w</b> &larr; L<sup>-T</sup><b>w</b> を計算する. <br>
+     * L の行を連続に読み出すため, 確定した成分を上側へ配る順序で計算する.
+     */
+    static void solveUnitLowerTranspose(double[] t, int[] rowOffset, double[] w) {
+        final int dimension = w.length;
+        for (int k = dimension - 1; k >= 1; k--) {
+            final int tk = rowOffset[k];
+            final double w_k = w[k];
+            for (int i = 0; i < k; i++) {
+                w[i] -= t[tk + i] * w_k;
+            }
+        }
+    }
+
+    /**
+     * 密な単位上三角行列 U について, <b>w</b> &larr; U<sup>-1</sup><b>w</b> を計算する.
+     */
+    static void solveUnitUpper(double[] t, int[] rowOffset, double[] w) {
+        final int dimension = w.length;
+        for (int i = dimension - 2; i >= 0; i--) {
+            w[i] -= ArraysUtil.dot(t, rowOffset[i] + i + 1, w, i + 1, dimension - i - 1);
+        }
+    }
+
+    /**
+     * 密な単位上三角行列 U について, <b>w</b> &larr; U<sup>-T</sup><b>w</b> を計算する. <br>
+     * U の行を連続に読み出すため, 確定した成分を下側へ配る順序で計算する.
+     */
+    static void solveUnitUpperTranspose(double[] t, int[] rowOffset, double[] w) {
+        final int dimension = w.length;
+        for (int k = 0; k < dimension - 1; k++) {
+            final int tk = rowOffset[k];
+            final double w_k = w[k];
+            for (int i = k + 1; i < dimension; i++) {
+                w[i] -= t[tk + i] * w_k;
+            }
+        }
+    }
+
+    /**
+     * 単位下三角帯行列 L について, <b>w</b> &larr; L<sup>-1</sup><b>w</b> を計算する.
+     */
+    static void solveUnitLowerBand(double[] l, int bandWidth, double[] w) {
+        final int dimension = w.length;
+        int in = -bandWidth;
+        for (int i = 0; i < dimension; i++) {
+            in += bandWidth;
+            final double w_i = w[i];
+            for (int j = 0, len = Math.min(bandWidth, dimension - i - 1); j < len; j++) {
+                w[i + j + 1] -= l[in + j] * w_i;
+            }
+        }
+    }
+
+    /**
+     * 単位下三角帯行列 L について, <b>w</b> &larr; L<sup>-T</sup><b>w</b> を計算する.
+     */
+    static void solveUnitLowerBandTranspose(double[] l, int bandWidth, double[] w) {
+        final int dimension = w.length;
+        for (int i = dimension - 1; i >= 0; i--) {
+            w[i] -= ArraysUtil.dot(
+                    l, i * bandWidth, w, i + 1, Math.min(bandWidth, dimension - i - 1));
+        }
+    }
+
+    /**
+     * 対角行列 D について, <b>w</b> &larr; D<sup>-1</sup><b>w</b> を計算する.
+     */
+    static void divide(double[] diagonal, double[] w) {
+        for (int i = 0; i < w.length; i++) {
+            w[i] /= diagonal[i];
+        }
+    }
+
+    /**
+     * 対称三重対角行列 T について, <b>w</b> &larr; T<b>w</b> を計算する. <br>
+     * 劣対角成分の第 <i>i</i> 成分は, (<i>i</i> + 1, <i>i</i>) 成分である.
+     */
+    static void multiplySymmetricTridiagonal(double[] diagonal, double[] subDiagonal, double[] w) {
+        final int dimension = w.length;
+        double w_prev = 0d;
+        for (int i = 0; i < dimension; i++) {
+            final double w_i = w[i];
+            double value = diagonal[i] * w_i;
+            if (i > 0) {
+                value += subDiagonal[i - 1] * w_prev;
+            }
+            if (i < dimension - 1) {
+                value += subDiagonal[i] * w[i + 1];
+            }
+            w[i] = value;
+            w_prev = w_i;
+        }
+    }
+
+    /**
+     * 行の交換の列 (第 <i>i</i> 段で第 <i>i</i> 行と第 {@code pivots[i]} 行を交換) を,
+     * 前から順に作用させる: <b>w</b> &larr; P<sup>-1</sup><b>w</b>.
+     */
+    static void permuteForward(int[] pivots, double[] w) {
+        for (int i = 0; i < pivots.length; i++) {
+            swap(w, i, pivots[i]);
+        }
+    }
+
+    /**
+     * 行の交換の列を, 後ろから順に作用させる: <b>w</b> &larr; P<b>w</b>.
+     */
+    static void permuteBackward(int[] pivots, double[] w) {
+        for (int i = pivots.length - 1; i >= 0; i--) {
+            swap(w, i, pivots[i]);
+        }
+    }
+
+    private static void swap(double[] w, int i, int j) {
+        if (i == j) {
+            return;
+        }
+        final double temp = w[i];
+        w[i] = w[j];
+        w[j] = temp;
+    }
+}
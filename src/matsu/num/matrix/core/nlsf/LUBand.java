@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -15,7 +15,6 @@ import java.util.Optional;
 import matsu.num.matrix.core.BandMatrix;
 import matsu.num.matrix.core.BandMatrixDimension;
 import matsu.num.matrix.core.DiagonalMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.Matrix;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
 import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
@@ -33,6 +32,11 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * これはピボッティングが必要な行列である.
  * </p>
  * 
+ * <p>
+ * 逆行列の作用は, 分解された帯成分を保持する配列から直接,
+ * 前進代入, 対角成分による除算, 後退代入を1本の作業配列上で行うことで計算される.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 public final class LUBand extends SkeletalLUTypeSolver<BandMatrix, Matrix> {
@@ -42,8 +46,17 @@ public final class LUBand extends SkeletalLUTypeSolver<BandMatrix, Matrix> {
     private final BandMatrix matrix;
 
     private final DiagonalMatrix mxD;
-    private final LowerUnitriangular mxL;
-    private final LowerUnitriangular mxUt;
+
+    /*
+     * 求解に用いる, 分解された成分.
+     * L の (i + j + 1, i) 成分は lowerEntry[i * lowerBandWidth + j],
+     * U の (i, i + j + 1) 成分は upperEntry[i * upperBandWidth + j] である.
+     */
+    private final double[] diagonalEntry;
+    private final double[] lowerEntry;
+    private final double[] upperEntry;
+    private final int lowerBandWidth;
+    private final int upperBandWidth;
 
     /**
      * この形式の行列分解を得るためのエグゼキュータを返す.
@@ -66,8 +79,17 @@ public final class LUBand extends SkeletalLUTypeSolver<BandMatrix, Matrix> {
         this.matrix = matrix;
 
         this.mxD = fact.getMxD();
-        this.mxL = fact.getMxL();
-        this.mxUt = fact.getMxUt();
+
+        final double scale = fact.getScale();
+        //対角成分はスケールを反映する(Dと同一)
+        this.diagonalEntry = fact.getFactorizedDiagonalEntry().clone();
+        for (int i = 0; i < this.diagonalEntry.length; i++) {
+            this.diagonalEntry[i] *= scale;
+        }
+        this.lowerEntry = fact.getFactorizedLowerEntry();
+        this.upperEntry = fact.getFactorizedUpperEntry();
+        this.lowerBandWidth = matrix.bandMatrixDimension().lowerBandWidth();
+        this.upperBandWidth = matrix.bandMatrixDimension().upperBandWidth();
     }
 
     @Override
@@ -87,10 +109,25 @@ public final class LUBand extends SkeletalLUTypeSolver<BandMatrix, Matrix> {
         DeterminantValues det =
                 new DeterminantValues(this.mxD.logAbsDeterminant(), this.mxD.signOfDeterminant());
         // A^{-1} = (LDU)^{-1} = U^{-1}D^{-1}L^{-1}
-        Matrix invMatrix = Matrix.multiply(
-                this.mxUt.inverse().get().transpose(),
-                this.mxD.inverse().get(),
-                this.mxL.inverse().get());
+        //U の転置は, L と同一の形式の単位下三角帯行列として扱える
+        Matrix invMatrix = InPlaceSolvingInverse.asymmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        InPlaceSubstitution.solveUnitLowerBand(lowerEntry, lowerBandWidth, work);
+                        InPlaceSubstitution.divide(diagonalEntry, work);
+                        InPlaceSubstitution.solveUnitLowerBandTranspose(upperEntry, upperBandWidth, work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        // A^{-T} = L^{-T}D^{-1}U^{-T}
+                        InPlaceSubstitution.solveUnitLowerBand(upperEntry, upperBandWidth, work);
+                        InPlaceSubstitution.divide(diagonalEntry, work);
+                        InPlaceSubstitution.solveUnitLowerBandTranspose(lowerEntry, lowerBandWidth, work);
+                    }
+                });
         return new InverstibleAndDeterminantStruct<>(det, invMatrix);
     }
 
@@ -5,15 +5,13 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.11.23
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
 import matsu.num.matrix.core.BandMatrix;
 import matsu.num.matrix.core.BandMatrixDimension;
 import matsu.num.matrix.core.DiagonalMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
-import matsu.num.matrix.core.LowerUnitriangularBandMatrix;
 import matsu.num.matrix.core.MatrixDimension;
 
 /**
@@ -36,8 +34,6 @@ final class LUBandFactorizationHelper {
     private final double scale;
 
     private DiagonalMatrix mxD;
-    private LowerUnitriangular mxL;
-    private LowerUnitriangular mxUt;
 
     /**
      * @param matrix 受け入れ可能な行列
@@ -61,12 +57,34 @@ final class LUBandFactorizationHelper {
         return this.mxD;
     }
 
-    LowerUnitriangular getMxL() {
-        return this.mxL;
+    /**
+     * 分解された対角成分 (スケール前の D) を返す.
+     */
+    double[] getFactorizedDiagonalEntry() {
+        return this.mxDiagonalEntry;
+    }
+
+    /**
+     * 分解された狭義下三角成分を返す. <br>
+     * L の (i + j + 1, i) 成分は, 第 {@code i * lowerBandWidth + j} 要素である.
+     */
+    double[] getFactorizedLowerEntry() {
+        return this.mxLowerEntry;
+    }
+
+    /**
+     * 分解された狭義上三角成分を返す. <br>
+     * U の (i, i + j + 1) 成分は, 第 {@code i * upperBandWidth + j} 要素である.
+     */
+    double[] getFactorizedUpperEntry() {
+        return this.mxUpperEntry;
     }
 
-    LowerUnitriangular getMxUt() {
-        return this.mxUt;
+    /**
+     * 分解前に行列に施したスケールを返す.
+     */
+    double getScale() {
+        return this.scale;
     }
 
     /**
@@ -187,29 +205,18 @@ final class LUBandFactorizationHelper {
     }
 
     /**
-     * 分解されたmxEntryを行列オブジェクトに変換.
+     * 分解されたmxEntryから対角行列Dを生成する. <br>
+     * L, U は行列オブジェクトにせず, 配列のまま求解に用いる.
      *
      * @throws ProcessFailedException mxDが正則にならない場合
      */
     private void convertToEachMatrix() throws ProcessFailedException {
         final MatrixDimension thisMatrixDimension = this.bandMatrixDimension.dimension();
         final int thisDimension = thisMatrixDimension.rowAsIntValue();
-        final int thisLowerBandWidth = this.bandMatrixDimension.lowerBandWidth();
-        final int thisUpperBandWidth = this.bandMatrixDimension.upperBandWidth();
-        final BandMatrixDimension lowerBandMatrixDimension = BandMatrixDimension.of(
-                thisMatrixDimension, thisLowerBandWidth, 0);
-        final BandMatrixDimension transposedUpperBandMatrixDimension = BandMatrixDimension.of(
-                thisMatrixDimension, thisUpperBandWidth, 0);
 
         final double[] thisDiagonalEntry = this.mxDiagonalEntry;
-        final double[] thisLowerEntry = this.mxLowerEntry;
-        final double[] thisUpperEntry = this.mxUpperEntry;
 
         DiagonalMatrix.Builder mxDBuilder = DiagonalMatrix.Builder.zeroBuilder(thisMatrixDimension);
-        LowerUnitriangularBandMatrix.Builder mxLBuilder =
-                LowerUnitriangularBandMatrix.Builder.unit(lowerBandMatrixDimension);
-        LowerUnitriangularBandMatrix.Builder mxUtBuilder =
-                LowerUnitriangularBandMatrix.Builder.unit(transposedUpperBandMatrixDimension);
 
         //対角成分
         //スケールを反映
@@ -217,29 +224,7 @@ final class LUBandFactorizationHelper {
             mxDBuilder.setValue(i, thisDiagonalEntry[i] * this.scale);
         }
 
-        //狭義下三角成分
-        for (int i = 0; i < thisDimension; i++) {
-            final int shift = i * thisLowerBandWidth;
-            for (int j = 0, l = Math.min(thisLowerBandWidth, thisDimension - i - 1); j < l; j++) {
-                int r = j + i + 1;
-                int c = i;
-                mxLBuilder.setValue(r, c, thisLowerEntry[shift + j]);
-            }
-        }
-
-        //狭義上三角成分
-        for (int i = 0; i < thisDimension; i++) {
-            final int shift = i * thisUpperBandWidth;
-            for (int j = 0, l = Math.min(thisUpperBandWidth, thisDimension - i - 1); j < l; j++) {
-                int r = j + i + 1;
-                int c = i;
-                mxUtBuilder.setValue(r, c, thisUpperEntry[shift + j]);
-            }
-        }
-
         this.mxD = mxDBuilder.build();
-        this.mxL = mxLBuilder.build();
-        this.mxUt = mxUtBuilder.build();
 
         //スケールの関係で特異になるかもしれないので, 正則判定
         if (this.mxD.signOfDeterminant() == 0) {
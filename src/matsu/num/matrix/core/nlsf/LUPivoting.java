@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -14,13 +14,14 @@ import java.util.Optional;
 
 import matsu.num.matrix.core.DiagonalMatrix;
 import matsu.num.matrix.core.EntryReadableMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.Matrix;
 import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.PermutationMatrix;
+import matsu.num.matrix.core.common.TriangularSolveKernel;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
 import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.helper.value.MultipleRightHandSideSupport;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
 
 /**
@@ -28,6 +29,11 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * これは, 正方行列 A の A = PLDU の形での分解である. <br>
  * ただし, P: 置換行列, L: 単位 (対角成分が1の) 下三角行列, D: 対角行列, U: 単位上三角行列.
  * 
+ * <p>
+ * 逆行列の作用は, 分解された成分を保持する配列から直接,
+ * 行の交換, 前進代入, 対角成分による除算, 後退代入を1本の作業配列上で行うことで計算される.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 public final class LUPivoting extends SkeletalLUTypeSolver<EntryReadableMatrix, Matrix> {
@@ -37,10 +43,18 @@ public final class LUPivoting extends SkeletalLUTypeSolver<EntryReadableMatrix,
     private final EntryReadableMatrix matrix;
 
     private final DiagonalMatrix mxD;
-    private final LowerUnitriangular mxL;
-    private final LowerUnitriangular mxUt;
     private final PermutationMatrix mxP;
 
+    /*
+     * 求解に用いる, 分解された成分.
+     * 行優先の正方行列として, 狭義下三角部分に L, 狭義上三角部分に U を格納する.
+     */
+    private final double[] factorizedEntry;
+    private final int[] rowOffset;
+    private final int[] rowOrder;
+    private final int[] pivots;
+    private final double[] diagonalEntry;
+
     /**
      * この形式の行列分解を得るためのエグゼキュータを返す.
      * 
@@ -64,9 +78,20 @@ public final class LUPivoting extends SkeletalLUTypeSolver<EntryReadableMatrix,
         this.matrix = matrix;
 
         this.mxD = fact.getMxD();
-        this.mxL = fact.getMxL();
-        this.mxUt = fact.getMxUt();
         this.mxP = fact.getMxP();
+
+        final int dimension = matrix.matrixDimension().rowAsIntValue();
+        final double scale = fact.getScale();
+        this.factorizedEntry = fact.getFactorizedEntry();
+        this.rowOrder = fact.getRowOrder();
+        this.pivots = fact.getPivots();
+        this.rowOffset = new int[dimension];
+        this.diagonalEntry = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            this.rowOffset[i] = i * dimension;
+            //対角成分はスケールを反映する(Dと同一)
+            this.diagonalEntry[i] = this.factorizedEntry[i * dimension + i] * scale;
+        }
     }
 
     @Override
@@ -74,6 +99,35 @@ public final class LUPivoting extends SkeletalLUTypeSolver<EntryReadableMatrix,
         return this.matrix;
     }
 
+    /**
+     * @implSpec
+     *               全ての右辺を行優先の作業配列にまとめ,
+     *               行の置換, 前進代入, 対角成分による除算, 後退代入を順に行う.
+     */
+    @Override
+    public void solveInto(double[][] b, double[][] x) {
+        final MatrixDimension targetDimension = this.matrix.matrixDimension();
+        MultipleRightHandSideSupport.validateSolveInto(targetDimension, b, x);
+
+        final int dimension = targetDimension.rowAsIntValue();
+        final int rhsCount = b.length;
+
+        // X = U^{-1}D^{-1}L^{-1}P^{-1}B
+        double[] work = MultipleRightHandSideSupport.gatherColumns(b, this.rowOrder);
+        TriangularSolveKernel.solveUnitLower(
+                this.factorizedEntry, this.rowOffset, work, dimension, rhsCount);
+        int c = 0;
+        for (int i = 0; i < dimension; i++) {
+            final double d = this.diagonalEntry[i];
+            for (int j = 0; j < rhsCount; j++, c++) {
+                work[c] /= d;
+            }
+        }
+        TriangularSolveKernel.solveUnitUpper(
+                this.factorizedEntry, this.rowOffset, work, dimension, rhsCount);
+        MultipleRightHandSideSupport.scatterColumns(work, x);
+    }
+
     /**
      * -
      * 
@@ -87,11 +141,26 @@ public final class LUPivoting extends SkeletalLUTypeSolver<EntryReadableMatrix,
                 this.mxD.logAbsDeterminant(), this.mxP.signOfDeterminant() * this.mxD.signOfDeterminant());
 
         // A^{-1} = (PLDU)^{-1} = U^{-1}D^{-1}L^{-1}P^{-1}
-        Matrix invMatrix = Matrix.multiply(
-                this.mxUt.inverse().get().transpose(),
-                this.mxD.inverse().get(),
-                this.mxL.inverse().get(),
-                this.mxP.inverse().get());
+        Matrix invMatrix = InPlaceSolvingInverse.asymmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        InPlaceSubstitution.permuteForward(pivots, work);
+                        InPlaceSubstitution.solveUnitLower(factorizedEntry, rowOffset, work);
+                        InPlaceSubstitution.divide(diagonalEntry, work);
+                        InPlaceSubstitution.solveUnitUpper(factorizedEntry, rowOffset, work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        // A^{-T} = PL^{-T}D^{-1}U^{-T}
+                        InPlaceSubstitution.solveUnitUpperTranspose(factorizedEntry, rowOffset, work);
+                        InPlaceSubstitution.divide(diagonalEntry, work);
+                        InPlaceSubstitution.solveUnitLowerTranspose(factorizedEntry, rowOffset, work);
+                        InPlaceSubstitution.permuteBackward(pivots, work);
+                    }
+                });
 
         return new InverstibleAndDeterminantStruct<Matrix>(det, invMatrix);
     }
@@ -5,16 +5,15 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.11.23
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
 import matsu.num.matrix.core.DiagonalMatrix;
 import matsu.num.matrix.core.EntryReadableMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
-import matsu.num.matrix.core.LowerUnitriangularMatrix;
 import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.PermutationMatrix;
+import matsu.num.matrix.core.common.MatrixProductKernel;
 
 /**
  * ピボッティング付きLU分解のヘルパ. <br>
@@ -25,17 +24,33 @@ import matsu.num.matrix.core.PermutationMatrix;
  * その定数倍は対角行列Dに押し付ける.
  * </p>
  * 
+ * <p>
+ * 次元が大きい場合, 列方向のパネルごとに分解し,
+ * 残りの部分行列の更新を行列積としてまとめて行うブロック版のアルゴリズムを用いる. <br>
+ * 各成分に対する演算の順序は非ブロック版と同一であり, 結果は一致する.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 final class LUPivotingFactorizationHelper {
 
+    /**
+     * ブロック版のアルゴリズムを用いる次元の下限.
+     */
+    private static final int BLOCKED_THRESHOLD = 192;
+
+    /**
+     * ブロック版のアルゴリズムにおけるパネルの幅.
+     */
+    private static final int BLOCK_SIZE = 64;
+
     private final MatrixDimension matrixDimension;
     private final double[] mxEntry;
+    private final int[] rowOrder;
+    private final int[] pivots;
     private final double scale;
 
     private DiagonalMatrix mxD;
-    private LowerUnitriangular mxL;
-    private LowerUnitriangular mxUt;
     private PermutationMatrix mxP;
 
     /**
@@ -51,7 +66,16 @@ final class LUPivotingFactorizationHelper {
         }
         this.matrixDimension = matrix.matrixDimension();
         this.mxEntry = matrixToArray(matrix);
-        this.factorize(relativeEpsilon);
+        this.rowOrder = new int[this.matrixDimension.rowAsIntValue()];
+        for (int i = 0; i < this.rowOrder.length; i++) {
+            this.rowOrder[i] = i;
+        }
+        this.pivots = new int[this.rowOrder.length];
+        if (this.matrixDimension.rowAsIntValue() >= BLOCKED_THRESHOLD) {
+            this.factorizeBlocked(relativeEpsilon);
+        } else {
+            this.factorize(relativeEpsilon);
+        }
         this.convertToEachMatrix();
     }
 
@@ -59,16 +83,39 @@ final class LUPivotingFactorizationHelper {
         return this.mxD;
     }
 
-    LowerUnitriangular getMxL() {
-        return this.mxL;
+    PermutationMatrix getMxP() {
+        return this.mxP;
     }
 
-    LowerUnitriangular getMxUt() {
-        return this.mxUt;
+    /**
+     * 分解された成分を返す. <br>
+     * 行優先の正方行列として, 狭義下三角部分に L, 対角部分にスケール前の D, 狭義上三角部分に U を格納する.
+     */
+    double[] getFactorizedEntry() {
+        return this.mxEntry;
     }
 
-    PermutationMatrix getMxP() {
-        return this.mxP;
+    /**
+     * 行の並びを返す. <br>
+     * P<sup>-1</sup>A の第 i 行は, A の第 {@code rowOrder[i]} 行である.
+     */
+    int[] getRowOrder() {
+        return this.rowOrder;
+    }
+
+    /**
+     * 行の交換の列を返す. <br>
+     * 分解の第 i 段で, 第 i 行と第 {@code pivots[i]} 行が交換された.
+     */
+    int[] getPivots() {
+        return this.pivots;
+    }
+
+    /**
+     * 分解前に行列に施したスケールを返す.
+     */
+    double getScale() {
+        return this.scale;
     }
 
     /**
@@ -118,6 +165,7 @@ final class LUPivotingFactorizationHelper {
             if (maxValue <= threshold) {
                 throw new ProcessFailedException("singular");
             }
+            this.pivots[i] = maxValueRow;
             if (maxValueRow != i) {
                 this.swapRowsOfArray(i, maxValueRow);
                 mxPBuilder.swapColumns(i, maxValueRow);
@@ -150,7 +198,100 @@ final class LUPivotingFactorizationHelper {
     }
 
     /**
-     * 分解されたmxEntryを行列オブジェクトに変換.
+     * 行列をブロック版のアルゴリズムで分解し, 同時に置換行列Pを決定する.
+     *
+     * @throws ProcessFailedException 行列が特異の場合
+     */
+    private void factorizeBlocked(double threshold) throws ProcessFailedException {
+        PermutationMatrix.Builder mxPBuilder = PermutationMatrix.Builder.unitBuilder(this.matrixDimension);
+
+        final int thisDimension = this.matrixDimension.rowAsIntValue();
+        final double[] thisMxEntry = this.mxEntry;
+
+        for (int i0 = 0; i0 < thisDimension; i0 += BLOCK_SIZE) {
+            final int i1 = Math.min(i0 + BLOCK_SIZE, thisDimension);
+
+            //パネル(列i0からi1-1)の分解
+            for (int i = i0; i < i1; i++) {
+                final int in = i * thisDimension;
+                //部分ピボット選択
+                double maxValue = Math.abs(thisMxEntry[in + i]);
+                int maxValueRow = i;
+                int jn = in;
+                for (int j = i + 1; j < thisDimension; j++) {
+                    jn += thisDimension;
+                    final double temp = Math.abs(thisMxEntry[jn + i]);
+                    if (maxValue < temp) {
+                        maxValue = temp;
+                        maxValueRow = j;
+                    }
+                }
+                if (maxValue <= threshold) {
+                    throw new ProcessFailedException("singular");
+                }
+                this.pivots[i] = maxValueRow;
+                if (maxValueRow != i) {
+                    this.swapRowsOfArray(i, maxValueRow);
+                    mxPBuilder.swapColumns(i, maxValueRow);
+                }
+                //Lの計算
+                final double invD = 1 / thisMxEntry[in + i];
+                jn = in;
+                for (int j = i + 1; j < thisDimension; j++) {
+                    jn += thisDimension;
+                    thisMxEntry[jn + i] *= invD;
+                }
+                //パネル内の前進消去
+                jn = in;
+                for (int j = i + 1; j < thisDimension; j++) {
+                    jn += thisDimension;
+                    final double l_j = thisMxEntry[jn + i];
+                    for (int k = i + 1; k < i1; k++) {
+                        thisMxEntry[jn + k] -= l_j * thisMxEntry[in + k];
+                    }
+                }
+            }
+
+            //パネルの右側の行(i0からi1-1)の前進消去
+            for (int i = i0; i < i1; i++) {
+                final int in = i * thisDimension;
+                int jn = in;
+                for (int j = i + 1; j < i1; j++) {
+                    jn += thisDimension;
+                    final double l_j = thisMxEntry[jn + i];
+                    for (int k = i1; k < thisDimension; k++) {
+                        thisMxEntry[jn + k] -= l_j * thisMxEntry[in + k];
+                    }
+                }
+            }
+
+            //残りの部分行列の更新: A22 <- A22 - L21 * U12
+            final int rest = thisDimension - i1;
+            MatrixProductKernel.multiplyAndAdd(
+                    -1d,
+                    thisMxEntry, i1 * thisDimension + i0, thisDimension,
+                    thisMxEntry, i0 * thisDimension + i1, thisDimension,
+                    thisMxEntry, i1 * thisDimension + i1, thisDimension,
+                    rest, i1 - i0, rest);
+        }
+
+        //Uの計算(対角成分で行をスケール)
+        int in = -thisDimension;
+        for (int i = 0; i < thisDimension; i++) {
+            in += thisDimension;
+            final double invD = 1 / thisMxEntry[in + i];
+            for (int k = i + 1; k < thisDimension; k++) {
+                thisMxEntry[in + k] *= invD;
+            }
+        }
+
+        //置換行列をビルド
+        mxP = mxPBuilder.build();
+    }
+
+    /**
+     * 分解されたmxEntryから対角行列Dを生成する. <br>
+     * L, U は行列オブジェクトにせず, mxEntryのまま求解に用いる.
      *
      * @throws IllegalArgumentException mxDが正則でない場合
      */
@@ -159,29 +300,15 @@ final class LUPivotingFactorizationHelper {
         final double[] thisMxEntry = this.mxEntry;
 
         DiagonalMatrix.Builder mxDBuilder = DiagonalMatrix.Builder.zeroBuilder(this.matrixDimension);
-        LowerUnitriangularMatrix.Builder mxLBuilder =
-                LowerUnitriangularMatrix.Builder.unit(this.matrixDimension);
-        LowerUnitriangularMatrix.Builder mxUtBuilder =
-                LowerUnitriangularMatrix.Builder.unit(this.matrixDimension);
 
         int c = 0;
         for (int j = 0; j < thisDimension; j++) {
-            for (int k = 0; k < j; k++) {
-                mxLBuilder.setValue(j, k, thisMxEntry[c]);
-                c++;
-            }
             //対角成分はスケールを反映する
             mxDBuilder.setValue(j, thisMxEntry[c] * this.scale);
-            c++;
-            for (int k = j + 1; k < thisDimension; k++) {
-                mxUtBuilder.setValue(k, j, thisMxEntry[c]);
-                c++;
-            }
+            c += thisDimension + 1;
         }
 
         this.mxD = mxDBuilder.build();
-        this.mxL = mxLBuilder.build();
-        this.mxUt = mxUtBuilder.build();
 
         //スケールの関係で特異になるかもしれないので, 正則判定
         if (this.mxD.signOfDeterminant() == 0) {
@@ -190,7 +317,8 @@ final class LUPivotingFactorizationHelper {
     }
 
     /**
-     * mxEntryの行列表示に関して, 2つの行を入れ替える.
+     * mxEntryの行列表示に関して, 2つの行を入れ替える. <br>
+     * 同時に, 行の並びを更新する.
      */
     private void swapRowsOfArray(int row1, int row2) {
         if (row1 == row2) {
@@ -207,5 +335,9 @@ final class LUPivotingFactorizationHelper {
             this.mxEntry[i1] = this.mxEntry[i2];
             this.mxEntry[i2] = temp;
         }
+
+        final int tempRow = this.rowOrder[row1];
+        this.rowOrder[row1] = this.rowOrder[row2];
+        this.rowOrder[row2] = tempRow;
     }
 }
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -13,8 +13,12 @@ import java.util.Optional;
 
 import matsu.num.matrix.core.Determinantable;
 import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
 import matsu.num.matrix.core.Inversion;
+import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.PseudoRegularMatrixProcess;
+import matsu.num.matrix.core.helper.value.MultipleRightHandSideSupport;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
 
 /**
@@ -33,6 +37,12 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * と, A の行列式を得られるのがこの分解の特徴である.
  * </p>
  * 
+ * <p>
+ * 複数の右辺を持つ線形連立方程式 AX = B は,
+ * {@link #solve(EntryReadableMatrix)}, {@link #solveInto(double[][], double[][])}
+ * により全ての右辺をまとめて解くことができる.
+ * </p>
+ * 
  * @implSpec
  *               <p>
  *               {@link Inversion}, {@link Determinantable} の規約に従う.
@@ -56,6 +66,64 @@ public interface LUTypeSolver
     @Override
     public abstract EntryReadableMatrix target();
 
+    /**
+     * 複数の右辺を持つ線形連立方程式 AX = B の解 X = A<sup>-1</sup>B を計算する. <br>
+     * A はこの行列分解のターゲット行列, B は右辺を列として並べた行列である.
+     * 
+     * <p>
+     * 結果は {@link #inverse()} を B の各列に作用させた場合と (丸め誤差を除いて) 一致する.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルト実装では, B の列を取り出して
+     *               {@link #solveInto(double[][], double[][])} を呼び出す.
+     * 
+     * @param b B, 右辺行列
+     * @return X, 解行列
+     * @throws MatrixFormatMismatchException B の行数がターゲット行列の次元と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default GeneralMatrix solve(EntryReadableMatrix b) {
+        final MatrixDimension targetDimension = this.target().matrixDimension();
+        final MatrixDimension rhsDimension = b.matrixDimension();
+        MultipleRightHandSideSupport.validateSolve(targetDimension, rhsDimension);
+
+        double[][] columns = MultipleRightHandSideSupport.columnsOf(b);
+        this.solveInto(columns, columns);
+        return MultipleRightHandSideSupport.matrixOfColumns(rhsDimension, columns);
+    }
+
+    /**
+     * 複数の右辺を持つ線形連立方程式 AX = B を解き, 解を与えた配列に書き込む. <br>
+     * A はこの行列分解のターゲット行列である.
+     * 
+     * <p>
+     * 右辺と解は列ベクトルの成分配列の配列で与える. <br>
+     * すなわち, {@code b[j]} は B の第 <i>j</i> 列, {@code x[j]} は X の第 <i>j</i> 列である. <br>
+     * {@code b[j]}, {@code x[j]} の長さは A の次元に一致しなければならない. <br>
+     * {@code b} の値は変更されない ({@code b} と {@code x} は同一でもよい). <br>
+     * 右辺の不正な値, 及び演算結果は {@link matsu.num.matrix.core.Vector}
+     * が扱うことができる値に修正される.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルト実装では, {@link #inverse()} を列ごとに作用させる. <br>
+     *               全ての右辺に対して係数行列の読み込みを共有するため,
+     *               可能な場合はオーバーライドして, 全ての列をまとめて前進/後退代入すべきである.
+     * 
+     * @param b B, 右辺
+     * @param x X, 解の出力先
+     * @throws MatrixFormatMismatchException {@code b} と {@code x} の長さが一致しない場合,
+     *             各列の長さがターゲット行列の次元と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default void solveInto(double[][] b, double[][] x) {
+        final MatrixDimension targetDimension = this.target().matrixDimension();
+        MultipleRightHandSideSupport.validateSolveInto(targetDimension, b, x);
+
+        MultipleRightHandSideSupport.solveEachColumn(targetDimension, this.inverse(), b, x);
+    }
+
     /**
      * 線形連立方程式の解法向けの, 正方行列の行列分解の実行(行列分解を生成する行為)を扱う.
      * 
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -15,7 +15,6 @@ import java.util.Optional;
 import matsu.num.matrix.core.BandMatrix;
 import matsu.num.matrix.core.BandMatrixDimension;
 import matsu.num.matrix.core.DiagonalMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.Matrix;
 import matsu.num.matrix.core.Symmetric;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
@@ -35,7 +34,9 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * </p>
  * 
  * <p>
- * この行列分解が提供する逆行列には {@link Symmetric} が付与されている.
+ * この行列分解が提供する逆行列には {@link Symmetric} が付与されている. <br>
+ * 逆行列の作用は, 分解された帯成分を保持する配列から直接,
+ * 前進代入, 対角成分による除算, 転置による後退代入を1本の作業配列上で行うことで計算される.
  * </p>
  * 
  * @author Matsuura Y.
@@ -47,7 +48,14 @@ public final class ModifiedCholeskyBand extends SkeletalLUTypeSolver<BandMatrix,
     private final BandMatrix matrix;
 
     private final DiagonalMatrix mxD;
-    private final LowerUnitriangular mxL;
+
+    /*
+     * 求解に用いる, 分解された成分.
+     * L の (i + j + 1, i) 成分は lowerEntry[i * bandWidth + j] である.
+     */
+    private final double[] diagonalEntry;
+    private final double[] lowerEntry;
+    private final int bandWidth;
 
     /**
      * この形式の行列分解を得るためのエグゼキュータを返す.
@@ -73,7 +81,15 @@ public final class ModifiedCholeskyBand extends SkeletalLUTypeSolver<BandMatrix,
         this.matrix = matrix;
 
         this.mxD = fact.getMxD();
-        this.mxL = fact.getMxL();
+
+        final double scale = fact.getScale();
+        //対角成分はスケールを反映する(Dと同一)
+        this.diagonalEntry = fact.getFactorizedDiagonalEntry().clone();
+        for (int i = 0; i < this.diagonalEntry.length; i++) {
+            this.diagonalEntry[i] *= scale;
+        }
+        this.lowerEntry = fact.getFactorizedLowerEntry();
+        this.bandWidth = matrix.bandMatrixDimension().lowerBandWidth();
     }
 
     @Override
@@ -93,10 +109,22 @@ public final class ModifiedCholeskyBand extends SkeletalLUTypeSolver<BandMatrix,
         DeterminantValues det =
                 new DeterminantValues(this.mxD.logAbsDeterminant(), this.mxD.signOfDeterminant());
 
-        // A^{-1} = (LD(L^T))^{-1} = L^{-T}D^{-1}L^{-1} = (L^{-T})D^{-1}(L^{-T})^T
-        Matrix invMatrix = Matrix.symmetricMultiply(
-                this.mxD.inverse().get(),
-                this.mxL.inverse().get().transpose());
+        // A^{-1} = (LD(L^T))^{-1} = L^{-T}D^{-1}L^{-1}
+        Matrix invMatrix = InPlaceSolvingInverse.symmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        InPlaceSubstitution.solveUnitLowerBand(lowerEntry, bandWidth, work);
+                        InPlaceSubstitution.divide(diagonalEntry, work);
+                        InPlaceSubstitution.solveUnitLowerBandTranspose(lowerEntry, bandWidth, work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        this.solveInPlace(work);
+                    }
+                });
 
         return new InverstibleAndDeterminantStruct<Matrix>(det, invMatrix);
     }
@@ -5,15 +5,13 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.11.23
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
 import matsu.num.matrix.core.BandMatrix;
 import matsu.num.matrix.core.BandMatrixDimension;
 import matsu.num.matrix.core.DiagonalMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
-import matsu.num.matrix.core.LowerUnitriangularBandMatrix;
 import matsu.num.matrix.core.MatrixDimension;
 
 /**
@@ -35,7 +33,6 @@ final class ModifiedCholeskyBandFactorizationHelper {
     private final double scale;
 
     private DiagonalMatrix mxD;
-    private LowerUnitriangular mxL;
 
     /**
      * @param matrix
@@ -60,8 +57,26 @@ final class ModifiedCholeskyBandFactorizationHelper {
         return this.mxD;
     }
 
-    LowerUnitriangular getMxL() {
-        return this.mxL;
+    /**
+     * 分解された対角成分 (スケール前の D) を返す.
+     */
+    double[] getFactorizedDiagonalEntry() {
+        return this.mxDiagonalEntry;
+    }
+
+    /**
+     * 分解された狭義下三角成分を返す. <br>
+     * L の (i + j + 1, i) 成分は, 第 {@code i * bandWidth + j} 要素である.
+     */
+    double[] getFactorizedLowerEntry() {
+        return this.mxLowerEntry;
+    }
+
+    /**
+     * 分解前に行列に施したスケールを返す.
+     */
+    double getScale() {
+        return this.scale;
     }
 
     /**
@@ -145,23 +160,18 @@ final class ModifiedCholeskyBandFactorizationHelper {
     }
 
     /**
-     * 分解されたmxEntryを行列オブジェクトに変換.
+     * 分解されたmxEntryから対角行列Dを生成する. <br>
+     * L は行列オブジェクトにせず, 配列のまま求解に用いる.
      *
      * @throws ProcessFailedException mxDが特異な場合
      */
     private void convertToEachMatrix() throws ProcessFailedException {
         final MatrixDimension thisMatrixDimension = this.bandMatrixDimension.dimension();
         final int thisDimension = this.bandMatrixDimension.dimension().rowAsIntValue();
-        final int thisLowerBandWidth = this.bandMatrixDimension.lowerBandWidth();
-        final BandMatrixDimension lowerBandMatrixDimension = BandMatrixDimension.of(
-                thisMatrixDimension, thisLowerBandWidth, 0);
 
         final double[] thisDiagonalEntry = this.mxDiagonalEntry;
-        final double[] thisLowerEntry = this.mxLowerEntry;
 
         DiagonalMatrix.Builder mxDBuilder = DiagonalMatrix.Builder.zeroBuilder(thisMatrixDimension);
-        LowerUnitriangularBandMatrix.Builder mxLBuilder =
-                LowerUnitriangularBandMatrix.Builder.unit(lowerBandMatrixDimension);
 
         //対角成分
         //スケールを対角成分へ反映 
@@ -169,18 +179,7 @@ final class ModifiedCholeskyBandFactorizationHelper {
             mxDBuilder.setValue(i, thisDiagonalEntry[i] * this.scale);
         }
 
-        //狭義下三角成分
-        for (int i = 0; i < thisDimension; i++) {
-            final int shift = i * thisLowerBandWidth;
-            for (int j = 0, l = Math.min(thisLowerBandWidth, thisDimension - i - 1); j < l; j++) {
-                int r = j + i + 1;
-                int c = i;
-                mxLBuilder.setValue(r, c, thisLowerEntry[shift + j]);
-            }
-        }
-
         this.mxD = mxDBuilder.build();
-        this.mxL = mxLBuilder.build();
 
         //スケールの関係で特異になるかもしれないので, 正則判定
         if (this.mxD.signOfDeterminant() == 0) {
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -13,10 +13,8 @@ import java.util.Objects;
 import java.util.Optional;
 
 import matsu.num.matrix.core.EntryReadableMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.Matrix;
 import matsu.num.matrix.core.MatrixDimension;
-import matsu.num.matrix.core.PermutationMatrix;
 import matsu.num.matrix.core.Symmetric;
 import matsu.num.matrix.core.helper.value.DeterminantValues;
 import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
@@ -30,7 +28,9 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * M: 1*1 あるいは 2*2の対称ブロック要素を持つブロック対角行列.
  * 
  * <p>
- * この行列分解が提供する逆行列には {@link Symmetric} が付与されている.
+ * この行列分解が提供する逆行列には {@link Symmetric} が付与されている. <br>
+ * 逆行列の作用は, 分解された成分を保持する配列から直接,
+ * 行と列の交換, 前進代入, M<sup>-1</sup> の乗算, 転置による後退代入を1本の作業配列上で行うことで計算される.
  * </p>
  * 
  * @author Matsuura Y.
@@ -43,8 +43,14 @@ public final class ModifiedCholeskyPivoting
     private final EntryReadableMatrix matrix;
 
     private final Block2OrderSymmetricDiagonalMatrix mxM;
-    private final LowerUnitriangular mxL;
-    private final PermutationMatrix mxP;
+
+    /*
+     * 求解に用いる, 分解された成分.
+     * 下三角部分の行詰め表現として, 狭義下三角部分に L を格納する.
+     */
+    private final double[] factorizedLowerEntry;
+    private final int[] rowOffset;
+    private final int[] pivots;
 
     /**
      * この形式の行列分解を得るためのエグゼキュータを返す.
@@ -70,8 +76,15 @@ public final class ModifiedCholeskyPivoting
         this.matrix = matrix;
 
         this.mxM = fact.getMxM();
-        this.mxL = fact.getMxL();
-        this.mxP = fact.getMxP();
+
+        final int dimension = matrix.matrixDimension().rowAsIntValue();
+        this.factorizedLowerEntry = fact.getFactorizedLowerEntry();
+        this.pivots = fact.getPivots();
+        this.rowOffset = new int[dimension];
+        for (int i = 0, c = 0; i < dimension; i++) {
+            this.rowOffset[i] = c;
+            c += i + 1;
+        }
     }
 
     @Override
@@ -91,12 +104,36 @@ public final class ModifiedCholeskyPivoting
         DeterminantValues determinantValues =
                 new DeterminantValues(this.mxM.logAbsDeterminant(), this.mxM.signOfDeterminant());
 
-        // A^{-1} = (PLM(L^T)(P^T))^{-1} = P^{-T}L^{-T}M^{-1}L^{-1}P^{-1} = (P^{-T}L^{-T})M^{-1}(P^{-T}L^{-T})^T
-        Matrix invMatrix = Matrix.symmetricMultiply(
-                this.mxM.inverse().get(),
-                Matrix.multiply(
-                        this.mxP.inverse().get().transpose(),
-                        this.mxL.inverse().get().transpose()));
+        //M^{-1} は M と同じ三重対角の構造を持つ
+        final int dimension = this.matrix.matrixDimension().rowAsIntValue();
+        final Block2OrderSymmetricDiagonalMatrix invM = this.mxM.inverse().get();
+        final double[] invMDiagonal = new double[dimension];
+        final double[] invMSubDiagonal = new double[Math.max(dimension - 1, 0)];
+        for (int i = 0; i < dimension; i++) {
+            invMDiagonal[i] = invM.valueAt(i, i);
+            if (i < dimension - 1) {
+                invMSubDiagonal[i] = invM.valueAt(i + 1, i);
+            }
+        }
+
+        // A^{-1} = (PLM(L^T)(P^T))^{-1} = PL^{-T}M^{-1}L^{-1}P^{-1}
+        Matrix invMatrix = InPlaceSolvingInverse.symmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        InPlaceSubstitution.permuteForward(pivots, work);
+                        InPlaceSubstitution.solveUnitLower(factorizedLowerEntry, rowOffset, work);
+                        InPlaceSubstitution.multiplySymmetricTridiagonal(invMDiagonal, invMSubDiagonal, work);
+                        InPlaceSubstitution.solveUnitLowerTranspose(factorizedLowerEntry, rowOffset, work);
+                        InPlaceSubstitution.permuteBackward(pivots, work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        this.solveInPlace(work);
+                    }
+                });
 
         return new InverstibleAndDeterminantStruct<Matrix>(determinantValues, invMatrix);
     }
@@ -5,15 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.28
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
 import matsu.num.matrix.core.EntryReadableMatrix;
-import matsu.num.matrix.core.LowerUnitriangular;
-import matsu.num.matrix.core.LowerUnitriangularMatrix;
 import matsu.num.matrix.core.MatrixDimension;
-import matsu.num.matrix.core.PermutationMatrix;
 import matsu.num.matrix.core.common.CalcUtil;
 
 /**
@@ -35,11 +32,10 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
     private final MatrixDimension matrixDimension;
     private final double[] mxLowerEntry;
     private final boolean[] pivot22;
+    private final int[] pivots;
     private final double scale;
 
     private Block2OrderSymmetricDiagonalMatrix mxM;
-    private LowerUnitriangular mxL;
-    private PermutationMatrix mxP;
 
     /**
      * @param matrix
@@ -55,6 +51,10 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
         this.matrixDimension = matrix.matrixDimension();
         this.mxLowerEntry = lowerSideOfMatrixToArray(matrix);
         this.pivot22 = new boolean[this.matrixDimension.rowAsIntValue() - 1];
+        this.pivots = new int[this.matrixDimension.rowAsIntValue()];
+        for (int i = 0; i < this.pivots.length; i++) {
+            this.pivots[i] = i;
+        }
         this.factorize(relativeEpsilon);
         this.convertToEachMatrix();
     }
@@ -63,12 +63,22 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
         return this.mxM;
     }
 
-    LowerUnitriangular getMxL() {
-        return this.mxL;
+    /**
+     * 分解された L を返す. <br>
+     * 下三角部分の行詰め表現 (第 i 行が第 {@code i(i + 1)/2} 要素から始まる) であり,
+     * 狭義下三角部分に L を格納する. <br>
+     * M の2*2ブロックに対応する (i + 1, i) 成分は0である.
+     */
+    double[] getFactorizedLowerEntry() {
+        return this.mxLowerEntry;
     }
 
-    PermutationMatrix getMxP() {
-        return this.mxP;
+    /**
+     * 行と列の交換の列を返す. <br>
+     * 第 i 行 (列) と第 {@code pivots[i]} 行 (列) が, i の昇順に交換された.
+     */
+    int[] getPivots() {
+        return this.pivots;
     }
 
     /**
@@ -92,13 +102,11 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
     }
 
     /**
-     * 行列を分解し, 同時に置換行列Pを決定する.
+     * 行列を分解し, 同時に置換を決定する.
      *
      * @throws ProcessFailedException 行列が特異の場合
      */
     private void factorize(double threshold) throws ProcessFailedException {
-        PermutationMatrix.Builder mxPBuilder = PermutationMatrix.Builder.unitBuilder(this.matrixDimension);
-
         final int thisDimension = this.matrixDimension.rowAsIntValue();
         final double[] thisMxEntry = this.mxLowerEntry;
 
@@ -141,11 +149,11 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
                     if (absAii * lambda_r < ALPHA * lambda_1 * lambda_1) {
                         if (Math.abs(thisMxEntry[rn + r]) > ALPHA * lambda_r) {
                             this.swapRowsAndColumnsOfArray(i, r);
-                            mxPBuilder.swapColumns(i, r);
+                            this.pivots[i] = r;
                         } else {
                             if (i + 1 != r) {
                                 this.swapRowsAndColumnsOfArray(i + 1, r);
-                                mxPBuilder.swapColumns(i + 1, r);
+                                this.pivots[i + 1] = r;
                             }
                             exePivot22 = true;
                         }
@@ -201,13 +209,12 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
                 i += 2;
             }
         }
-
-        //置換行列をビルド
-        this.mxP = mxPBuilder.build();
     }
 
     /**
-     * 分解されたmxEntryを行列オブジェクトに変換.
+     * 分解されたmxEntryからブロック対角行列Mを生成する. <br>
+     * L は行列オブジェクトにせず, mxEntryのまま求解に用いる. <br>
+     * そのため, Mの劣対角成分を取り出した位置は0にする.
      *
      * @throws ProcessFailedException mxMが特異な場合
      */
@@ -217,24 +224,14 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
 
         Block2OrderSymmetricDiagonalMatrix.Builder mxMBuilder = Block2OrderSymmetricDiagonalMatrix.Builder
                 .zeroBuilder(this.matrixDimension);
-        LowerUnitriangularMatrix.Builder mxLBuilder =
-                LowerUnitriangularMatrix.Builder.unit(this.matrixDimension);
 
         int c = 0;
         for (int i = 0; i < thisDimension; i++) {
-            for (int k = 0; k < i - 1; k++) {
-                mxLBuilder.setValue(i, k, thisMxEntry[c]);
-                c++;
-            }
-            if (i >= 1) {
-                if (this.pivot22[i - 1]) {
-                    //スケールをMに反映 
-                    mxMBuilder.setSubDiagonal(i - 1, thisMxEntry[c] * this.scale);
-                    c++;
-                } else {
-                    mxLBuilder.setValue(i, i - 1, thisMxEntry[c]);
-                    c++;
-                }
+            c += i;
+            if (i >= 1 && this.pivot22[i - 1]) {
+                //スケールをMに反映 
+                mxMBuilder.setSubDiagonal(i - 1, thisMxEntry[c - 1] * this.scale);
+                thisMxEntry[c - 1] = 0d;
             }
             //スケールをMに反映 
             mxMBuilder.setDiagonal(i, thisMxEntry[c] * this.scale);
@@ -242,7 +239,6 @@ final class ModifiedCholeskyPivotingFactorizationHelper {
         }
 
         this.mxM = mxMBuilder.build();
-        this.mxL = mxLBuilder.build();
 
         //スケールの関係で特異になるかもしれないので, 正則判定
         if (this.mxM.signOfDeterminant() == 0) {
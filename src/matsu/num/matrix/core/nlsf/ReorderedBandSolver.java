@@ -0,0 +1,405 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.PermutationMatrix;
+import matsu.num.matrix.core.PseudoRegularMatrixProcess;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.common.ClassStringUtil;
+import matsu.num.matrix.core.helper.value.DeterminantValues;
+import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
+import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.ReverseCuthillMcKee;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
+
+/**
+ * 帯幅を縮小する並べ替えを行ったスパース行列の, 帯行列としての分解を表す.
+ * 
+ * <p>
+ * スパースな正方行列 A に対し, 逆 Cuthill-McKee 順序付け ({@link ReverseCuthillMcKee})
+ * による置換行列 P を求め, 並べ替えた行列 PAP<sup>T</sup>
+ * を最小の帯構造を持つ帯行列として帯行列向けの分解 ({@link LUBand}, {@link CholeskyBand}) を行う. <br>
+ * 逆行列は元の順序に対して
+ * A<sup>-1</sup> = P<sup>T</sup>(PAP<sup>T</sup>)<sup>-1</sup>P として提供され,
+ * 行列式は det A = det (PAP<sup>T</sup>) である.
+ * </p>
+ * 
+ * <p>
+ * インスタンスは, 一般のスパース行列に対しては {@link #luExecutor()},
+ * スパースな対称行列に対しては {@link #choleskyExecutor()}
+ * のエグゼキュータにより生成される. <br>
+ * 後者の逆行列には {@link Symmetric} が付与されている.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ReorderedBandSolver extends SkeletalLUTypeSolver<EntryReadableMatrix, Matrix> {
+
+    private final EntryReadableMatrix matrix;
+    private final ReverseCuthillMcKee ordering;
+    private final LUTypeSolver bandSolver;
+    private final boolean symmetric;
+
+    /**
+     * 一般のスパース行列を, 並べ替えて帯行列向け LU 分解を行うエグゼキュータを返す.
+     * 
+     * @return エグゼキュータ
+     */
+    public static ReorderedBandSolver.LUExecutor luExecutor() {
+        return LUExecutor.INSTANCE;
+    }
+
+    /**
+     * スパースな対称行列を, 並べ替えて帯行列向け Cholesky 分解を行うエグゼキュータを返す.
+     * 
+     * @return エグゼキュータ
+     */
+    public static ReorderedBandSolver.CholeskyExecutor choleskyExecutor() {
+        return CholeskyExecutor.INSTANCE;
+    }
+
+    /**
+     * エグゼキュータから呼ばれる.
+     */
+    private ReorderedBandSolver(EntryReadableMatrix matrix, ReverseCuthillMcKee ordering,
+            LUTypeSolver bandSolver, boolean symmetric) {
+        this.matrix = matrix;
+        this.ordering = ordering;
+        this.bandSolver = bandSolver;
+        this.symmetric = symmetric;
+    }
+
+    @Override
+    public EntryReadableMatrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * 用いた順序付けを返す.
+     * 
+     * @return 順序付け
+     */
+    public ReverseCuthillMcKee ordering() {
+        return this.ordering;
+    }
+
+    /**
+     * 並べ替えた帯行列 PAP<sup>T</sup> の分解を返す.
+     * 
+     * @return 帯行列の分解
+     */
+    public LUTypeSolver bandSolver() {
+        return this.bandSolver;
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    InverstibleAndDeterminantStruct<Matrix> createInverseDeterminantStruct() {
+        DeterminantValues det = new DeterminantValues(
+                this.bandSolver.logAbsDeterminant(), this.bandSolver.signOfDeterminant());
+
+        // A^{-1} = P^{T}(PAP^{T})^{-1}P
+        final PermutationMatrix pt = this.ordering.permutation().transpose();
+        final Matrix bandInverse = this.bandSolver.inverse();
+        final Matrix invMatrix = this.symmetric
+                ? Matrix.symmetricMultiply(bandInverse, pt)
+                : Matrix.multiply(pt, bandInverse, pt.transpose());
+
+        return new InverstibleAndDeterminantStruct<Matrix>(det, invMatrix);
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    String solverName() {
+        return super.solverName();
+    }
+
+    /**
+     * 並べ替えを行うエグゼキュータの骨格実装.
+     * 
+     * <p>
+     * 受け入れ可能かどうかは並べ替え後の帯構造により決まるため,
+     * 判定には順序付けの計算が必要である. <br>
+     * {@link #apply(EntryReadableMatrix, double)} では,
+     * 順序付けを1度だけ計算し, 判定と分解の両方に用いる.
+     * </p>
+     * 
+     * <p>
+     * {@link SkeletalLUTypeSolver.Executor} と同様に,
+     * このクラスを型として扱うべきではない.
+     * </p>
+     * 
+     * @param <MT> 対応する行列の型
+     */
+    abstract static class ReorderingExecutor<MT extends EntryReadableMatrix>
+            implements LUTypeSolver.Executor<MT> {
+
+        /**
+         * 唯一のコンストラクタ.
+         */
+        ReorderingExecutor() {
+            super();
+        }
+
+        /**
+         * 正方行列の順序付けを計算する.
+         * 
+         * @param matrix 正方行列であることが確定した行列
+         * @return 順序付け
+         */
+        abstract ReverseCuthillMcKee orderingOf(MT matrix);
+
+        /**
+         * 並べ替え後の帯構造に対して, 受け入れ可能かを判定する.
+         * 
+         * @param bandMatrixDimension 並べ替え後の帯構造
+         * @return 判定結果
+         */
+        abstract MatrixStructureAcceptance acceptsBand(BandMatrixDimension bandMatrixDimension);
+
+        /**
+         * 受け入れ可能であることが確定した行列に対して, 計算済みの順序付けを用いて行列分解を実行する.
+         * 
+         * @param matrix 受け入れ可能であることが確定した行列
+         * @param ordering {@code matrix} の順序付け
+         * @param epsilon 正常(0以上の有限数)であることが確定した相対epsilon
+         * @return 行列分解
+         */
+        abstract Optional<ReorderedBandSolver> applyReordered(
+                MT matrix, ReverseCuthillMcKee ordering, double epsilon);
+
+        /**
+         * @throws NullPointerException {@inheritDoc }
+         */
+        @Override
+        public final MatrixStructureAcceptance accepts(MT matrix) {
+            if (!matrix.matrixDimension().isSquare()) {
+                return MatrixRejectionConstant.REJECTED_BY_NOT_SQUARE.get();
+            }
+            return this.acceptsBand(this.orderingOf(matrix).bandMatrixDimension());
+        }
+
+        /**
+         * @throws IllegalArgumentException {@inheritDoc }
+         * @throws NullPointerException {@inheritDoc }
+         */
+        @Override
+        public final Optional<ReorderedBandSolver> apply(MT matrix, double epsilon) {
+            if (!Double.isFinite(epsilon) || epsilon < 0) {
+                throw new IllegalArgumentException(String.format("illegal: epsilon = %s", epsilon));
+            }
+
+            if (!matrix.matrixDimension().isSquare()) {
+                throw MatrixRejectionConstant.REJECTED_BY_NOT_SQUARE.get().getException(matrix);
+            }
+            final ReverseCuthillMcKee ordering = this.orderingOf(matrix);
+            MatrixStructureAcceptance acceptance = this.acceptsBand(ordering.bandMatrixDimension());
+            if (acceptance.isReject()) {
+                throw acceptance.getException(matrix);
+            }
+
+            return this.applyReordered(matrix, ordering, epsilon);
+        }
+
+        @Override
+        public final Optional<ReorderedBandSolver> apply(MT matrix) {
+            return this.apply(matrix, PseudoRegularMatrixProcess.DEFAULT_EPSILON);
+        }
+
+        /**
+         * このインスタンスの文字列表現を返す.
+         */
+        @Override
+        public String toString() {
+            return ClassStringUtil.getClassString(this);
+        }
+    }
+
+    /**
+     * 一般のスパース行列を並べ替えて帯行列向け LU 分解を行うエグゼキュータ.
+     * 
+     * <p>
+     * {@code accepts} メソッドでrejectされる条件は,
+     * {@link LUTypeSolver.Executor} に加えて次のとおりである.
+     * </p>
+     * 
+     * <ul>
+     * <li>並べ替え後の帯行列の有効要素数が大きすぎる場合</li>
+     * </ul>
+     * 
+     * <p>
+     * {@code apply} メソッドで空が返る条件は,
+     * {@link LUBand.Executor} に従う.
+     * </p>
+     * 
+     * <p>
+     * このクラスのインスタンスは, {@link ReorderedBandSolver#luExecutor()} メソッドにより得ることができる. <br>
+     * 実質的にシングルトンである.
+     * </p>
+     */
+    public static final class LUExecutor
+            extends ReorderingExecutor<CsrMatrix> {
+
+        private static final LUExecutor INSTANCE = new LUExecutor();
+
+        /**
+         * 内部から呼ばれる.
+         */
+        private LUExecutor() {
+            super();
+
+            //シングルトンを強制
+            if (Objects.nonNull(INSTANCE)) {
+                throw new AssertionError();
+            }
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final ReverseCuthillMcKee orderingOf(CsrMatrix matrix) {
+            return ReverseCuthillMcKee.of(matrix);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final MatrixStructureAcceptance acceptsBand(BandMatrixDimension bandMatrixDimension) {
+            return GeneralBandMatrix.Builder.accepts(bandMatrixDimension);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final Optional<ReorderedBandSolver> applyReordered(
+                CsrMatrix matrix, ReverseCuthillMcKee ordering, double epsilon) {
+            return LUBand.executor()
+                    .apply(ordering.toGeneralBand(matrix), epsilon)
+                    .map(lu -> new ReorderedBandSolver(matrix, ordering, lu, false));
+        }
+    }
+
+    /**
+     * スパースな対称行列を並べ替えて帯行列向け Cholesky 分解を行うエグゼキュータ.
+     * 
+     * <p>
+     * {@code accepts} メソッドでrejectされる条件は,
+     * {@link LUTypeSolver.Executor} に加えて次のとおりである.
+     * </p>
+     * 
+     * <ul>
+     * <li>並べ替え後の帯行列の有効要素数が大きすぎる場合</li>
+     * </ul>
+     * 
+     * <p>
+     * {@code apply} メソッドで空が返る条件は,
+     * {@link CholeskyBand.Executor} に従う.
+     * </p>
+     * 
+     * <p>
+     * このクラスのインスタンスは, {@link ReorderedBandSolver#choleskyExecutor()} メソッドにより得ることができる. <br>
+     * 実質的にシングルトンである.
+     * </p>
+     */
+    public static final class CholeskyExecutor
+            extends ReorderingExecutor<SymmetricCsrMatrix> {
+
+        private static final CholeskyExecutor INSTANCE = new CholeskyExecutor();
+
+        /**
+         * 内部から呼ばれる.
+         */
+        private CholeskyExecutor() {
+            super();
+
+            //シングルトンを強制
+            if (Objects.nonNull(INSTANCE)) {
+                throw new AssertionError();
+            }
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final ReverseCuthillMcKee orderingOf(SymmetricCsrMatrix matrix) {
+            return ReverseCuthillMcKee.of(matrix);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final MatrixStructureAcceptance acceptsBand(BandMatrixDimension bandMatrixDimension) {
+            return SymmetricBandMatrix.Builder.accepts(bandMatrixDimension);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final Optional<ReorderedBandSolver> applyReordered(
+                SymmetricCsrMatrix matrix, ReverseCuthillMcKee ordering, double epsilon) {
+            return CholeskyBand.executor()
+                    .apply(ordering.toSymmetricBand(matrix), epsilon)
+                    .map(cho -> new ReorderedBandSolver(matrix, ordering, cho, true));
+        }
+    }
+}
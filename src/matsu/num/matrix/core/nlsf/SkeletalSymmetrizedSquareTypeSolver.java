@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.9
+ * 2026.10.16
  */
 package matsu.num.matrix.core.nlsf;
 
@@ -87,7 +87,26 @@ abstract class SkeletalSymmetrizedSquareTypeSolver<
                 this.asymmetricSqrtSupplier.get();
         return new InverstibleAndDeterminantStruct<Matrix>(
                 new DeterminantValues(2 * sqrtMatrixStructure.logAbsDeterminant(), 1),
-                Matrix.symmetrizedSquare(sqrtMatrixStructure.inverse().transpose()));
+                this.createInverse(sqrtMatrixStructure));
+    }
+
+    /**
+     * 逆行列を生成する. <br>
+     * インスタンスが生成されてから一度だけ呼ばれる. <br>
+     * 公開してはいけない.
+     * 
+     * <p>
+     * デフォルトでは, 非対称平方根の逆行列 B<sup>-1</sup> を用いて,
+     * A<sup>-1</sup> = B<sup>-T</sup>B<sup>-1</sup> として生成する. <br>
+     * 分解された成分から直接求解できる場合は, オーバーライドしてよい. <br>
+     * 戻り値には {@link matsu.num.matrix.core.Symmetric} が付与されていなければならない.
+     * </p>
+     * 
+     * @param sqrtMatrixStructure 非対称平方根行列に関する行列分解
+     * @return 逆行列
+     */
+    Matrix createInverse(InversionDeterminantableImplementation<ST, SIT> sqrtMatrixStructure) {
+        return Matrix.symmetrizedSquare(sqrtMatrixStructure.inverse().transpose());
     }
 
     @Override
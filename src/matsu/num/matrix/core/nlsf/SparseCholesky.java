@@ -0,0 +1,668 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
+import matsu.num.matrix.core.helper.value.DeterminantValues;
+import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
+import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
+
+/**
+ * CSR 形式のスパースな対称行列の, フィルインを削減する順序付きの Cholesky 分解を表す. <br>
+ * これは, 正定値対称行列 A の PAP<sup>T</sup> = LL<sup>T</sup> の形での分解である. <br>
+ * ただし, P: 置換行列, L: 正の対角成分を持つ下三角行列であり, L はスパースな形式で保持される. <br>
+ * A = BB<sup>T</sup> の分解として見ると, B = P<sup>T</sup>L である.
+ * 
+ * <p>
+ * 行列が正定値であることが, 分解できることの必要十分条件である.
+ * </p>
+ * 
+ * <p>
+ * 分解は2段階で行われる.
+ * </p>
+ * 
+ * <ol>
+ * <li>記号解析: 非ゼロパターンのみから, 近似最小次数 (AMD) 順序と消去木を求め,
+ * L の非ゼロ構造をスーパーノード (非ゼロ構造が入れ子になる連続する列の組) に分割する.</li>
+ * <li>数値分解: スーパーノードごとに, 子孫のスーパーノードからの更新と分解を密なブロックの演算で行う.</li>
+ * </ol>
+ * 
+ * <p>
+ * ピボットの選択が不要であるため, 記号解析の結果は値に依存しない. <br>
+ * 同一の非ゼロパターンを持つ多数の行列を分解する場合は,
+ * {@link Executor#analyze(SymmetricCsrMatrix)} で記号解析を1度だけ行い,
+ * 得られた {@link AnalyzedExecutor} を繰り返し用いることで, 数値分解のみが行われる.
+ * </p>
+ * 
+ * <p>
+ * この行列分解が提供する逆行列には {@link Symmetric} が付与されている. <br>
+ * 逆行列の作用は, L の非ゼロ成分数に比例する時間で計算される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class SparseCholesky
+        extends SkeletalSymmetrizedSquareTypeSolver<SymmetricCsrMatrix, Matrix, Matrix> {
+
+    private static final double EPSILON_A = 1E-100;
+
+    private final SymmetricCsrMatrix matrix;
+    private final Factor factor;
+
+    /**
+     * この形式の行列分解を得るためのエグゼキュータを返す.
+     * 
+     * @return エグゼキュータ
+     */
+    public static SparseCholesky.Executor executor() {
+        return Executor.INSTANCE;
+    }
+
+    /**
+     * エグゼキュータから呼ばれる.
+     * 
+     * @throws ProcessFailedException 行列が正定値でない場合
+     */
+    private SparseCholesky(final SymmetricCsrMatrix matrix,
+            final SparseCholeskySymbolicAnalysis analysis, final double epsilon)
+            throws ProcessFailedException {
+
+        //ここで例外が発生する可能性がある
+        SparseCholeskyFactorizationHelper fact = new SparseCholeskyFactorizationHelper(
+                analysis, SparseEntryAccess.lowerValue(matrix), matrix.entryNormMax(), epsilon + EPSILON_A);
+
+        this.matrix = matrix;
+        this.factor = new Factor(analysis, fact.value());
+    }
+
+    @Override
+    public SymmetricCsrMatrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * 分解で得られた L のスーパーノードの数を返す.
+     * 
+     * @return スーパーノードの数
+     */
+    public int numberOfSupernodes() {
+        return this.factor.supernodeFirst.length - 1;
+    }
+
+    /**
+     * 分解で得られた L の非ゼロ成分数 (対角成分を含む) を返す.
+     * 
+     * <p>
+     * 元の行列の下三角部分の非ゼロ成分数との差はフィルインの量の目安となる.
+     * </p>
+     * 
+     * @return L の非ゼロ成分数
+     */
+    public long numberOfFactorNonZeros() {
+        long out = 0L;
+        final int[] first = this.factor.supernodeFirst;
+        final int[] rowPointer = this.factor.rowPointer;
+        for (int s = 0, sc = first.length - 1; s < sc; s++) {
+            final long width = first[s + 1] - first[s];
+            final long m = rowPointer[s + 1] - rowPointer[s];
+            out += width * m - width * (width - 1) / 2;
+        }
+        return out;
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    Matrix createInverse(InversionDeterminantableImplementation<Matrix, Matrix> sqrtMatrixStructure) {
+        // A^{-1} = P^{T}L^{-T}L^{-1}P
+        return InPlaceSolvingInverse.symmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        factor.solveInPlace(work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        this.solveInPlace(work);
+                    }
+                });
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    InversionDeterminantableImplementation<Matrix, Matrix> createAsymmetricSqrtSystem() {
+        return new AsymmetricSqrtSystem(this.matrix.matrixDimension(), this.factor);
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    String solverName() {
+        return super.solverName();
+    }
+
+    /**
+     * CSR 形式のスパースな対称行列の Cholesky 分解のエグゼキュータ.
+     * 
+     * <p>
+     * {@code accepts} メソッドでrejectされる条件は,
+     * {@link LUTypeSolver.Executor} に加わる追加条件は無い.
+     * </p>
+     * 
+     * <p>
+     * {@code apply} メソッドで空が返る条件は,
+     * {@link LUTypeSolver.Executor} に加えて次のとおりである.
+     * </p>
+     * 
+     * <ul>
+     * <li>正定値行列でない場合</li>
+     * </ul>
+     * 
+     * <p>
+     * {@code apply} メソッドは, 呼ばれるたびに記号解析と数値分解の両方を行う. <br>
+     * 記号解析を再利用する場合は {@link #analyze(SymmetricCsrMatrix)} を用いる.
+     * </p>
+     * 
+     * <p>
+     * このクラスのインスタンスは, {@link SparseCholesky#executor()} メソッドにより得ることができる. <br>
+     * 実質的にシングルトンである.
+     * </p>
+     */
+    public static final class Executor
+            extends SkeletalLUTypeSolver.Executor<SymmetricCsrMatrix, SparseCholesky> {
+
+        private static final Executor INSTANCE = new Executor();
+
+        /**
+         * 内部から呼ばれる.
+         */
+        private Executor() {
+            super();
+
+            //シングルトンを強制
+            if (Objects.nonNull(INSTANCE)) {
+                throw new AssertionError();
+            }
+        }
+
+        /**
+         * 与えた行列の非ゼロパターンの記号解析を行い,
+         * 同一の非ゼロパターンを持つ行列の分解に特化したエグゼキュータを返す.
+         * 
+         * <p>
+         * 記号解析は行列の値に依存しない. <br>
+         * 戻り値のエグゼキュータは, サイズと非ゼロパターン (下三角部分の構造的非ゼロ成分の位置)
+         * が与えた行列と一致する行列のみを受け入れる.
+         * </p>
+         * 
+         * @param pattern 非ゼロパターンを与える行列
+         * @return 記号解析済みのエグゼキュータ
+         * @throws MatrixFormatMismatchException 正方行列でない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public AnalyzedExecutor analyze(SymmetricCsrMatrix pattern) {
+            if (!pattern.matrixDimension().isSquare()) {
+                throw new MatrixFormatMismatchException(
+                        "not square: %s".formatted(pattern.matrixDimension()));
+            }
+            return new AnalyzedExecutor(new SparseCholeskySymbolicAnalysis(pattern));
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final MatrixStructureAcceptance acceptsConcretely(SymmetricCsrMatrix matrix) {
+            return MatrixStructureAcceptance.ACCEPTED;
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final Optional<SparseCholesky> applyConcretely(SymmetricCsrMatrix matrix, double epsilon) {
+            try {
+                return Optional.of(
+                        new SparseCholesky(matrix, new SparseCholeskySymbolicAnalysis(matrix), epsilon));
+            } catch (ProcessFailedException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * 記号解析済みの, 同一の非ゼロパターンを持つ対称行列の Cholesky 分解のエグゼキュータ.
+     * 
+     * <p>
+     * {@code accepts} メソッドでrejectされる条件は,
+     * {@link LUTypeSolver.Executor} に加えて次のとおりである.
+     * </p>
+     * 
+     * <ul>
+     * <li>記号解析した行列とサイズまたは非ゼロパターンが異なる場合</li>
+     * </ul>
+     * 
+     * <p>
+     * {@code apply} メソッドで空が返る条件は,
+     * {@link LUTypeSolver.Executor} に加えて次のとおりである.
+     * </p>
+     * 
+     * <ul>
+     * <li>正定値行列でない場合</li>
+     * </ul>
+     * 
+     * <p>
+     * {@code apply} メソッドは数値分解のみを行う.
+     * </p>
+     * 
+     * <p>
+     * このクラスのインスタンスは, {@link SparseCholesky.Executor#analyze(SymmetricCsrMatrix)}
+     * メソッドにより得ることができる.
+     * </p>
+     */
+    public static final class AnalyzedExecutor
+            extends SkeletalLUTypeSolver.Executor<SymmetricCsrMatrix, SparseCholesky> {
+
+        private final SparseCholeskySymbolicAnalysis analysis;
+
+        /**
+         * 内部から呼ばれる.
+         */
+        private AnalyzedExecutor(SparseCholeskySymbolicAnalysis analysis) {
+            super();
+            this.analysis = analysis;
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final MatrixStructureAcceptance acceptsConcretely(SymmetricCsrMatrix matrix) {
+            return this.analysis.matchesPattern(matrix)
+                    ? MatrixStructureAcceptance.ACCEPTED
+                    : MatrixRejectionConstant.REJECTED_BY_PATTERN_MISMATCH.get();
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final Optional<SparseCholesky> applyConcretely(SymmetricCsrMatrix matrix, double epsilon) {
+            try {
+                return Optional.of(new SparseCholesky(matrix, this.analysis, epsilon));
+            } catch (ProcessFailedException e) {
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * このインスタンスの文字列表現を返す.
+         */
+        @Override
+        public String toString() {
+            return "%s[%s, supernodes: %s]".formatted(
+                    super.toString(), this.analysis.matrixDimension(), this.analysis.supernodeCount());
+        }
+    }
+
+    /**
+     * スーパーノード形式の L と順序 P を保持し, 作業配列上での演算を提供する.
+     */
+    private static final class Factor {
+
+        private final int[] order;
+        private final int[] identity;
+        private final int[] supernodeFirst;
+        private final int[] rowPointer;
+        private final int[] rowIndex;
+        private final int[] valuePointer;
+        private final double[] value;
+
+        Factor(SparseCholeskySymbolicAnalysis analysis, double[] value) {
+            this.order = analysis.order();
+            this.identity = new int[this.order.length];
+            for (int k = 0; k < this.identity.length; k++) {
+                this.identity[k] = k;
+            }
+            this.supernodeFirst = analysis.supernodeFirst();
+            this.rowPointer = analysis.supernodeRowPointer();
+            this.rowIndex = analysis.supernodeRowIndex();
+            this.valuePointer = analysis.valuePointer();
+            this.value = value;
+        }
+
+        /**
+         * L の対角成分の対数の和を返す.
+         */
+        double logDiagonalSum() {
+            double out = 0d;
+            for (int s = 0, sc = this.supernodeFirst.length - 1; s < sc; s++) {
+                final int width = this.supernodeFirst[s + 1] - this.supernodeFirst[s];
+                final int m = this.rowPointer[s + 1] - this.rowPointer[s];
+                for (int c = 0; c < width; c++) {
+                    out += Math.log(this.value[this.valuePointer[s] + c * m + c]);
+                }
+            }
+            return out;
+        }
+
+        /*
+         * 以下の演算では, 置換を配列の添え字の対応 map に合成する.
+         * ベクトル y の第 k 成分は y[map[k]] に置かれる.
+         */
+
+        /**
+         * <b>y</b> &larr; L<sup>-1</sup><b>y</b>
+         */
+        private void solveLower(double[] y, int[] map) {
+            for (int s = 0, sc = this.supernodeFirst.length - 1; s < sc; s++) {
+                final int f = this.supernodeFirst[s];
+                final int width = this.supernodeFirst[s + 1] - f;
+                final int r0 = this.rowPointer[s];
+                final int m = this.rowPointer[s + 1] - r0;
+                for (int c = 0; c < width; c++) {
+                    final int offset = this.valuePointer[s] + c * m;
+                    final double y_j = y[map[f + c]] / this.value[offset + c];
+                    y[map[f + c]] = y_j;
+                    for (int r = c + 1; r < m; r++) {
+                        y[map[this.rowIndex[r0 + r]]] -= this.value[offset + r] * y_j;
+                    }
+                }
+            }
+        }
+
+        /**
+         * <b>y</b> &larr; L<sup>-T</sup><b>y</b>
+         */
+        private void solveLowerTranspose(double[] y, int[] map) {
+            for (int s = this.supernodeFirst.length - 2; s >= 0; s--) {
+                final int f = this.supernodeFirst[s];
+                final int width = this.supernodeFirst[s + 1] - f;
+                final int r0 = this.rowPointer[s];
+                final int m = this.rowPointer[s + 1] - r0;
+                for (int c = width - 1; c >= 0; c--) {
+                    final int offset = this.valuePointer[s] + c * m;
+                    double sum = y[map[f + c]];
+                    for (int r = c + 1; r < m; r++) {
+                        sum -= this.value[offset + r] * y[map[this.rowIndex[r0 + r]]];
+                    }
+                    y[map[f + c]] = sum / this.value[offset + c];
+                }
+            }
+        }
+
+        /**
+         * <b>w</b> &larr; A<sup>-1</sup><b>w</b> = P<sup>T</sup>L<sup>-T</sup>L<sup>-1</sup>P<b>w</b>
+         */
+        void solveInPlace(double[] work) {
+            //y = Pw の第 k 成分は w[order[k]] であるので, 置換は添え字に合成される
+            this.solveLower(work, this.order);
+            this.solveLowerTranspose(work, this.order);
+        }
+
+        /**
+         * <b>w</b> &larr; B<b>x</b> = P<sup>T</sup>L<b>x</b>
+         */
+        void sqrtInto(double[] source, double[] out) {
+            Arrays.fill(out, 0d);
+            for (int s = 0, sc = this.supernodeFirst.length - 1; s < sc; s++) {
+                final int f = this.supernodeFirst[s];
+                final int width = this.supernodeFirst[s + 1] - f;
+                final int r0 = this.rowPointer[s];
+                final int m = this.rowPointer[s + 1] - r0;
+                for (int c = 0; c < width; c++) {
+                    final int offset = this.valuePointer[s] + c * m;
+                    final double x_j = source[f + c];
+                    for (int r = c; r < m; r++) {
+                        out[this.order[this.rowIndex[r0 + r]]] += this.value[offset + r] * x_j;
+                    }
+                }
+            }
+        }
+
+        /**
+         * <b>w</b> &larr; B<sup>T</sup><b>x</b> = L<sup>T</sup>P<b>x</b>
+         */
+        void sqrtTransposeInto(double[] source, double[] out) {
+            for (int s = 0, sc = this.supernodeFirst.length - 1; s < sc; s++) {
+                final int f = this.supernodeFirst[s];
+                final int width = this.supernodeFirst[s + 1] - f;
+                final int r0 = this.rowPointer[s];
+                final int m = this.rowPointer[s + 1] - r0;
+                for (int c = 0; c < width; c++) {
+                    final int offset = this.valuePointer[s] + c * m;
+                    double sum = 0d;
+                    for (int r = c; r < m; r++) {
+                        sum += this.value[offset + r] * source[this.order[this.rowIndex[r0 + r]]];
+                    }
+                    out[f + c] = sum;
+                }
+            }
+        }
+
+        /**
+         * <b>w</b> &larr; B<sup>-1</sup><b>b</b> = L<sup>-1</sup>P<b>b</b>
+         */
+        void inverseSqrtInto(double[] source, double[] out) {
+            for (int k = 0; k < out.length; k++) {
+                out[k] = source[this.order[k]];
+            }
+            this.solveLower(out, this.identity);
+        }
+
+        /**
+         * <b>w</b> &larr; B<sup>-T</sup><b>b</b> = P<sup>T</sup>L<sup>-T</sup><b>b</b>
+         */
+        void inverseSqrtTransposeInto(double[] source, double[] out) {
+            //第 k 成分を out[order[k]] に置くことで, 最後の置換 P^T を不要にする
+            for (int k = 0; k < out.length; k++) {
+                out[this.order[k]] = source[k];
+            }
+            this.solveLowerTranspose(out, this.order);
+        }
+    }
+
+    private static final class AsymmetricSqrtSystem
+            extends InversionDeterminantableImplementation<Matrix, Matrix> {
+
+        private final MatrixDimension matrixDimension;
+        private final Factor factor;
+
+        private final Matrix asymmSqrt;
+
+        AsymmetricSqrtSystem(MatrixDimension matrixDimension, Factor factor) {
+            super();
+            this.matrixDimension = matrixDimension;
+            this.factor = factor;
+
+            /*
+             * 非対称平方根 B を扱う.
+             * A = P^T L L^T P であるので,
+             * B = P^T L
+             * となる.
+             */
+            this.asymmSqrt = new AsymmetricSqrt(matrixDimension, factor);
+        }
+
+        @Override
+        public Matrix target() {
+            return this.asymmSqrt;
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        InverstibleAndDeterminantStruct<Matrix> createInverseDeterminantStruct() {
+            /*
+             * 非対称平方根 B に関する逆行列, 行列式を扱う.
+             * B = P^T L であるので,
+             * det B = sgn(P) det L,
+             * B^{-1} = L^{-1} P
+             * となる.
+             */
+            final Matrix asymmInvSqrt = InPlaceSolvingInverse.asymmetric(
+                    this.matrixDimension, new InPlaceSolvingInverse.Solver() {
+
+                        @Override
+                        public void solveInPlace(double[] work) {
+                            this.solveInto(work.clone(), work);
+                        }
+
+                        @Override
+                        public void solveTransposeInPlace(double[] work) {
+                            this.solveTransposeInto(work.clone(), work);
+                        }
+
+                        @Override
+                        public void solveInto(double[] source, double[] out) {
+                            factor.inverseSqrtInto(source, out);
+                        }
+
+                        @Override
+                        public void solveTransposeInto(double[] source, double[] out) {
+                            factor.inverseSqrtTransposeInto(source, out);
+                        }
+                    });
+
+            return new InverstibleAndDeterminantStruct<Matrix>(
+                    new DeterminantValues(this.factor.logDiagonalSum(), SparseLU.parity(this.factor.order)),
+                    asymmInvSqrt);
+        }
+    }
+
+    /**
+     * 非対称平方根 B = P<sup>T</sup>L.
+     */
+    private static final class AsymmetricSqrt extends SkeletalAsymmetricMatrix<Matrix> {
+
+        private final MatrixDimension matrixDimension;
+        private final Factor factor;
+
+        static {
+            //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(AsymmetricSqrt.class);
+        }
+
+        AsymmetricSqrt(MatrixDimension matrixDimension, Factor factor) {
+            super();
+            this.matrixDimension = matrixDimension;
+            this.factor = factor;
+        }
+
+        @Override
+        public MatrixDimension matrixDimension() {
+            return this.matrixDimension;
+        }
+
+        @Override
+        public Vector operate(Vector operand) {
+            final var resultDimension = this.matrixDimension.leftOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            this.factor.sqrtInto(VectorEntryAccess.entryReference(operand), out);
+            VectorEntryAccess.modify(out);
+        }
+
+        @Override
+        public Vector operateTranspose(Vector operand) {
+            final var resultDimension = this.matrixDimension.rightOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateTransposeInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateTransposeInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            this.factor.sqrtTransposeInto(VectorEntryAccess.entryReference(operand), out);
+            VectorEntryAccess.modify(out);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         * 
+         * @return -
+         */
+        @Override
+        protected Matrix createTranspose() {
+            return Matrix.createTransposedOf(this);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Arrays;
+
+import matsu.num.matrix.core.common.MatrixProductKernel;
+
+/**
+ * スパース Cholesky 分解の数値分解を, スーパーノードごとに左から順に行う.
+ * 
+ * <p>
+ * スーパーノードの列は L の中で同一の非ゼロ構造を持つため,
+ * その成分は 行数 * 列数 の密なブロックとして格納される. <br>
+ * スーパーノード s の分解では, s の行に非ゼロ成分を持つ子孫のスーパーノード d ごとに,
+ * d のブロックの部分行列どうしの積 L<sub>d,1</sub>L<sub>d,2</sub><sup>T</sup>
+ * を行列積のカーネル ({@link MatrixProductKernel}) で求めて s のブロックから差し引く. <br>
+ * その後 s の対角ブロックを密な Cholesky 分解
+ * ({@link CholeskyFactorizationHelper#factorizeLowerEntry(double[], int, double)}) で分解し,
+ * 対角ブロックより下の部分を, 列方向のパネルごとに行列積による更新とパネル内の前進代入で求める. <br>
+ * 間接参照はブロックの単位でのみ行われ, 演算の大部分は密な行列積となる.
+ * </p>
+ * 
+ * <p>
+ * 結果は PAP<sup>T</sup> = LL<sup>T</sup> であり, L は正の対角成分を持つ下三角行列である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class SparseCholeskyFactorizationHelper {
+
+    /**
+     * 対角ブロックより下の部分の前進代入における, パネルの幅.
+     */
+    private static final int PANEL_WIDTH = 64;
+
+    private final double[] value;
+
+    /**
+     * 分解を実行する.
+     * 
+     * @param analysis 記号解析
+     * @param lowerValue 元の行列の下三角部分の値配列
+     * @param scale 正定値性の判定に用いるスケール (成分の最大絶対値)
+     * @param threshold 正定値性を判定する相対しきい値
+     * @throws ProcessFailedException 行列が正定値でない場合
+     */
+    SparseCholeskyFactorizationHelper(
+            SparseCholeskySymbolicAnalysis analysis, double[] lowerValue, double scale, double threshold)
+            throws ProcessFailedException {
+
+        if (!(scale > 0d)) {
+            throw new ProcessFailedException("zero matrix");
+        }
+
+        final int n = analysis.matrixDimension().rowAsIntValue();
+        final int supernodeCount = analysis.supernodeCount();
+        final int[] first = analysis.supernodeFirst();
+        final int[] columnToSupernode = analysis.columnToSupernode();
+        final int[] rowPointer = analysis.supernodeRowPointer();
+        final int[] rowIndex = analysis.supernodeRowIndex();
+        final int[] valuePointer = analysis.valuePointer();
+        final int[] scatterPointer = analysis.scatterPointer();
+        final int[] scatterRow = analysis.scatterRow();
+        final int[] scatterSource = analysis.scatterSource();
+        final double pivotThreshold = threshold * scale;
+
+        final double[] l = new double[valuePointer[supernodeCount]];
+        this.value = l;
+
+        //行 -> ブロック内の相対位置
+        final int[] relativeIndex = new int[n];
+
+        /*
+         * 更新待ちのスーパーノードの連結リスト:
+         * d は, 次に更新するスーパーノード (nextPosition[d] 番目の行を含む) のリストに入る.
+         */
+        final int[] head = new int[supernodeCount];
+        final int[] next = new int[supernodeCount];
+        final int[] nextPosition = new int[supernodeCount];
+        Arrays.fill(head, -1);
+
+        int maxRowCount = 0;
+        int maxWidth = 0;
+        for (int s = 0; s < supernodeCount; s++) {
+            maxRowCount = Math.max(maxRowCount, rowPointer[s + 1] - rowPointer[s]);
+            maxWidth = Math.max(maxWidth, first[s + 1] - first[s]);
+        }
+        //子孫の部分行列 L_d,1 を行優先に詰め直したもの
+        final double[] packedDescendant = new double[maxRowCount * maxWidth];
+        //子孫からの更新 L_d,1 L_d,2^T (行優先)
+        final double[] update = new double[maxRowCount * maxWidth];
+        //対角ブロックの分解 (下三角部分を行ごとに詰めたもの, および行優先の密な形)
+        final double[] diagonalLowerEntry = new double[maxWidth * (maxWidth + 1) / 2];
+        final double[] diagonalBlock = new double[maxWidth * maxWidth];
+
+        for (int s = 0; s < supernodeCount; s++) {
+            final int f = first[s];
+            final int width = first[s + 1] - f;
+            final int r0 = rowPointer[s];
+            final int m = rowPointer[s + 1] - r0;
+            final int v0 = valuePointer[s];
+
+            for (int t = 0; t < m; t++) {
+                relativeIndex[rowIndex[r0 + t]] = t;
+            }
+
+            //元の行列の成分を配置
+            for (int c = 0; c < width; c++) {
+                final int offset = v0 + c * m;
+                for (int p = scatterPointer[f + c], pe = scatterPointer[f + c + 1]; p < pe; p++) {
+                    l[offset + relativeIndex[scatterRow[p]]] += lowerValue[scatterSource[p]];
+                }
+            }
+
+            //子孫のスーパーノードからの更新
+            int d = head[s];
+            head[s] = -1;
+            while (d >= 0) {
+                final int nextD = next[d];
+
+                final int dWidth = first[d + 1] - first[d];
+                final int dr0 = rowPointer[d];
+                final int dm = rowPointer[d + 1] - dr0;
+                final int dv0 = valuePointer[d];
+                final int p = nextPosition[d];
+                int q = p;
+                while (q < dm && rowIndex[dr0 + q] < f + width) {
+                    q++;
+                }
+
+                /*
+                 * d のブロックの行 [p, dm) を L_d,1, 行 [p, q) を L_d,2 として,
+                 * update = L_d,1 L_d,2^T ((dm - p) * (q - p), 行優先) の下台形部分を計算する.
+                 * ブロックは列優先であるから, L_d,2^T はそのまま行優先の行列として参照できる.
+                 */
+                final int updateRows = dm - p;
+                final int updateColumns = q - p;
+                for (int r = 0; r < updateRows; r++) {
+                    final int packedOffset = r * dWidth;
+                    for (int k = 0; k < dWidth; k++) {
+                        packedDescendant[packedOffset + k] = l[dv0 + k * dm + p + r];
+                    }
+                }
+                Arrays.fill(update, 0, updateRows * updateColumns, 0d);
+                MatrixProductKernel.multiplyAndAddLowerTriangle(
+                        1d,
+                        packedDescendant, 0, dWidth,
+                        l, dv0 + p, dm,
+                        update, 0, updateColumns,
+                        updateColumns, dWidth);
+                if (updateRows > updateColumns) {
+                    MatrixProductKernel.multiplyAndAdd(
+                            1d,
+                            packedDescendant, updateColumns * dWidth, dWidth,
+                            l, dv0 + p, dm,
+                            update, updateColumns * updateColumns, updateColumns,
+                            updateRows - updateColumns, dWidth, updateColumns);
+                }
+
+                //s のブロックへの散布
+                for (int c = 0; c < updateColumns; c++) {
+                    final int offset = v0 + (rowIndex[dr0 + p + c] - f) * m;
+                    for (int r = c; r < updateRows; r++) {
+                        l[offset + relativeIndex[rowIndex[dr0 + p + r]]] -= update[r * updateColumns + c];
+                    }
+                }
+
+                nextPosition[d] = q;
+                if (q < dm) {
+                    final int target = columnToSupernode[rowIndex[dr0 + q]];
+                    next[d] = head[target];
+                    head[target] = d;
+                }
+                d = nextD;
+            }
+
+            factorizeDiagonalBlock(l, v0, m, width, pivotThreshold, diagonalLowerEntry, diagonalBlock);
+            solveBelowDiagonalBlock(l, v0, m, width, diagonalBlock);
+
+            nextPosition[s] = width;
+            if (width < m) {
+                final int target = columnToSupernode[rowIndex[r0 + width]];
+                next[s] = head[target];
+                head[target] = s;
+            }
+        }
+    }
+
+    /**
+     * スーパーノードの対角ブロック (列優先のブロックの先頭 width 行) を密な Cholesky 分解で分解する. <br>
+     * 結果の L<sub>11</sub> はブロックに書き戻され, 行優先の密な形で {@code diagonalBlock} にも格納される.
+     *
+     * @throws ProcessFailedException 行列が正定値でない場合
+     */
+    private static void factorizeDiagonalBlock(
+            double[] l, int v0, int m, int width, double pivotThreshold,
+            double[] diagonalLowerEntry, double[] diagonalBlock) throws ProcessFailedException {
+
+        for (int i = 0, rowStart = 0; i < width; rowStart += ++i) {
+            for (int k = 0; k <= i; k++) {
+                diagonalLowerEntry[rowStart + k] = l[v0 + k * m + i];
+            }
+        }
+
+        //LD^{1/2}D^{1/2}L^T (L: 単位下三角) の形で分解される
+        CholeskyFactorizationHelper.factorizeLowerEntry(diagonalLowerEntry, width, pivotThreshold);
+
+        for (int i = 0, rowStart = 0; i < width; rowStart += ++i) {
+            final double sqrtD_i = diagonalLowerEntry[rowStart + i];
+            if (!Double.isFinite(sqrtD_i)) {
+                throw new ProcessFailedException("not positive definite");
+            }
+            for (int k = 0, kRowStart = 0; k < i; kRowStart += ++k) {
+                final double l_ik = diagonalLowerEntry[rowStart + k] * diagonalLowerEntry[kRowStart + k];
+                diagonalBlock[i * width + k] = l_ik;
+                l[v0 + k * m + i] = l_ik;
+            }
+            diagonalBlock[i * width + i] = sqrtD_i;
+            l[v0 + i * m + i] = sqrtD_i;
+        }
+    }
+
+    /**
+     * スーパーノードのブロックの対角ブロックより下の部分 (行 [width, m)) について,
+     * L<sub>21</sub> = A<sub>21</sub>L<sub>11</sub><sup>-T</sup> を計算する. <br>
+     * 列方向のパネルごとに, 左側の列からの寄与を行列積で差し引いた後, パネル内で前進代入を行う.
+     */
+    private static void solveBelowDiagonalBlock(
+            double[] l, int v0, int m, int width, double[] diagonalBlock) {
+
+        final int belowRows = m - width;
+        if (belowRows == 0) {
+            return;
+        }
+
+        /*
+         * ブロックは列優先であるから, L_21^T (width * belowRows) は
+         * 位置 v0 + width, 行の間隔 m の行優先の行列として参照できる.
+         */
+        final int below0 = v0 + width;
+        for (int c0 = 0; c0 < width; c0 += PANEL_WIDTH) {
+            final int c1 = Math.min(c0 + PANEL_WIDTH, width);
+
+            //L_21^T[c0, c1) -= L_11[c0, c1) * L_21^T[0, c0)
+            if (c0 > 0) {
+                MatrixProductKernel.multiplyAndAdd(
+                        -1d,
+                        diagonalBlock, c0 * width, width,
+                        l, below0, m,
+                        l, below0 + c0 * m, m,
+                        c1 - c0, c0, belowRows);
+            }
+
+            for (int c = c0; c < c1; c++) {
+                final int offset = below0 + c * m;
+                for (int k = c0; k < c; k++) {
+                    final double l_ck = diagonalBlock[c * width + k];
+                    if (l_ck == 0d) {
+                        continue;
+                    }
+                    final int kOffset = below0 + k * m;
+                    for (int r = 0; r < belowRows; r++) {
+                        l[offset + r] -= l[kOffset + r] * l_ck;
+                    }
+                }
+                final double invL_cc = 1 / diagonalBlock[c * width + c];
+                for (int r = 0; r < belowRows; r++) {
+                    l[offset + r] *= invL_cc;
+                }
+            }
+        }
+    }
+
+    /**
+     * スーパーノードごとの密なブロックを連結した, L の値を返す.
+     */
+    double[] value() {
+        return this.value;
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Arrays;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+
+/**
+ * スパース Cholesky 分解の記号解析 (値に依存しない前処理) の結果を扱う.
+ * 
+ * <p>
+ * 記号解析では, 行列の非ゼロパターンのみから次を計算する.
+ * </p>
+ * 
+ * <ul>
+ * <li>近似最小次数 (AMD) 順序を消去木の後行順序で並べ替えた, 行と列の順序</li>
+ * <li>消去木と, L の各列の非ゼロ成分数</li>
+ * <li>スーパーノード (L の非ゼロ構造が入れ子になる連続する列の組) の分割と,
+ * 各スーパーノードの行index</li>
+ * <li>並べ替え後の下三角部分の列ごとの成分と, 元の行列の格納位置との対応</li>
+ * </ul>
+ * 
+ * <p>
+ * Cholesky 分解ではピボットの選択が不要であるため,
+ * L の非ゼロ構造は非ゼロパターンのみで決まり, 同一の非ゼロパターンを持つ行列に対して再利用できる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class SparseCholeskySymbolicAnalysis {
+
+    private final MatrixDimension matrixDimension;
+
+    /*
+     * 解析した行列の下三角部分の CSR パターン (参照を保持する, 書き換えてはならない).
+     */
+    private final int[] rowPointer;
+    private final int[] columnIndex;
+
+    /**
+     * 順序: 並べ替え後の k 番目は元の order[k].
+     */
+    private final int[] order;
+
+    /*
+     * 並べ替え後の下三角部分の列ごとの成分:
+     * 列 j の成分の行index (j 以上) は scatterRow[scatterPointer[j]] から
+     * scatterRow[scatterPointer[j + 1] - 1] であり,
+     * その値は元の行列の値配列の scatterSource の位置にある.
+     */
+    private final int[] scatterPointer;
+    private final int[] scatterRow;
+    private final int[] scatterSource;
+
+    /*
+     * スーパーノード s は列 supernodeFirst[s] 以上 supernodeFirst[s + 1] 未満からなる.
+     * その行indexは supernodeRowIndex[supernodeRowPointer[s]] から昇順に並び,
+     * 先頭はスーパーノード自身の列である.
+     * 数値は, 行数 * 列数 の列優先の密なブロックとして valuePointer[s] の位置から格納される.
+     */
+    private final int[] supernodeFirst;
+    private final int[] columnToSupernode;
+    private final int[] supernodeRowPointer;
+    private final int[] supernodeRowIndex;
+    private final int[] valuePointer;
+
+    /**
+     * 行列の非ゼロパターンを解析する.
+     * 
+     * @param matrix 正方行列
+     */
+    SparseCholeskySymbolicAnalysis(SymmetricCsrMatrix matrix) {
+        this.matrixDimension = matrix.matrixDimension();
+        this.rowPointer = SparseEntryAccess.lowerRowPointer(matrix);
+        this.columnIndex = SparseEntryAccess.lowerColumnIndex(matrix);
+
+        final int n = this.matrixDimension.rowAsIntValue();
+
+        //AMD 順序を消去木の後行順序で並べ替える (フィルインは変わらず, スーパーノードが連続する)
+        final int[] amdOrder = this.computeAmdOrder();
+        final int[] amdParent = eliminationTree(this.permutedLowerRows(inverseOf(amdOrder)), n);
+        final int[] post = postorder(amdParent);
+        this.order = new int[n];
+        for (int k = 0; k < n; k++) {
+            this.order[k] = amdOrder[post[k]];
+        }
+        final int[] orderInverse = inverseOf(this.order);
+
+        final int[][] rows = this.permutedLowerRows(orderInverse);
+        final int[] parent = eliminationTree(rows, n);
+
+        //L の各列の非ゼロ成分数 (対角を含む) を, 行部分木をたどって数える
+        final int[] columnCount = new int[n];
+        final int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+        for (int k = 0; k < n; k++) {
+            columnCount[k]++;
+            mark[k] = k;
+            for (int p = rows[0][k], pe = rows[0][k + 1]; p < pe; p++) {
+                for (int j = rows[1][p]; mark[j] != k; j = parent[j]) {
+                    mark[j] = k;
+                    columnCount[j]++;
+                }
+            }
+        }
+
+        //基本スーパーノード: 消去木で唯一の子を親とし, 非ゼロ構造が1行ずつ短くなる列を併合する
+        final int[] childCount = new int[n];
+        for (int j = 0; j < n; j++) {
+            if (parent[j] >= 0) {
+                childCount[parent[j]]++;
+            }
+        }
+        this.columnToSupernode = new int[n];
+        int[] first = new int[n + 1];
+        int supernodeCount = 0;
+        for (int j = 0; j < n; j++) {
+            final boolean merge = j > 0
+                    && parent[j - 1] == j
+                    && childCount[j] == 1
+                    && columnCount[j - 1] == columnCount[j] + 1;
+            if (!merge) {
+                first[supernodeCount++] = j;
+            }
+            this.columnToSupernode[j] = supernodeCount - 1;
+        }
+        first[supernodeCount] = n;
+        this.supernodeFirst = Arrays.copyOf(first, supernodeCount + 1);
+
+        //各スーパーノードの先頭列の行index
+        this.supernodeRowPointer = new int[supernodeCount + 1];
+        this.valuePointer = new int[supernodeCount + 1];
+        for (int s = 0; s < supernodeCount; s++) {
+            final int rowCount = columnCount[this.supernodeFirst[s]];
+            final int width = this.supernodeFirst[s + 1] - this.supernodeFirst[s];
+            this.supernodeRowPointer[s + 1] = this.supernodeRowPointer[s] + rowCount;
+            this.valuePointer[s + 1] = Math.addExact(this.valuePointer[s], Math.multiplyExact(rowCount, width));
+        }
+        this.supernodeRowIndex = new int[this.supernodeRowPointer[supernodeCount]];
+        {
+            final int[] position = Arrays.copyOf(this.supernodeRowPointer, supernodeCount);
+            Arrays.fill(mark, -1);
+            for (int k = 0; k < n; k++) {
+                mark[k] = k;
+                this.appendIfFirst(k, k, position);
+                for (int p = rows[0][k], pe = rows[0][k + 1]; p < pe; p++) {
+                    for (int j = rows[1][p]; mark[j] != k; j = parent[j]) {
+                        mark[j] = k;
+                        this.appendIfFirst(j, k, position);
+                    }
+                }
+            }
+        }
+
+        //並べ替え後の下三角部分を列ごとにまとめる
+        final int nnz = this.columnIndex.length;
+        this.scatterPointer = new int[n + 1];
+        this.scatterRow = new int[nnz];
+        this.scatterSource = new int[nnz];
+        for (int i = 0; i < n; i++) {
+            for (int p = this.rowPointer[i], pe = this.rowPointer[i + 1]; p < pe; p++) {
+                final int a = orderInverse[i];
+                final int b = orderInverse[this.columnIndex[p]];
+                this.scatterPointer[Math.min(a, b) + 1]++;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            this.scatterPointer[j + 1] += this.scatterPointer[j];
+        }
+        {
+            final int[] position = Arrays.copyOf(this.scatterPointer, n);
+            for (int i = 0; i < n; i++) {
+                for (int p = this.rowPointer[i], pe = this.rowPointer[i + 1]; p < pe; p++) {
+                    final int a = orderInverse[i];
+                    final int b = orderInverse[this.columnIndex[p]];
+                    final int c = position[Math.min(a, b)]++;
+                    this.scatterRow[c] = Math.max(a, b);
+                    this.scatterSource[c] = p;
+                }
+            }
+        }
+    }
+
+    /**
+     * 列 j がスーパーノードの先頭列ならば, その行indexに k を加える.
+     */
+    private void appendIfFirst(int j, int k, int[] position) {
+        final int s = this.columnToSupernode[j];
+        if (this.supernodeFirst[s] == j) {
+            this.supernodeRowIndex[position[s]++] = k;
+        }
+    }
+
+    /**
+     * 対称な非ゼロパターン (対角を除く) を作り, AMD 順序を計算する.
+     */
+    private int[] computeAmdOrder() {
+        final int n = this.matrixDimension.rowAsIntValue();
+
+        //下三角部分の各成分は1度だけ現れるため, 重複は生じない
+        final int[] adjacencyPointer = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int p = this.rowPointer[i], pe = this.rowPointer[i + 1]; p < pe; p++) {
+                final int j = this.columnIndex[p];
+                if (i != j) {
+                    adjacencyPointer[i + 1]++;
+                    adjacencyPointer[j + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            adjacencyPointer[i + 1] += adjacencyPointer[i];
+        }
+        final int[] adjacency = new int[adjacencyPointer[n]];
+        final int[] position = Arrays.copyOf(adjacencyPointer, n);
+        for (int i = 0; i < n; i++) {
+            for (int p = this.rowPointer[i], pe = this.rowPointer[i + 1]; p < pe; p++) {
+                final int j = this.columnIndex[p];
+                if (i != j) {
+                    adjacency[position[i]++] = j;
+                    adjacency[position[j]++] = i;
+                }
+            }
+        }
+
+        return ApproximateMinimumDegree.order(adjacencyPointer, adjacency);
+    }
+
+    /**
+     * 並べ替え後の狭義下三角部分の行ごとの列indexを,
+     * {行ポインタ, 列index} の組として返す.
+     */
+    private int[][] permutedLowerRows(int[] orderInverse) {
+        final int n = this.matrixDimension.rowAsIntValue();
+
+        final int[] pointer = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int p = this.rowPointer[i], pe = this.rowPointer[i + 1]; p < pe; p++) {
+                final int a = orderInverse[i];
+                final int b = orderInverse[this.columnIndex[p]];
+                if (a != b) {
+                    pointer[Math.max(a, b) + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            pointer[i + 1] += pointer[i];
+        }
+        final int[] index = new int[pointer[n]];
+        final int[] position = Arrays.copyOf(pointer, n);
+        for (int i = 0; i < n; i++) {
+            for (int p = this.rowPointer[i], pe = this.rowPointer[i + 1]; p < pe; p++) {
+                final int a = orderInverse[i];
+                final int b = orderInverse[this.columnIndex[p]];
+                if (a != b) {
+                    index[position[Math.max(a, b)]++] = Math.min(a, b);
+                }
+            }
+        }
+        return new int[][] { pointer, index };
+    }
+
+    /**
+     * 狭義下三角部分の行ごとの列indexから, 消去木を計算する (Liu の方法). <br>
+     * 根の親は -1 である.
+     */
+    private static int[] eliminationTree(int[][] rows, int n) {
+        final int[] parent = new int[n];
+        final int[] ancestor = new int[n];
+        for (int k = 0; k < n; k++) {
+            parent[k] = -1;
+            ancestor[k] = -1;
+            for (int p = rows[0][k], pe = rows[0][k + 1]; p < pe; p++) {
+                int i = rows[1][p];
+                while (i >= 0 && i < k) {
+                    final int next = ancestor[i];
+                    ancestor[i] = k;
+                    if (next < 0) {
+                        parent[i] = k;
+                    }
+                    i = next;
+                }
+            }
+        }
+        return parent;
+    }
+
+    /**
+     * 森の後行順序を返す: post[k] は k 番目に訪れる節点.
+     */
+    private static int[] postorder(int[] parent) {
+        final int n = parent.length;
+        final int[] head = new int[n];
+        final int[] next = new int[n];
+        Arrays.fill(head, -1);
+        //子を番号の昇順にたどるため, 降順に積む
+        for (int j = n - 1; j >= 0; j--) {
+            if (parent[j] >= 0) {
+                next[j] = head[parent[j]];
+                head[parent[j]] = j;
+            }
+        }
+
+        final int[] post = new int[n];
+        final int[] stack = new int[n];
+        int k = 0;
+        for (int root = 0; root < n; root++) {
+            if (parent[root] >= 0) {
+                continue;
+            }
+            int top = 0;
+            stack[0] = root;
+            while (top >= 0) {
+                final int p = stack[top];
+                final int child = head[p];
+                if (child < 0) {
+                    top--;
+                    post[k++] = p;
+                } else {
+                    head[p] = next[child];
+                    stack[++top] = child;
+                }
+            }
+        }
+        return post;
+    }
+
+    private static int[] inverseOf(int[] permutation) {
+        final int[] out = new int[permutation.length];
+        for (int k = 0; k < permutation.length; k++) {
+            out[permutation[k]] = k;
+        }
+        return out;
+    }
+
+    /**
+     * 行列サイズを返す.
+     */
+    MatrixDimension matrixDimension() {
+        return this.matrixDimension;
+    }
+
+    /**
+     * 与えた行列が, 解析した行列と同一のサイズと非ゼロパターンを持つかを判定する.
+     * 
+     * @param matrix 行列
+     * @return 同一ならtrue
+     */
+    boolean matchesPattern(SymmetricCsrMatrix matrix) {
+        if (!this.matrixDimension.equals(matrix.matrixDimension())) {
+            return false;
+        }
+        final int[] otherRowPointer = SparseEntryAccess.lowerRowPointer(matrix);
+        final int[] otherColumnIndex = SparseEntryAccess.lowerColumnIndex(matrix);
+        return (otherRowPointer == this.rowPointer || Arrays.equals(otherRowPointer, this.rowPointer))
+                && (otherColumnIndex == this.columnIndex || Arrays.equals(otherColumnIndex, this.columnIndex));
+    }
+
+    /**
+     * 順序を返す (書き換えてはならない).
+     */
+    int[] order() {
+        return this.order;
+    }
+
+    int[] scatterPointer() {
+        return this.scatterPointer;
+    }
+
+    int[] scatterRow() {
+        return this.scatterRow;
+    }
+
+    int[] scatterSource() {
+        return this.scatterSource;
+    }
+
+    int[] supernodeFirst() {
+        return this.supernodeFirst;
+    }
+
+    int[] columnToSupernode() {
+        return this.columnToSupernode;
+    }
+
+    int[] supernodeRowPointer() {
+        return this.supernodeRowPointer;
+    }
+
+    int[] supernodeRowIndex() {
+        return this.supernodeRowIndex;
+    }
+
+    int[] valuePointer() {
+        return this.valuePointer;
+    }
+
+    /**
+     * スーパーノードの数を返す.
+     */
+    int supernodeCount() {
+        return this.supernodeFirst.length - 1;
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.helper.value.DeterminantValues;
+import matsu.num.matrix.core.helper.value.InverstibleAndDeterminantStruct;
+import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
+
+/**
+ * CSR 形式のスパースな正方行列の, フィルインを削減する列順序付きの LU 分解を表す. <br>
+ * これは, 正方行列 A の PAQ = LU の形での分解である. <br>
+ * ただし, P, Q: 置換行列, L: 単位下三角行列, U: 上三角行列であり,
+ * L, U はスパースな形式で保持される.
+ * 
+ * <p>
+ * 分解は2段階で行われる.
+ * </p>
+ * 
+ * <ol>
+ * <li>記号解析: 非ゼロパターンのみから, 列の順序 Q を
+ * A + A<sup>T</sup> のパターンに対する近似最小次数 (AMD) 順序として決める.</li>
+ * <li>数値分解: Q の順に1列ずつ, スパースな前進代入で L, U の列を求める (Gilbert-Peierls 法). <br>
+ * ピボットはしきい値付き部分ピボッティングにより選ばれ,
+ * 対角成分が十分大きい場合は対角成分が優先される.</li>
+ * </ol>
+ * 
+ * <p>
+ * 同一の非ゼロパターンを持つ多数の行列を分解する場合は,
+ * {@link Executor#analyze(CsrMatrix)} で記号解析を1度だけ行い,
+ * 得られた {@link AnalyzedExecutor} を繰り返し用いることができる.
+ * </p>
+ * 
+ * <p>
+ * 逆行列の作用は, L, U の非ゼロ成分数に比例する時間で計算される. <br>
+ * 密行列の分解 ({@link LUPivoting}) とは異なり, 有効要素数による受け入れ拒否は行われない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class SparseLU extends SkeletalLUTypeSolver<CsrMatrix, Matrix> {
+
+    private static final double EPSILON_A = 1E-100;
+
+    private final CsrMatrix matrix;
+
+    /*
+     * PAQ = LU.
+     * L, U は列ごとに格納され, 行indexはピボットの順序である.
+     * L の各列の先頭は対角成分 (値1), U の各列の末尾は対角成分.
+     */
+    private final int[] lowerPointer;
+    private final int[] lowerIndex;
+    private final double[] lowerValue;
+    private final int[] upperPointer;
+    private final int[] upperIndex;
+    private final double[] upperValue;
+
+    /**
+     * 行 i は rowInverseOrder[i] 番目のピボット.
+     */
+    private final int[] rowInverseOrder;
+
+    /**
+     * k 番目に分解された列は columnOrder[k].
+     */
+    private final int[] columnOrder;
+
+    /**
+     * この形式の行列分解を得るためのエグゼキュータを返す.
+     * 
+     * @return エグゼキュータ
+     */
+    public static final SparseLU.Executor executor() {
+        return Executor.INSTANCE;
+    }
+
+    /**
+     * エグゼキュータから呼ばれる.
+     * 
+     * @throws ProcessFailedException 行列が特異に近い場合
+     */
+    private SparseLU(final CsrMatrix matrix, final SparseLUSymbolicAnalysis analysis, final double epsilon)
+            throws ProcessFailedException {
+
+        //ここで例外が発生する可能性がある
+        SparseLUFactorizationHelper fact = new SparseLUFactorizationHelper(
+                analysis, analysis.cscValueOf(matrix), matrix.entryNormMax(), epsilon + EPSILON_A);
+
+        this.matrix = matrix;
+
+        this.lowerPointer = fact.lowerPointer();
+        this.lowerIndex = fact.lowerIndex();
+        this.lowerValue = fact.lowerValue();
+        this.upperPointer = fact.upperPointer();
+        this.upperIndex = fact.upperIndex();
+        this.upperValue = fact.upperValue();
+        this.rowInverseOrder = fact.rowInverseOrder();
+        this.columnOrder = analysis.columnOrder();
+    }
+
+    @Override
+    public CsrMatrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * 分解で得られた L, U の非ゼロ成分数の和 (対角成分を含む) を返す.
+     * 
+     * <p>
+     * L の対角成分 (値1) も数えられる. <br>
+     * 元の行列の非ゼロ成分数との差はフィルインの量の目安となる.
+     * </p>
+     * 
+     * @return L, U の非ゼロ成分数の和
+     */
+    public int numberOfFactorNonZeros() {
+        return this.lowerValue.length + this.upperValue.length;
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    InverstibleAndDeterminantStruct<Matrix> createInverseDeterminantStruct() {
+        final int n = this.rowInverseOrder.length;
+
+        double logAbsDet = 0d;
+        int sign = parity(this.rowInverseOrder) * parity(this.columnOrder);
+        for (int k = 0; k < n; k++) {
+            final double u_kk = this.upperValue[this.upperPointer[k + 1] - 1];
+            logAbsDet += Math.log(Math.abs(u_kk));
+            if (u_kk < 0) {
+                sign = -sign;
+            }
+        }
+        DeterminantValues det = new DeterminantValues(logAbsDet, sign);
+
+        //k 番目のピボットは行 rowOrder[k]
+        final int[] rowOrder = new int[n];
+        for (int i = 0; i < n; i++) {
+            rowOrder[this.rowInverseOrder[i]] = i;
+        }
+
+        // A^{-1} = QU^{-1}L^{-1}P
+        Matrix invMatrix = InPlaceSolvingInverse.asymmetric(
+                this.matrix.matrixDimension(), new InPlaceSolvingInverse.Solver() {
+
+                    @Override
+                    public void solveInPlace(double[] work) {
+                        this.solveInto(work.clone(), work);
+                    }
+
+                    @Override
+                    public void solveTransposeInPlace(double[] work) {
+                        this.solveTransposeInto(work.clone(), work);
+                    }
+
+                    /*
+                     * ピボット順序の k 番目の成分 y[k] を out[columnOrder[k]] に置くことで,
+                     * 最後の置換 Q を不要にする.
+                     */
+                    @Override
+                    public void solveInto(double[] source, double[] out) {
+                        final int[] q = columnOrder;
+                        for (int i = 0; i < n; i++) {
+                            out[q[rowInverseOrder[i]]] = source[i];
+                        }
+                        for (int j = 0; j < n; j++) {
+                            final double y_j = out[q[j]];
+                            for (int p = lowerPointer[j] + 1, pe = lowerPointer[j + 1]; p < pe; p++) {
+                                out[q[lowerIndex[p]]] -= lowerValue[p] * y_j;
+                            }
+                        }
+                        for (int j = n - 1; j >= 0; j--) {
+                            final int d = upperPointer[j + 1] - 1;
+                            final double y_j = out[q[j]] / upperValue[d];
+                            out[q[j]] = y_j;
+                            for (int p = upperPointer[j]; p < d; p++) {
+                                out[q[upperIndex[p]]] -= upperValue[p] * y_j;
+                            }
+                        }
+                    }
+
+                    /*
+                     * A^{-T} = P^{T}L^{-T}U^{-T}Q^{T}.
+                     * ピボット順序の k 番目の成分 y[k] を out[rowOrder[k]] に置くことで,
+                     * 最後の置換 P^{T} を不要にする.
+                     */
+                    @Override
+                    public void solveTransposeInto(double[] source, double[] out) {
+                        final int[] r = rowOrder;
+                        for (int k = 0; k < n; k++) {
+                            out[r[k]] = source[columnOrder[k]];
+                        }
+                        for (int j = 0; j < n; j++) {
+                            final int d = upperPointer[j + 1] - 1;
+                            double s = out[r[j]];
+                            for (int p = upperPointer[j]; p < d; p++) {
+                                s -= upperValue[p] * out[r[upperIndex[p]]];
+                            }
+                            out[r[j]] = s / upperValue[d];
+                        }
+                        for (int j = n - 1; j >= 0; j--) {
+                            double s = out[r[j]];
+                            for (int p = lowerPointer[j] + 1, pe = lowerPointer[j + 1]; p < pe; p++) {
+                                s -= lowerValue[p] * out[r[lowerIndex[p]]];
+                            }
+                            out[r[j]] = s;
+                        }
+                    }
+                });
+
+        return new InverstibleAndDeterminantStruct<Matrix>(det, invMatrix);
+    }
+
+    /**
+     * 置換の符号 (偶置換なら1, 奇置換なら-1) を返す.
+     */
+    static int parity(int[] permutation) {
+        final int n = permutation.length;
+        final boolean[] visited = new boolean[n];
+        int sign = 1;
+        for (int i = 0; i < n; i++) {
+            if (visited[i]) {
+                continue;
+            }
+            int length = 0;
+            for (int j = i; !visited[j]; j = permutation[j]) {
+                visited[j] = true;
+                length++;
+            }
+            if (length % 2 == 0) {
+                sign = -sign;
+            }
+        }
+        return sign;
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     */
+    @Override
+    String solverName() {
+        return super.solverName();
+    }
+
+    /**
+     * CSR 形式のスパースな正方行列の LU 分解のエグゼキュータ.
+     * 
+     * <p>
+     * {@code accepts} メソッドでrejectされる条件は,
+     * {@link LUTypeSolver.Executor} に加わる追加条件は無い.
+     * </p>
+     * 
+     * <p>
+     * {@code apply} メソッドで空が返る条件は,
+     * {@link LUTypeSolver.Executor} に加わる追加条件は無い.
+     * </p>
+     * 
+     * <p>
+     * {@code apply} メソッドは, 呼ばれるたびに記号解析と数値分解の両方を行う. <br>
+     * 記号解析を再利用する場合は {@link #analyze(CsrMatrix)} を用いる.
+     * </p>
+     * 
+     * <p>
+     * このクラスのインスタンスは, {@link SparseLU#executor()} メソッドにより得ることができる. <br>
+     * 実質的にシングルトンである.
+     * </p>
+     */
+    public static final class Executor
+            extends SkeletalLUTypeSolver.Executor<CsrMatrix, SparseLU> {
+
+        private static final Executor INSTANCE = new Executor();
+
+        /**
+         * 内部から呼ばれる.
+         */
+        private Executor() {
+            super();
+
+            //シングルトンを強制
+            if (Objects.nonNull(INSTANCE)) {
+                throw new AssertionError();
+            }
+        }
+
+        /**
+         * 与えた行列の非ゼロパターンの記号解析を行い,
+         * 同一の非ゼロパターンを持つ行列の分解に特化したエグゼキュータを返す.
+         * 
+         * <p>
+         * 記号解析は行列の値に依存しない. <br>
+         * 戻り値のエグゼキュータは, サイズと非ゼロパターン (構造的非ゼロ成分の位置)
+         * が与えた行列と一致する行列のみを受け入れる.
+         * </p>
+         * 
+         * @param pattern 非ゼロパターンを与える行列
+         * @return 記号解析済みのエグゼキュータ
+         * @throws MatrixFormatMismatchException 正方行列でない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public AnalyzedExecutor analyze(CsrMatrix pattern) {
+            if (!pattern.matrixDimension().isSquare()) {
+                throw new MatrixFormatMismatchException(
+                        "not square: %s".formatted(pattern.matrixDimension()));
+            }
+            return new AnalyzedExecutor(new SparseLUSymbolicAnalysis(pattern));
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final MatrixStructureAcceptance acceptsConcretely(CsrMatrix matrix) {
+            return MatrixStructureAcceptance.ACCEPTED;
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final Optional<SparseLU> applyConcretely(CsrMatrix matrix, double epsilon) {
+            try {
+                return Optional.of(new SparseLU(matrix, new SparseLUSymbolicAnalysis(matrix), epsilon));
+            } catch (ProcessFailedException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * 記号解析済みの, 同一の非ゼロパターンを持つ行列の LU 分解のエグゼキュータ.
+     * 
+     * <p>
+     * {@code accepts} メソッドでrejectされる条件は,
+     * {@link LUTypeSolver.Executor} に加えて次のとおりである.
+     * </p>
+     * 
+     * <ul>
+     * <li>記号解析した行列とサイズまたは非ゼロパターンが異なる場合</li>
+     * </ul>
+     * 
+     * <p>
+     * {@code apply} メソッドで空が返る条件は,
+     * {@link LUTypeSolver.Executor} に加わる追加条件は無い.
+     * </p>
+     * 
+     * <p>
+     * {@code apply} メソッドは数値分解のみを行う. <br>
+     * ピボットの選択は行列の値に依存するため, 数値分解ごとに行われる.
+     * </p>
+     * 
+     * <p>
+     * このクラスのインスタンスは, {@link SparseLU.Executor#analyze(CsrMatrix)}
+     * メソッドにより得ることができる.
+     * </p>
+     */
+    public static final class AnalyzedExecutor
+            extends SkeletalLUTypeSolver.Executor<CsrMatrix, SparseLU> {
+
+        private final SparseLUSymbolicAnalysis analysis;
+
+        /**
+         * 内部から呼ばれる.
+         */
+        private AnalyzedExecutor(SparseLUSymbolicAnalysis analysis) {
+            super();
+            this.analysis = analysis;
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final MatrixStructureAcceptance acceptsConcretely(CsrMatrix matrix) {
+            return this.analysis.matchesPattern(matrix)
+                    ? MatrixStructureAcceptance.ACCEPTED
+                    : MatrixRejectionConstant.REJECTED_BY_PATTERN_MISMATCH.get();
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         */
+        @Override
+        final Optional<SparseLU> applyConcretely(CsrMatrix matrix, double epsilon) {
+            try {
+                return Optional.of(new SparseLU(matrix, this.analysis, epsilon));
+            } catch (ProcessFailedException e) {
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * このインスタンスの文字列表現を返す.
+         */
+        @Override
+        public String toString() {
+            return "%s[%s]".formatted(super.toString(), this.analysis.matrixDimension());
+        }
+    }
+}
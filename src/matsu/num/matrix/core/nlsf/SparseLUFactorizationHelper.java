@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Arrays;
+
+/**
+ * スパース LU 分解の数値分解を, 左から順に列ごとに行う (Gilbert-Peierls 法).
+ * 
+ * <p>
+ * 記号解析で決めた列の順序 Q に従って, 第 k 列について
+ * L<sub>k</sub><b>x</b> = A(:, q<sub>k</sub>) をスパースな前進代入で解き,
+ * その非ゼロ構造は L のグラフ上の深さ優先探索により求める. <br>
+ * ピボットはしきい値付き部分ピボッティングで選ぶ:
+ * 行 q<sub>k</sub> の値の絶対値が未ピボット行の最大絶対値の {@link #PIVOT_TOLERANCE}
+ * 倍以上であれば行 q<sub>k</sub> を (対角を優先して), そうでなければ最大絶対値の行を選ぶ. <br>
+ * 結果は PAQ = LU であり, L は単位下三角行列, U は上三角行列である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class SparseLUFactorizationHelper {
+
+    /**
+     * 対角成分を優先してピボットに選ぶための, 最大絶対値に対する比.
+     */
+    static final double PIVOT_TOLERANCE = 0.1;
+
+    /*
+     * L: 列ごとに格納, 各列の先頭は対角成分 (値1), 行indexはピボットの順序.
+     * U: 列ごとに格納, 各列の末尾は対角成分, 行indexはピボットの順序.
+     */
+    private int[] lowerPointer;
+    private int[] lowerIndex;
+    private double[] lowerValue;
+    private int[] upperPointer;
+    private int[] upperIndex;
+    private double[] upperValue;
+
+    /**
+     * 行の順序の逆: 行 i は rowInverseOrder[i] 番目のピボット.
+     */
+    private final int[] rowInverseOrder;
+
+    /**
+     * 分解を実行する.
+     * 
+     * @param analysis 記号解析
+     * @param cscValue CSC の順序に並べた値
+     * @param scale 特異性の判定に用いるスケール (成分の最大絶対値)
+     * @param threshold 特異性を判定する相対しきい値
+     * @throws ProcessFailedException 行列が特異に近い場合
+     */
+    SparseLUFactorizationHelper(
+            SparseLUSymbolicAnalysis analysis, double[] cscValue, double scale, double threshold)
+            throws ProcessFailedException {
+
+        if (!(scale > 0d)) {
+            throw new ProcessFailedException("zero matrix");
+        }
+
+        final int n = analysis.matrixDimension().rowAsIntValue();
+        final int[] ap = analysis.columnPointer();
+        final int[] ai = analysis.rowIndex();
+        final int[] q = analysis.columnOrder();
+        final double pivotThreshold = threshold * scale;
+
+        int capacity = cscValue.length + n;
+        this.lowerPointer = new int[n + 1];
+        this.lowerIndex = new int[capacity];
+        this.lowerValue = new double[capacity];
+        this.upperPointer = new int[n + 1];
+        this.upperIndex = new int[capacity];
+        this.upperValue = new double[capacity];
+
+        final int[] pinv = new int[n];
+        Arrays.fill(pinv, -1);
+        this.rowInverseOrder = pinv;
+
+        final double[] x = new double[n];
+        final int[] reach = new int[n];
+        final int[] stack = new int[n];
+        final int[] stackPosition = new int[n];
+        final int[] visited = new int[n];
+        Arrays.fill(visited, -1);
+
+        int lnz = 0;
+        int unz = 0;
+        for (int k = 0; k < n; k++) {
+            this.lowerPointer[k] = lnz;
+            this.upperPointer[k] = unz;
+
+            final int col = q[k];
+
+            //非ゼロ構造 (トポロジカル順序) を求める
+            int top = n;
+            for (int p = ap[col], pe = ap[col + 1]; p < pe; p++) {
+                final int i = ai[p];
+                if (visited[i] != k) {
+                    top = this.depthFirstSearch(i, k, top, reach, stack, stackPosition, visited);
+                }
+            }
+
+            //スパースな前進代入
+            for (int p = top; p < n; p++) {
+                x[reach[p]] = 0d;
+            }
+            for (int p = ap[col], pe = ap[col + 1]; p < pe; p++) {
+                x[ai[p]] = cscValue[p];
+            }
+            for (int p = top; p < n; p++) {
+                final int j = reach[p];
+                final int jj = pinv[j];
+                if (jj < 0) {
+                    continue;
+                }
+                final double x_j = x[j];
+                for (int pp = this.lowerPointer[jj] + 1, pe = this.lowerPointer[jj + 1]; pp < pe; pp++) {
+                    x[this.lowerIndex[pp]] -= this.lowerValue[pp] * x_j;
+                }
+            }
+
+            //容量の確保
+            final int reachSize = n - top;
+            if (lnz + reachSize + 1 > this.lowerIndex.length) {
+                capacity = Math.max(this.lowerIndex.length * 2, lnz + reachSize + 1);
+                this.lowerIndex = Arrays.copyOf(this.lowerIndex, capacity);
+                this.lowerValue = Arrays.copyOf(this.lowerValue, capacity);
+            }
+            if (unz + reachSize + 1 > this.upperIndex.length) {
+                capacity = Math.max(this.upperIndex.length * 2, unz + reachSize + 1);
+                this.upperIndex = Arrays.copyOf(this.upperIndex, capacity);
+                this.upperValue = Arrays.copyOf(this.upperValue, capacity);
+            }
+
+            //ピボットの選択とUの格納
+            int pivotRow = -1;
+            double maxAbs = -1d;
+            for (int p = top; p < n; p++) {
+                final int i = reach[p];
+                if (pinv[i] < 0) {
+                    final double abs = Math.abs(x[i]);
+                    if (abs > maxAbs) {
+                        maxAbs = abs;
+                        pivotRow = i;
+                    }
+                } else {
+                    this.upperIndex[unz] = pinv[i];
+                    this.upperValue[unz] = x[i];
+                    unz++;
+                }
+            }
+            if (pivotRow < 0 || !(maxAbs > pivotThreshold) || !Double.isFinite(maxAbs)) {
+                throw new ProcessFailedException("singular");
+            }
+            if (pinv[col] < 0 && visited[col] == k && Math.abs(x[col]) >= PIVOT_TOLERANCE * maxAbs) {
+                pivotRow = col;
+            }
+            final double pivot = x[pivotRow];
+            this.upperIndex[unz] = k;
+            this.upperValue[unz] = pivot;
+            unz++;
+
+            //Lの格納
+            pinv[pivotRow] = k;
+            this.lowerIndex[lnz] = pivotRow;
+            this.lowerValue[lnz] = 1d;
+            lnz++;
+            for (int p = top; p < n; p++) {
+                final int i = reach[p];
+                if (pinv[i] < 0) {
+                    this.lowerIndex[lnz] = i;
+                    this.lowerValue[lnz] = x[i] / pivot;
+                    lnz++;
+                }
+                x[i] = 0d;
+            }
+        }
+        this.lowerPointer[n] = lnz;
+        this.upperPointer[n] = unz;
+
+        //Lの行indexをピボットの順序に置き換える
+        for (int p = 0; p < lnz; p++) {
+            this.lowerIndex[p] = pinv[this.lowerIndex[p]];
+        }
+        this.lowerIndex = Arrays.copyOf(this.lowerIndex, lnz);
+        this.lowerValue = Arrays.copyOf(this.lowerValue, lnz);
+        this.upperIndex = Arrays.copyOf(this.upperIndex, unz);
+        this.upperValue = Arrays.copyOf(this.upperValue, unz);
+    }
+
+    /**
+     * 行 start から, 確定した L の列をたどる非再帰の深さ優先探索を行い,
+     * 帰りがけ順に reach[--top] に積む.
+     * 
+     * @return 更新された top
+     */
+    private int depthFirstSearch(
+            int start, int k, int top, int[] reach, int[] stack, int[] stackPosition, int[] visited) {
+        final int[] pinv = this.rowInverseOrder;
+        int head = 0;
+        stack[0] = start;
+        while (head >= 0) {
+            final int j = stack[head];
+            final int jj = pinv[j];
+            if (visited[j] != k) {
+                visited[j] = k;
+                stackPosition[head] = jj < 0 ? 0 : this.lowerPointer[jj] + 1;
+            }
+            boolean done = true;
+            if (jj >= 0) {
+                for (int p = stackPosition[head], pe = this.lowerPointer[jj + 1]; p < pe; p++) {
+                    final int i = this.lowerIndex[p];
+                    if (visited[i] != k) {
+                        stackPosition[head] = p + 1;
+                        stack[++head] = i;
+                        done = false;
+                        break;
+                    }
+                }
+            }
+            if (done) {
+                head--;
+                reach[--top] = j;
+            }
+        }
+        return top;
+    }
+
+    int[] lowerPointer() {
+        return this.lowerPointer;
+    }
+
+    int[] lowerIndex() {
+        return this.lowerIndex;
+    }
+
+    double[] lowerValue() {
+        return this.lowerValue;
+    }
+
+    int[] upperPointer() {
+        return this.upperPointer;
+    }
+
+    int[] upperIndex() {
+        return this.upperIndex;
+    }
+
+    double[] upperValue() {
+        return this.upperValue;
+    }
+
+    int[] rowInverseOrder() {
+        return this.rowInverseOrder;
+    }
+}
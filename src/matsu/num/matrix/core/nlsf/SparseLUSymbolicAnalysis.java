@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.nlsf;
+
+import java.util.Arrays;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+
+/**
+ * スパース LU 分解の記号解析 (値に依存しない前処理) の結果を扱う.
+ * 
+ * <p>
+ * 記号解析では, 行列の非ゼロパターンのみから次を計算する.
+ * </p>
+ * 
+ * <ul>
+ * <li>圧縮列格納 (CSC) 形式の非ゼロパターンと, CSR 形式の格納位置との対応</li>
+ * <li>A + A<sup>T</sup> のパターンに対する近似最小次数 (AMD) 順序による列の順序</li>
+ * </ul>
+ * 
+ * <p>
+ * 同一の非ゼロパターンを持つ行列に対しては, 記号解析の結果を再利用できる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class SparseLUSymbolicAnalysis {
+
+    private final MatrixDimension matrixDimension;
+
+    /*
+     * 解析した行列の CSR パターン (参照を保持する, 書き換えてはならない).
+     */
+    private final int[] rowPointer;
+    private final int[] columnIndex;
+
+    /*
+     * CSC パターン: 列 j の成分は columnPointer[j] 以上 columnPointer[j + 1] 未満の位置に,
+     * 行indexの昇順で rowIndex に格納される.
+     * csrPosition[k] は, CSC の k 番目の成分の CSR 形式における格納位置である.
+     */
+    private final int[] columnPointer;
+    private final int[] rowIndex;
+    private final int[] csrPosition;
+
+    /**
+     * 列の順序: k 番目に分解される列は columnOrder[k].
+     */
+    private final int[] columnOrder;
+
+    /**
+     * 行列の非ゼロパターンを解析する.
+     * 
+     * @param matrix 正方行列
+     */
+    SparseLUSymbolicAnalysis(CsrMatrix matrix) {
+        this.matrixDimension = matrix.matrixDimension();
+        this.rowPointer = SparseEntryAccess.rowPointer(matrix);
+        this.columnIndex = SparseEntryAccess.columnIndex(matrix);
+
+        final int n = this.matrixDimension.rowAsIntValue();
+        final int nnz = this.columnIndex.length;
+
+        //CSR -> CSC の転置 (行の昇順に走査するため, 各列内は行indexの昇順となる)
+        this.columnPointer = new int[n + 1];
+        this.rowIndex = new int[nnz];
+        this.csrPosition = new int[nnz];
+        for (int k = 0; k < nnz; k++) {
+            this.columnPointer[this.columnIndex[k] + 1]++;
+        }
+        for (int j = 0; j < n; j++) {
+            this.columnPointer[j + 1] += this.columnPointer[j];
+        }
+        {
+            final int[] position = Arrays.copyOf(this.columnPointer, n);
+            for (int i = 0; i < n; i++) {
+                for (int k = this.rowPointer[i], l = this.rowPointer[i + 1]; k < l; k++) {
+                    final int c = position[this.columnIndex[k]]++;
+                    this.rowIndex[c] = i;
+                    this.csrPosition[c] = k;
+                }
+            }
+        }
+
+        this.columnOrder = this.computeColumnOrder();
+    }
+
+    /**
+     * A + A<sup>T</sup> の非ゼロパターン (対角を除く) を作り, AMD 順序を計算する.
+     */
+    private int[] computeColumnOrder() {
+        final int n = this.matrixDimension.rowAsIntValue();
+
+        final int[] count = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int k = this.rowPointer[i], l = this.rowPointer[i + 1]; k < l; k++) {
+                final int j = this.columnIndex[k];
+                if (i != j) {
+                    count[i + 1]++;
+                    count[j + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            count[i + 1] += count[i];
+        }
+        final int[] adjacency = new int[count[n]];
+        {
+            final int[] position = Arrays.copyOf(count, n);
+            for (int i = 0; i < n; i++) {
+                for (int k = this.rowPointer[i], l = this.rowPointer[i + 1]; k < l; k++) {
+                    final int j = this.columnIndex[k];
+                    if (i != j) {
+                        adjacency[position[i]++] = j;
+                        adjacency[position[j]++] = i;
+                    }
+                }
+            }
+        }
+
+        //重複を除いて詰める
+        final int[] adjacencyPointer = new int[n + 1];
+        final int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            adjacencyPointer[i] = size;
+            for (int k = count[i], l = count[i + 1]; k < l; k++) {
+                final int j = adjacency[k];
+                if (mark[j] != i) {
+                    mark[j] = i;
+                    adjacency[size++] = j;
+                }
+            }
+        }
+        adjacencyPointer[n] = size;
+
+        return ApproximateMinimumDegree.order(adjacencyPointer, adjacency);
+    }
+
+    /**
+     * 行列サイズを返す.
+     */
+    MatrixDimension matrixDimension() {
+        return this.matrixDimension;
+    }
+
+    /**
+     * 与えた行列が, 解析した行列と同一のサイズと非ゼロパターンを持つかを判定する.
+     * 
+     * @param matrix 行列
+     * @return 同一ならtrue
+     */
+    boolean matchesPattern(CsrMatrix matrix) {
+        if (!this.matrixDimension.equals(matrix.matrixDimension())) {
+            return false;
+        }
+        final int[] otherRowPointer = SparseEntryAccess.rowPointer(matrix);
+        final int[] otherColumnIndex = SparseEntryAccess.columnIndex(matrix);
+        return (otherRowPointer == this.rowPointer || Arrays.equals(otherRowPointer, this.rowPointer))
+                && (otherColumnIndex == this.columnIndex || Arrays.equals(otherColumnIndex, this.columnIndex));
+    }
+
+    /**
+     * 解析した行列と同一のパターンを持つ行列の値を, CSC の順序に並べて返す.
+     * 
+     * @param matrix 同一パターンの行列
+     * @return CSC の順序の値
+     */
+    double[] cscValueOf(CsrMatrix matrix) {
+        final double[] csrValue = SparseEntryAccess.value(matrix);
+        final double[] out = new double[csrValue.length];
+        for (int k = 0; k < out.length; k++) {
+            out[k] = csrValue[this.csrPosition[k]];
+        }
+        return out;
+    }
+
+    /**
+     * CSC の列ポインタを返す (書き換えてはならない).
+     */
+    int[] columnPointer() {
+        return this.columnPointer;
+    }
+
+    /**
+     * CSC の行indexを返す (書き換えてはならない).
+     */
+    int[] rowIndex() {
+        return this.rowIndex;
+    }
+
+    /**
+     * 列の順序を返す (書き換えてはならない).
+     */
+    int[] columnOrder() {
+        return this.columnOrder;
+    }
+}
@@ -58,6 +58,12 @@
  * Cholesky分解</li>
  * <li>{@link matsu.num.matrix.core.nlsf.CholeskyBand}:
  * 帯行列向けCholesky分解</li>
+ * <li>{@link matsu.num.matrix.core.nlsf.SparseLU}:
+ * スパース行列向けLU分解</li>
+ * <li>{@link matsu.num.matrix.core.nlsf.SparseCholesky}:
+ * スパース行列向けスーパーノード Cholesky分解</li>
+ * <li>{@link matsu.num.matrix.core.nlsf.ReorderedBandSolver}:
+ * 帯幅を縮小する並べ替えを行ったスパース行列の帯行列向け分解</li>
  * </ul>
  * 
  */
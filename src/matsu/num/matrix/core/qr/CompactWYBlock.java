@@ -0,0 +1,327 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.qr;
+
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.common.MatrixProductKernel;
+
+/**
+ * 連続する Householder 変換の積 B = H<sub>0</sub>H<sub>1</sub> ... H<sub><i>k</i> - 1</sub>
+ * のコンパクト WY 表現 B = I - VTV<sup>T</sup> を扱う.
+ * 
+ * <p>
+ * 各 Householder 変換は規格化された鏡映ベクトル <b>v</b> により H = I - 2<b>vv</b><sup>T</sup>
+ * と表される. <br>
+ * V は鏡映ベクトルを列に並べた行列であり, 第 {@code start} 行から {@code rows} 行分を列優先で保持する. <br>
+ * T は上三角行列である.
+ * </p>
+ * 
+ * <p>
+ * 作用させる対象は配列上の行列であり, 行と列の刻み幅を指定して扱う. <br>
+ * 列優先の行列 (刻み幅 (1, 行数)), 行優先の複数右辺 (刻み幅 (右辺数, 1))
+ * のいずれにも作用させることができる. <br>
+ * 列数が多い場合は, W = V<sup>T</sup>X, X &larr; X - V(TW) (または T<sup>T</sup>W)
+ * を行列積のカーネル ({@link MatrixProductKernel}) でまとめて計算する. <br>
+ * 列数が少ない場合は, 列ごとに鏡映ベクトルの非ゼロ区間のみを用いて計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class CompactWYBlock {
+
+    /**
+     * 行列積による計算を行う, 作用させる行列の列数の下限.
+     */
+    private static final int LEVEL3_MIN_COLUMNS = 16;
+
+    private final int start;
+    private final int rows;
+    private final int capacity;
+
+    /**
+     * V: rows * capacity (列優先).
+     */
+    private final double[] v;
+
+    /**
+     * Vの各列の非ゼロ区間 [from, to) (ブロック内の行番号).
+     */
+    private final int[] from;
+    private final int[] to;
+
+    /**
+     * T: capacity * capacity の上三角 (列優先).
+     */
+    private final double[] t;
+
+    private int size;
+
+    /**
+     * 空のブロックを生成する.
+     * 
+     * @param start 作用する先頭の行
+     * @param rows 作用する行数
+     * @param capacity 保持できる鏡映ベクトルの数
+     */
+    CompactWYBlock(int start, int rows, int capacity) {
+        this.start = start;
+        this.rows = rows;
+        this.capacity = capacity;
+        this.v = new double[rows * capacity];
+        this.from = new int[capacity];
+        this.to = new int[capacity];
+        this.t = new double[capacity * capacity];
+        this.size = 0;
+    }
+
+    /**
+     * 作用する先頭の行を返す.
+     */
+    int start() {
+        return this.start;
+    }
+
+    /**
+     * 保持している鏡映ベクトルの数を返す.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * 第 {@code row} 行から始まる長さ {@code length} の鏡映ベクトルを追加できるかを判定する.
+     */
+    boolean canAdd(int row, int length) {
+        return this.size < this.capacity
+                && this.start <= row && row - this.start + length <= this.rows;
+    }
+
+    /**
+     * 積の右側に Householder 変換を追加する: B &larr; BH.
+     * 
+     * <p>
+     * 引数はバリデーションされていない. <br>
+     * {@link #canAdd(int, int)} が true でなければならない.
+     * </p>
+     * 
+     * @param row 鏡映ベクトルの先頭の行
+     * @param reflection 規格化された鏡映ベクトル
+     */
+    void add(int row, double[] reflection) {
+        final int c = this.size;
+        final int rows = this.rows;
+        final int capacity = this.capacity;
+        final double[] v = this.v;
+        final double[] t = this.t;
+
+        final int offset = row - this.start;
+        final int length = reflection.length;
+        System.arraycopy(reflection, 0, v, c * rows + offset, length);
+        this.from[c] = offset;
+        this.to[c] = offset + length;
+
+        // T(0:c-1, c) = -2 T(0:c-1, 0:c-1) V(:, 0:c-1)^T v, T(c, c) = 2
+        final double[] work = new double[c];
+        for (int p = 0; p < c; p++) {
+            final int lo = Math.max(this.from[p], offset);
+            final int hi = Math.min(this.to[p], offset + length);
+            work[p] = lo < hi
+                    ? ArraysUtil.dot(v, p * rows + lo, v, c * rows + lo, hi - lo)
+                    : 0d;
+        }
+        final int tColumn = c * capacity;
+        for (int r = 0; r < c; r++) {
+            double sum = 0d;
+            for (int q = r; q < c; q++) {
+                sum += t[q * capacity + r] * work[q];
+            }
+            t[tColumn + r] = -2 * sum;
+        }
+        t[tColumn + c] = 2d;
+
+        this.size = c + 1;
+    }
+
+    /**
+     * 配列上の行列 X に B または B<sup>T</sup> をその場で作用させる. <br>
+     * X の (r, k) 成分は {@code x[base + r * rowStride + k * columnStride]} である.
+     * 
+     * @param x 行列を格納した配列
+     * @param base Xの(0, 0)成分の位置
+     * @param rowStride 行の刻み幅
+     * @param columnStride 列の刻み幅
+     * @param columns Xの列数
+     * @param transpose B<sup>T</sup> を作用させる場合は true
+     */
+    void apply(double[] x, int base, int rowStride, int columnStride, int columns, boolean transpose) {
+        if (columns >= LEVEL3_MIN_COLUMNS && this.size > 0) {
+            if (rowStride == 1) {
+                this.applyToColumnMajor(x, base, columnStride, columns, transpose);
+                return;
+            }
+            if (columnStride == 1) {
+                this.applyToRowMajor(x, base, rowStride, columns, transpose);
+                return;
+            }
+        }
+        this.applyByColumn(x, base, rowStride, columnStride, columns, transpose);
+    }
+
+    /**
+     * 列優先の X (列の間隔 {@code ld}) に, 行列積により B または B<sup>T</sup> を作用させる. <br>
+     * X<sup>T</sup> は行優先の行列であるから,
+     * Y = X<sup>T</sup>V, X<sup>T</sup> &larr; X<sup>T</sup> - (YM)V<sup>T</sup>
+     * (M = T (B<sup>T</sup> の場合), T<sup>T</sup> (B の場合)) として計算する.
+     */
+    private void applyToColumnMajor(double[] x, int base, int ld, int columns, boolean transpose) {
+        final int size = this.size;
+        final int rows = this.rows;
+        final int x0 = base + this.start;
+
+        final double[] vRowMajor = this.packVRowMajor();
+        final double[] m = this.packT(!transpose);
+
+        final double[] y = new double[columns * size];
+        MatrixProductKernel.multiplyAndAdd(
+                1d, x, x0, ld, vRowMajor, 0, size, y, 0, size, columns, rows, size);
+        final double[] z = new double[columns * size];
+        MatrixProductKernel.multiplyAndAdd(
+                1d, y, 0, size, m, 0, size, z, 0, size, columns, size, size);
+        MatrixProductKernel.multiplyAndAdd(
+                -1d, z, 0, size, this.v, 0, rows, x, x0, ld, columns, size, rows);
+    }
+
+    /**
+     * 行優先の X (行の間隔 {@code ld}) に, 行列積により B または B<sup>T</sup> を作用させる:
+     * Y = V<sup>T</sup>X, X &larr; X - V(MY)
+     * (M = T<sup>T</sup> (B<sup>T</sup> の場合), T (B の場合)).
+     */
+    private void applyToRowMajor(double[] x, int base, int ld, int columns, boolean transpose) {
+        final int size = this.size;
+        final int rows = this.rows;
+        final int x0 = base + this.start * ld;
+
+        final double[] vRowMajor = this.packVRowMajor();
+        final double[] m = this.packT(transpose);
+
+        final double[] y = new double[size * columns];
+        MatrixProductKernel.multiplyAndAdd(
+                1d, this.v, 0, rows, x, x0, ld, y, 0, columns, size, rows, columns);
+        final double[] z = new double[size * columns];
+        MatrixProductKernel.multiplyAndAdd(
+                1d, m, 0, size, y, 0, columns, z, 0, columns, size, size, columns);
+        MatrixProductKernel.multiplyAndAdd(
+                -1d, vRowMajor, 0, size, z, 0, columns, x, x0, ld, rows, size, columns);
+    }
+
+    /**
+     * V (rows * size) を行優先に詰め直した配列を返す. <br>
+     * (V は列優先で保持しているため, V<sup>T</sup> は {@code v} をそのまま行優先の行列として参照できる.)
+     */
+    private double[] packVRowMajor() {
+        final int size = this.size;
+        final int rows = this.rows;
+        final double[] out = new double[rows * size];
+        for (int p = 0; p < size; p++) {
+            final int vColumn = p * rows;
+            for (int r = this.from[p], re = this.to[p]; r < re; r++) {
+                out[r * size + p] = this.v[vColumn + r];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * T (size * size) または T<sup>T</sup> を行優先に詰めた配列を返す.
+     * 
+     * @param transpose T<sup>T</sup> を返す場合は true
+     */
+    private double[] packT(boolean transpose) {
+        final int size = this.size;
+        final int capacity = this.capacity;
+        final double[] out = new double[size * size];
+        for (int q = 0; q < size; q++) {
+            for (int r = 0; r <= q; r++) {
+                // T(r, q)
+                final double t_rq = this.t[q * capacity + r];
+                if (transpose) {
+                    out[q * size + r] = t_rq;
+                } else {
+                    out[r * size + q] = t_rq;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 列ごとに B または B<sup>T</sup> を作用させる. <br>
+     * 引数の意味は {@link #apply(double[], int, int, int, int, boolean)} と同一である.
+     */
+    private void applyByColumn(
+            double[] x, int base, int rowStride, int columnStride, int columns, boolean transpose) {
+        final int size = this.size;
+        final int rows = this.rows;
+        final int capacity = this.capacity;
+        final double[] v = this.v;
+        final double[] t = this.t;
+        final int[] from = this.from;
+        final int[] to = this.to;
+
+        final double[] w = new double[size];
+        for (int k = 0; k < columns; k++) {
+            final int x0 = base + this.start * rowStride + k * columnStride;
+
+            // w = V^T x
+            for (int p = 0; p < size; p++) {
+                final int vColumn = p * rows;
+                double sum = 0d;
+                for (int r = from[p], re = to[p]; r < re; r++) {
+                    sum += v[vColumn + r] * x[x0 + r * rowStride];
+                }
+                w[p] = sum;
+            }
+
+            if (transpose) {
+                // w <- T^T w (下三角なので, 下の行から上書きする)
+                for (int r = size - 1; r >= 0; r--) {
+                    final int tColumn = r * capacity;
+                    double sum = 0d;
+                    for (int q = 0; q <= r; q++) {
+                        sum += t[tColumn + q] * w[q];
+                    }
+                    w[r] = sum;
+                }
+            } else {
+                // w <- T w (上三角なので, 上の行から上書きする)
+                for (int r = 0; r < size; r++) {
+                    double sum = 0d;
+                    for (int q = r; q < size; q++) {
+                        sum += t[q * capacity + r] * w[q];
+                    }
+                    w[r] = sum;
+                }
+            }
+
+            // x <- x - V w
+            for (int p = 0; p < size; p++) {
+                final double coeff = w[p];
+                if (coeff == 0d) {
+                    continue;
+                }
+                final int vColumn = p * rows;
+                for (int r = from[p], re = to[p]; r < re; r++) {
+                    x[x0 + r * rowStride] -= coeff * v[vColumn + r];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.qr;
+
+import java.util.List;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.OrthogonalMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricOrthogonalMatrix;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+
+/**
+ * コンパクト WY 表現されたブロックの積
+ * Q = B<sub>0</sub>B<sub>1</sub> ... B<sub><i>k</i> - 1</sub>
+ * として, Householder 変換の積を表す直交行列.
+ * 
+ * <p>
+ * 鏡映ベクトルは各ブロックの連続した配列に格納され,
+ * 行列ベクトル積はブロックごとに
+ * <b>x</b> &larr; <b>x</b> - VT(V<sup>T</sup><b>x</b>)
+ * の形で一括して計算される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class CompactWYOrthogonalMatrix
+        extends SkeletalAsymmetricOrthogonalMatrix<OrthogonalMatrix> {
+
+    private final MatrixDimension matrixDimension;
+    private final CompactWYBlock[] blocks;
+
+    /**
+     * 内部から呼ばれる.
+     * 
+     * <p>
+     * ブロックは積の左から順に並べる. <br>
+     * 以後, ブロックを変更してはならない.
+     * </p>
+     */
+    CompactWYOrthogonalMatrix(MatrixDimension matrixDimension, List<CompactWYBlock> blocks) {
+        super();
+        this.matrixDimension = matrixDimension;
+        this.blocks = blocks.toArray(CompactWYBlock[]::new);
+    }
+
+    @Override
+    public MatrixDimension matrixDimension() {
+        return this.matrixDimension;
+    }
+
+    @Override
+    public Vector operate(Vector operand) {
+        MatrixValidationSupport.validateOperate(this.matrixDimension, operand.vectorDimension());
+
+        double[] entry = operand.entryAsArray();
+        this.applyInPlace(entry);
+        return VectorEntryAccess.adopt(this.matrixDimension.leftOperableVectorDimension(), entry);
+    }
+
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                this.matrixDimension, operand.vectorDimension(), out);
+
+        System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+        this.applyInPlace(out);
+        VectorEntryAccess.modify(out);
+    }
+
+    @Override
+    public Vector operateTranspose(Vector operand) {
+        MatrixValidationSupport.validateOperateTranspose(this.matrixDimension, operand.vectorDimension());
+
+        double[] entry = operand.entryAsArray();
+        this.applyTransposeInPlace(entry, 1);
+        return VectorEntryAccess.adopt(this.matrixDimension.rightOperableVectorDimension(), entry);
+    }
+
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateTransposeInto(
+                this.matrixDimension, operand.vectorDimension(), out);
+
+        System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+        this.applyTransposeInPlace(out, 1);
+        VectorEntryAccess.modify(out);
+    }
+
+    /**
+     * Q<b>x</b> = B<sub>0</sub>(B<sub>1</sub>(...(B<sub><i>k</i> - 1</sub><b>x</b>)))
+     * をその場で計算する.
+     */
+    private void applyInPlace(double[] entry) {
+        this.applyInPlace(entry, 1);
+    }
+
+    /**
+     * 行優先で格納された複数の列 X に対し, QX をその場で計算する. <br>
+     * 引数はバリデーションされていない.
+     * 
+     * @param work 行列 X (行優先)
+     * @param columns X の列数
+     */
+    void applyInPlace(double[] work, int columns) {
+        final CompactWYBlock[] blocks = this.blocks;
+        for (int j = blocks.length - 1; j >= 0; j--) {
+            blocks[j].apply(work, 0, columns, 1, columns, false);
+        }
+    }
+
+    /**
+     * 行優先で格納された複数の列 X に対し, Q<sup>T</sup>X をその場で計算する. <br>
+     * 引数はバリデーションされていない.
+     * 
+     * @param work 行列 X (行優先)
+     * @param columns X の列数
+     */
+    void applyTransposeInPlace(double[] work, int columns) {
+        for (CompactWYBlock block : this.blocks) {
+            block.apply(work, 0, columns, 1, columns, true);
+        }
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     * 
+     * @return -
+     */
+    @Override
+    protected OrthogonalMatrix createTranspose() {
+        return OrthogonalMatrix.createTransposedOf(this);
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code Matrix[dim: %dimension, compact-WY-blocks: %count]}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "Matrix[dim: %s, compact-WY-blocks: %s]"
+                .formatted(this.matrixDimension, this.blocks.length);
+    }
+}
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.6.16
+ * 2026.10.16
  */
 package matsu.num.matrix.core.qr;
 
@@ -17,8 +17,9 @@ import matsu.num.matrix.core.EntryReadableMatrix;
 import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.Matrix;
 import matsu.num.matrix.core.MatrixDimension;
-import matsu.num.matrix.core.OrthogonalMatrix;
+import matsu.num.matrix.core.common.TriangularSolveKernel;
 import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.helper.value.MultipleRightHandSideSupport;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
 
 /**
@@ -33,7 +34,9 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * R: 単位上三角行列, <br>
  * を扱い,
  * Q が Householder変換の積 Q = H<sub>1</sub>H<sub>2</sub>, ...
- * により表現する.
+ * により表現する. <br>
+ * Q は, 連続する Householder 変換をまとめたコンパクト WY 表現
+ * I - VTV<sup>T</sup> のブロックの積として保持される.
  * </p>
  * 
  * @author Matsuura Y.
@@ -43,7 +46,7 @@ public final class HouseholderQR
 
     private final EntryReadableMatrix target;
 
-    private final OrthogonalMatrix mxQ;
+    private final CompactWYOrthogonalMatrix mxQ;
     private final DiagonalMatrix mxD;
 
     /**
@@ -51,6 +54,13 @@ public final class HouseholderQR
      */
     private final LowerUnitriangular mxRt;
 
+    /*
+     * 複数右辺の求解に用いる, 分解された成分.
+     */
+    private final double[] rtLowerEntry;
+    private final int[] rtRowOffset;
+    private final double[] diagonalEntry;
+
     /**
      * 内部から呼ばれる.
      */
@@ -61,6 +71,13 @@ public final class HouseholderQR
         this.mxD = helper.mxD();
         this.mxRt = helper.mxRt();
 
+        this.rtLowerEntry = helper.rtLowerEntry();
+        this.diagonalEntry = helper.diagonalEntry();
+        this.rtRowOffset = new int[this.diagonalEntry.length];
+        for (int i = 0; i < this.rtRowOffset.length; i++) {
+            this.rtRowOffset[i] = i * (i + 1) / 2;
+        }
+
         assert this.mxD.inverse().isPresent();
     }
 
@@ -69,6 +86,37 @@ public final class HouseholderQR
         return this.target;
     }
 
+    /**
+     * @implSpec
+     *               全ての右辺を行優先の作業配列にまとめ,
+     *               コンパクト WY 表現のブロックごとの Q<sup>T</sup> の作用,
+     *               後退代入, 対角成分による除算を順に行う.
+     */
+    @Override
+    public void solveInto(double[][] b, double[][] x) {
+        final MatrixDimension targetDimension = this.target.matrixDimension();
+        MultipleRightHandSideSupport.validateSolveInto(targetDimension, b, x);
+
+        final int rowDimension = targetDimension.rowAsIntValue();
+        final int columnDimension = targetDimension.columnAsIntValue();
+        final int rhsCount = b.length;
+
+        // X = D^{-1} R^{-1} Q_{1}^{T} B
+        double[] work = MultipleRightHandSideSupport.gatherColumns(b, rowDimension);
+        this.mxQ.applyTransposeInPlace(work, rhsCount);
+        //作業配列の先頭のcolumnDimension行が Q_{1}^{T} B に相当する
+        TriangularSolveKernel.solveUnitLowerTranspose(
+                this.rtLowerEntry, this.rtRowOffset, work, columnDimension, rhsCount);
+        int c = 0;
+        for (int i = 0; i < columnDimension; i++) {
+            final double d = this.diagonalEntry[i];
+            for (int j = 0; j < rhsCount; j++, c++) {
+                work[c] /= d;
+            }
+        }
+        MultipleRightHandSideSupport.scatterColumns(work, x);
+    }
+
     @Override
     Matrix createInverse() {
         /*
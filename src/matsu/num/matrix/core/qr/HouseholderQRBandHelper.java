@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.6.17
+ * 2026.10.16
  */
 package matsu.num.matrix.core.qr;
 
@@ -17,15 +17,10 @@ import java.util.Objects;
 import matsu.num.matrix.core.BandMatrix;
 import matsu.num.matrix.core.BandMatrixDimension;
 import matsu.num.matrix.core.DiagonalMatrix;
-import matsu.num.matrix.core.HouseholderMatrix;
 import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.LowerUnitriangularBandMatrix;
 import matsu.num.matrix.core.OrthogonalMatrix;
-import matsu.num.matrix.core.UnitMatrix;
-import matsu.num.matrix.core.VectorDimension;
 import matsu.num.matrix.core.common.ArraysUtil;
-import matsu.num.matrix.core.sparse.HouseholderMatrixFactoryForSparse;
-import matsu.num.matrix.core.sparse.LocalSparseVector;
 
 /**
  * 正方帯行列の Householder 変換によるQR分解のヘルパ.
@@ -34,6 +29,11 @@ import matsu.num.matrix.core.sparse.LocalSparseVector;
  */
 final class HouseholderQRBandHelper {
 
+    /**
+     * コンパクト WY 表現にまとめる鏡映変換の最大数.
+     */
+    private static final int MAX_BLOCK_SIZE = 32;
+
     private final BandMatrix target;
     private final double epsilon;
 
@@ -66,8 +66,7 @@ final class HouseholderQRBandHelper {
     private final double[] lowerBandEntry;
     private final double[] upperBandEntry;
 
-    private final UnitMatrix baseMatrix;
-    private final List<HouseholderMatrix> hhList;
+    private final List<CompactWYBlock> blocks;
 
     private final DiagonalMatrix mxD;
     private final LowerUnitriangular mxRt;
@@ -106,8 +105,7 @@ final class HouseholderQRBandHelper {
         this.diagEntry = this.calcDiagEntryWithScaling();
         this.lowerBandEntry = this.calcLowerBandEntryWithScaling();
         this.upperBandEntry = this.calcUpperBandEntryWithScaling();
-        this.baseMatrix = UnitMatrix.matrixOf(target.matrixDimension());
-        this.hhList = new ArrayList<>(target.matrixDimension().rowAsIntValue());
+        this.blocks = new ArrayList<>();
 
         this.factorize();
 
@@ -167,8 +165,8 @@ final class HouseholderQRBandHelper {
     /**
      * QR分解の実行.
      * 
-     * 事前条件は, hhListが空, entry配列がスケールされたsrc状態であること.
-     * 事後条件は, hhListはmatrix(Q), entry配列はスケールされた状態のmatrix(RD)になる.
+     * 事前条件は, blocksが空, entry配列がスケールされたsrc状態であること.
+     * 事後条件は, blocksはmatrix(Q)のブロック列, entry配列はスケールされた状態のmatrix(RD)になる.
      * 
      * @throws ProcessFailedException 数値的にフルランクでない場合
      */
@@ -182,8 +180,12 @@ final class HouseholderQRBandHelper {
         final double[] lowerBandEntry = this.lowerBandEntry;
         final double[] upperBandEntry = this.upperBandEntry;
 
-        final VectorDimension columnVectorDimension =
-                this.target.matrixDimension().rightOperableVectorDimension();
+        /*
+         * 鏡映ベクトルの長さは高々 bl + 1 なので,
+         * ブロックにまとめる数をそれ以下にして, Tの計算量がVの計算量を上回らないようにする.
+         */
+        final int blockSize = Math.min(MAX_BLOCK_SIZE, lowerBandWidth + 1);
+        CompactWYBlock block = null;
 
         for (int i = 0; i < dimensionValue; i++) {
 
@@ -202,9 +204,12 @@ final class HouseholderQRBandHelper {
             }
 
             //鏡映変換をQに反映
-            this.hhList.add(
-                    HouseholderMatrixFactoryForSparse.from(
-                            LocalSparseVector.of(columnVectorDimension, i, hh)));
+            if (Objects.isNull(block) || !block.canAdd(i, hhDimension)) {
+                block = new CompactWYBlock(
+                        i, Math.min(blockSize + lowerBandWidth, dimensionValue - i), blockSize);
+                this.blocks.add(block);
+            }
+            block.add(i, hh);
 
             /* 鏡映変換により行列を更新する */
             /*
@@ -404,13 +409,13 @@ final class HouseholderQRBandHelper {
     }
 
     /**
-     * mxQを構成する.
+     * mxQを構成する. <br>
+     * 鏡映変換の積として, 連続する鏡映変換をまとめたコンパクト WY 表現のブロックの積で表現する.
      * 
      * @return mxQ
      */
     private OrthogonalMatrix convertToMxQ() {
-        return OrthogonalMatrix.multiply(
-                baseMatrix,
-                hhList.toArray(OrthogonalMatrix[]::new));
+        return new CompactWYOrthogonalMatrix(
+                this.target.matrixDimension().leftSquareDimension(), this.blocks);
     }
 }
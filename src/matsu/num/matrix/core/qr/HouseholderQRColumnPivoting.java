@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.qr;
+
+import java.util.Optional;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
+import matsu.num.matrix.core.helper.value.MatrixRejectionConstant;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.MultipleRightHandSideSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
+
+/**
+ * 列ピボット選択付き Householder 変換によるQR分解を用いた,
+ * 列フルランクとは限らない行列の完全直交分解を表す.
+ * 
+ * <p>
+ * 正方・縦長行列 A (m &times; n) に対し, 列ピボット選択付きQR分解 <br>
+ * AP = QR', <br>
+ * P: 置換行列, Q: 直交行列, <br>
+ * R': 上三角行列, 左上の r &times; r ブロックを R<sub>11</sub>, その右側を R<sub>12</sub>,
+ * 右下のブロックを R<sub>22</sub> とする, <br>
+ * を行い, R<sub>22</sub> が無視できる大きさになる r を数値ランクとする. <br>
+ * さらに [R<sub>11</sub> R<sub>12</sub>] = [T O] Z (T: 上三角行列, Z: 直交行列)
+ * と変形し, R<sub>22</sub> を0とみなした行列の Moore-Penrose 一般化逆行列 <br>
+ * A<sup>+</sup> = PZ<sup>T</sup>T'Q<sup>T</sup>, <br>
+ * T': 左上の r &times; r ブロックが T<sup>-1</sup>, 他の成分が0の n &times; m 行列, <br>
+ * を提供する. <br>
+ * したがって, 列が (ほぼ) 一次従属である行列に対しても最小二乗最小ノルム解が得られる.
+ * </p>
+ * 
+ * <p>
+ * 数値ランク r は, 第 k 段のピボット列の残りの部分のノルムが
+ * |R<sub>00</sub>| &times; max(&epsilon;, m &times; ulp(1))
+ * 以下となる最小の k である
+ * (&epsilon;: エグゼキュータに与える相対epsilon, m: 行数). <br>
+ * 列フルランクの場合は, {@link HouseholderQR} と同じ最小二乗解を与える.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class HouseholderQRColumnPivoting
+        extends SkeletalQRTypeSolver<EntryReadableMatrix, Matrix> {
+
+    private final EntryReadableMatrix target;
+
+    private final int rowNumber;
+    private final int columnNumber;
+    private final int rank;
+    private final double scale;
+
+    /**
+     * 列優先の成分配列 (行数が刻み幅), 第0列から第(r-1)列の上三角部分が T.
+     */
+    private final double[] entry;
+    private final int[] columnOrder;
+    private final double[][] rzReflections;
+    private final CompactWYOrthogonalMatrix mxQ;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private HouseholderQRColumnPivoting(HouseholderQRColumnPivotingHelper helper) {
+        super();
+        this.target = helper.target();
+        this.rowNumber = this.target.matrixDimension().rowAsIntValue();
+        this.columnNumber = this.target.matrixDimension().columnAsIntValue();
+        this.rank = helper.rank();
+        this.scale = helper.scale();
+        this.entry = helper.entry();
+        this.columnOrder = helper.columnOrder();
+        this.rzReflections = helper.rzReflections();
+        this.mxQ = helper.mxQ();
+    }
+
+    @Override
+    public EntryReadableMatrix target() {
+        return this.target;
+    }
+
+    /**
+     * 分解により決定された数値ランクを返す.
+     * 
+     * @return 数値ランク
+     */
+    public int rank() {
+        return this.rank;
+    }
+
+    /**
+     * @implSpec
+     *               全ての右辺を行優先の作業配列にまとめ,
+     *               Q<sup>T</sup> の作用, T による後退代入, Z<sup>T</sup> の作用, 列の並べ替えを順に行う.
+     */
+    @Override
+    public void solveInto(double[][] b, double[][] x) {
+        final MatrixDimension targetDimension = this.target.matrixDimension();
+        MultipleRightHandSideSupport.validateSolveInto(targetDimension, b, x);
+
+        double[] work = MultipleRightHandSideSupport.gatherColumns(b, this.rowNumber);
+        MultipleRightHandSideSupport.scatterColumns(this.solveRowMajor(work, b.length), x);
+    }
+
+    /**
+     * 行優先で格納された右辺 B (m &times; k) に対し, A<sup>+</sup>B (n &times; k, 行優先) を返す. <br>
+     * 作業配列は書き換えられる.
+     */
+    private double[] solveRowMajor(double[] work, int rhsCount) {
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
+        final int rank = this.rank;
+
+        // Q^T B
+        this.mxQ.applyTransposeInPlace(work, rhsCount);
+
+        // Y = [T^{-1} (Q^T B)_{0:r}; O]
+        double[] y = new double[this.columnNumber * rhsCount];
+        System.arraycopy(work, 0, y, 0, rank * rhsCount);
+        for (int i = rank - 1; i >= 0; i--) {
+            final int rowI = i * rhsCount;
+            for (int j = i + 1; j < rank; j++) {
+                final double tij = entry[j * rowNumber + i];
+                final int rowJ = j * rhsCount;
+                for (int c = 0; c < rhsCount; c++) {
+                    y[rowI + c] -= tij * y[rowJ + c];
+                }
+            }
+            final double tii = entry[i * rowNumber + i];
+            for (int c = 0; c < rhsCount; c++) {
+                y[rowI + c] /= tii;
+            }
+        }
+
+        // Z^T Y = Z_{r-1} ... Z_{0} Y
+        for (int k = 0; k < this.rzReflections.length; k++) {
+            this.reflectRZ(k, y, rhsCount);
+        }
+
+        // X = P Z^T Y / s
+        double[] out = new double[y.length];
+        for (int i = 0; i < this.columnNumber; i++) {
+            final int from = i * rhsCount;
+            final int to = this.columnOrder[i] * rhsCount;
+            for (int c = 0; c < rhsCount; c++) {
+                out[to + c] = y[from + c] / this.scale;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 行優先で格納された Y (n &times; k) に, 鏡映変換 Z<sub>k</sub> をその場で作用させる.
+     */
+    private void reflectRZ(int k, double[] y, int rhsCount) {
+        final double[] z = this.rzReflections[k];
+        final int rank = this.rank;
+        for (int c = 0; c < rhsCount; c++) {
+            double s = z[0] * y[k * rhsCount + c];
+            for (int t = 1; t < z.length; t++) {
+                s += z[t] * y[(rank + t - 1) * rhsCount + c];
+            }
+            s *= -2;
+            y[k * rhsCount + c] += s * z[0];
+            for (int t = 1; t < z.length; t++) {
+                y[(rank + t - 1) * rhsCount + c] += s * z[t];
+            }
+        }
+    }
+
+    /**
+     * A<sup>+T</sup><b>y</b> = Q &lceil; T<sup>-T</sup> O &rceil; ZP<sup>T</sup><b>y</b> / s
+     * を計算する.
+     */
+    private double[] solveTranspose(double[] y) {
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
+        final int rank = this.rank;
+
+        // w = Z P^T y
+        double[] w = new double[this.columnNumber];
+        for (int i = 0; i < this.columnNumber; i++) {
+            w[i] = y[this.columnOrder[i]];
+        }
+        for (int k = this.rzReflections.length - 1; k >= 0; k--) {
+            this.reflectRZ(k, w, 1);
+        }
+
+        // u = [T^{-T} w_{0:r}; 0]
+        double[] u = new double[rowNumber];
+        for (int i = 0; i < rank; i++) {
+            final int columnI = i * rowNumber;
+            double sum = w[i];
+            for (int j = 0; j < i; j++) {
+                sum -= entry[columnI + j] * u[j];
+            }
+            u[i] = sum / entry[columnI + i];
+        }
+
+        this.mxQ.applyInPlace(u, 1);
+        for (int i = 0; i < rowNumber; i++) {
+            u[i] /= this.scale;
+        }
+        return u;
+    }
+
+    @Override
+    Matrix createInverse() {
+        return new PseudoInverse();
+    }
+
+    /**
+     * 分解の成分から直接計算する一般化逆行列.
+     */
+    private final class PseudoInverse extends SkeletalAsymmetricMatrix<Matrix> {
+
+        private final MatrixDimension matrixDimension;
+
+        PseudoInverse() {
+            super();
+            this.matrixDimension = HouseholderQRColumnPivoting.this.target.matrixDimension().transpose();
+        }
+
+        @Override
+        public MatrixDimension matrixDimension() {
+            return this.matrixDimension;
+        }
+
+        @Override
+        public Vector operate(Vector operand) {
+            MatrixValidationSupport.validateOperate(this.matrixDimension, operand.vectorDimension());
+
+            double[] result = HouseholderQRColumnPivoting.this.solveRowMajor(operand.entryAsArray(), 1);
+            VectorEntryAccess.modify(result);
+            return VectorEntryAccess.adopt(this.matrixDimension.leftOperableVectorDimension(), result);
+        }
+
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            double[] result = HouseholderQRColumnPivoting.this.solveRowMajor(operand.entryAsArray(), 1);
+            System.arraycopy(result, 0, out, 0, out.length);
+            VectorEntryAccess.modify(out);
+        }
+
+        @Override
+        public Vector operateTranspose(Vector operand) {
+            MatrixValidationSupport.validateOperateTranspose(this.matrixDimension, operand.vectorDimension());
+
+            double[] result = HouseholderQRColumnPivoting.this.solveTranspose(
+                    VectorEntryAccess.entryReference(operand));
+            VectorEntryAccess.modify(result);
+            return VectorEntryAccess.adopt(this.matrixDimension.rightOperableVectorDimension(), result);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateTransposeInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            double[] result = HouseholderQRColumnPivoting.this.solveTranspose(
+                    VectorEntryAccess.entryReference(operand));
+            System.arraycopy(result, 0, out, 0, out.length);
+            VectorEntryAccess.modify(out);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         * 
+         * @return -
+         */
+        @Override
+        protected Matrix createTranspose() {
+            return Matrix.createTransposedOf(this);
+        }
+    }
+
+    /**
+     * この形式の行列分解を得るためのエグゼキュータを返す.
+     * 
+     * @return エグゼキュータ
+     */
+    public static HouseholderQRColumnPivoting.Executor executor() {
+        return Executor.INSTANCE;
+    }
+
+    /**
+     * 列ピボット選択付き Householder 変換によるQR分解のエグゼキュータ.
+     * 
+     * <p>
+     * {@code accepts} メソッドでrejectされる条件は,
+     * {@link QRTypeSolver.Executor} に加えて次のとおりである.
+     * </p>
+     * 
+     * <ul>
+     * <li>行列の有効要素数が大きすぎる場合(後述)</li>
+     * </ul>
+     * 
+     * <p>
+     * {@code apply} メソッドは, 行列がacceptされる場合に常に分解を返す. <br>
+     * すなわち, 列フルランクでない行列 (零行列を含む) に対しても空を返さず,
+     * 数値ランクに応じた分解を返す.
+     * </p>
+     * 
+     * <p>
+     * このクラスのインスタンスは, {@link HouseholderQRColumnPivoting#executor()} メソッドにより得ることができる.
+     * <br>
+     * 実質的にシングルトンである.
+     * </p>
+     * 
+     * <hr>
+     * 
+     * <p>
+     * 有効要素数が大きすぎるかどうかは,
+     * {@link MatrixDimension#isAccepedForDenseMatrix()}
+     * に従う.
+     * </p>
+     */
+    public static final class Executor
+            extends SkeletalQRTypeSolver.Executor<EntryReadableMatrix, HouseholderQRColumnPivoting> {
+
+        private static final Executor INSTANCE = new Executor();
+
+        /**
+         * 非公開のコンストラクタ, シングルトン.
+         */
+        private Executor() {
+            super();
+        }
+
+        @Override
+        MatrixStructureAcceptance acceptsConcretely(EntryReadableMatrix matrix) {
+            return matrix.matrixDimension().isAccepedForDenseMatrix()
+                    ? MatrixStructureAcceptance.ACCEPTED
+                    : MatrixRejectionConstant.REJECTED_BY_TOO_MANY_ELEMENTS.get();
+        }
+
+        @Override
+        Optional<HouseholderQRColumnPivoting> applyConcretely(EntryReadableMatrix matrix, double epsilon) {
+            return Optional.of(new HouseholderQRColumnPivoting(
+                    new HouseholderQRColumnPivotingHelper(matrix, epsilon)));
+        }
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.qr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.common.MatrixProductKernel;
+
+/**
+ * 正方・縦長行列の列ピボット選択付き Householder 変換による完全直交分解のヘルパ.
+ * 
+ * <p>
+ * 行列をスケールした A<sub>s</sub> = A / s に対し,
+ * 列ピボット選択付きQR分解 A<sub>s</sub>P = Q &lceil; R<sub>11</sub> R<sub>12</sub> &rceil;
+ * &lfloor; O R<sub>22</sub> &rfloor;
+ * を求め, R<sub>22</sub> を無視できる位置で数値ランク r を決定する. <br>
+ * r &lt; n の場合, さらに右から Householder 変換を作用させて
+ * [R<sub>11</sub> R<sub>12</sub>] = [T O] Z (T: r &times; r の上三角行列, Z: 直交行列)
+ * とする.
+ * </p>
+ * 
+ * <p>
+ * 行列は列優先の1個の配列で保持し, その場で分解する. <br>
+ * 各列の残りの部分のノルムは, 鏡映変換のたびに再計算せずに更新 (downdate) し,
+ * 桁落ちが大きくなった場合のみ再計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class HouseholderQRColumnPivotingHelper {
+
+    /**
+     * コンパクト WY 表現にまとめる鏡映変換の数.
+     */
+    private static final int BLOCK_SIZE = 32;
+
+    /**
+     * 列ノルムの更新で, 再計算に切り替える閾値.
+     */
+    private static final double NORM_RECOMPUTE_THRESHOLD = Math.sqrt(Math.ulp(1d));
+
+    private final EntryReadableMatrix target;
+    private final double epsilon;
+
+    private final double scale;
+    private final int rowNumber;
+    private final int columnNumber;
+
+    /**
+     * スケールされた行列の列優先の成分. <br>
+     * 分解後は, 第0列から第(r-1)列の上三角部分が T を表す.
+     */
+    private final double[] entry;
+
+    /**
+     * 分解後の第 j 列が, 元の行列の第 columnOrder[j] 列であることを表す.
+     */
+    private final int[] columnOrder;
+
+    private final List<CompactWYBlock> blocks;
+
+    /**
+     * Z = Z<sub>0</sub>Z<sub>1</sub> ... Z<sub>r-1</sub> の鏡映ベクトル (規格化済み). <br>
+     * Z<sub>k</sub> の鏡映ベクトルは第 k 成分と第 r 成分以降に作用し,
+     * 配列の先頭が第 k 成分に対応する.
+     */
+    private final double[][] rzReflections;
+
+    private final int rank;
+    private final CompactWYOrthogonalMatrix mxQ;
+
+    /**
+     * 唯一のコンストラクタ.
+     * 
+     * <p>
+     * 引数はバリデーションされていない. <br>
+     * epsilonは正でなければならない.
+     * </p>
+     */
+    HouseholderQRColumnPivotingHelper(EntryReadableMatrix target, double epsilon) {
+        super();
+
+        this.target = target;
+        this.epsilon = epsilon;
+        this.rowNumber = target.matrixDimension().rowAsIntValue();
+        this.columnNumber = target.matrixDimension().columnAsIntValue();
+
+        //ターゲット行列のスケール(成分を正規化して分解を行うための前処理)
+        //零行列の場合はランク0とする
+        final double entryNormMax = target.entryNormMax();
+        this.scale = entryNormMax == 0d ? 1d : entryNormMax;
+
+        this.entry = this.calcEntryWithScaling();
+        this.columnOrder = new int[this.columnNumber];
+        for (int j = 0; j < this.columnNumber; j++) {
+            this.columnOrder[j] = j;
+        }
+        this.blocks = new ArrayList<>();
+
+        this.rank = entryNormMax == 0d ? 0 : this.factorize();
+        this.rzReflections = this.factorizeRZ();
+        this.mxQ = new CompactWYOrthogonalMatrix(
+                target.matrixDimension().leftSquareDimension(), this.blocks);
+    }
+
+    EntryReadableMatrix target() {
+        return this.target;
+    }
+
+    double scale() {
+        return this.scale;
+    }
+
+    int rank() {
+        return this.rank;
+    }
+
+    /**
+     * 列優先の成分配列を返す (行数が刻み幅). <br>
+     * 第0列から第(r-1)列の上三角部分が T である.
+     */
+    double[] entry() {
+        return this.entry;
+    }
+
+    int[] columnOrder() {
+        return this.columnOrder;
+    }
+
+    double[][] rzReflections() {
+        return this.rzReflections;
+    }
+
+    CompactWYOrthogonalMatrix mxQ() {
+        return this.mxQ;
+    }
+
+    /**
+     * scaleフィールドを参照し, 行列をスケール化した列優先の配列にする.
+     */
+    private double[] calcEntryWithScaling() {
+        final EntryReadableMatrix matrix = this.target;
+        final int rowNumber = this.rowNumber;
+        final int columnNumber = this.columnNumber;
+
+        final double[] entry = new double[rowNumber * columnNumber];
+        int c = 0;
+        for (int j = 0; j < columnNumber; j++) {
+            for (int i = 0; i < rowNumber; i++, c++) {
+                entry[c] = matrix.valueAt(i, j) / this.scale;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * 列ピボット選択付きQR分解の実行.
+     * 
+     * <p>
+     * 第 i 段では, 残りの列のうち第 i 行以降のノルムが最大の列を第 i 列と交換し,
+     * 第 i 列の第 (i+1) 行以降を0にする鏡映変換を作用させる. <br>
+     * 最大のノルムが |R<sub>00</sub>| &times; max(epsilon, m &times; ulp(1))
+     * 以下になった段で終了し, その段数を数値ランクとする.
+     * </p>
+     * 
+     * <p>
+     * 段は {@link #BLOCK_SIZE} 個ずつのパネルにまとめられる (LAPACK dlaqps の方式). <br>
+     * パネル内では, 鏡映ベクトルを並べた V と, F = A<sup>T</sup>VT
+     * (T: コンパクト WY 表現の上三角行列) を累積し,
+     * ピボット列とピボット行のみを直ちに更新する. <br>
+     * 残りの部分 A &larr; A - VF<sup>T</sup> は, パネルの終わりに行列積のカーネルでまとめて更新する. <br>
+     * ノルムの再計算が必要になった場合は, 残りの部分の更新が必要なので, その段でパネルを打ち切る.
+     * </p>
+     * 
+     * @return 数値ランク
+     */
+    private int factorize() {
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
+        final int columnNumber = this.columnNumber;
+        final int[] columnOrder = this.columnOrder;
+
+        //各列の第i行以降のノルム(更新値)と, 最後に再計算したときの値
+        final double[] norms = new double[columnNumber];
+        final double[] referenceNorms = new double[columnNumber];
+        double maxNorm = 0d;
+        for (int j = 0; j < columnNumber; j++) {
+            norms[j] = norm2(entry, j * rowNumber, rowNumber);
+            referenceNorms[j] = norms[j];
+            maxNorm = Math.max(maxNorm, norms[j]);
+        }
+
+        //第0段のピボット列のノルムに対する相対閾値
+        final double threshold = maxNorm * Math.max(this.epsilon, rowNumber * Math.ulp(1d));
+
+        /*
+         * パネルの作業領域.
+         * V: 列優先, 刻み幅は (m - k) (k: パネルの先頭), 第 i 段の鏡映ベクトルは第 (i - k) 行から始まる.
+         * F: 行優先, 刻み幅は BLOCK_SIZE, 第 j 列に対応する行は第 (j - k) 行.
+         */
+        final double[] panelV = new double[rowNumber * BLOCK_SIZE];
+        final double[] panelF = new double[columnNumber * BLOCK_SIZE];
+        final double[] aux = new double[BLOCK_SIZE];
+        final boolean[] normRecomputeRequired = new boolean[columnNumber];
+
+        CompactWYBlock block = null;
+        for (int k = 0; k < columnNumber;) {
+            final int width = Math.min(BLOCK_SIZE, columnNumber - k);
+            final int ldv = rowNumber - k;
+            Arrays.fill(panelV, 0, ldv * width, 0d);
+
+            int processed = 0;
+            boolean normRecomputeRequested = false;
+            while (processed < width && !normRecomputeRequested) {
+                final int jp = processed;
+                final int i = k + jp;
+                final int offset = i * rowNumber + i;
+                final int length = rowNumber - i;
+
+                /* ピボット選択 */
+                int pivot = i;
+                for (int j = i + 1; j < columnNumber; j++) {
+                    if (norms[j] > norms[pivot]) {
+                        pivot = j;
+                    }
+                }
+                if (pivot != i) {
+                    this.swapColumns(i, pivot);
+                    swap(columnOrder, i, pivot);
+                    swap(norms, i, pivot);
+                    swap(referenceNorms, i, pivot);
+                    for (int l = 0; l < jp; l++) {
+                        swap(panelF, (i - k) * BLOCK_SIZE + l, (pivot - k) * BLOCK_SIZE + l);
+                    }
+                }
+
+                /* ピボット列の更新: A(i:m, i) -= V(i:m, 0:jp) F(i, 0:jp)^T */
+                for (int l = 0; l < jp; l++) {
+                    final double f = panelF[(i - k) * BLOCK_SIZE + l];
+                    final int offsetV = l * ldv + jp;
+                    for (int r = 0; r < length; r++) {
+                        entry[offset + r] -= panelV[offsetV + r] * f;
+                    }
+                }
+
+                /* ランクの判定 */
+                //残りの部分 (第rank行以降) は以後参照されないので, 更新せずに終了してよい
+                final double normX = norm2(entry, offset, length);
+                if (normX <= threshold) {
+                    return i;
+                }
+
+                /* 鏡映ベクトルの作成: H = I - 2vv^T, Hx = alpha e_0 */
+                final double x0 = entry[offset];
+                final double alpha = x0 >= 0 ? -normX : normX;
+                final double[] reflection = new double[length];
+                System.arraycopy(entry, offset, reflection, 0, length);
+                reflection[0] -= alpha;
+                final double normV = norm2(reflection, 0, length);
+                for (int r = 0; r < length; r++) {
+                    reflection[r] /= normV;
+                }
+                System.arraycopy(reflection, 0, panelV, jp * ldv + jp, length);
+
+                entry[offset] = alpha;
+                for (int r = 1; r < length; r++) {
+                    entry[offset + r] = 0d;
+                }
+
+                if (Objects.isNull(block) || !block.canAdd(i, length)) {
+                    block = new CompactWYBlock(i, length, Math.min(BLOCK_SIZE, columnNumber - i));
+                    this.blocks.add(block);
+                }
+                block.add(i, reflection);
+
+                /*
+                 * Fの第jp列: F(j, jp) = 2 (A(i:m, j)・v) - 2 F(j, 0:jp) V(i:m, 0:jp)^T v
+                 * (Aは更新されていない部分を含む格納値)
+                 */
+                for (int l = 0; l < jp; l++) {
+                    aux[l] = -2 * ArraysUtil.dot(panelV, l * ldv + jp, reflection, 0, length);
+                }
+                for (int j = i + 1; j < columnNumber; j++) {
+                    final int rowF = (j - k) * BLOCK_SIZE;
+                    double f = 2 * ArraysUtil.dot(reflection, 0, entry, j * rowNumber + i, length);
+                    for (int l = 0; l < jp; l++) {
+                        f += panelF[rowF + l] * aux[l];
+                    }
+                    panelF[rowF + jp] = f;
+                }
+
+                /* ピボット行の更新: A(i, j) -= V(i, 0:jp+1) F(j, 0:jp+1)^T */
+                for (int j = i + 1; j < columnNumber; j++) {
+                    final int rowF = (j - k) * BLOCK_SIZE;
+                    double sum = 0d;
+                    for (int l = 0; l <= jp; l++) {
+                        sum += panelV[l * ldv + jp] * panelF[rowF + l];
+                    }
+                    entry[j * rowNumber + i] -= sum;
+                }
+
+                /* ノルムの更新 */
+                for (int j = i + 1; j < columnNumber; j++) {
+                    if (norms[j] == 0d) {
+                        continue;
+                    }
+                    double ratio = Math.abs(entry[j * rowNumber + i]) / norms[j];
+                    double temp = Math.max(0d, (1d + ratio) * (1d - ratio));
+                    double relative = norms[j] / referenceNorms[j];
+                    if (temp * relative * relative <= NORM_RECOMPUTE_THRESHOLD) {
+                        //第(i+1)行以降が更新されるまで再計算できない
+                        normRecomputeRequired[j] = true;
+                        normRecomputeRequested = true;
+                    } else {
+                        norms[j] *= Math.sqrt(temp);
+                    }
+                }
+
+                processed++;
+            }
+
+            /* 残りの部分の更新: A(k1:m, k1:n) -= V(k1:m, :) F(k1:n, :)^T (k1 = k + processed) */
+            //列優先のAは行優先のA^Tであり, V^T は列優先のVを行優先とみなしたものである
+            final int k1 = k + processed;
+            MatrixProductKernel.multiplyAndAdd(
+                    -1d,
+                    panelF, (k1 - k) * BLOCK_SIZE, BLOCK_SIZE,
+                    panelV, k1 - k, ldv,
+                    entry, k1 * rowNumber + k1, rowNumber,
+                    columnNumber - k1, processed, rowNumber - k1);
+
+            if (normRecomputeRequested) {
+                for (int j = k1; j < columnNumber; j++) {
+                    if (normRecomputeRequired[j]) {
+                        norms[j] = norm2(entry, j * rowNumber + k1, rowNumber - k1);
+                        referenceNorms[j] = norms[j];
+                        normRecomputeRequired[j] = false;
+                    }
+                }
+            }
+
+            k = k1;
+        }
+        return columnNumber;
+    }
+
+    /**
+     * 右から鏡映変換を作用させ, [R<sub>11</sub> R<sub>12</sub>] を [T O] にする. <br>
+     * 第 (r-1) 行から順に, 第 k 行の第 r 列以降を0にする.
+     * 
+     * @return Z の鏡映ベクトル, r = n の場合は長さ0
+     */
+    private double[][] factorizeRZ() {
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
+        final int rank = this.rank;
+        final int extra = this.columnNumber - rank;
+
+        if (extra == 0) {
+            return new double[0][];
+        }
+
+        final double[][] out = new double[rank][];
+        for (int k = rank - 1; k >= 0; k--) {
+            // x = [a(k, k), a(k, r), ..., a(k, n-1)]
+            final double[] z = new double[extra + 1];
+            z[0] = entry[k * rowNumber + k];
+            for (int t = 0; t < extra; t++) {
+                z[t + 1] = entry[(rank + t) * rowNumber + k];
+            }
+            final double normX = norm2(z, 0, z.length);
+            final double alpha = z[0] >= 0 ? -normX : normX;
+            z[0] -= alpha;
+            final double normZ = norm2(z, 0, z.length);
+            for (int t = 0; t < z.length; t++) {
+                z[t] /= normZ;
+            }
+            out[k] = z;
+
+            entry[k * rowNumber + k] = alpha;
+            for (int t = 0; t < extra; t++) {
+                entry[(rank + t) * rowNumber + k] = 0d;
+            }
+
+            //第k行より上の行の更新: row <- row - 2 (row・z) z^T
+            for (int q = 0; q < k; q++) {
+                double s = z[0] * entry[k * rowNumber + q];
+                for (int t = 0; t < extra; t++) {
+                    s += z[t + 1] * entry[(rank + t) * rowNumber + q];
+                }
+                s *= -2;
+                entry[k * rowNumber + q] += s * z[0];
+                for (int t = 0; t < extra; t++) {
+                    entry[(rank + t) * rowNumber + q] += s * z[t + 1];
+                }
+            }
+        }
+        return out;
+    }
+
+    private void swapColumns(int j1, int j2) {
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
+        for (int r = 0, c1 = j1 * rowNumber, c2 = j2 * rowNumber; r < rowNumber; r++, c1++, c2++) {
+            double tmp = entry[c1];
+            entry[c1] = entry[c2];
+            entry[c2] = tmp;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * 配列の部分範囲の2-ノルムを返す. <br>
+     * スケール済みの成分を扱うため, オーバーフローは考慮しない.
+     */
+    private static double norm2(double[] array, int from, int length) {
+        return Math.sqrt(ArraysUtil.dot(array, from, array, from, length));
+    }
+}
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.6.17
+ * 2026.10.16
  */
 package matsu.num.matrix.core.qr;
 
@@ -17,37 +17,46 @@ import java.util.Objects;
 
 import matsu.num.matrix.core.DiagonalMatrix;
 import matsu.num.matrix.core.EntryReadableMatrix;
-import matsu.num.matrix.core.HouseholderMatrix;
 import matsu.num.matrix.core.LowerUnitriangular;
 import matsu.num.matrix.core.LowerUnitriangularMatrix;
-import matsu.num.matrix.core.MatrixDimension;
-import matsu.num.matrix.core.OrthogonalMatrix;
-import matsu.num.matrix.core.UnitMatrix;
-import matsu.num.matrix.core.Vector;
-import matsu.num.matrix.core.VectorDimension;
 import matsu.num.matrix.core.common.ArraysUtil;
-import matsu.num.matrix.core.sparse.HouseholderMatrixFactoryForSparse;
-import matsu.num.matrix.core.sparse.LocalSparseVector;
 
 /**
  * 正方・縦長行列の Householder 変換によるQR分解のヘルパ.
  * 
+ * <p>
+ * 行列は列優先の1個の配列で保持し, 列を {@link #BLOCK_SIZE} 本ずつのパネルに分けて分解する. <br>
+ * パネル内の鏡映変換はコンパクト WY 表現 I - VTV<sup>T</sup> にまとめられ,
+ * パネルより右側の列へは行列と行列の積として一括で作用させる.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 final class HouseholderQRHelper {
 
+    /**
+     * コンパクト WY 表現にまとめるパネルの列数.
+     */
+    private static final int BLOCK_SIZE = 32;
+
     private final EntryReadableMatrix target;
     private final double epsilon;
 
     private final double scale;
-    private final Vector[] columnVectors;
+    private final int rowNumber;
+    private final int columnNumber;
+
+    /**
+     * スケールされた行列の列優先の成分. <br>
+     * 分解後は, 上三角部分がスケールされた状態の RD を表す.
+     */
+    private final double[] entry;
 
-    private final UnitMatrix baseMatrix;
-    private final List<HouseholderMatrix> hhList;
+    private final List<CompactWYBlock> blocks;
 
     private final DiagonalMatrix mxD;
     private final LowerUnitriangular mxRt;
-    private final OrthogonalMatrix mxQ;
+    private final CompactWYOrthogonalMatrix mxQ;
 
     /**
      * 唯一のコンストラクタ.
@@ -73,10 +82,10 @@ final class HouseholderQRHelper {
         }
 
         /* 初期値の用意 */
-        this.columnVectors = this.calcColumnVectorsWithScaling();
-        MatrixDimension mxQDimension = target.matrixDimension().leftSquareDimension();
-        this.baseMatrix = UnitMatrix.matrixOf(mxQDimension);
-        this.hhList = new ArrayList<>(mxQDimension.rowAsIntValue());
+        this.rowNumber = target.matrixDimension().rowAsIntValue();
+        this.columnNumber = target.matrixDimension().columnAsIntValue();
+        this.entry = this.calcEntryWithScaling();
+        this.blocks = new ArrayList<>();
 
         this.factorize();
 
@@ -93,7 +102,7 @@ final class HouseholderQRHelper {
         return this.mxD;
     }
 
-    OrthogonalMatrix mxQ() {
+    CompactWYOrthogonalMatrix mxQ() {
         return this.mxQ;
     }
 
@@ -102,94 +111,159 @@ final class HouseholderQRHelper {
     }
 
     /**
-     * scaleフィールドを参照し, 行列をスケール化した後に列ベクトルにする.
+     * R<sup>T</sup> の狭義下三角部分を, 下三角部分の行詰め表現で返す. <br>
+     * (対角成分の位置には1が格納される.)
      */
-    private Vector[] calcColumnVectorsWithScaling() {
-        final EntryReadableMatrix matrix = this.target;
-        final MatrixDimension matrixDimension = matrix.matrixDimension();
-        final VectorDimension columnVectorDimension = matrixDimension.leftOperableVectorDimension();
-        final int columnNumber = matrixDimension.columnAsIntValue();
+    double[] rtLowerEntry() {
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
 
-        final Vector[] columnVectors = new Vector[columnNumber];
+        final int columnNumber = this.columnNumber;
+        double[] out = new double[columnNumber * (columnNumber + 1) / 2];
+        int c = 0;
+        for (int k = 0; k < columnNumber; k++) {
+            final int offset = k * rowNumber;
+            double diag = entry[offset + k];
+            for (int j = 0; j < k; j++) {
+                out[c] = entry[offset + j] / diag;
+                c++;
+            }
+            out[c] = 1d;
+            c++;
+        }
+        return out;
+    }
+
+    /**
+     * D の対角成分を返す.
+     */
+    double[] diagonalEntry() {
+        final int columnNumber = this.columnNumber;
+        double[] out = new double[columnNumber];
+        for (int k = 0; k < columnNumber; k++) {
+            out[k] = this.mxD.valueAt(k, k);
+        }
+        return out;
+    }
+
+    /**
+     * scaleフィールドを参照し, 行列をスケール化した列優先の配列にする.
+     */
+    private double[] calcEntryWithScaling() {
+        final EntryReadableMatrix matrix = this.target;
+        final int rowNumber = this.rowNumber;
+        final int columnNumber = this.columnNumber;
 
         /* 行列の成分をスケールする. */
+        final double[] entry = new double[rowNumber * columnNumber];
+        int c = 0;
         for (int j = 0; j < columnNumber; j++) {
-            double[] entry = new double[columnVectorDimension.intValue()];
-            for (int i = 0; i < entry.length; i++) {
-                entry[i] = matrix.valueAt(i, j) / this.scale;
+            for (int i = 0; i < rowNumber; i++, c++) {
+                entry[c] = matrix.valueAt(i, j) / this.scale;
             }
-            Vector.Builder builder = Vector.Builder.zeroBuilder(columnVectorDimension);
-            builder.setEntryValue(entry);
-            columnVectors[j] = builder.build();
         }
 
-        return columnVectors;
+        return entry;
     }
 
     /**
      * QR分解の実行.
      * 
-     * 事前条件は, hhListが空, 列ベクトル配列がスケールされたsrc状態であること.
-     * 事後条件は, ｈｈListはmatrix(Q), 列ベクトル配列はスケールされた状態のmatrix(RD)になる.
+     * 事前条件は, blocksが空, 成分配列がスケールされたsrc状態であること.
+     * 事後条件は, blocksはmatrix(Q)のブロック列, 成分配列の上三角部分はスケールされた状態のmatrix(RD)になる.
      * 
      * @throws ProcessFailedException 数値的にフルランクでない場合
      */
     private void factorize() throws ProcessFailedException {
+        final int rowNumber = this.rowNumber;
+        final int columnNumber = this.columnNumber;
 
-        Vector[] columnVectors = this.columnVectors;
+        for (int j0 = 0; j0 < columnNumber; j0 += BLOCK_SIZE) {
+            final int j1 = Math.min(columnNumber, j0 + BLOCK_SIZE);
 
-        final VectorDimension columnVectorDimension = this.target.matrixDimension().leftOperableVectorDimension();
-        final int columnNumber = columnVectors.length;
-        for (int i = 0; i < columnNumber; i++) {
-
-            //途中の行列のうち, 第i成分以降を使って鏡映変換を考える
-            double[] vecX_i = Arrays.copyOfRange(
-                    columnVectors[i].entryAsArray(), i, columnVectorDimension.intValue());
-
-            /* Householder行列の作成 */
-            //ここで例外が発生する可能性がある
-            HouseholderMatrix mxH = this.createMxH(columnVectorDimension, i, vecX_i);
-            if (Objects.isNull(mxH)) {
-                //nullが返った場合, 鏡映変換が必要ないことを表す
+            /*
+             * パネルの鏡映変換の積 H_{j0} ... H_{j1-1} = I - VTV^{T} を構成する.
+             */
+            final CompactWYBlock block = new CompactWYBlock(j0, rowNumber - j0, j1 - j0);
+            for (int i = j0; i < j1; i++) {
+                //ここで例外が発生する可能性がある
+                double[] reflection = this.factorizeColumn(i, j1);
+                if (Objects.isNull(reflection)) {
+                    //nullが返った場合, 鏡映変換が必要ないことを表す
+                    continue;
+                }
+                block.add(i, reflection);
+            }
+            if (block.size() == 0) {
                 continue;
             }
-
-            /* Qの更新 */
-            this.hhList.add(mxH);
+            this.blocks.add(block);
 
             /*
-             * 鏡映変換により行列を更新.
-             * 第(i-1)列以前は変換不要.
+             * パネルより右側の列 A に (I - VTV^{T})^{T} を作用させる.
+             * W = T^{T}V^{T}A を求め, A <- A - VW とする.
              */
-            for (int k = i; k < columnNumber; k++) {
-                columnVectors[k] = mxH.operate(columnVectors[k]);
+            if (j1 < columnNumber) {
+                block.apply(this.entry, j1 * rowNumber, 1, rowNumber, columnNumber - j1, true);
+            }
+        }
+    }
+
+    /**
+     * 第i列に対する鏡映変換を作成し, パネル内の第i列から第(j1-1)列に作用させる.
+     * 
+     * @return 規格化された鏡映ベクトル (長さ m - i), 変換が必要ない場合はnull
+     * @throws ProcessFailedException 数値的にフルランクでない場合
+     */
+    private double[] factorizeColumn(int i, int j1) throws ProcessFailedException {
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
+        final int length = rowNumber - i;
+
+        //途中の行列のうち, 第i成分以降を使って鏡映変換を考える
+        double[] vecX_i = Arrays.copyOfRange(entry, i * rowNumber + i, (i + 1) * rowNumber);
+
+        /* 鏡映ベクトルの作成 */
+        //ここで例外が発生する可能性がある
+        double[] reflection = this.createReflection(i, vecX_i);
+        if (Objects.isNull(reflection)) {
+            return null;
+        }
+
+        /*
+         * 鏡映変換 H = I - 2vv^T によりパネル内の列を更新.
+         * 第(i-1)列以前は変換不要.
+         */
+        for (int k = i; k < j1; k++) {
+            final int offset = k * rowNumber + i;
+            final double coeff = -2 * ArraysUtil.dot(reflection, 0, entry, offset, length);
+            for (int r = 0; r < length; r++) {
+                entry[offset + r] += coeff * reflection[r];
             }
         }
+        return reflection;
     }
 
     /**
      * [0, ..., 0, a, *, ..., *]
      * を
      * [0, ..., 0, a', 0, ..., 0]
-     * に変換する鏡映変換を得る (a' > 0). <br>
+     * に変換する鏡映変換の鏡映ベクトルを得る (a' > 0). <br>
      * 変換が必要ない場合はnullを返す.
      * 
      * 
-     * @param dimension 列ベクトルの次元(srcの行サイズに相当)
      * @param i 鏡映変換のスタート位置(aの位置)
-     * @param vecX_i i以降の成分([a, *, ..., *])
-     * @return Householder変換, 変換が必要ない場合はnullを返す
+     * @param vecX_i i以降の成分([a, *, ..., *]), 書き換えられる
+     * @return 規格化された鏡映ベクトル, 変換が必要ない場合はnullを返す
      * @throws ProcessFailedException vecXが0に近い場合
      *             (すなわち元の行列がランク落ちしている場合)
      */
-    private HouseholderMatrix createMxH(VectorDimension dimension, int i, double[] vecX_i)
+    private double[] createReflection(int i, double[] vecX_i)
             throws ProcessFailedException {
 
         double epsilon = this.epsilon;
 
         int l = vecX_i.length;
-        //コピーに対して処理を行う
-        vecX_i = vecX_i.clone();
 
         //途中の行列のうち, 第i成分以降を使って鏡映変換を考える
         double absX = ArraysUtil.norm2(vecX_i);
@@ -205,8 +279,13 @@ final class HouseholderQRHelper {
             return null;
         }
 
-        return HouseholderMatrixFactoryForSparse.from(
-                LocalSparseVector.of(dimension, i, vectorHh_i));
+        //コンパクト WY 表現のため, 規格化した鏡映ベクトルを返す
+        double[] normalized = vectorHh_i;
+        double normU = ArraysUtil.norm2(normalized);
+        for (int j = 0; j < l; j++) {
+            normalized[j] /= normU;
+        }
+        return normalized;
     }
 
     /**
@@ -259,14 +338,15 @@ final class HouseholderQRHelper {
      */
     private DiagonalMatrix convertToMxD() throws ProcessFailedException {
 
-        final Vector[] columnVectors = this.columnVectors;
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
 
         //スケーリングはDの成分に反映される
-        final int columnNumber = this.columnVectors.length;
+        final int columnNumber = this.columnNumber;
         final DiagonalMatrix.Builder mxDBuilder = DiagonalMatrix.Builder
                 .zeroBuilder(this.target.matrixDimension().rightSquareDimension());
         for (int k = 0; k < columnNumber; k++) {
-            mxDBuilder.setValue(k, columnVectors[k].valueAt(k) * this.scale);
+            mxDBuilder.setValue(k, entry[k * rowNumber + k] * this.scale);
         }
 
         DiagonalMatrix out = mxDBuilder.build();
@@ -280,35 +360,36 @@ final class HouseholderQRHelper {
 
     /**
      * mxRtを構成する.
-     * 列ベクトル配列はmatrix(RD)なので, 各成分を対角成分で除する.
+     * 成分配列の上三角部分はmatrix(RD)なので, 各成分を対角成分で除する.
      * 
      * @return mxRt
      */
     private LowerUnitriangularMatrix convertToMxRt() {
-        final Vector[] columnVectors = this.columnVectors;
+        final double[] entry = this.entry;
+        final int rowNumber = this.rowNumber;
 
-        final int columnNumber = this.columnVectors.length;
+        final int columnNumber = this.columnNumber;
         final LowerUnitriangularMatrix.Builder mxRtBuilder =
                 LowerUnitriangularMatrix.Builder
                         .unit(this.target.matrixDimension().rightSquareDimension());
         for (int k = 0; k < columnNumber; k++) {
-            Vector vector_k = columnVectors[k];
-            double diag = vector_k.valueAt(k);
+            final int offset = k * rowNumber;
+            double diag = entry[offset + k];
             for (int j = 0; j < k; j++) {
-                mxRtBuilder.setValue(k, j, vector_k.valueAt(j) / diag);
+                mxRtBuilder.setValue(k, j, entry[offset + j] / diag);
             }
         }
         return mxRtBuilder.build();
     }
 
     /**
-     * mxQを構成する.
+     * mxQを構成する. <br>
+     * 分解で得たパネルごとのコンパクト WY 表現をそのまま用いる.
      * 
      * @return mxQ
      */
-    private OrthogonalMatrix convertToMxQ() {
-        return OrthogonalMatrix.multiply(
-                baseMatrix,
-                hhList.toArray(OrthogonalMatrix[]::new));
+    private CompactWYOrthogonalMatrix convertToMxQ() {
+        return new CompactWYOrthogonalMatrix(
+                this.target.matrixDimension().leftSquareDimension(), this.blocks);
     }
 }
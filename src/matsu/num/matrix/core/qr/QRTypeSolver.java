@@ -6,15 +6,19 @@
  */
 
 /*
- * 2025.6.16
+ * 2026.10.16
  */
 package matsu.num.matrix.core.qr;
 
 import java.util.Optional;
 
 import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
 import matsu.num.matrix.core.GeneralizedInversion;
+import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.PseudoRegularMatrixProcess;
+import matsu.num.matrix.core.helper.value.MultipleRightHandSideSupport;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
 
 /**
@@ -42,6 +46,12 @@ import matsu.num.matrix.core.validation.MatrixStructureAcceptance;
  * 必ず逆行列を得ることになる.)
  * </p>
  * 
+ * <p>
+ * 複数の右辺を持つ線形連立方程式 AX = B の最小二乗解は,
+ * {@link #solve(EntryReadableMatrix)}, {@link #solveInto(double[][], double[][])}
+ * により全ての右辺をまとめて求めることができる.
+ * </p>
+ * 
  * 
  * @implSpec
  *               <p>
@@ -66,6 +76,68 @@ public interface QRTypeSolver
     @Override
     public abstract EntryReadableMatrix target();
 
+    /**
+     * 複数の右辺を持つ線形連立方程式 AX = B の最小二乗解 X = A<sup>+</sup>B を計算する. <br>
+     * A はこの行列分解のターゲット行列, A<sup>+</sup> はその一般化逆行列,
+     * B は右辺を列として並べた行列である.
+     * 
+     * <p>
+     * 結果は {@link #inverse()} を B の各列に作用させた場合と (丸め誤差を除いて) 一致する.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルト実装では, B の列を取り出して
+     *               {@link #solveInto(double[][], double[][])} を呼び出す.
+     * 
+     * @param b B, 右辺行列
+     * @return X, 解行列
+     * @throws MatrixFormatMismatchException B の行数がターゲット行列の行数と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default GeneralMatrix solve(EntryReadableMatrix b) {
+        final MatrixDimension targetDimension = this.target().matrixDimension();
+        final MatrixDimension rhsDimension = b.matrixDimension();
+        MultipleRightHandSideSupport.validateSolve(targetDimension, rhsDimension);
+
+        final int rhsCount = rhsDimension.columnAsIntValue();
+        double[][] columns = MultipleRightHandSideSupport.columnsOf(b);
+        double[][] solution = new double[rhsCount][targetDimension.columnAsIntValue()];
+        this.solveInto(columns, solution);
+        return MultipleRightHandSideSupport.matrixOfColumns(
+                MatrixDimension.rectangle(targetDimension.columnAsIntValue(), rhsCount), solution);
+    }
+
+    /**
+     * 複数の右辺を持つ線形連立方程式 AX = B の最小二乗解を求め, 与えた配列に書き込む. <br>
+     * A はこの行列分解のターゲット行列である.
+     * 
+     * <p>
+     * 右辺と解は列ベクトルの成分配列の配列で与える. <br>
+     * すなわち, {@code b[j]} は B の第 <i>j</i> 列, {@code x[j]} は X の第 <i>j</i> 列である. <br>
+     * {@code b[j]} の長さは A の行数に, {@code x[j]} の長さは A の列数に一致しなければならない. <br>
+     * {@code b} の値は変更されない. <br>
+     * 右辺の不正な値, 及び演算結果は {@link matsu.num.matrix.core.Vector}
+     * が扱うことができる値に修正される.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルト実装では, {@link #inverse()} を列ごとに作用させる. <br>
+     *               全ての右辺に対して係数行列の読み込みを共有するため,
+     *               可能な場合はオーバーライドして, 全ての列をまとめて処理すべきである.
+     * 
+     * @param b B, 右辺
+     * @param x X, 解の出力先
+     * @throws MatrixFormatMismatchException {@code b} と {@code x} の長さが一致しない場合,
+     *             各列の長さがターゲット行列のサイズと適合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default void solveInto(double[][] b, double[][] x) {
+        final MatrixDimension targetDimension = this.target().matrixDimension();
+        MultipleRightHandSideSupport.validateSolveInto(targetDimension, b, x);
+
+        MultipleRightHandSideSupport.solveEachColumn(targetDimension, this.inverse(), b, x);
+    }
+
     /**
      * 列フルランクな行列に関するQR分解の実行 (QR分解を生成する行為) を扱う.
      * 
@@ -101,7 +173,8 @@ public interface QRTypeSolver
      * </p>
      * 
      * <ul>
-     * <li>例: 列フルランクでない行列が与えられる (仕様上, 必ず).</li>
+     * <li>例: 列フルランクでない行列が与えられる
+     * (数値ランクを判定する {@link HouseholderQRColumnPivoting} 以外では, 仕様上必ず).</li>
      * </ul>
      * 
      * <p>
@@ -154,7 +227,8 @@ public interface QRTypeSolver
          * 
          * <p>
          * 分解開始後に失敗した場合は, 空のオプショナルが返る. <br>
-         * 列フルランクでない場合には分解に失敗する. <br>
+         * 列フルランクでない場合には分解に失敗する
+         * (数値ランクを判定する {@link HouseholderQRColumnPivoting} を除く). <br>
          * その他の条件はサブタイプにゆだねられる.
          * </p>
          * 
@@ -0,0 +1,378 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.qr;
+
+import java.util.Optional;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.PseudoRegularMatrixProcess;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 観測行の追加と削除により更新される, QR分解による線形最小二乗問題を表す.
+ * 
+ * <p>
+ * 観測行 <b>a</b><sub><i>i</i></sub><sup>T</sup> (次元 n) と観測値 <i>b</i><sub><i>i</i></sub>
+ * を並べた A<b>x</b> = <b>b</b> の最小二乗解を扱う. <br>
+ * A = QR' (R: n &times; n の上三角行列) に対し, R, <b>z</b> = (Q<sup>T</sup><b>b</b>) の先頭n成分,
+ * 残差ノルム &rho; = ||A<b>x</b> - <b>b</b>||<sub>2</sub> のみを保持し, Q と A は保持しない. <br>
+ * 行の追加は Givens 回転による R の更新 (update),
+ * 行の削除は Givens 回転による R の縮小 (downdate) により, いずれも O(n<sup>2</sup>) で行う.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり,
+ * 行の追加と削除は更新後の新しいインスタンスを返す. <br>
+ * 全てのメソッドは関数的かつスレッドセーフである.
+ * </p>
+ * 
+ * <p>
+ * 行の削除は, 削除する行が実際にそれまでに追加されたものであることを前提とする. <br>
+ * 削除後の R<sup>T</sup>R = R<sup>T</sup>R - <b>aa</b><sup>T</sup>
+ * が数値的に正定値でなくなる場合 (列フルランクでなくなる場合, 追加されていない行を削除した場合),
+ * 削除は失敗する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class UpdatableQRLeastSquares {
+
+    /**
+     * 削除する行の残差成分と残差ノルムの整合性を判定する相対許容誤差.
+     */
+    private static final double REMOVAL_TOLERANCE = 1E-10;
+
+    private final VectorDimension parameterDimension;
+    private final int dimension;
+
+    private final long rowCount;
+
+    /**
+     * R: 行優先の n &times; n (上三角部分のみを使用).
+     */
+    private final double[] r;
+    private final double[] z;
+    private final double residualNorm;
+
+    /**
+     * 内部から呼ばれる. <br>
+     * 配列は参照が漏洩していないものを渡さなければならない.
+     */
+    private UpdatableQRLeastSquares(
+            VectorDimension parameterDimension, long rowCount, double[] r, double[] z, double residualNorm) {
+        this.parameterDimension = parameterDimension;
+        this.dimension = parameterDimension.intValue();
+        this.rowCount = rowCount;
+        this.r = r;
+        this.z = z;
+        this.residualNorm = residualNorm;
+    }
+
+    /**
+     * 観測行が1本もない状態を返す.
+     * 
+     * @param parameterDimension 未知数の次元 n (観測行の次元)
+     * @return 観測行が無い状態
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static UpdatableQRLeastSquares empty(VectorDimension parameterDimension) {
+        final int n = parameterDimension.intValue();
+        return new UpdatableQRLeastSquares(
+                parameterDimension, 0L, new double[n * n], new double[n], 0d);
+    }
+
+    /**
+     * 未知数の次元 n を返す.
+     * 
+     * @return 未知数の次元
+     */
+    public VectorDimension parameterDimension() {
+        return this.parameterDimension;
+    }
+
+    /**
+     * 現在の観測行の数を返す.
+     * 
+     * @return 観測行の数
+     */
+    public long rowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * 現在の最小二乗解の残差ノルム ||A<b>x</b> - <b>b</b>||<sub>2</sub> を返す.
+     * 
+     * @return 残差ノルム
+     */
+    public double residualNorm() {
+        return this.residualNorm;
+    }
+
+    /**
+     * 現在の観測に対する最小二乗解 <b>x</b> = R<sup>-1</sup><b>z</b> を返す.
+     * 
+     * <p>
+     * 観測行の行列 A が数値的に列フルランクでない場合は空を返す. <br>
+     * 列フルランクかどうかは, R の対角成分の絶対値の最小値が最大値の
+     * {@link PseudoRegularMatrixProcess#DEFAULT_EPSILON} 倍以下であるかどうかで判定する.
+     * </p>
+     * 
+     * @return 最小二乗解, 列フルランクでない場合は空
+     */
+    public Optional<Vector> solution() {
+        final int n = this.dimension;
+        final double[] r = this.r;
+
+        double maxDiag = 0d;
+        for (int i = 0; i < n; i++) {
+            maxDiag = Math.max(maxDiag, Math.abs(r[i * n + i]));
+        }
+        final double threshold = maxDiag * PseudoRegularMatrixProcess.DEFAULT_EPSILON;
+        for (int i = 0; i < n; i++) {
+            if (!(Math.abs(r[i * n + i]) > threshold)) {
+                return Optional.empty();
+            }
+        }
+
+        //後退代入
+        double[] x = this.z.clone();
+        for (int i = n - 1; i >= 0; i--) {
+            final int rowI = i * n;
+            double sum = x[i];
+            for (int j = i + 1; j < n; j++) {
+                sum -= r[rowI + j] * x[j];
+            }
+            x[i] = sum / r[rowI + i];
+        }
+        VectorEntryAccess.modify(x);
+        return Optional.of(VectorEntryAccess.adopt(this.parameterDimension, x));
+    }
+
+    /**
+     * 観測行 <b>a</b><sup>T</sup> と観測値 <i>b</i> を追加した状態を返す.
+     * 
+     * @param row 観測行 <b>a</b>
+     * @param observation 観測値 <i>b</i>
+     * @return 行を追加した状態
+     * @throws MatrixFormatMismatchException 観測行の次元が未知数の次元と一致しない場合
+     * @throws IllegalArgumentException 観測値が有限でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public UpdatableQRLeastSquares appendRow(Vector row, double observation) {
+        this.validate(row, observation);
+
+        double[] r = this.r.clone();
+        double[] z = this.z.clone();
+        double residualNorm = update(this.dimension, r, z, this.residualNorm,
+                row.entryAsArray(), observation);
+        return new UpdatableQRLeastSquares(
+                this.parameterDimension, this.rowCount + 1, r, z, residualNorm);
+    }
+
+    /**
+     * 行列 A の各行と, 観測値 <b>b</b> の各成分を順に追加した状態を返す.
+     * 
+     * @param rows A, 観測行を並べた行列
+     * @param observations <b>b</b>, 観測値
+     * @return 行を追加した状態
+     * @throws MatrixFormatMismatchException A の列数が未知数の次元と一致しない場合,
+     *             A の行数と <b>b</b> の次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public UpdatableQRLeastSquares appendRows(EntryReadableMatrix rows, Vector observations) {
+        final int n = this.dimension;
+        final int m = rows.matrixDimension().rowAsIntValue();
+        if (rows.matrixDimension().columnAsIntValue() != n
+                || observations.vectorDimension().intValue() != m) {
+            throw new MatrixFormatMismatchException(
+                    "dimension mismatch: parameter: %s, rows: %s, observations: %s"
+                            .formatted(this.parameterDimension, rows.matrixDimension(),
+                                    observations.vectorDimension()));
+        }
+
+        double[] r = this.r.clone();
+        double[] z = this.z.clone();
+        double residualNorm = this.residualNorm;
+        double[] row = new double[n];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                row[j] = rows.valueAt(i, j);
+            }
+            residualNorm = update(n, r, z, residualNorm, row, observations.valueAt(i));
+        }
+        return new UpdatableQRLeastSquares(
+                this.parameterDimension, this.rowCount + m, r, z, residualNorm);
+    }
+
+    /**
+     * 観測行 <b>a</b><sup>T</sup> と観測値 <i>b</i> を削除した状態を返す.
+     * 
+     * <p>
+     * 削除により数値的に列フルランクでなくなる場合,
+     * または削除する行が追加されたものと整合しない場合は空を返す.
+     * </p>
+     * 
+     * @param row 観測行 <b>a</b>
+     * @param observation 観測値 <i>b</i>
+     * @return 行を削除した状態, 削除に失敗した場合は空
+     * @throws MatrixFormatMismatchException 観測行の次元が未知数の次元と一致しない場合
+     * @throws IllegalArgumentException 観測値が有限でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Optional<UpdatableQRLeastSquares> removeRow(Vector row, double observation) {
+        this.validate(row, observation);
+        if (this.rowCount == 0) {
+            return Optional.empty();
+        }
+
+        final int n = this.dimension;
+        final double[] r = this.r.clone();
+        final double[] z = this.z.clone();
+        final double[] x = row.entryAsArray();
+
+        /*
+         * R^T p = a を解き, ||p|| < 1 ならば R^T R - aa^T は正定値である.
+         * (LINPACK dchdd のアルゴリズム.)
+         */
+        final double[] p = new double[n];
+        double normSquare = 0d;
+        for (int i = 0; i < n; i++) {
+            double sum = x[i];
+            for (int k = 0; k < i; k++) {
+                sum -= r[k * n + i] * p[k];
+            }
+            final double rii = r[i * n + i];
+            if (rii == 0d) {
+                return Optional.empty();
+            }
+            p[i] = sum / rii;
+            normSquare += p[i] * p[i];
+        }
+        double alphaSquare = 1d - normSquare;
+        if (!(alphaSquare > n * Math.ulp(1d))) {
+            return Optional.empty();
+        }
+
+        /* 回転の生成 */
+        final double[] c = new double[n];
+        final double[] s = new double[n];
+        double alpha = Math.sqrt(alphaSquare);
+        for (int i = n - 1; i >= 0; i--) {
+            final double scale = alpha + Math.abs(p[i]);
+            final double a = alpha / scale;
+            final double b = p[i] / scale;
+            final double norm = Math.sqrt(a * a + b * b);
+            c[i] = a / norm;
+            s[i] = b / norm;
+            alpha = scale * norm;
+        }
+
+        /* Rの縮小 */
+        for (int j = 0; j < n; j++) {
+            double xx = 0d;
+            for (int i = j; i >= 0; i--) {
+                final double rij = r[i * n + j];
+                final double t = c[i] * xx + s[i] * rij;
+                r[i * n + j] = c[i] * rij - s[i] * xx;
+                xx = t;
+            }
+        }
+
+        /* zと残差ノルムの縮小 */
+        double zeta = observation;
+        for (int i = 0; i < n; i++) {
+            z[i] = (z[i] - s[i] * zeta) / c[i];
+            zeta = c[i] * zeta - s[i] * z[i];
+        }
+
+        /*
+         * 削除後の残差ノルムの2乗は rho^2 - zeta^2 である.
+         * |zeta| > rho ならば, 削除する行は追加されたものと整合しない.
+         * (LINPACK dchdd の info = 1 に相当する.)
+         */
+        final double absZeta = Math.abs(zeta);
+        double scale = this.residualNorm;
+        for (int i = 0; i < n; i++) {
+            scale = Math.hypot(scale, this.z[i]);
+        }
+        if (absZeta - this.residualNorm > REMOVAL_TOLERANCE * scale) {
+            return Optional.empty();
+        }
+        final double residualNorm = absZeta < this.residualNorm
+                ? this.residualNorm * Math.sqrt((1d - absZeta / this.residualNorm) * (1d + absZeta / this.residualNorm))
+                : 0d;
+
+        return Optional.of(new UpdatableQRLeastSquares(
+                this.parameterDimension, this.rowCount - 1, r, z, residualNorm));
+    }
+
+    /**
+     * Givens 回転により, 行 (<b>a</b><sup>T</sup>, <i>b</i>) を R, <b>z</b> に取り込む.
+     * 
+     * @return 更新後の残差ノルム
+     */
+    private static double update(int n, double[] r, double[] z, double residualNorm,
+            double[] row, double observation) {
+        double y = observation;
+        for (int k = 0; k < n; k++) {
+            final double xk = row[k];
+            if (xk == 0d) {
+                continue;
+            }
+            final int rowK = k * n;
+            final double rkk = r[rowK + k];
+            final double norm = Math.hypot(rkk, xk);
+            final double c = rkk / norm;
+            final double s = xk / norm;
+
+            r[rowK + k] = norm;
+            for (int j = k + 1; j < n; j++) {
+                final double rkj = r[rowK + j];
+                final double xj = row[j];
+                r[rowK + j] = c * rkj + s * xj;
+                row[j] = c * xj - s * rkj;
+            }
+            final double zk = z[k];
+            z[k] = c * zk + s * y;
+            y = c * y - s * zk;
+        }
+        return Math.hypot(residualNorm, y);
+    }
+
+    private void validate(Vector row, double observation) {
+        if (!row.vectorDimension().equals(this.parameterDimension)) {
+            throw new MatrixFormatMismatchException(
+                    "dimension mismatch: parameter: %s, row: %s"
+                            .formatted(this.parameterDimension, row.vectorDimension()));
+        }
+        if (!Double.isFinite(observation)) {
+            throw new IllegalArgumentException("observation is not finite: %s".formatted(observation));
+        }
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code UpdatableQRLeastSquares[parameter: %dimension, rows: %rowCount]}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "UpdatableQRLeastSquares[parameter: %s, rows: %s]"
+                .formatted(this.parameterDimension, this.rowCount);
+    }
+}
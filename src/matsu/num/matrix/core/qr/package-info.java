@@ -26,7 +26,9 @@
  * による行列分解が {@link java.util.Optional} として空を返すという形で表現されている. <br>
  * {@link matsu.num.matrix.core.qr.QRTypeSolver}
  * のインスタンスは行列分解が成功していることを表しており,
- * 必ず一般化逆行列を取得できる.
+ * 必ず一般化逆行列を取得できる. <br>
+ * ただし, {@link matsu.num.matrix.core.qr.HouseholderQRColumnPivoting}
+ * は数値ランクを判定する分解であり, 列フルランクでない行列に対しても分解が成功する.
  * </p>
  * 
  * <p>
@@ -39,7 +41,14 @@
  * Householder 変換によるQR分解</li>
  * <li>{@link matsu.num.matrix.core.qr.HouseholderQRBand}:
  * Householder 変換による帯行列向けQR分解</li>
+ * <li>{@link matsu.num.matrix.core.qr.HouseholderQRColumnPivoting}:
+ * 列ピボット選択付き Householder 変換による, 数値ランクを判定するQR分解</li>
  * </ul>
  * 
+ * <p>
+ * 観測行を逐次追加, 削除しながら最小二乗解を求める場合は,
+ * Givens 回転により R を更新する {@link matsu.num.matrix.core.qr.UpdatableQRLeastSquares} を用いる.
+ * </p>
+ * 
  */
 package matsu.num.matrix.core.qr;
@@ -0,0 +1,504 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 圧縮行格納 (CSR, compressed sparse row) 形式のスパース行列を扱う具象クラス.
+ * 
+ * <p>
+ * 非ゼロ成分 (構造的非ゼロ成分) のみを行ごとに格納する. <br>
+ * 必要なメモリは非ゼロ成分数と行数に比例し,
+ * 密行列のような有効要素数の制限
+ * (see: {@link MatrixDimension#isAccepedForDenseMatrix()})
+ * を受けない. <br>
+ * 行列ベクトル積 ({@link #operate(Vector)}, {@link #operateTranspose(Vector)})
+ * の計算量は非ゼロ成分数に比例する.
+ * </p>
+ * 
+ * <p>
+ * {@link EntryReadableMatrix} の規約に反して,
+ * {@link #valueAt(int, int)} は定数時間ではなく,
+ * 行内の二分探索により
+ * O(log <i>k</i>) (<i>k</i> はその行の非ゼロ成分数) の時間で成分にアクセスする.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはビルダ ({@link CsrMatrix.Builder}) を用いて生成する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class CsrMatrix
+        extends SkeletalAsymmetricMatrix<EntryReadableMatrix>
+        implements EntryReadableMatrix {
+
+    /*
+     * 行 i の非ゼロ成分は, インデックス rowPointer[i] 以上 rowPointer[i + 1] 未満の位置に,
+     * 列indexの昇順で columnIndex, value に格納される.
+     * 1つの行に同一の列indexは高々1つである.
+     * 
+     * 例えば3*4行列
+     * 1 0 2 0
+     * 0 0 0 0
+     * 0 3 0 4
+     * は,
+     * rowPointer = {0, 2, 2, 4},
+     * columnIndex = {0, 2, 1, 3},
+     * value = {1, 2, 3, 4}
+     * と格納される.
+     */
+    private final MatrixDimension matrixDimension;
+
+    private final int[] rowPointer;
+    private final int[] columnIndex;
+    private final double[] value;
+
+    private final double entryNormMax;
+
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(CsrMatrix.class);
+
+        //モジュール内部から格納配列を参照するためのアクセサ
+        SparseEntryAccess.register(new SparseEntryAccess.Accessor() {
+
+            @Override
+            public int[] rowPointer(CsrMatrix matrix) {
+                return matrix.rowPointer;
+            }
+
+            @Override
+            public int[] columnIndex(CsrMatrix matrix) {
+                return matrix.columnIndex;
+            }
+
+            @Override
+            public double[] value(CsrMatrix matrix) {
+                return matrix.value;
+            }
+        });
+    }
+
+    /**
+     * ビルダから呼ばれる.
+     */
+    private CsrMatrix(MatrixDimension matrixDimension, int[] rowPointer, int[] columnIndex, double[] value) {
+        this.matrixDimension = matrixDimension;
+        this.rowPointer = rowPointer;
+        this.columnIndex = columnIndex;
+        this.value = value;
+
+        this.entryNormMax = ArraysUtil.normMax(value);
+    }
+
+    @Override
+    public MatrixDimension matrixDimension() {
+        return this.matrixDimension;
+    }
+
+    /**
+     * 格納されている非ゼロ成分 (構造的非ゼロ成分) の数を返す.
+     * 
+     * <p>
+     * ビルダで値が与えられた位置は,
+     * 値が0であっても非ゼロ成分として数えられる.
+     * </p>
+     * 
+     * @return 非ゼロ成分の数
+     */
+    public int numberOfNonZeros() {
+        return this.value.length;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException {@inheritDoc }
+     */
+    @Override
+    public double valueAt(final int row, final int column) {
+        MatrixValidationSupport.validateIndexInMatrix(matrixDimension, row, column);
+
+        final int index = Arrays.binarySearch(
+                this.columnIndex, this.rowPointer[row], this.rowPointer[row + 1], column);
+        return index >= 0
+                ? this.value[index]
+                : 0d;
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     * 
+     * @return -
+     */
+    @Override
+    protected EntryReadableMatrix createTranspose() {
+        return EntryReadableMatrix.createTransposedOf(this);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public Vector operate(Vector operand) {
+        final var resultDimension = matrixDimension.leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                matrixDimension, operand.vectorDimension(), out);
+
+        final int thisRowDimension = matrixDimension.rowAsIntValue();
+
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
+
+        final int[] thisRowPointer = this.rowPointer;
+        final int[] thisColumnIndex = this.columnIndex;
+        final double[] thisValue = this.value;
+
+        for (int i = 0; i < thisRowDimension; i++) {
+            double v = 0d;
+            for (int k = thisRowPointer[i], l = thisRowPointer[i + 1]; k < l; k++) {
+                v += thisValue[k] * operandEntry[thisColumnIndex[k]];
+            }
+            resultEntry[i] = v;
+        }
+
+        VectorEntryAccess.modify(resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public Vector operateTranspose(Vector operand) {
+        final var resultDimension = matrixDimension.rightOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateTransposeInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateTransposeInto(
+                matrixDimension, operand.vectorDimension(), out);
+
+        final int thisRowDimension = matrixDimension.rowAsIntValue();
+
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
+
+        final int[] thisRowPointer = this.rowPointer;
+        final int[] thisColumnIndex = this.columnIndex;
+        final double[] thisValue = this.value;
+
+        Arrays.fill(resultEntry, 0d);
+        for (int i = 0; i < thisRowDimension; i++) {
+            final double oe_i = operandEntry[i];
+            for (int k = thisRowPointer[i], l = thisRowPointer[i + 1]; k < l; k++) {
+                resultEntry[thisColumnIndex[k]] += thisValue[k] * oe_i;
+            }
+        }
+
+        VectorEntryAccess.modify(resultEntry);
+    }
+
+    @Override
+    public double entryNormMax() {
+        return this.entryNormMax;
+    }
+
+    @Override
+    public String toString() {
+        return "Matrix[sparse(CSR): %s, nnz: %s, %s]"
+                .formatted(
+                        this.matrixDimension(),
+                        this.numberOfNonZeros(),
+                        EntryReadableMatrix.toSimplifiedEntryString(this));
+    }
+
+    /**
+     * CSR 形式のスパース行列を生成するビルダ. <br>
+     * このビルダはミュータブルであり, スレッドセーフでない.
+     * 
+     * <p>
+     * このビルダインスタンスを得るには,
+     * {@link #zero(MatrixDimension)}
+     * をコールする. <br>
+     * 密行列のビルダとは異なり, 行列サイズによる受け入れ拒否は行われない.
+     * </p>
+     * 
+     * <p>
+     * 成分は座標形式 (COO 形式, (<i>i</i>, <i>j</i>, 値) の組) で
+     * {@link #addValue(int, int, double)} により追加する. <br>
+     * 同一の位置に複数回値が追加された場合, それらの和が成分の値となる. <br>
+     * 値が一度も追加されていない位置の成分は0であり, 格納されない.
+     * </p>
+     * 
+     * <p>
+     * ビルド準備ができたビルダに対して {@link #build()} をコールすることで
+     * {@link CsrMatrix} をビルドする. <br>
+     * {@link #build()} を実行したビルダは使用不能となる.
+     * </p>
+     * 
+     * <p>
+     * ビルダのコピーが必要な場合, {@link #copy()} をコールする. <br>
+     * ただし, このコピーはビルド前しか実行できないことに注意.
+     * </p>
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final MatrixDimension matrixDimension;
+
+        private int size;
+        private int[] rowIndex;
+        private int[] columnIndex;
+        private double[] value;
+
+        /**
+         * 零行列で初期化されたビルダを生成する.
+         * 
+         * @param matrixDimension 行列サイズ
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        private Builder(final MatrixDimension matrixDimension) {
+            this.matrixDimension = Objects.requireNonNull(matrixDimension);
+
+            this.size = 0;
+            this.rowIndex = new int[INITIAL_CAPACITY];
+            this.columnIndex = new int[INITIAL_CAPACITY];
+            this.value = new double[INITIAL_CAPACITY];
+        }
+
+        /**
+         * コピーコンストラクタ.
+         */
+        private Builder(final Builder src) {
+            this.matrixDimension = src.matrixDimension;
+
+            this.size = src.size;
+            this.rowIndex = src.rowIndex.clone();
+            this.columnIndex = src.columnIndex.clone();
+            this.value = src.value.clone();
+        }
+
+        /**
+         * (<i>i</i>, <i>j</i>) 要素に指定した値を加える.
+         * 
+         * <p>
+         * (<i>i</i>, <i>j</i>) 要素は, 値が0であっても構造的非ゼロ成分として格納される. <br>
+         * 値が不正ならば, 正常値に修正される.
+         * また, 加算の結果の値が不正となった場合も, ビルド時に正常値に修正される.
+         * </p>
+         * 
+         * @param row <i>i</i>, 行index
+         * @param column <i>j</i>, 列index
+         * @param value 加える値
+         * @throws IllegalStateException すでにビルドされている場合
+         * @throws IndexOutOfBoundsException (<i>i</i>, <i>j</i>) が行列の内部でない場合
+         * @see EntryReadableMatrix#acceptValue(double)
+         */
+        public void addValue(final int row, final int column, double value) {
+            this.throwISExIfCannotBeUsed();
+
+            //値を修正する
+            value = EntryReadableMatrix.modified(value);
+
+            MatrixValidationSupport.validateIndexInMatrix(matrixDimension, row, column);
+
+            if (this.size == this.value.length) {
+                this.grow();
+            }
+            this.rowIndex[this.size] = row;
+            this.columnIndex[this.size] = column;
+            this.value[this.size] = value;
+            this.size++;
+        }
+
+        /**
+         * 内部配列の容量を拡張する.
+         */
+        private void grow() {
+            final int newCapacity = Math.max(INITIAL_CAPACITY, this.value.length * 2);
+            this.rowIndex = Arrays.copyOf(this.rowIndex, newCapacity);
+            this.columnIndex = Arrays.copyOf(this.columnIndex, newCapacity);
+            this.value = Arrays.copyOf(this.value, newCapacity);
+        }
+
+        /**
+         * このビルダが使用可能か (ビルド前かどうか) を判定する.
+         * 
+         * @return 使用可能なら {@code true}
+         */
+        public boolean canBeUsed() {
+            return Objects.nonNull(this.value);
+        }
+
+        /**
+         * ビルド前かを判定し, ビルド後なら例外をスロー.
+         */
+        private void throwISExIfCannotBeUsed() {
+            if (!this.canBeUsed()) {
+                throw new IllegalStateException("already built");
+            }
+        }
+
+        /**
+         * このビルダのコピーを生成して返す.
+         * 
+         * @return このビルダのコピー
+         * @throws IllegalStateException すでにビルドされている場合
+         */
+        public Builder copy() {
+            this.throwISExIfCannotBeUsed();
+
+            return new Builder(this);
+        }
+
+        /**
+         * ビルダを使用不能にする.
+         */
+        private void disable() {
+            this.rowIndex = null;
+            this.columnIndex = null;
+            this.value = null;
+        }
+
+        /**
+         * CSR 形式のスパース行列をビルドする.
+         * 
+         * <p>
+         * 追加された成分は, 列indexによる計数ソートと行indexによる安定な計数ソートにより
+         * 行ごとに列indexの昇順に並べられ, 重複した位置の値は合算される. <br>
+         * 計算量は, 追加された成分数と行列の行数, 列数の和に比例する.
+         * </p>
+         * 
+         * @return CSR 形式のスパース行列
+         * @throws IllegalStateException すでにビルドされている場合
+         */
+        public CsrMatrix build() {
+            this.throwISExIfCannotBeUsed();
+
+            final int rowDimension = matrixDimension.rowAsIntValue();
+            final int columnDimension = matrixDimension.columnAsIntValue();
+            final int count = this.size;
+
+            //列indexで計数ソート
+            final int[] byColumn = new int[count];
+            {
+                final int[] position = new int[columnDimension + 1];
+                for (int k = 0; k < count; k++) {
+                    position[this.columnIndex[k] + 1]++;
+                }
+                for (int j = 0; j < columnDimension; j++) {
+                    position[j + 1] += position[j];
+                }
+                for (int k = 0; k < count; k++) {
+                    byColumn[position[this.columnIndex[k]]++] = k;
+                }
+            }
+
+            //行indexで安定な計数ソート: 各行内は列indexの昇順となる
+            final int[] sorted = new int[count];
+            final int[] rowCount = new int[rowDimension + 1];
+            for (int k = 0; k < count; k++) {
+                rowCount[this.rowIndex[k] + 1]++;
+            }
+            for (int i = 0; i < rowDimension; i++) {
+                rowCount[i + 1] += rowCount[i];
+            }
+            {
+                final int[] position = rowCount.clone();
+                for (int k : byColumn) {
+                    sorted[position[this.rowIndex[k]]++] = k;
+                }
+            }
+
+            //重複した位置の値を合算する
+            final int[] outRowPointer = new int[rowDimension + 1];
+            final int[] workColumnIndex = new int[count];
+            final double[] workValue = new double[count];
+            int nnz = 0;
+            for (int i = 0; i < rowDimension; i++) {
+                outRowPointer[i] = nnz;
+                final int rowStart = nnz;
+                for (int s = rowCount[i], l = rowCount[i + 1]; s < l; s++) {
+                    final int k = sorted[s];
+                    final int j = this.columnIndex[k];
+                    if (nnz > rowStart && workColumnIndex[nnz - 1] == j) {
+                        workValue[nnz - 1] += this.value[k];
+                    } else {
+                        workColumnIndex[nnz] = j;
+                        workValue[nnz] = this.value[k];
+                        nnz++;
+                    }
+                }
+            }
+            outRowPointer[rowDimension] = nnz;
+
+            final int[] outColumnIndex = Arrays.copyOf(workColumnIndex, nnz);
+            final double[] outValue = Arrays.copyOf(workValue, nnz);
+            for (int k = 0; k < nnz; k++) {
+                outValue[k] = EntryReadableMatrix.modified(outValue[k]);
+            }
+
+            var out = new CsrMatrix(matrixDimension, outRowPointer, outColumnIndex, outValue);
+            this.disable();
+
+            return out;
+        }
+
+        /**
+         * 与えられたサイズを持つ, 零行列で初期化されたビルダを生成する.
+         * 
+         * @param matrixDimension 行列サイズ
+         * @return 零行列で初期化されたビルダ
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public static Builder zero(final MatrixDimension matrixDimension) {
+            return new Builder(matrixDimension);
+        }
+    }
+}
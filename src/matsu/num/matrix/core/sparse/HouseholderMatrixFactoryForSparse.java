@@ -6,11 +6,17 @@
  */
 
 /*
- * 2025.1.21
+ * 2026.10.16
  */
 package matsu.num.matrix.core.sparse;
 
+import java.util.List;
+
 import matsu.num.matrix.core.HouseholderMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.OrthogonalMatrix;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
  * <p>
@@ -66,4 +72,52 @@ public final class HouseholderMatrixFactoryForSparse {
     public static HouseholderMatrix from(SparseVector reflection) {
         return new HouseholderMatrixWithSparseVector(reflection);
     }
+
+    /**
+     * <p>
+     * 鏡映ベクトルの列を指定して, Householder 行列の積
+     * Q = H<sub>0</sub> H<sub>1</sub> ... H<sub><i>k</i> - 1</sub>
+     * を表す直交行列を構築する. <br>
+     * H<sub><i>j</i></sub> は {@code reflections.get(j)} を鏡映ベクトルとする Householder 行列である.
+     * </p>
+     * 
+     * <p>
+     * {@link #from(SparseVector)} で得た行列を
+     * {@link OrthogonalMatrix#multiply(OrthogonalMatrix, OrthogonalMatrix...)} で結合する場合と異なり,
+     * 行列ベクトル積は作用ベクトルの成分配列に対して各 Householder 行列をその場で適用する. <br>
+     * 特に鏡映ベクトルが {@link LocalSparseVector} である場合,
+     * 各 Householder 行列の適用は非ゼロ成分の区間のみを読み書きし,
+     * 行列ベクトル積の計算量は次元と区間の長さの総和に比例する.
+     * </p>
+     * 
+     * <p>
+     * 各ベクトルが受け入れ可能かどうかは {@link #accepts(SparseVector)}
+     * によって判定される. <br>
+     * 空のリストを与えた場合, 単位行列と等価な行列が返る.
+     * </p>
+     * 
+     * @param vectorDimension 鏡映ベクトルの次元
+     * @param reflections 鏡映ベクトルの列
+     * @return Householder 行列の積
+     * @throws MatrixFormatMismatchException 鏡映ベクトルの次元が一致しない場合
+     * @throws IllegalArgumentException ベクトルが accept されない場合
+     * @throws NullPointerException 引数に null が含まれる場合
+     */
+    public static OrthogonalMatrix productOf(
+            VectorDimension vectorDimension, List<? extends SparseVector> reflections) {
+        final MatrixDimension matrixDimension = MatrixDimension.square(vectorDimension);
+
+        HouseholderMatrixWithSparseVector[] series =
+                new HouseholderMatrixWithSparseVector[reflections.size()];
+        for (int j = 0; j < series.length; j++) {
+            SparseVector reflection = reflections.get(j);
+            if (!vectorDimension.equals(reflection.vectorDimension())) {
+                throw new MatrixFormatMismatchException(
+                        "dimension mismatch: %s, reflection: %s"
+                                .formatted(vectorDimension, reflection.vectorDimension()));
+            }
+            series[j] = new HouseholderMatrixWithSparseVector(reflection);
+        }
+        return new HouseholderProductWithSparseVector(matrixDimension, series);
+    }
 }
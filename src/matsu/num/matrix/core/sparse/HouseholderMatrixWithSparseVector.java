@@ -6,19 +6,32 @@
  */
 
 /*
- * 2026.4.30
+ * 2026.10.16
  */
 package matsu.num.matrix.core.sparse;
 
+import java.util.Objects;
+
 import matsu.num.matrix.core.HouseholderMatrix;
 import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricOrthogonalMatrix;
+import matsu.num.matrix.core.helper.value.IndexedSparseEntryAccess;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 
 /**
  * 鏡映ベクトルとして {@link SparseVector} を指定する形で構築される,
  * Householder 行列の実装.
  * 
+ * <p>
+ * 鏡映ベクトルの非ゼロ成分は, 構築時に
+ * 連続する区間 (鏡映ベクトルが {@link LocalSparseVector} の場合)
+ * または位置と値の配列 (それ以外の場合) として取り出される. <br>
+ * 鏡映変換は, 作用ベクトルの成分配列のうち非ゼロ成分の位置のみを読み書きして,
+ * その場で計算される ({@link #reflectInPlace(double[])}).
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 final class HouseholderMatrixWithSparseVector
@@ -26,7 +39,14 @@ final class HouseholderMatrixWithSparseVector
         implements HouseholderMatrix {
 
     private final MatrixDimension matrixDimension;
-    private final SparseVector reflectionVector;
+
+    /*
+     * 規格化された鏡映ベクトルの非ゼロ成分.
+     * indexがnullの場合, 位置 [pos, pos + value.length) の連続する区間である.
+     */
+    private final int pos;
+    private final int[] index;
+    private final double[] value;
 
     /**
      * 鏡映ベクトルを指定して Househodler 行列を生成する.
@@ -41,7 +61,21 @@ final class HouseholderMatrixWithSparseVector
         }
 
         this.matrixDimension = MatrixDimension.square(reflectionVector.vectorDimension());
-        this.reflectionVector = reflectionVector.normalizedEuclidean();
+
+        SparseVector normalized = reflectionVector.normalizedEuclidean();
+        if (normalized instanceof LocalSparseVector local) {
+            this.pos = local.position();
+            this.index = null;
+            this.value = local.entryReference();
+            return;
+        }
+
+        IndexedSparseVector indexed = normalized instanceof IndexedSparseVector casted
+                ? casted
+                : IndexedSparseVector.nonZerosOf(normalized.asVector());
+        this.pos = 0;
+        this.index = IndexedSparseEntryAccess.index(indexed);
+        this.value = IndexedSparseEntryAccess.value(indexed);
     }
 
     /**
@@ -62,14 +96,65 @@ final class HouseholderMatrixWithSparseVector
 
     @Override
     public Vector operate(final Vector operand) {
+        MatrixValidationSupport.validateOperate(this.matrixDimension, operand.vectorDimension());
+
+        double[] entry = operand.entryAsArray();
+        this.reflectInPlace(entry);
+        return VectorEntryAccess.adopt(this.matrixDimension.leftOperableVectorDimension(), entry);
+    }
+
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                this.matrixDimension, operand.vectorDimension(), out);
+
+        System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+        this.reflectInPlace(out);
+        VectorEntryAccess.modify(out);
+    }
+
+    /**
+     * 与えた配列をベクトルとみなし, 鏡映変換をその場で適用する. <br>
+     * 配列のうち, 鏡映ベクトルの非ゼロ成分の位置のみが読み書きされる.
+     * 
+     * <p>
+     * 配列の長さは次元と一致していなければならない. <br>
+     * 結果の値の正当性は検証されない.
+     * </p>
+     * 
+     * @param entry 作用ベクトルの成分配列, 結果が上書きされる
+     */
+    void reflectInPlace(double[] entry) {
         /*
          * (I - 2u(u^T)) v を計算する.
          * 
          * (I - 2u(u^T)) v = v + (-2 u*v)u
-         * w = (-2 u*v)u と置く.
          */
-        var vecW = this.reflectionVector.times(-2 * this.reflectionVector.dot(operand));
-        return vecW.plus(operand);
+        final double[] u = this.value;
+        final int length = u.length;
+        final int[] thisIndex = this.index;
+
+        if (Objects.isNull(thisIndex)) {
+            final int p = this.pos;
+            double dot = 0d;
+            for (int k = 0; k < length; k++) {
+                dot += u[k] * entry[p + k];
+            }
+            final double c = -2 * dot;
+            for (int k = 0; k < length; k++) {
+                entry[p + k] += c * u[k];
+            }
+            return;
+        }
+
+        double dot = 0d;
+        for (int k = 0; k < length; k++) {
+            dot += u[k] * entry[thisIndex[k]];
+        }
+        final double c = -2 * dot;
+        for (int k = 0; k < length; k++) {
+            entry[thisIndex[k]] += c * u[k];
+        }
     }
 
     /**
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.OrthogonalMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricOrthogonalMatrix;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+
+/**
+ * スパースな鏡映ベクトルによる Householder 行列の列の積
+ * Q = H<sub>0</sub> H<sub>1</sub> ... H<sub><i>k</i> - 1</sub>
+ * を表す直交行列.
+ * 
+ * <p>
+ * 行列ベクトル積では作用ベクトルの成分配列を1回だけコピーし,
+ * 各 Householder 行列をその場で順に適用する
+ * ({@link HouseholderMatrixWithSparseVector#reflectInPlace(double[])}). <br>
+ * したがって, 計算量は次元と鏡映ベクトルの非ゼロ成分数の総和に比例し,
+ * 配列の確保は1回である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class HouseholderProductWithSparseVector
+        extends SkeletalAsymmetricOrthogonalMatrix<OrthogonalMatrix> {
+
+    private final MatrixDimension matrixDimension;
+    private final HouseholderMatrixWithSparseVector[] series;
+
+    /**
+     * 内部から呼ばれる.
+     * 
+     * <p>
+     * 配列はコピーされないので, 参照が漏洩していないものを渡さなければならない. <br>
+     * 各 Householder 行列の次元は {@code matrixDimension} に一致しなければならない.
+     * </p>
+     */
+    HouseholderProductWithSparseVector(
+            MatrixDimension matrixDimension, HouseholderMatrixWithSparseVector[] series) {
+        super();
+        this.matrixDimension = matrixDimension;
+        this.series = series;
+    }
+
+    @Override
+    public MatrixDimension matrixDimension() {
+        return this.matrixDimension;
+    }
+
+    @Override
+    public Vector operate(Vector operand) {
+        MatrixValidationSupport.validateOperate(this.matrixDimension, operand.vectorDimension());
+
+        double[] entry = operand.entryAsArray();
+        this.reflectInPlace(entry);
+        return VectorEntryAccess.adopt(this.matrixDimension.leftOperableVectorDimension(), entry);
+    }
+
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                this.matrixDimension, operand.vectorDimension(), out);
+
+        System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+        this.reflectInPlace(out);
+        VectorEntryAccess.modify(out);
+    }
+
+    @Override
+    public Vector operateTranspose(Vector operand) {
+        MatrixValidationSupport.validateOperateTranspose(this.matrixDimension, operand.vectorDimension());
+
+        double[] entry = operand.entryAsArray();
+        this.reflectTransposeInPlace(entry);
+        return VectorEntryAccess.adopt(this.matrixDimension.rightOperableVectorDimension(), entry);
+    }
+
+    @Override
+    public void operateTransposeInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateTransposeInto(
+                this.matrixDimension, operand.vectorDimension(), out);
+
+        System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+        this.reflectTransposeInPlace(out);
+        VectorEntryAccess.modify(out);
+    }
+
+    /**
+     * Qv = H<sub>0</sub>(H<sub>1</sub>(...(H<sub><i>k</i> - 1</sub>v)))
+     * をその場で計算する.
+     */
+    private void reflectInPlace(double[] entry) {
+        final HouseholderMatrixWithSparseVector[] thisSeries = this.series;
+        for (int j = thisSeries.length - 1; j >= 0; j--) {
+            thisSeries[j].reflectInPlace(entry);
+        }
+    }
+
+    /**
+     * Q<sup>T</sup>v = H<sub><i>k</i> - 1</sub>(...(H<sub>0</sub>v))
+     * をその場で計算する.
+     */
+    private void reflectTransposeInPlace(double[] entry) {
+        for (HouseholderMatrixWithSparseVector h : this.series) {
+            h.reflectInPlace(entry);
+        }
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     * 
+     * @return -
+     */
+    @Override
+    protected OrthogonalMatrix createTranspose() {
+        return OrthogonalMatrix.createTransposedOf(this);
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code Matrix[dim: %dimension, householder-product: %count]}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "Matrix[dim: %s, householder-product: %s]"
+                .formatted(this.matrixDimension, this.series.length);
+    }
+}
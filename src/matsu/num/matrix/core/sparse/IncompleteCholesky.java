@@ -0,0 +1,350 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import java.util.Arrays;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricMatrix;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+
+/**
+ * スパースな対称行列の不完全 Cholesky 分解 (IC(0)) を扱う.
+ * 
+ * <p>
+ * 正定値対称行列 A に対し, A の下三角部分の非ゼロパターン (対角成分を含む)
+ * の外側のフィルインを捨てて
+ * A &asymp; LL<sup>T</sup> (L: 下三角行列) と分解する. <br>
+ * L の非ゼロ成分数は A の下三角部分の非ゼロ成分数 (対角成分を含む) と等しく,
+ * 近似逆行列 (LL<sup>T</sup>)<sup>-1</sup> ({@link #inverse()})
+ * の作用は O(nnz) の時間で計算される. <br>
+ * 近似逆行列は対称行列 ({@link matsu.num.matrix.core.Symmetric}) であり,
+ * 共役勾配法の前処理
+ * (see: {@link matsu.num.matrix.core.iterative.ConjugateGradient#of(Matrix, Matrix)})
+ * として用いることを想定している.
+ * </p>
+ * 
+ * <p>
+ * 分解の途中でピボットが正でなくなった (破綻した) 場合は,
+ * 対角シフト σ を加えた行列 A + σI について分解をやり直す. <br>
+ * σ は行の絶対値和の最大値 ||A||<sub>&infin;</sub> に比例する小さな値から始めて,
+ * 分解が成功するまで増加させる. <br>
+ * σ &gt; ||A||<sub>&infin;</sub> であればシフトした行列は正の対角成分を持つ狭義対角優位行列となるため,
+ * 成分が極端に大きく計算がオーバーフローする場合を除き, 分解は成功する. <br>
+ * 実際に用いたシフト量は {@link #shift()} により取得できる
+ * (シフト無しで分解できた場合は0).
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである. <br>
+ * インスタンスは {@link #of(SymmetricCsrMatrix)} により得ることができる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class IncompleteCholesky {
+
+    private final SymmetricCsrMatrix matrix;
+    private final double shift;
+    private final Matrix inverse;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private IncompleteCholesky(SymmetricCsrMatrix matrix, double shift, Matrix inverse) {
+        this.matrix = matrix;
+        this.shift = shift;
+        this.inverse = inverse;
+    }
+
+    /**
+     * 分解の対象の行列 A を返す.
+     * 
+     * @return 分解の対象
+     */
+    public SymmetricCsrMatrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * 分解に用いた対角シフト量 σ を返す.
+     * 
+     * @return シフト量, シフト無しで分解できた場合は0
+     */
+    public double shift() {
+        return this.shift;
+    }
+
+    /**
+     * 近似逆行列 (LL<sup>T</sup>)<sup>-1</sup> を返す.
+     * 
+     * @return 近似逆行列, {@link matsu.num.matrix.core.Symmetric} が付与されている
+     */
+    public Matrix inverse() {
+        return this.inverse;
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code IncompleteCholesky[%dimension, nnz: %nnz, shift: %shift]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "IncompleteCholesky[%s, nnz: %s, shift: %s]"
+                .formatted(this.matrix.matrixDimension(), this.matrix.numberOfNonZeros(), this.shift);
+    }
+
+    /**
+     * 与えられた対称行列の IC(0) 分解を実行する.
+     * 
+     * @param matrix A, 分解の対象
+     * @return IC(0) 分解
+     * @throws IllegalArgumentException 対角シフトを加えても分解できない場合
+     *             (成分が極端に大きく, 計算がオーバーフローする場合)
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static IncompleteCholesky of(SymmetricCsrMatrix matrix) {
+        final Factor factor = Factor.withDiagonalOf(matrix);
+        final double shift = IncompleteFactorizationShift.factorize(
+                factor.value, factor.normInf(), factor::shiftDiagonal, factor::factorize);
+        return new IncompleteCholesky(
+                matrix, shift, new InverseOfCholesky(matrix.matrixDimension(), factor));
+    }
+
+    /**
+     * IC(0) 分解の因子 L を, 対角成分を含む A の下三角部分の非ゼロパターン上に格納する. <br>
+     * 各行の対角成分は行の最後に置かれる.
+     */
+    private static final class Factor {
+
+        private final int[] rowPointer;
+        private final int[] columnIndex;
+        private final double[] value;
+
+        private Factor(int[] rowPointer, int[] columnIndex, double[] value) {
+            this.rowPointer = rowPointer;
+            this.columnIndex = columnIndex;
+            this.value = value;
+        }
+
+        /**
+         * 行列の下三角部分をコピーし, パターンに無い対角成分を値0で挿入する.
+         */
+        static Factor withDiagonalOf(SymmetricCsrMatrix matrix) {
+            final int dimension = matrix.matrixDimension().rowAsIntValue();
+            final int[] srcRowPointer = SparseEntryAccess.lowerRowPointer(matrix);
+            final int[] srcColumnIndex = SparseEntryAccess.lowerColumnIndex(matrix);
+            final double[] srcValue = SparseEntryAccess.lowerValue(matrix);
+
+            final int maxSize = srcValue.length + dimension;
+            final int[] rowPointer = new int[dimension + 1];
+            final int[] columnIndex = new int[maxSize];
+            final double[] value = new double[maxSize];
+
+            int nnz = 0;
+            for (int i = 0; i < dimension; i++) {
+                rowPointer[i] = nnz;
+                for (int k = srcRowPointer[i], l = srcRowPointer[i + 1]; k < l; k++) {
+                    columnIndex[nnz] = srcColumnIndex[k];
+                    value[nnz] = srcValue[k];
+                    nnz++;
+                }
+                if (nnz == rowPointer[i] || columnIndex[nnz - 1] != i) {
+                    columnIndex[nnz] = i;
+                    nnz++;
+                }
+            }
+            rowPointer[dimension] = nnz;
+
+            return new Factor(rowPointer, Arrays.copyOf(columnIndex, nnz), Arrays.copyOf(value, nnz));
+        }
+
+        /**
+         * 行の絶対値和の最大値 ||A||<sub>&infin;</sub> を返す. <br>
+         * 下三角部分の狭義下三角成分は, 行と (対称な) 列の両方に寄与する.
+         */
+        double normInf() {
+            final int dimension = this.rowPointer.length - 1;
+            final double[] rowSum = new double[dimension];
+            for (int i = 0; i < dimension; i++) {
+                final int d = this.rowPointer[i + 1] - 1;
+                for (int k = this.rowPointer[i]; k < d; k++) {
+                    final double abs = Math.abs(this.value[k]);
+                    rowSum[i] += abs;
+                    rowSum[this.columnIndex[k]] += abs;
+                }
+                rowSum[i] += Math.abs(this.value[d]);
+            }
+            double norm = 0d;
+            for (double r : rowSum) {
+                norm = Math.max(norm, r);
+            }
+            return norm;
+        }
+
+        /**
+         * 対角成分にシフトを加える.
+         */
+        void shiftDiagonal(double shift) {
+            for (int i = 0, n = this.rowPointer.length - 1; i < n; i++) {
+                this.value[this.rowPointer[i + 1] - 1] += shift;
+            }
+        }
+
+        /**
+         * 値を上書きして IC(0) 分解を実行する.
+         * 
+         * @return 分解に成功した場合はtrue, ピボットが破綻した場合はfalse
+         */
+        boolean factorize() {
+            final int dimension = this.rowPointer.length - 1;
+            final int[] rp = this.rowPointer;
+            final int[] ci = this.columnIndex;
+            final double[] v = this.value;
+
+            //position[j]: 処理中の行における列jの位置, パターン外なら-1
+            final int[] position = new int[dimension];
+            Arrays.fill(position, -1);
+
+            for (int i = 0; i < dimension; i++) {
+                final int rowStart = rp[i];
+                final int d = rp[i + 1] - 1;
+
+                for (int k = rowStart; k < d; k++) {
+                    position[ci[k]] = k;
+                }
+
+                //l_ij = (a_ij - sum_{m < j} l_im l_jm) / l_jj
+                double diagonal = v[d];
+                for (int k = rowStart; k < d; k++) {
+                    final int j = ci[k];
+                    double s = v[k];
+                    for (int kk = rp[j], dj = rp[j + 1] - 1; kk < dj; kk++) {
+                        final int p = position[ci[kk]];
+                        if (p >= 0) {
+                            s -= v[p] * v[kk];
+                        }
+                    }
+                    final double l_ij = s / v[rp[j + 1] - 1];
+                    v[k] = l_ij;
+                    diagonal -= l_ij * l_ij;
+                }
+
+                for (int k = rowStart; k < d; k++) {
+                    position[ci[k]] = -1;
+                }
+
+                if (!(diagonal > IncompleteFactorizationShift.PIVOT_THRESHOLD * Math.abs(v[d])
+                        && Double.isFinite(diagonal))) {
+                    return false;
+                }
+                v[d] = Math.sqrt(diagonal);
+            }
+            return true;
+        }
+
+        /**
+         * <b>w</b> &larr; (LL<sup>T</sup>)<sup>-1</sup><b>w</b> を計算する.
+         */
+        void solveInPlace(double[] w) {
+            final int dimension = this.rowPointer.length - 1;
+            final int[] rp = this.rowPointer;
+            final int[] ci = this.columnIndex;
+            final double[] v = this.value;
+
+            for (int i = 0; i < dimension; i++) {
+                double s = w[i];
+                final int d = rp[i + 1] - 1;
+                for (int k = rp[i]; k < d; k++) {
+                    s -= v[k] * w[ci[k]];
+                }
+                w[i] = s / v[d];
+            }
+            for (int i = dimension - 1; i >= 0; i--) {
+                final int d = rp[i + 1] - 1;
+                final double w_i = w[i] / v[d];
+                w[i] = w_i;
+                for (int k = rp[i]; k < d; k++) {
+                    w[ci[k]] -= v[k] * w_i;
+                }
+            }
+        }
+    }
+
+    /**
+     * IC(0) 分解による近似逆行列 (LL<sup>T</sup>)<sup>-1</sup>.
+     */
+    private static final class InverseOfCholesky extends SkeletalSymmetricMatrix<InverseOfCholesky> {
+
+        private final MatrixDimension matrixDimension;
+        private final Factor factor;
+
+        static {
+            //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(InverseOfCholesky.class);
+        }
+
+        InverseOfCholesky(MatrixDimension matrixDimension, Factor factor) {
+            super();
+            this.matrixDimension = matrixDimension;
+            this.factor = factor;
+        }
+
+        @Override
+        public MatrixDimension matrixDimension() {
+            return this.matrixDimension;
+        }
+
+        @Override
+        public Vector operate(Vector operand) {
+            final var resultDimension = this.matrixDimension.leftOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+            this.factor.solveInPlace(out);
+            VectorEntryAccess.modify(out);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         * 
+         * @return -
+         */
+        @Override
+        protected InverseOfCholesky self() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleConsumer;
+
+/**
+ * 不完全分解 ({@link IncompleteLU}, {@link IncompleteCholesky}) の,
+ * 対角シフトによる再分解を扱う.
+ * 
+ * <p>
+ * シフト無しで分解を試み, ピボットが破綻した場合は,
+ * 行列の行の絶対値和の最大値 ||A||<sub>&infin;</sub> に比例する小さなシフト量から始めて,
+ * 分解が成功するまでシフト量を増加させる. <br>
+ * シフト量が ||A||<sub>&infin;</sub> を超えると狭義対角優位となり分解は成功するため,
+ * 失敗するのは計算がオーバーフローする場合に限られる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class IncompleteFactorizationShift {
+
+    /**
+     * ピボットの破綻を判定する相対閾値.
+     */
+    static final double PIVOT_THRESHOLD = 1E-12;
+
+    /**
+     * 最初のシフト量の, ||A||<sub>&infin;</sub> に対する比.
+     */
+    private static final double INITIAL_SHIFT_RATIO = 1E-3;
+
+    /**
+     * 分解をやり直すたびにシフト量を増やす倍率.
+     */
+    private static final double SHIFT_GROWTH = 4d;
+
+    private static final int MAX_TRIALS = 64;
+
+    private IncompleteFactorizationShift() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 必要に応じて対角シフトを加えながら, 分解を実行する.
+     * 
+     * <p>
+     * {@code factorize} は {@code value} を上書きして分解を行い, 成功したかどうかを返す. <br>
+     * 分解をやり直す前に {@code value} は元の値に戻され,
+     * {@code shiftDiagonal} によりシフトが加えられる.
+     * </p>
+     * 
+     * @param value 分解の対象の値 (分解の結果で上書きされる)
+     * @param normInf ||A||<sub>&infin;</sub>
+     * @param shiftDiagonal シフト量を受け取り, {@code value} の対角成分にシフトを加える
+     * @param factorize 分解を実行する
+     * @return 分解に用いたシフト量, シフト無しで分解できた場合は0
+     * @throws IllegalArgumentException シフトを加えても分解できない場合
+     */
+    static double factorize(
+            double[] value, double normInf, DoubleConsumer shiftDiagonal, BooleanSupplier factorize) {
+        final double[] original = value.clone();
+        if (factorize.getAsBoolean()) {
+            return 0d;
+        }
+
+        double shift = (normInf > 0d ? normInf : 1d) * INITIAL_SHIFT_RATIO;
+        for (int trial = 1; trial < MAX_TRIALS && Double.isFinite(shift); trial++) {
+            System.arraycopy(original, 0, value, 0, original.length);
+            shiftDiagonal.accept(shift);
+            if (factorize.getAsBoolean()) {
+                return shift;
+            }
+            shift *= SHIFT_GROWTH;
+        }
+
+        throw new IllegalArgumentException(
+                "incomplete factorization failed: norm = %s".formatted(normInf));
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import java.util.Arrays;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * CSR 形式のスパース行列の不完全 LU 分解 (ILU(0)) を扱う.
+ * 
+ * <p>
+ * 正方行列 A に対し, A の非ゼロパターン (対角成分を含む) の外側のフィルインを捨てて
+ * A &asymp; LU (L: 単位下三角行列, U: 上三角行列) と分解する. <br>
+ * L, U の非ゼロ成分数の和は A の非ゼロ成分数 (対角成分を含む) と等しく,
+ * 近似逆行列 (LU)<sup>-1</sup> ({@link #inverse()})
+ * の作用は O(nnz) の時間で計算される. <br>
+ * 近似逆行列は, 反復解法の前処理
+ * (例えば {@link matsu.num.matrix.core.iterative.Preconditioner})
+ * として用いることを想定している.
+ * </p>
+ * 
+ * <p>
+ * 分解の途中でピボットが0に近くなった (破綻した) 場合は,
+ * 対角成分の絶対値を増やす方向にシフト σ を加えた行列
+ * A + σ diag(sgn(a<sub>ii</sub>)) について分解をやり直す. <br>
+ * σ は行の絶対値和の最大値 ||A||<sub>&infin;</sub> に比例する小さな値から始めて,
+ * 分解が成功するまで増加させる. <br>
+ * σ &gt; ||A||<sub>&infin;</sub> であればシフトした行列は狭義対角優位となるため,
+ * 成分が極端に大きく計算がオーバーフローする場合を除き, 分解は成功する. <br>
+ * 実際に用いたシフト量は {@link #shift()} により取得できる
+ * (シフト無しで分解できた場合は0).
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである. <br>
+ * インスタンスは {@link #of(CsrMatrix)} により得ることができる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class IncompleteLU {
+
+    private final CsrMatrix matrix;
+    private final double shift;
+    private final Matrix inverse;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private IncompleteLU(CsrMatrix matrix, double shift, Matrix inverse) {
+        this.matrix = matrix;
+        this.shift = shift;
+        this.inverse = inverse;
+    }
+
+    /**
+     * 分解の対象の行列 A を返す.
+     * 
+     * @return 分解の対象
+     */
+    public CsrMatrix target() {
+        return this.matrix;
+    }
+
+    /**
+     * 分解に用いた対角シフト量 σ を返す.
+     * 
+     * @return シフト量, シフト無しで分解できた場合は0
+     */
+    public double shift() {
+        return this.shift;
+    }
+
+    /**
+     * 近似逆行列 (LU)<sup>-1</sup> を返す.
+     * 
+     * @return 近似逆行列
+     */
+    public Matrix inverse() {
+        return this.inverse;
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code IncompleteLU[%dimension, nnz: %nnz, shift: %shift]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        return "IncompleteLU[%s, nnz: %s, shift: %s]"
+                .formatted(this.matrix.matrixDimension(), this.matrix.numberOfNonZeros(), this.shift);
+    }
+
+    /**
+     * 与えられた行列の ILU(0) 分解を実行する.
+     * 
+     * @param matrix A, 分解の対象
+     * @return ILU(0) 分解
+     * @throws MatrixFormatMismatchException 正方行列でない場合
+     * @throws IllegalArgumentException 対角シフトを加えても分解できない場合
+     *             (成分が極端に大きく, 計算がオーバーフローする場合)
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static IncompleteLU of(CsrMatrix matrix) {
+        final MatrixDimension matrixDimension = matrix.matrixDimension();
+        if (!matrixDimension.isSquare()) {
+            throw new MatrixFormatMismatchException(
+                    "not square: %s".formatted(matrixDimension));
+        }
+
+        final Factor factor = Factor.withDiagonalOf(matrix);
+        final double shift = IncompleteFactorizationShift.factorize(
+                factor.value, factor.normInf(), factor::shiftDiagonal, factor::factorize);
+        return new IncompleteLU(matrix, shift, new InverseOfLU(matrixDimension, factor));
+    }
+
+    /**
+     * ILU(0) 分解の因子を, 対角成分を含む A の非ゼロパターン上に格納する. <br>
+     * 狭義下三角部分に L, 対角成分と狭義上三角部分に U が格納される.
+     */
+    private static final class Factor {
+
+        private final int[] rowPointer;
+        private final int[] columnIndex;
+        private final double[] value;
+
+        /**
+         * 各行の対角成分の位置.
+         */
+        private final int[] diagonalIndex;
+
+        private Factor(int[] rowPointer, int[] columnIndex, double[] value, int[] diagonalIndex) {
+            this.rowPointer = rowPointer;
+            this.columnIndex = columnIndex;
+            this.value = value;
+            this.diagonalIndex = diagonalIndex;
+        }
+
+        /**
+         * 行列の成分をコピーし, パターンに無い対角成分を値0で挿入する.
+         */
+        static Factor withDiagonalOf(CsrMatrix matrix) {
+            final int dimension = matrix.matrixDimension().rowAsIntValue();
+            final int[] srcRowPointer = SparseEntryAccess.rowPointer(matrix);
+            final int[] srcColumnIndex = SparseEntryAccess.columnIndex(matrix);
+            final double[] srcValue = SparseEntryAccess.value(matrix);
+
+            final int maxSize = srcValue.length + dimension;
+            final int[] rowPointer = new int[dimension + 1];
+            final int[] columnIndex = new int[maxSize];
+            final double[] value = new double[maxSize];
+            final int[] diagonalIndex = new int[dimension];
+
+            int nnz = 0;
+            for (int i = 0; i < dimension; i++) {
+                rowPointer[i] = nnz;
+                diagonalIndex[i] = -1;
+                for (int k = srcRowPointer[i], l = srcRowPointer[i + 1]; k < l; k++) {
+                    final int j = srcColumnIndex[k];
+                    if (diagonalIndex[i] < 0 && j >= i) {
+                        diagonalIndex[i] = nnz;
+                        if (j > i) {
+                            columnIndex[nnz] = i;
+                            nnz++;
+                        }
+                    }
+                    columnIndex[nnz] = j;
+                    value[nnz] = srcValue[k];
+                    nnz++;
+                }
+                if (diagonalIndex[i] < 0) {
+                    diagonalIndex[i] = nnz;
+                    columnIndex[nnz] = i;
+                    nnz++;
+                }
+            }
+            rowPointer[dimension] = nnz;
+
+            return new Factor(
+                    rowPointer, Arrays.copyOf(columnIndex, nnz), Arrays.copyOf(value, nnz), diagonalIndex);
+        }
+
+        /**
+         * 行の絶対値和の最大値 ||A||<sub>&infin;</sub> を返す.
+         */
+        double normInf() {
+            double norm = 0d;
+            for (int i = 0, n = this.diagonalIndex.length; i < n; i++) {
+                double rowSum = 0d;
+                for (int k = this.rowPointer[i], l = this.rowPointer[i + 1]; k < l; k++) {
+                    rowSum += Math.abs(this.value[k]);
+                }
+                norm = Math.max(norm, rowSum);
+            }
+            return norm;
+        }
+
+        /**
+         * 対角成分の絶対値を増やす方向にシフトを加える.
+         */
+        void shiftDiagonal(double shift) {
+            for (int d : this.diagonalIndex) {
+                this.value[d] += this.value[d] >= 0d ? shift : -shift;
+            }
+        }
+
+        /**
+         * 値を上書きして ILU(0) 分解を実行する.
+         * 
+         * @return 分解に成功した場合はtrue, ピボットが破綻した場合はfalse
+         */
+        boolean factorize() {
+            final int dimension = this.diagonalIndex.length;
+            final int[] rp = this.rowPointer;
+            final int[] ci = this.columnIndex;
+            final double[] v = this.value;
+            final int[] di = this.diagonalIndex;
+
+            //position[j]: 処理中の行における列jの位置, パターン外なら-1
+            final int[] position = new int[dimension];
+            Arrays.fill(position, -1);
+
+            for (int i = 0; i < dimension; i++) {
+                final int rowStart = rp[i];
+                final int rowEnd = rp[i + 1];
+
+                double rowScale = 0d;
+                for (int k = rowStart; k < rowEnd; k++) {
+                    position[ci[k]] = k;
+                    rowScale = Math.max(rowScale, Math.abs(v[k]));
+                }
+
+                for (int k = rowStart, d = di[i]; k < d; k++) {
+                    final int j = ci[k];
+                    final double l_ij = v[k] / v[di[j]];
+                    v[k] = l_ij;
+                    for (int kk = di[j] + 1, ll = rp[j + 1]; kk < ll; kk++) {
+                        final int p = position[ci[kk]];
+                        if (p >= 0) {
+                            v[p] -= l_ij * v[kk];
+                        }
+                    }
+                }
+
+                for (int k = rowStart; k < rowEnd; k++) {
+                    position[ci[k]] = -1;
+                }
+
+                final double pivot = v[di[i]];
+                if (!(Math.abs(pivot) > IncompleteFactorizationShift.PIVOT_THRESHOLD * rowScale
+                        && Double.isFinite(pivot))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * <b>w</b> &larr; (LU)<sup>-1</sup><b>w</b> を計算する.
+         */
+        void solveInPlace(double[] w) {
+            final int dimension = this.diagonalIndex.length;
+            final int[] rp = this.rowPointer;
+            final int[] ci = this.columnIndex;
+            final double[] v = this.value;
+            final int[] di = this.diagonalIndex;
+
+            for (int i = 0; i < dimension; i++) {
+                double s = w[i];
+                for (int k = rp[i], d = di[i]; k < d; k++) {
+                    s -= v[k] * w[ci[k]];
+                }
+                w[i] = s;
+            }
+            for (int i = dimension - 1; i >= 0; i--) {
+                double s = w[i];
+                final int d = di[i];
+                for (int k = d + 1, l = rp[i + 1]; k < l; k++) {
+                    s -= v[k] * w[ci[k]];
+                }
+                w[i] = s / v[d];
+            }
+        }
+
+        /**
+         * <b>w</b> &larr; (LU)<sup>-T</sup><b>w</b> を計算する.
+         */
+        void solveTransposeInPlace(double[] w) {
+            final int dimension = this.diagonalIndex.length;
+            final int[] rp = this.rowPointer;
+            final int[] ci = this.columnIndex;
+            final double[] v = this.value;
+            final int[] di = this.diagonalIndex;
+
+            for (int i = 0; i < dimension; i++) {
+                final int d = di[i];
+                final double w_i = w[i] / v[d];
+                w[i] = w_i;
+                for (int k = d + 1, l = rp[i + 1]; k < l; k++) {
+                    w[ci[k]] -= v[k] * w_i;
+                }
+            }
+            for (int i = dimension - 1; i >= 0; i--) {
+                final double w_i = w[i];
+                for (int k = rp[i], d = di[i]; k < d; k++) {
+                    w[ci[k]] -= v[k] * w_i;
+                }
+            }
+        }
+    }
+
+    /**
+     * ILU(0) 分解による近似逆行列 (LU)<sup>-1</sup>.
+     */
+    private static final class InverseOfLU extends SkeletalAsymmetricMatrix<Matrix> {
+
+        private final MatrixDimension matrixDimension;
+        private final Factor factor;
+
+        static {
+            //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+            VectorEntryAccess.registerViewAccepting(InverseOfLU.class);
+        }
+
+        InverseOfLU(MatrixDimension matrixDimension, Factor factor) {
+            super();
+            this.matrixDimension = matrixDimension;
+            this.factor = factor;
+        }
+
+        @Override
+        public MatrixDimension matrixDimension() {
+            return this.matrixDimension;
+        }
+
+        @Override
+        public Vector operate(Vector operand) {
+            final var resultDimension = this.matrixDimension.leftOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+            this.factor.solveInPlace(out);
+            VectorEntryAccess.modify(out);
+        }
+
+        @Override
+        public Vector operateTranspose(Vector operand) {
+            final var resultDimension = this.matrixDimension.rightOperableVectorDimension();
+            final double[] resultEntry = new double[resultDimension.intValue()];
+            this.operateTransposeInto(operand, resultEntry);
+
+            return VectorEntryAccess.adopt(resultDimension, resultEntry);
+        }
+
+        @Override
+        public void operateTransposeInto(Vector operand, double[] out) {
+            MatrixValidationSupport.validateOperateTransposeInto(
+                    this.matrixDimension, operand.vectorDimension(), out);
+
+            System.arraycopy(VectorEntryAccess.entryReference(operand), 0, out, 0, out.length);
+            this.factor.solveTransposeInPlace(out);
+            VectorEntryAccess.modify(out);
+        }
+
+        /**
+         * -
+         * 
+         * <p>
+         * (外部からの呼び出し不可)
+         * </p>
+         * 
+         * @return -
+         */
+        @Override
+        protected Matrix createTranspose() {
+            return Matrix.createTransposedOf(this);
+        }
+    }
+}
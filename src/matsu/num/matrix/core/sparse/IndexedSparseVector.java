@@ -0,0 +1,599 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.value.IndexedSparseEntryAccess;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * <p>
+ * 任意の位置に非ゼロ成分を持つスパースなベクトルを表現する具象クラス.
+ * </p>
+ * 
+ * <p>
+ * 非ゼロ成分の位置 (インデックス) を狭義単調増加に並べた配列と,
+ * それに対応する値の配列により成分を保持する. <br>
+ * 格納された位置以外の成分は0である. <br>
+ * 格納された位置の値が0であることもある.
+ * </p>
+ * 
+ * <p>
+ * 2個の {@link IndexedSparseVector} どうしの内積と和は,
+ * インデックス配列のマージにより, 密なベクトルを経由せずに計算される. <br>
+ * また, 密なベクトル {@link Vector} との間で,
+ * 非ゼロ成分の位置に関する収集 ({@link #gather(Vector, int[])}) と散布
+ * ({@link #scatterInto(double[])}) を行うことができる.
+ * </p>
+ * 
+ * <p>
+ * この具象クラスはコンストラクタが公開されていない. <br>
+ * インスタンスは, {@link #of(VectorDimension, int[], double[])},
+ * {@link #gather(Vector, int[])}, {@link #nonZerosOf(Vector)}
+ * メソッドにより取得できる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class IndexedSparseVector implements SparseVector {
+
+    private final VectorDimension vectorDimension;
+    private final int[] index;
+    private final double[] value;
+
+    private final double normMax;
+    private final boolean normalized;
+
+    private volatile Double norm2;
+
+    private volatile Vector viewAsVector;
+
+    static {
+        //モジュール内部から格納配列を参照するためのアクセサ
+        IndexedSparseEntryAccess.register(new IndexedSparseEntryAccess.Accessor() {
+
+            @Override
+            public int[] index(IndexedSparseVector vector) {
+                return vector.index;
+            }
+
+            @Override
+            public double[] value(IndexedSparseVector vector) {
+                return vector.value;
+            }
+        });
+    }
+
+    /**
+     * 内部から呼ばれる.
+     * 
+     * <p>
+     * コンストラクタ内で引数チェックを行わないので, 事前チェックが必要.
+     * </p>
+     * 
+     * <p>
+     * index は狭義単調増加でなければならず, value には正当な値が入ったものを渡さなければならない. <br>
+     * 配列はコピーされないので, 参照が漏洩していないものを渡さなければならない.
+     * </p>
+     */
+    private IndexedSparseVector(
+            final VectorDimension vectorDimension, int[] index, double[] value, boolean normalized) {
+
+        this.vectorDimension = vectorDimension;
+        this.index = index;
+        this.value = value;
+
+        this.normMax = ArraysUtil.normMax(this.value);
+        this.normalized = normalized;
+    }
+
+    @Override
+    public VectorDimension vectorDimension() {
+        return this.vectorDimension;
+    }
+
+    /**
+     * 格納されている成分 (非ゼロ成分) の数を返す.
+     * 
+     * @return 格納されている成分の数
+     */
+    public int numberOfNonZeros() {
+        return this.index.length;
+    }
+
+    /**
+     * 格納されている成分の位置を, 昇順に並べた配列として返す.
+     * 
+     * @return 格納されている成分の位置
+     */
+    public int[] indexAsArray() {
+        return this.index.clone();
+    }
+
+    /**
+     * 格納されている成分の値を, {@link #indexAsArray()} の順に並べた配列として返す.
+     * 
+     * @return 格納されている成分の値
+     */
+    public double[] valueAsArray() {
+        return this.value.clone();
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    @Override
+    public double valueAt(int index) {
+        if (!vectorDimension.isValidIndex(index)) {
+            throw new IndexOutOfBoundsException(
+                    "out of vector: vec-dim: %s, index = %s"
+                            .formatted(vectorDimension, index));
+        }
+
+        int k = Arrays.binarySearch(this.index, index);
+        return k >= 0 ? this.value[k] : 0d;
+    }
+
+    @Override
+    public double norm2() {
+        Double out = this.norm2;
+        if (Objects.nonNull(out)) {
+            return out.doubleValue();
+        }
+        //シングルチェックイディオム
+        out = Double.valueOf(ArraysUtil.norm2(this.value, this.normMax));
+        this.norm2 = out;
+        return out.doubleValue();
+    }
+
+    @Override
+    public double normMax() {
+        return this.normMax;
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public double dot(Vector reference) {
+        this.validateDimension(reference.vectorDimension());
+
+        final double[] referenceEntry = VectorEntryAccess.entryReference(reference);
+        final int[] thisIndex = this.index;
+        final double[] thisValue = this.value;
+        double dot = 0;
+        for (int k = 0, len = thisIndex.length; k < len; k++) {
+            dot += thisValue[k] * referenceEntry[thisIndex[k]];
+        }
+        return dot;
+    }
+
+    /**
+     * 他の {@link IndexedSparseVector} との内積を計算する. <br>
+     * 双方のインデックス配列をマージしながら, 共通する位置の成分の積を足し合わせる.
+     * 
+     * @param reference 作用ベクトル
+     * @return 内積
+     * @throws MatrixFormatMismatchException 次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public double dot(IndexedSparseVector reference) {
+        this.validateDimension(reference.vectorDimension);
+
+        final int[] index1 = this.index;
+        final double[] value1 = this.value;
+        final int[] index2 = reference.index;
+        final double[] value2 = reference.value;
+        final int len1 = index1.length;
+        final int len2 = index2.length;
+
+        double dot = 0;
+        int p = 0;
+        int q = 0;
+        while (p < len1 && q < len2) {
+            final int i1 = index1[p];
+            final int i2 = index2[q];
+            if (i1 == i2) {
+                dot += value1[p] * value2[q];
+                p++;
+                q++;
+            } else if (i1 < i2) {
+                p++;
+            } else {
+                q++;
+            }
+        }
+        return dot;
+    }
+
+    @Override
+    public IndexedSparseVector times(double scalar) {
+        double[] outValue = this.value.clone();
+        for (int k = 0, len = outValue.length; k < len; k++) {
+            outValue[k] *= scalar;
+        }
+
+        //値を正当なものに修正する
+        VectorEntryAccess.modify(outValue);
+
+        return new IndexedSparseVector(this.vectorDimension, this.index, outValue, false);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public Vector plus(Vector reference) {
+        this.validateDimension(reference.vectorDimension());
+
+        double[] result = reference.entryAsArray();
+        final int[] thisIndex = this.index;
+        final double[] thisValue = this.value;
+        for (int k = 0, len = thisIndex.length; k < len; k++) {
+            result[thisIndex[k]] += thisValue[k];
+        }
+
+        return VectorEntryAccess.adopt(this.vectorDimension, result);
+    }
+
+    /**
+     * 自身 <b>v</b> と与えられたスパースベクトル <b>u</b> について,
+     * <b>w</b> = <b>v</b> + <b>u</b>
+     * を計算する. <br>
+     * 結果の非ゼロ成分の位置は, 双方の位置の和集合である.
+     * 
+     * <p>
+     * 演算の結果, その成分が {@link SparseVector} で扱えない場合は,
+     * 正常値に置き換えられる.
+     * </p>
+     * 
+     * @param reference <b>u</b>
+     * @return 計算結果, <b>w</b>
+     * @throws MatrixFormatMismatchException 次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IndexedSparseVector plus(IndexedSparseVector reference) {
+        return this.plusCTimes(reference, 1d);
+    }
+
+    /**
+     * 自身 <b>v</b> と与えられたスパースベクトル <b>u</b>, スカラー <i>c</i> について,
+     * <b>w</b> = <b>v</b> + <i>c</i><b>u</b>
+     * を計算する. <br>
+     * 結果の非ゼロ成分の位置は, 双方の位置の和集合である.
+     * 
+     * <p>
+     * 演算の結果, その成分が {@link SparseVector} で扱えない場合は,
+     * 正常値に置き換えられる.
+     * </p>
+     * 
+     * @param reference <b>u</b>
+     * @param scalar <i>c</i>
+     * @return 計算結果, <b>w</b>
+     * @throws MatrixFormatMismatchException 次元が一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public IndexedSparseVector plusCTimes(IndexedSparseVector reference, double scalar) {
+        this.validateDimension(reference.vectorDimension);
+
+        final int[] index1 = this.index;
+        final double[] value1 = this.value;
+        final int[] index2 = reference.index;
+        final double[] value2 = reference.value;
+        final int len1 = index1.length;
+        final int len2 = index2.length;
+
+        int[] outIndex = new int[len1 + len2];
+        double[] outValue = new double[len1 + len2];
+        int size = 0;
+        int p = 0;
+        int q = 0;
+        while (p < len1 || q < len2) {
+            final int i1 = p < len1 ? index1[p] : Integer.MAX_VALUE;
+            final int i2 = q < len2 ? index2[q] : Integer.MAX_VALUE;
+            if (i1 == i2) {
+                outIndex[size] = i1;
+                outValue[size] = value1[p] + scalar * value2[q];
+                p++;
+                q++;
+            } else if (i1 < i2) {
+                outIndex[size] = i1;
+                outValue[size] = value1[p];
+                p++;
+            } else {
+                outIndex[size] = i2;
+                outValue[size] = scalar * value2[q];
+                q++;
+            }
+            size++;
+        }
+        if (size < outIndex.length) {
+            outIndex = Arrays.copyOf(outIndex, size);
+            outValue = Arrays.copyOf(outValue, size);
+        }
+
+        //値を正当なものに修正する
+        VectorEntryAccess.modify(outValue);
+
+        return new IndexedSparseVector(this.vectorDimension, outIndex, outValue, false);
+    }
+
+    /**
+     * 自身の格納されている成分を, 与えられた配列の対応する位置に書き込む. <br>
+     * 格納されていない位置の配列の値は変更されない.
+     * 
+     * <p>
+     * 零初期化した配列に対して呼べば, 自身と同等の密な成分配列が得られる.
+     * </p>
+     * 
+     * @param out 書き込み先の配列
+     * @throws MatrixFormatMismatchException 配列の長さが次元と一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void scatterInto(double[] out) {
+        if (!this.vectorDimension.equalsValueOf(out.length)) {
+            throw new MatrixFormatMismatchException(
+                    "size mismatch: vec-dim: %s, out.length = %s"
+                            .formatted(this.vectorDimension, out.length));
+        }
+
+        final int[] thisIndex = this.index;
+        final double[] thisValue = this.value;
+        for (int k = 0, len = thisIndex.length; k < len; k++) {
+            out[thisIndex[k]] = thisValue[k];
+        }
+    }
+
+    @Override
+    public IndexedSparseVector normalizedEuclidean() {
+        if (this.normalized || this.normMax == 0d) {
+            return this;
+        }
+
+        double[] normalizedValue = this.value.clone();
+        ArraysUtil.normalizeEuclidean(normalizedValue, this.normMax);
+
+        IndexedSparseVector out = new IndexedSparseVector(
+                this.vectorDimension, this.index, normalizedValue, true);
+        out.norm2 = Double.valueOf(1d);
+        return out;
+    }
+
+    @Override
+    public IndexedSparseVector negated() {
+        double[] outValue = this.value.clone();
+        for (int k = 0, len = outValue.length; k < len; k++) {
+            outValue[k] = -outValue[k];
+        }
+
+        IndexedSparseVector out = new IndexedSparseVector(
+                this.vectorDimension, this.index, outValue, this.normalized);
+        out.norm2 = this.norm2;
+
+        return out;
+    }
+
+    @Override
+    public Vector asVector() {
+        Vector out = this.viewAsVector;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+
+        //シングルチェックイディオム
+        double[] fullEntry = new double[this.vectorDimension.intValue()];
+        this.scatterInto(fullEntry);
+        out = VectorEntryAccess.adopt(this.vectorDimension, fullEntry);
+        this.viewAsVector = out;
+        return out;
+    }
+
+    private void validateDimension(VectorDimension referenceDimension) {
+        if (!(this.vectorDimension.equals(referenceDimension))) {
+            throw new MatrixFormatMismatchException(
+                    "undefined operation: this: %s, reference: %s"
+                            .formatted(this.vectorDimension, referenceDimension));
+        }
+    }
+
+    /**
+     * このオブジェクトの文字列説明表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code SparseVector[dim: %dimension, nnz: %numberOfNonZeros, {(index: value), ...}]}
+     * </p>
+     * 
+     * @return 説明表現
+     */
+    @Override
+    public String toString() {
+        final int maxDisplaySize = 3;
+
+        var entryString = new StringBuilder();
+        final int displaySize = Math.min(maxDisplaySize, this.index.length);
+        for (int k = 0; k < displaySize; k++) {
+            entryString.append("(%s: %s)".formatted(this.index[k], this.value[k]));
+            if (k < displaySize - 1) {
+                entryString.append(", ");
+            }
+        }
+        if (this.index.length > displaySize) {
+            entryString.append(", ...");
+        }
+
+        return "SparseVector[dim: %s, nnz: %s, {%s}]"
+                .formatted(this.vectorDimension, this.index.length, entryString.toString());
+    }
+
+    /**
+     * <p>
+     * 成分の位置と値を指定して, このクラスのインスタンスを得るための {@code static} ファクトリ.
+     * </p>
+     * 
+     * <p>
+     * {@code index[k]} の位置に {@code value[k]} を持つベクトルを生成する. <br>
+     * 位置は任意の順番で与えてよく, 同一の位置が複数回現れる場合は値が足し合わされる. <br>
+     * 位置は 0 以上 <i>n</i> 未満でなければならない (<i>n</i> は次元).
+     * </p>
+     * 
+     * <p>
+     * 与えた成分が {@link SparseVector} で扱えない場合は,
+     * 正常値に置き換えられる.
+     * </p>
+     * 
+     * @param vectorDimension ベクトルの次元
+     * @param index 成分の位置
+     * @param value 成分の値
+     * @return 与えた成分を持つスパースなベクトル
+     * @throws IllegalArgumentException 位置と値の配列の長さが異なる場合,
+     *             位置がベクトルの範囲外の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static IndexedSparseVector of(
+            final VectorDimension vectorDimension, int[] index, double[] value) {
+        final int length = index.length;
+        if (length != value.length) {
+            throw new IllegalArgumentException(
+                    "size mismatch: index.length = %s, value.length = %s"
+                            .formatted(length, value.length));
+        }
+        for (int i : index) {
+            if (!vectorDimension.isValidIndex(i)) {
+                throw new IllegalArgumentException(
+                        "out of vector: vec-dim: %s, index = %s"
+                                .formatted(vectorDimension, i));
+            }
+        }
+
+        /*
+         * 位置の昇順に並べ替える.
+         * 位置 (非負) を上位32ビット, 元の順番を下位32ビットに詰めたキーをプリミティブ型のまま整列する.
+         * 同一の位置は元の順番に並ぶため, 足し合わせの順番は入力の順番となる.
+         */
+        final long[] key = new long[length];
+        for (int k = 0; k < length; k++) {
+            key[k] = ((long) index[k] << 32) | k;
+        }
+        Arrays.sort(key);
+
+        //同一の位置を足し合わせる
+        int[] sortedIndex = new int[length];
+        double[] sortedValue = new double[length];
+        int size = 0;
+        for (int k = 0; k < length; k++) {
+            final int i = (int) (key[k] >>> 32);
+            final double v = value[(int) key[k]];
+            if (size > 0 && sortedIndex[size - 1] == i) {
+                sortedValue[size - 1] += v;
+                continue;
+            }
+            sortedIndex[size] = i;
+            sortedValue[size] = v;
+            size++;
+        }
+        if (size < length) {
+            sortedIndex = Arrays.copyOf(sortedIndex, size);
+            sortedValue = Arrays.copyOf(sortedValue, size);
+        }
+
+        //値を正当なものに修正する
+        VectorEntryAccess.modify(sortedValue);
+
+        return new IndexedSparseVector(vectorDimension, sortedIndex, sortedValue, false);
+    }
+
+    /**
+     * 密なベクトルの指定した位置の成分を収集して, スパースなベクトルを得る. <br>
+     * 結果は, 指定した位置に与えたベクトルと同じ値を持ち, それ以外の位置で0である.
+     * 
+     * <p>
+     * 位置は任意の順番で与えてよく, 重複は無視される.
+     * </p>
+     * 
+     * @param source 密なベクトル
+     * @param index 収集する位置
+     * @return 収集した成分を持つスパースなベクトル
+     * @throws IllegalArgumentException 位置がベクトルの範囲外の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static IndexedSparseVector gather(Vector source, int[] index) {
+        final VectorDimension vectorDimension = source.vectorDimension();
+        for (int i : index) {
+            if (!vectorDimension.isValidIndex(i)) {
+                throw new IllegalArgumentException(
+                        "out of vector: vec-dim: %s, index = %s"
+                                .formatted(vectorDimension, i));
+            }
+        }
+
+        int[] sortedIndex = index.clone();
+        Arrays.sort(sortedIndex);
+        int size = 0;
+        for (int k = 0; k < sortedIndex.length; k++) {
+            if (size > 0 && sortedIndex[size - 1] == sortedIndex[k]) {
+                continue;
+            }
+            sortedIndex[size] = sortedIndex[k];
+            size++;
+        }
+        if (size < sortedIndex.length) {
+            sortedIndex = Arrays.copyOf(sortedIndex, size);
+        }
+
+        final double[] sourceEntry = VectorEntryAccess.entryReference(source);
+        double[] gatheredValue = new double[size];
+        for (int k = 0; k < size; k++) {
+            gatheredValue[k] = sourceEntry[sortedIndex[k]];
+        }
+
+        return new IndexedSparseVector(vectorDimension, sortedIndex, gatheredValue, false);
+    }
+
+    /**
+     * 密なベクトルの非ゼロ成分を抽出して, 同等のスパースなベクトルを得る.
+     * 
+     * @param source 密なベクトル
+     * @return 与えたベクトルと同等のスパースなベクトル
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static IndexedSparseVector nonZerosOf(Vector source) {
+        final double[] sourceEntry = VectorEntryAccess.entryReference(source);
+
+        int size = 0;
+        for (double v : sourceEntry) {
+            if (v != 0d) {
+                size++;
+            }
+        }
+        int[] outIndex = new int[size];
+        double[] outValue = new double[size];
+        int k = 0;
+        for (int i = 0; i < sourceEntry.length; i++) {
+            if (sourceEntry[i] != 0d) {
+                outIndex[k] = i;
+                outValue[k] = sourceEntry[i];
+                k++;
+            }
+        }
+
+        return new IndexedSparseVector(source.vectorDimension(), outIndex, outValue, false);
+    }
+}
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.26
+ * 2026.10.16
  */
 package matsu.num.matrix.core.sparse;
 
@@ -14,6 +14,7 @@ import java.util.Objects;
 import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.VectorDimension;
 import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
 import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
@@ -104,6 +105,22 @@ public final class LocalSparseVector implements SparseVector {
         return this.vectorDimension;
     }
 
+    /**
+     * 局所要素の開始位置を返す. <br>
+     * 内部から呼ばれる.
+     */
+    int position() {
+        return this.pos;
+    }
+
+    /**
+     * 局所要素の配列の参照を返す. <br>
+     * 内部から呼ばれ, 戻り値を書き換えてはならない.
+     */
+    double[] entryReference() {
+        return this.entry;
+    }
+
     /**
      * @throws IndexOutOfBoundsException {@inheritDoc}
      */
@@ -147,11 +164,8 @@ public final class LocalSparseVector implements SparseVector {
                             .formatted(this.vectorDimension, reference.vectorDimension()));
         }
 
-        double dot = 0;
-        for (int i = 0; i < this.entry.length; i++) {
-            dot += this.entry[i] * reference.valueAt(this.pos + i);
-        }
-        return dot;
+        return ArraysUtil.dot(
+                this.entry, 0, VectorEntryAccess.entryReference(reference), this.pos, this.entry.length);
     }
 
     @Override
@@ -206,10 +220,7 @@ public final class LocalSparseVector implements SparseVector {
         double[] fullEntry = new double[dimension];
         System.arraycopy(this.entry, 0, fullEntry, this.pos, this.entry.length);
 
-        var builder = Vector.Builder.zeroBuilder(this.vectorDimension);
-        builder.setEntryValue(fullEntry);
-
-        return builder.build();
+        return VectorEntryAccess.adopt(this.vectorDimension, fullEntry);
     }
 
     /**
@@ -227,9 +238,7 @@ public final class LocalSparseVector implements SparseVector {
             result[this.pos + i] += this.entry[i];
         }
 
-        Vector.Builder builder = Vector.Builder.zeroBuilder(this.vectorDimension);
-        builder.setEntryValue(result);
-        return builder.build();
+        return VectorEntryAccess.adopt(this.vectorDimension, result);
     }
 
     @Override
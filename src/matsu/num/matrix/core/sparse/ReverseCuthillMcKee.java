@@ -0,0 +1,458 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import java.util.Arrays;
+
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.PermutationMatrix;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.validation.ElementsTooManyException;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * スパースな正方行列の非ゼロパターンに対する, 逆 Cuthill-McKee (RCM) 順序付けを扱う.
+ * 
+ * <p>
+ * 帯行列の分解のコストは O(<i>n</i><i>b</i><sup>2</sup>) (<i>b</i>: 帯幅) であるため,
+ * 帯幅を縮小する並べ替えが有効である. <br>
+ * このクラスは, 行列 A の非ゼロパターン (A + A<sup>T</sup> のパターン) をグラフとみなし,
+ * 連結成分ごとに擬似周辺節点から幅優先探索を行い, 隣接節点を次数の昇順に番号付けし,
+ * 最後に全体の順序を逆転させる. <br>
+ * 擬似周辺節点は, レベル構造の深さが増加しなくなるまで,
+ * 最終レベルの次数最小の節点から探索をやり直すことで求める (George-Liu の方法).
+ * </p>
+ * 
+ * <p>
+ * 得られる置換行列 P ({@link #permutation()}) について,
+ * PAP<sup>T</sup> の帯幅が縮小される. <br>
+ * 並べ替えた行列は, {@link #toGeneralBand(CsrMatrix)}, {@link #toSymmetricBand(SymmetricCsrMatrix)}
+ * により, 最小の帯構造 ({@link #bandMatrixDimension()}) を持つ帯行列として得られる. <br>
+ * 順序付けは非ゼロパターンのみに依存するため,
+ * 同一の非ゼロパターンを持つ行列に対して再利用できる.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである. <br>
+ * インスタンスは {@link #of(CsrMatrix)}, {@link #of(SymmetricCsrMatrix)}
+ * により得ることができる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ReverseCuthillMcKee {
+
+    private final MatrixDimension matrixDimension;
+
+    /**
+     * 順序: 並べ替え後の k 番目は元の order[k].
+     */
+    private final int[] order;
+    private final int[] orderInverse;
+
+    private final BandMatrixDimension bandMatrixDimension;
+    private final PermutationMatrix permutation;
+
+    /**
+     * 内部から呼ばれる.
+     */
+    private ReverseCuthillMcKee(
+            MatrixDimension matrixDimension, int[] rowPointer, int[] columnIndex, boolean symmetric) {
+        this.matrixDimension = matrixDimension;
+        final int n = matrixDimension.rowAsIntValue();
+
+        this.order = computeOrder(n, rowPointer, columnIndex);
+        this.orderInverse = new int[n];
+        for (int k = 0; k < n; k++) {
+            this.orderInverse[this.order[k]] = k;
+        }
+
+        int lower = 0;
+        int upper = 0;
+        for (int i = 0; i < n; i++) {
+            final int a = this.orderInverse[i];
+            for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                final int b = this.orderInverse[columnIndex[p]];
+                lower = Math.max(lower, a - b);
+                upper = Math.max(upper, b - a);
+            }
+        }
+        this.bandMatrixDimension = symmetric
+                ? BandMatrixDimension.symmetric(matrixDimension, Math.max(lower, upper))
+                : BandMatrixDimension.of(matrixDimension, lower, upper);
+
+        //P の第 k 行は e_{order[k]}^T
+        PermutationMatrix.Builder builder = PermutationMatrix.Builder.unitBuilder(matrixDimension);
+        final int[] current = new int[n];
+        final int[] position = new int[n];
+        for (int k = 0; k < n; k++) {
+            current[k] = k;
+            position[k] = k;
+        }
+        for (int k = 0; k < n; k++) {
+            final int target = this.order[k];
+            final int j = position[target];
+            if (j != k) {
+                builder.swapRows(k, j);
+                final int displaced = current[k];
+                current[j] = displaced;
+                position[displaced] = j;
+                current[k] = target;
+                position[target] = k;
+            }
+        }
+        this.permutation = builder.build();
+    }
+
+    /**
+     * 行列の非ゼロパターン (A + A<sup>T</sup> のパターン) に対する RCM 順序付けを計算する.
+     * 
+     * @param matrix 行列
+     * @return RCM 順序付け
+     * @throws MatrixFormatMismatchException 正方行列でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static ReverseCuthillMcKee of(CsrMatrix matrix) {
+        if (!matrix.matrixDimension().isSquare()) {
+            throw new MatrixFormatMismatchException(
+                    "not square: %s".formatted(matrix.matrixDimension()));
+        }
+        return new ReverseCuthillMcKee(
+                matrix.matrixDimension(),
+                SparseEntryAccess.rowPointer(matrix), SparseEntryAccess.columnIndex(matrix), false);
+    }
+
+    /**
+     * 対称行列の非ゼロパターンに対する RCM 順序付けを計算する.
+     * 
+     * @param matrix 対称行列
+     * @return RCM 順序付け
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static ReverseCuthillMcKee of(SymmetricCsrMatrix matrix) {
+        return new ReverseCuthillMcKee(
+                matrix.matrixDimension(),
+                SparseEntryAccess.lowerRowPointer(matrix), SparseEntryAccess.lowerColumnIndex(matrix), true);
+    }
+
+    /**
+     * 順序付けの対象の行列サイズを返す.
+     * 
+     * @return 行列サイズ
+     */
+    public MatrixDimension matrixDimension() {
+        return this.matrixDimension;
+    }
+
+    /**
+     * 順序付けを表す置換行列 P を返す. <br>
+     * 並べ替えた行列は PAP<sup>T</sup> である.
+     * 
+     * @return 置換行列
+     */
+    public PermutationMatrix permutation() {
+        return this.permutation;
+    }
+
+    /**
+     * 並べ替えた行列 PAP<sup>T</sup> の非ゼロパターンを含む最小の帯構造を返す. <br>
+     * 対称行列から得た順序付けの場合, 対称な帯構造である.
+     * 
+     * @return 帯構造
+     */
+    public BandMatrixDimension bandMatrixDimension() {
+        return this.bandMatrixDimension;
+    }
+
+    /**
+     * 並べ替えた行列 PAP<sup>T</sup> を, {@link #bandMatrixDimension()} の帯構造を持つ帯行列として返す.
+     * 
+     * @param matrix 行列 A, 順序付けを計算した行列と同一の非ゼロパターンを持つ
+     * @return 帯行列 PAP<sup>T</sup>
+     * @throws MatrixFormatMismatchException 行列サイズが異なる場合,
+     *             非ゼロ成分が帯構造の外側にある場合
+     * @throws ElementsTooManyException 帯行列の有効要素数が大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GeneralBandMatrix toGeneralBand(CsrMatrix matrix) {
+        this.validateDimension(matrix.matrixDimension());
+
+        final int n = this.matrixDimension.rowAsIntValue();
+        final int[] rowPointer = SparseEntryAccess.rowPointer(matrix);
+        final int[] columnIndex = SparseEntryAccess.columnIndex(matrix);
+        final double[] value = SparseEntryAccess.value(matrix);
+        final int lower = this.bandMatrixDimension.lowerBandWidth();
+        final int upper = this.bandMatrixDimension.upperBandWidth();
+
+        GeneralBandMatrix.Builder builder = GeneralBandMatrix.Builder.zero(this.bandMatrixDimension);
+        for (int i = 0; i < n; i++) {
+            final int a = this.orderInverse[i];
+            for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                final int b = this.orderInverse[columnIndex[p]];
+                if (a - b > lower || b - a > upper) {
+                    throw new MatrixFormatMismatchException(
+                            "out of band: %s".formatted(this.bandMatrixDimension));
+                }
+                builder.setValue(a, b, value[p]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 並べ替えた対称行列 PAP<sup>T</sup> を, 対称な帯行列として返す. <br>
+     * 帯幅は {@link #bandMatrixDimension()} の下側帯幅と上側帯幅の大きい方である.
+     * 
+     * @param matrix 対称行列 A, 順序付けを計算した行列と同一の非ゼロパターンを持つ
+     * @return 対称帯行列 PAP<sup>T</sup>
+     * @throws MatrixFormatMismatchException 行列サイズが異なる場合,
+     *             非ゼロ成分が帯構造の外側にある場合
+     * @throws ElementsTooManyException 帯行列の有効要素数が大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public SymmetricBandMatrix toSymmetricBand(SymmetricCsrMatrix matrix) {
+        this.validateDimension(matrix.matrixDimension());
+
+        final int n = this.matrixDimension.rowAsIntValue();
+        final int[] rowPointer = SparseEntryAccess.lowerRowPointer(matrix);
+        final int[] columnIndex = SparseEntryAccess.lowerColumnIndex(matrix);
+        final double[] value = SparseEntryAccess.lowerValue(matrix);
+        final BandMatrixDimension symmetricBand = BandMatrixDimension.symmetric(
+                this.matrixDimension,
+                Math.max(this.bandMatrixDimension.lowerBandWidth(), this.bandMatrixDimension.upperBandWidth()));
+        final int bandWidth = symmetricBand.lowerBandWidth();
+
+        SymmetricBandMatrix.Builder builder = SymmetricBandMatrix.Builder.zero(symmetricBand);
+        for (int i = 0; i < n; i++) {
+            final int a = this.orderInverse[i];
+            for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                final int b = this.orderInverse[columnIndex[p]];
+                if (Math.abs(a - b) > bandWidth) {
+                    throw new MatrixFormatMismatchException(
+                            "out of band: %s".formatted(symmetricBand));
+                }
+                builder.setValue(Math.max(a, b), Math.min(a, b), value[p]);
+            }
+        }
+        return builder.build();
+    }
+
+    private void validateDimension(MatrixDimension matrixDimension) {
+        if (!this.matrixDimension.equals(matrixDimension)) {
+            throw new MatrixFormatMismatchException(
+                    "dimension mismatch: ordering: %s, matrix: %s"
+                            .formatted(this.matrixDimension, matrixDimension));
+        }
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     * 
+     * <p>
+     * 文字列表現は明確には規定されていない(バージョン間の互換も担保されていない). <br>
+     * おそらくは次のような表現であろう. <br>
+     * {@code ReverseCuthillMcKee[band: %bandMatrixDimension]}
+     * </p>
+     * 
+     * @return 文字列表現
+     */
+    @Override
+    public String toString() {
+        return "ReverseCuthillMcKee[band: %s]".formatted(this.bandMatrixDimension);
+    }
+
+    /**
+     * CSR パターンの A + A<sup>T</sup> のグラフに対する RCM 順序を計算する.
+     */
+    private static int[] computeOrder(int n, int[] rowPointer, int[] columnIndex) {
+        //隣接リスト (対称化, 自己ループと重複を除く)
+        final int[] adjacencyPointer = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                final int j = columnIndex[p];
+                if (i != j) {
+                    adjacencyPointer[i + 1]++;
+                    adjacencyPointer[j + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            adjacencyPointer[i + 1] += adjacencyPointer[i];
+        }
+        final int[] work = new int[adjacencyPointer[n]];
+        {
+            final int[] position = Arrays.copyOf(adjacencyPointer, n);
+            for (int i = 0; i < n; i++) {
+                for (int p = rowPointer[i], pe = rowPointer[i + 1]; p < pe; p++) {
+                    final int j = columnIndex[p];
+                    if (i != j) {
+                        work[position[i]++] = j;
+                        work[position[j]++] = i;
+                    }
+                }
+            }
+        }
+        final int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+        final int[] degree = new int[n];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            final int start = size;
+            for (int p = adjacencyPointer[i], pe = adjacencyPointer[i + 1]; p < pe; p++) {
+                final int j = work[p];
+                if (mark[j] != i) {
+                    mark[j] = i;
+                    work[size++] = j;
+                }
+            }
+            adjacencyPointer[i] = start;
+            degree[i] = size - start;
+        }
+        adjacencyPointer[n] = size;
+        final int[] adjacency = work;
+
+        //各節点の隣接節点を次数の昇順に並べておく
+        for (int i = 0; i < n; i++) {
+            sortByDegree(adjacency, adjacencyPointer[i], adjacencyPointer[i] + degree[i], degree);
+        }
+
+        final int[] cuthillMcKee = new int[n];
+        final boolean[] numbered = new boolean[n];
+        final int[] levelOrder = new int[n];
+        final int[] levelMark = new int[n];
+        final int[] levelInfo = new int[2];
+        Arrays.fill(levelMark, -1);
+        int count = 0;
+        int stamp = 0;
+
+        //次数の昇順 (計数ソート) に走査して, 未番号の節点を含む連結成分を処理する
+        final int[] byDegree = new int[n];
+        {
+            final int[] degreePointer = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                degreePointer[degree[i] + 1]++;
+            }
+            for (int d = 0; d < n; d++) {
+                degreePointer[d + 1] += degreePointer[d];
+            }
+            for (int i = 0; i < n; i++) {
+                byDegree[degreePointer[degree[i]]++] = i;
+            }
+        }
+
+        for (int s = 0; s < n; s++) {
+            final int seed = byDegree[s];
+            if (numbered[seed]) {
+                continue;
+            }
+
+            //擬似周辺節点の探索
+            int root = seed;
+            int depth = levelStructure(
+                    root, adjacencyPointer, degree, adjacency, levelOrder, levelMark, ++stamp, levelInfo);
+            while (true) {
+                //最終レベルの次数最小の節点
+                int candidate = -1;
+                for (int t = levelInfo[1], te = levelInfo[0]; t < te; t++) {
+                    final int v = levelOrder[t];
+                    if (candidate < 0 || degree[v] < degree[candidate]) {
+                        candidate = v;
+                    }
+                }
+                final int candidateDepth = levelStructure(
+                        candidate, adjacencyPointer, degree, adjacency, levelOrder, levelMark, ++stamp, levelInfo);
+                if (candidateDepth <= depth) {
+                    break;
+                }
+                root = candidate;
+                depth = candidateDepth;
+            }
+
+            //Cuthill-McKee の幅優先探索
+            int head = count;
+            cuthillMcKee[count++] = root;
+            numbered[root] = true;
+            while (head < count) {
+                final int v = cuthillMcKee[head++];
+                for (int p = adjacencyPointer[v], pe = p + degree[v]; p < pe; p++) {
+                    final int w = adjacency[p];
+                    if (!numbered[w]) {
+                        numbered[w] = true;
+                        cuthillMcKee[count++] = w;
+                    }
+                }
+            }
+        }
+
+        final int[] out = new int[n];
+        for (int k = 0; k < n; k++) {
+            out[k] = cuthillMcKee[n - 1 - k];
+        }
+        return out;
+    }
+
+    /**
+     * root を根とするレベル構造を作り, その深さ (レベル数) を返す.
+     * 
+     * <p>
+     * levelOrder の先頭から幅優先探索の順に節点を格納し,
+     * levelInfo[0] に連結成分の節点数, levelInfo[1] に最終レベルの開始位置を格納する.
+     * </p>
+     */
+    private static int levelStructure(int root, int[] adjacencyPointer, int[] degree, int[] adjacency,
+            int[] levelOrder, int[] levelMark, int stamp, int[] levelInfo) {
+        int size = 0;
+        levelOrder[size++] = root;
+        levelMark[root] = stamp;
+
+        int depth = 0;
+        int levelStart = 0;
+        while (true) {
+            depth++;
+            final int levelEnd = size;
+            for (int t = levelStart; t < levelEnd; t++) {
+                final int v = levelOrder[t];
+                for (int p = adjacencyPointer[v], pe = p + degree[v]; p < pe; p++) {
+                    final int w = adjacency[p];
+                    if (levelMark[w] != stamp) {
+                        levelMark[w] = stamp;
+                        levelOrder[size++] = w;
+                    }
+                }
+            }
+            if (size == levelEnd) {
+                levelInfo[0] = size;
+                levelInfo[1] = levelStart;
+                return depth;
+            }
+            levelStart = levelEnd;
+        }
+    }
+
+    /**
+     * array[from, to) を degree の昇順に安定に並べる (挿入ソート).
+     */
+    private static void sortByDegree(int[] array, int from, int to, int[] degree) {
+        for (int i = from + 1; i < to; i++) {
+            final int v = array[i];
+            final int d = degree[v];
+            int j = i - 1;
+            while (j >= from && degree[array[j]] > d) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = v;
+        }
+    }
+}
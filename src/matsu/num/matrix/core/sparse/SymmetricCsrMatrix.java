@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2026.10.16
+ */
+package matsu.num.matrix.core.sparse;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.common.ArraysUtil;
+import matsu.num.matrix.core.helper.matrix.SkeletalSymmetricMatrix;
+import matsu.num.matrix.core.helper.value.MatrixValidationSupport;
+import matsu.num.matrix.core.helper.value.SparseEntryAccess;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * 下三角部分を圧縮行格納 (CSR) 形式で保持する, スパースな対称行列を扱う具象クラス.
+ * 
+ * <p>
+ * 対角成分を含む下三角部分の非ゼロ成分 (構造的非ゼロ成分) のみを行ごとに格納する. <br>
+ * 必要なメモリ, 行列ベクトル積の計算量, 成分へのアクセスについては
+ * {@link CsrMatrix} と同様である.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはビルダ ({@link SymmetricCsrMatrix.Builder}) を用いて生成する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class SymmetricCsrMatrix
+        extends SkeletalSymmetricMatrix<SymmetricCsrMatrix>
+        implements EntryReadableMatrix, Symmetric {
+
+    /*
+     * 下三角部分 (対角成分を含む) を CsrMatrix と同じ規則で格納する.
+     * 各行の最後の成分は, 存在するならば対角成分である.
+     */
+    private final MatrixDimension matrixDimension;
+
+    private final int[] rowPointer;
+    private final int[] columnIndex;
+    private final double[] value;
+
+    private final double entryNormMax;
+
+    static {
+        //作用ベクトルを保持しないので, 一時的なビューを受け入れる
+        VectorEntryAccess.registerViewAccepting(SymmetricCsrMatrix.class);
+
+        //モジュール内部から格納配列を参照するためのアクセサ
+        SparseEntryAccess.registerSymmetric(new SparseEntryAccess.SymmetricAccessor() {
+
+            @Override
+            public int[] lowerRowPointer(SymmetricCsrMatrix matrix) {
+                return matrix.rowPointer;
+            }
+
+            @Override
+            public int[] lowerColumnIndex(SymmetricCsrMatrix matrix) {
+                return matrix.columnIndex;
+            }
+
+            @Override
+            public double[] lowerValue(SymmetricCsrMatrix matrix) {
+                return matrix.value;
+            }
+        });
+    }
+
+    /**
+     * ビルダから呼ばれる.
+     */
+    private SymmetricCsrMatrix(MatrixDimension matrixDimension, int[] rowPointer, int[] columnIndex,
+            double[] value) {
+        this.matrixDimension = matrixDimension;
+        this.rowPointer = rowPointer;
+        this.columnIndex = columnIndex;
+        this.value = value;
+
+        this.entryNormMax = ArraysUtil.normMax(value);
+    }
+
+    @Override
+    public MatrixDimension matrixDimension() {
+        return this.matrixDimension;
+    }
+
+    /**
+     * 格納されている下三角部分 (対角成分を含む) の非ゼロ成分 (構造的非ゼロ成分) の数を返す.
+     * 
+     * @return 下三角部分の非ゼロ成分の数
+     */
+    public int numberOfNonZeros() {
+        return this.value.length;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException {@inheritDoc }
+     */
+    @Override
+    public double valueAt(final int row, final int column) {
+        MatrixValidationSupport.validateIndexInMatrix(matrixDimension, row, column);
+
+        final int i = Math.max(row, column);
+        final int j = Math.min(row, column);
+        final int index = Arrays.binarySearch(
+                this.columnIndex, this.rowPointer[i], this.rowPointer[i + 1], j);
+        return index >= 0
+                ? this.value[index]
+                : 0d;
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public Vector operate(Vector operand) {
+        final var resultDimension = matrixDimension.leftOperableVectorDimension();
+        final double[] resultEntry = new double[resultDimension.intValue()];
+        this.operateInto(operand, resultEntry);
+
+        return VectorEntryAccess.adopt(resultDimension, resultEntry);
+    }
+
+    /**
+     * @throws MatrixFormatMismatchException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public void operateInto(Vector operand, double[] out) {
+        MatrixValidationSupport.validateOperateInto(
+                matrixDimension, operand.vectorDimension(), out);
+
+        final int dimension = matrixDimension.rowAsIntValue();
+
+        final double[] operandEntry = VectorEntryAccess.entryReference(operand);
+        final double[] resultEntry = out;
+
+        final int[] thisRowPointer = this.rowPointer;
+        final int[] thisColumnIndex = this.columnIndex;
+        final double[] thisValue = this.value;
+
+        Arrays.fill(resultEntry, 0d);
+        for (int i = 0; i < dimension; i++) {
+            final double oe_i = operandEntry[i];
+            double v = 0d;
+            for (int k = thisRowPointer[i], l = thisRowPointer[i + 1]; k < l; k++) {
+                final int j = thisColumnIndex[k];
+                v += thisValue[k] * operandEntry[j];
+                if (j != i) {
+                    resultEntry[j] += thisValue[k] * oe_i;
+                }
+            }
+            resultEntry[i] += v;
+        }
+
+        VectorEntryAccess.modify(resultEntry);
+    }
+
+    /**
+     * -
+     * 
+     * <p>
+     * (外部からの呼び出し不可)
+     * </p>
+     * 
+     * @return -
+     */
+    @Override
+    protected SymmetricCsrMatrix self() {
+        return this;
+    }
+
+    @Override
+    public double entryNormMax() {
+        return this.entryNormMax;
+    }
+
+    @Override
+    public String toString() {
+        return "Matrix[sparse(CSR), symmetric: %s, nnz: %s, %s]"
+                .formatted(
+                        this.matrixDimension(),
+                        this.numberOfNonZeros(),
+                        EntryReadableMatrix.toSimplifiedEntryString(this));
+    }
+
+    /**
+     * 下三角部分を CSR 形式で保持するスパースな対称行列を生成するビルダ. <br>
+     * このビルダはミュータブルであり, スレッドセーフでない.
+     * 
+     * <p>
+     * このビルダインスタンスを得るには,
+     * {@link #zero(MatrixDimension)}
+     * をコールする. <br>
+     * 密行列のビルダとは異なり, 行列サイズによる受け入れ拒否は行われない.
+     * </p>
+     * 
+     * <p>
+     * 成分は座標形式で {@link #addValue(int, int, double)} により追加する. <br>
+     * (<i>i</i>, <i>j</i>) 要素への追加は (<i>j</i>, <i>i</i>) 要素への追加と同一視され,
+     * 同一の位置に複数回値が追加された場合, それらの和が成分の値となる.
+     * </p>
+     * 
+     * <p>
+     * ビルド準備ができたビルダに対して {@link #build()} をコールすることで
+     * {@link SymmetricCsrMatrix} をビルドする. <br>
+     * {@link #build()} を実行したビルダは使用不能となる.
+     * </p>
+     * 
+     * <p>
+     * ビルダのコピーが必要な場合, {@link #copy()} をコールする. <br>
+     * ただし, このコピーはビルド前しか実行できないことに注意.
+     * </p>
+     */
+    public static final class Builder {
+
+        /**
+         * 下三角部分を保持する.
+         */
+        private final CsrMatrix.Builder lowerBuilder;
+
+        private Builder(CsrMatrix.Builder lowerBuilder) {
+            this.lowerBuilder = lowerBuilder;
+        }
+
+        /**
+         * (<i>i</i>, <i>j</i>) 要素および (<i>j</i>, <i>i</i>) 要素に指定した値を加える.
+         * 
+         * <p>
+         * 要素は, 値が0であっても構造的非ゼロ成分として格納される. <br>
+         * 値が不正ならば, 正常値に修正される.
+         * また, 加算の結果の値が不正となった場合も, ビルド時に正常値に修正される.
+         * </p>
+         * 
+         * @param row <i>i</i>, 行index
+         * @param column <i>j</i>, 列index
+         * @param value 加える値
+         * @throws IllegalStateException すでにビルドされている場合
+         * @throws IndexOutOfBoundsException (<i>i</i>, <i>j</i>) が行列の内部でない場合
+         * @see EntryReadableMatrix#acceptValue(double)
+         */
+        public void addValue(final int row, final int column, double value) {
+            this.lowerBuilder.addValue(Math.max(row, column), Math.min(row, column), value);
+        }
+
+        /**
+         * このビルダが使用可能か (ビルド前かどうか) を判定する.
+         * 
+         * @return 使用可能なら {@code true}
+         */
+        public boolean canBeUsed() {
+            return this.lowerBuilder.canBeUsed();
+        }
+
+        /**
+         * このビルダのコピーを生成して返す.
+         * 
+         * @return このビルダのコピー
+         * @throws IllegalStateException すでにビルドされている場合
+         */
+        public Builder copy() {
+            return new Builder(this.lowerBuilder.copy());
+        }
+
+        /**
+         * 下三角部分を CSR 形式で保持するスパースな対称行列をビルドする.
+         * 
+         * <p>
+         * 計算量は {@link CsrMatrix.Builder#build()} と同様である.
+         * </p>
+         * 
+         * @return スパースな対称行列
+         * @throws IllegalStateException すでにビルドされている場合
+         */
+        public SymmetricCsrMatrix build() {
+            final CsrMatrix lower = this.lowerBuilder.build();
+            return new SymmetricCsrMatrix(
+                    lower.matrixDimension(), SparseEntryAccess.rowPointer(lower),
+                    SparseEntryAccess.columnIndex(lower), SparseEntryAccess.value(lower));
+        }
+
+        /**
+         * 与えられたサイズを持つ, 零行列で初期化されたビルダを生成する.
+         * 
+         * @param matrixDimension 行列サイズ
+         * @return 零行列で初期化されたビルダ
+         * @throws MatrixFormatMismatchException 行列サイズが正方サイズでない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public static Builder zero(final MatrixDimension matrixDimension) {
+            if (!Objects.requireNonNull(matrixDimension).isSquare()) {
+                throw new MatrixFormatMismatchException(
+                        "not square: %s".formatted(matrixDimension));
+            }
+            return new Builder(CsrMatrix.Builder.zero(matrixDimension));
+        }
+    }
+}
@@ -6,6 +6,6 @@
  */
 
 /**
- * スパースなベクトルとそのファミリーを扱うパッケージ.
+ * スパースなベクトル, 行列とそのファミリーを扱うパッケージ.
  */
 package matsu.num.matrix.core.sparse;
@@ -25,12 +25,28 @@
  * パッケージ,
  * {@link matsu.num.matrix.core.qr}
  * パッケージに含まれる. <br>
- * それらの機能は, 逆行列 &middot; 一般化逆行列を返すというAPIで提供される.
+ * それらの機能は, 逆行列 &middot; 一般化逆行列を返すというAPIで提供される. <br>
+ * 行列ベクトル積のみを用いる反復法による解法が,
+ * {@link matsu.num.matrix.core.iterative}
+ * パッケージに含まれる.
+ * </p>
+ * 
+ * <p>
+ * 行列の Matrix Market 形式 (.mtx) での読み込み &middot; 書き出しが,
+ * {@link matsu.num.matrix.core.io}
+ * パッケージに含まれる.
  * </p>
  * 
  * <p>
  * <i>依存モジュール:</i> <br>
- * (無し)
+ * (無し) <br>
+ * ただし, {@code jdk.incubator.vector} モジュールが読み込まれている場合
+ * ({@code --add-modules jdk.incubator.vector}),
+ * ベクトルの加算, 内積, ノルムなどの基本演算がSIMD化された実装で実行される. <br>
+ * SIMD化された実装はこのモジュールとは別に (ソースフォルダ {@code src-vector} で) コンパイルされ,
+ * 実行時に読み込まれる (このモジュールは {@code jdk.incubator.vector} を {@code requires} しない). <br>
+ * システムプロパティ {@code matsu.num.matrix.core.kernel=scalar} を指定した場合,
+ * モジュールの有無によらずスカラー実装が使われる.
  * </p>
  * 
  * @author Matsuura Y.
@@ -39,6 +55,8 @@
 module matsu.num.Matrix.Core {
     exports matsu.num.matrix.core;
     exports matsu.num.matrix.core.block;
+    exports matsu.num.matrix.core.io;
+    exports matsu.num.matrix.core.iterative;
     exports matsu.num.matrix.core.nlsf;
     exports matsu.num.matrix.core.qr;
     exports matsu.num.matrix.core.sparse;
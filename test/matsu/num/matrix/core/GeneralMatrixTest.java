@@ -18,6 +18,8 @@ import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
 import matsu.num.matrix.core.helper.matrix.SkeletalAsymmetricMatrix;
+import matsu.num.matrix.core.validation.ElementsTooManyException;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 
 /**
  * {@link GeneralMatrix} クラスのテスト.
@@ -100,6 +102,209 @@ final class GeneralMatrixTest {
             Vector result = gm.operateTranspose(right);
             assertThat(Arrays.equals(result.entryAsArray(), expected), is(true));
         }
+
+        @Test
+        public void test_配列への行列ベクトル積() {
+            Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(3));
+            builder.setEntryValue(new double[] { 1, 2, 3 });
+            Vector right = builder.build();
+            double[] expected = { 14, 32 };
+            double[] out = { Double.NaN, Double.NaN };
+            gm.operateInto(right, out);
+            assertThat(Arrays.equals(out, expected), is(true));
+        }
+
+        @Test
+        public void test_配列への転置行列ベクトル積() {
+            Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(2));
+            builder.setEntryValue(new double[] { 1, 2 });
+            Vector right = builder.build();
+            double[] expected = { 9, 12, 15 };
+            double[] out = { Double.NaN, Double.NaN, Double.NaN };
+            gm.operateTransposeInto(right, out);
+            assertThat(Arrays.equals(out, expected), is(true));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_出力配列の長さが不整合ならMFMEx() {
+            Vector right = Vector.Builder.zeroBuilder(VectorDimension.valueOf(3)).build();
+            gm.operateInto(right, new double[3]);
+        }
+    }
+
+    public static class 行列積に関する {
+
+        private GeneralMatrix a;
+        private GeneralMatrix b;
+
+        @Before
+        public void before() {
+            /*
+             * A:
+             * 1 2 3
+             * 4 5 6
+             * 
+             * B:
+             * 1 -1
+             * 0 2
+             * 3 1
+             */
+            GeneralMatrix.Builder builderA = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(2, 3));
+            builderA.setValue(0, 0, 1);
+            builderA.setValue(0, 1, 2);
+            builderA.setValue(0, 2, 3);
+            builderA.setValue(1, 0, 4);
+            builderA.setValue(1, 1, 5);
+            builderA.setValue(1, 2, 6);
+            a = builderA.build();
+
+            GeneralMatrix.Builder builderB = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(3, 2));
+            builderB.setValue(0, 0, 1);
+            builderB.setValue(0, 1, -1);
+            builderB.setValue(1, 1, 2);
+            builderB.setValue(2, 0, 3);
+            builderB.setValue(2, 1, 1);
+            b = builderB.build();
+        }
+
+        @Test
+        public void test_productOf() {
+            GeneralMatrix c = GeneralMatrix.Builder.productOf(a, b).build();
+            double[][] expected = { { 10, 6 }, { 22, 12 } };
+
+            assertThat(c.matrixDimension(), is(MatrixDimension.square(2)));
+            for (int j = 0; j < expected.length; j++) {
+                for (int k = 0; k < expected[j].length; k++) {
+                    assertThat(c.valueAt(j, k), is(expected[j][k]));
+                }
+            }
+        }
+
+        @Test
+        public void test_Gram行列() {
+            GeneralMatrix c = GeneralMatrix.Builder.productOf(a.transpose(), a).build();
+            double[][] expected = { { 17, 22, 27 }, { 22, 29, 36 }, { 27, 36, 45 } };
+
+            for (int j = 0; j < expected.length; j++) {
+                for (int k = 0; k < expected[j].length; k++) {
+                    assertThat(c.valueAt(j, k), is(expected[j][k]));
+                }
+            }
+        }
+
+        @Test
+        public void test_multiplyAndAdd() {
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.from(
+                    GeneralMatrix.Builder.productOf(a, b).build());
+            builder.multiplyAndAdd(-2d, a, b, 3d);
+            GeneralMatrix c = builder.build();
+            double[][] expected = { { 10, 6 }, { 22, 12 } };
+
+            for (int j = 0; j < expected.length; j++) {
+                for (int k = 0; k < expected[j].length; k++) {
+                    assertThat(c.valueAt(j, k), is(expected[j][k]));
+                }
+            }
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元不整合でMFMEx() {
+            GeneralMatrix.Builder.productOf(a, a);
+        }
+
+        /**
+         * 成分を保持しない, 大きなサイズを扱うための零行列.
+         */
+        private static final class LargeZeroMatrix extends SkeletalAsymmetricMatrix<EntryReadableMatrix>
+                implements EntryReadableMatrix {
+
+            private final MatrixDimension matrixDimension;
+
+            LargeZeroMatrix(MatrixDimension matrixDimension) {
+                this.matrixDimension = Objects.requireNonNull(matrixDimension);
+            }
+
+            @Override
+            public MatrixDimension matrixDimension() {
+                return this.matrixDimension;
+            }
+
+            @Override
+            protected EntryReadableMatrix createTranspose() {
+                return new LargeZeroMatrix(this.matrixDimension.transpose());
+            }
+
+            @Override
+            public Vector operate(Vector operand) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Vector operateTranspose(Vector operand) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public double valueAt(int row, int column) {
+                return 0d;
+            }
+
+            @Override
+            public double entryNormMax() {
+                return 0d;
+            }
+        }
+
+        @Test(expected = ElementsTooManyException.class)
+        public void test_密行列に展開できない大きさの因子でETMEx() {
+            int inner = 1_500_000_000;
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.square(2));
+            builder.multiplyAndAdd(
+                    1d,
+                    new LargeZeroMatrix(MatrixDimension.rectangle(2, inner)),
+                    new LargeZeroMatrix(MatrixDimension.rectangle(inner, 2)),
+                    0d);
+        }
+
+        @Test(expected = ElementsTooManyException.class)
+        public void test_productOfで密行列に展開できない大きさの因子でETMEx() {
+            int inner = 1_500_000_000;
+            GeneralMatrix.Builder.productOf(
+                    new LargeZeroMatrix(MatrixDimension.rectangle(2, inner)),
+                    new LargeZeroMatrix(MatrixDimension.rectangle(inner, 2)));
+        }
+
+        @Test
+        public void test_並列計算される大きさでの検証() {
+            int m = 70;
+            int l = 50;
+            int n = 90;
+            GeneralMatrix.Builder builderP = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(m, l));
+            for (int j = 0; j < m; j++) {
+                for (int k = 0; k < l; k++) {
+                    builderP.setValue(j, k, Math.sin(j + 2 * k));
+                }
+            }
+            GeneralMatrix p = builderP.build();
+            GeneralMatrix.Builder builderQ = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(l, n));
+            for (int j = 0; j < l; j++) {
+                for (int k = 0; k < n; k++) {
+                    builderQ.setValue(j, k, Math.cos(3 * j - k));
+                }
+            }
+            GeneralMatrix q = builderQ.build();
+
+            GeneralMatrix c = GeneralMatrix.Builder.productOf(p, q).build();
+            for (int j = 0; j < m; j++) {
+                for (int k = 0; k < n; k++) {
+                    double expected = 0d;
+                    for (int i = 0; i < l; i++) {
+                        expected += p.valueAt(j, i) * q.valueAt(i, k);
+                    }
+                    assertThat(c.valueAt(j, k), is(closeTo(expected, 1E-12)));
+                }
+            }
+        }
     }
 
     public static class 行の入れ替えに関する {
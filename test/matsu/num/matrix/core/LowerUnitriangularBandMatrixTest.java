@@ -115,6 +115,58 @@ final class LowerUnitriangularBandMatrixTest {
         }
     }
 
+    public static class 帯幅が4以上の場合に関する {
+
+        private LowerUnitriangularBandMatrix lbm;
+
+        private Vector right;
+
+        @Before
+        public void before_評価用右辺ベクトル() {
+            Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(7));
+            builder.setEntryValue(new double[] { 1, -2, 3, 0.5, -1, 2, 4 });
+            right = builder.build();
+        }
+
+        @Before
+        public void before_サイズ7_下側帯幅5の単位下三角行列を生成() {
+            LowerUnitriangularBandMatrix.Builder builder =
+                    LowerUnitriangularBandMatrix.Builder.unit(BandMatrixDimension.of(7, 5, 0));
+            for (int i = 0; i < 7; i++) {
+                for (int j = Math.max(0, i - 5); j < i; j++) {
+                    builder.setValue(i, j, 0.1 * (i + 1) - 0.05 * j);
+                }
+            }
+            lbm = builder.build();
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            Vector result = lbm.inverse().get().operate(lbm.operate(right));
+            for (int i = 0; i < 7; i++) {
+                assertThat(result.valueAt(i), is(closeTo(right.valueAt(i), 1E-12)));
+            }
+        }
+
+        @Test
+        public void test_転置逆行列ベクトル積() {
+            Vector result = lbm.inverse().get().operateTranspose(lbm.operateTranspose(right));
+            for (int i = 0; i < 7; i++) {
+                assertThat(result.valueAt(i), is(closeTo(right.valueAt(i), 1E-12)));
+            }
+        }
+
+        @Test
+        public void test_配列への行列ベクトル積() {
+            double[] out = new double[7];
+            lbm.operateInto(right, out);
+            assertThat(Arrays.equals(out, lbm.operate(right).entryAsArray()), is(true));
+
+            lbm.operateTransposeInto(right, out);
+            assertThat(Arrays.equals(out, lbm.operateTranspose(right).entryAsArray()), is(true));
+        }
+    }
+
     public static class 帯の退化に関する {
 
         private LowerUnitriangular lbm;
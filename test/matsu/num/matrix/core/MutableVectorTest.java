@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link MutableVector} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class MutableVectorTest {
+
+    public static final Class<?> TEST_CLASS = MutableVector.class;
+
+    private static Vector vectorOf(double... entry) {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(entry.length));
+        builder.setEntryValue(entry);
+        return builder.build();
+    }
+
+    public static class 生成と値の設定に関する {
+
+        private MutableVector mv;
+
+        @Before
+        public void before_次元3の零ベクトル() {
+            mv = MutableVector.zero(VectorDimension.valueOf(3));
+        }
+
+        @Test
+        public void test_zeroは零ベクトル() {
+            assertThat(mv.normMax(), is(0d));
+        }
+
+        @Test
+        public void test_fromは元ベクトルと同一成分() {
+            Vector src = vectorOf(1d, 2d, 3d);
+            MutableVector copied = MutableVector.from(src);
+            assertThat(copied.valueAt(0), is(1d));
+            assertThat(copied.valueAt(1), is(2d));
+            assertThat(copied.valueAt(2), is(3d));
+
+            //元ベクトルは変更されない
+            copied.setValue(0, 5d);
+            assertThat(src.valueAt(0), is(1d));
+        }
+
+        @Test
+        public void test_setValue_不正値は修正される() {
+            mv.setValue(0, Double.POSITIVE_INFINITY);
+            mv.setValue(1, Double.NEGATIVE_INFINITY);
+            mv.setValue(2, Double.NaN);
+            assertThat(mv.valueAt(0), is(Vector.MAX_VALUE));
+            assertThat(mv.valueAt(1), is(Vector.MIN_VALUE));
+            assertThat(mv.valueAt(2), is(0d));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_setValue_indexが範囲外でIOOBEx() {
+            mv.setValue(3, 0d);
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_setEntryValue_次元不一致でMFMEx() {
+            mv.setEntryValue(Vector.Builder.zeroBuilder(VectorDimension.valueOf(4)).build());
+        }
+    }
+
+    public static class 演算に関する {
+
+        private MutableVector mv;
+        private Vector ref;
+
+        @Before
+        public void before() {
+            mv = MutableVector.from(vectorOf(1d, 2d, 3d));
+            ref = vectorOf(4d, 5d, 6d);
+        }
+
+        @Test
+        public void test_addInPlace() {
+            mv.addInPlace(ref);
+            assertThat(mv.snapshot().entryAsArray(), is(new double[] { 5d, 7d, 9d }));
+        }
+
+        @Test
+        public void test_subtractInPlace() {
+            mv.subtractInPlace(MutableVector.from(ref));
+            assertThat(mv.snapshot().entryAsArray(), is(new double[] { -3d, -3d, -3d }));
+        }
+
+        @Test
+        public void test_axpyInPlace() {
+            mv.axpyInPlace(ref, 2d);
+            assertThat(mv.snapshot().entryAsArray(), is(new double[] { 9d, 12d, 15d }));
+        }
+
+        @Test
+        public void test_scaleInPlace() {
+            mv.scaleInPlace(-2d);
+            assertThat(mv.snapshot().entryAsArray(), is(new double[] { -2d, -4d, -6d }));
+        }
+
+        @Test
+        public void test_scaleInPlace_オーバーフローは修正される() {
+            mv.scaleInPlace(Double.MAX_VALUE);
+            assertThat(mv.valueAt(2), is(Vector.MAX_VALUE));
+        }
+
+        @Test
+        public void test_dotとノルム() {
+            assertThat(mv.dot(ref), is(32d));
+            assertThat(mv.norm2Square(), is(14d));
+            assertThat(mv.norm2(), is(closeTo(Math.sqrt(14d), 1E-14)));
+            assertThat(mv.normMax(), is(3d));
+        }
+
+        @Test
+        public void test_setProductOf() {
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(
+                    MatrixDimension.rectangle(2, 3));
+            builder.setValue(0, 0, 1d);
+            builder.setValue(0, 2, 2d);
+            builder.setValue(1, 1, 3d);
+            GeneralMatrix matrix = builder.build();
+
+            MutableVector result = MutableVector.zero(VectorDimension.valueOf(2));
+            result.setProductOf(matrix, ref);
+            assertThat(result.snapshot().entryAsArray(), is(new double[] { 16d, 15d }));
+
+            mv.setTransposeProductOf(matrix, result.snapshot());
+            assertThat(mv.snapshot().entryAsArray(), is(new double[] { 16d, 45d, 32d }));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元不一致でMFMEx() {
+            mv.addInPlace(Vector.Builder.zeroBuilder(VectorDimension.valueOf(4)).build());
+        }
+    }
+
+    public static class モジュール外で定義された行列との積に関する {
+
+        /**
+         * 出力先配列の参照を保持し, 不正値を書き込む, ユーザー定義の行列.
+         */
+        private static final class RetainingMatrix extends SkeletalAsymmetricMatrix<Matrix> {
+
+            private final MatrixDimension matrixDimension = MatrixDimension.rectangle(2, 3);
+            private double[] retained;
+
+            @Override
+            public MatrixDimension matrixDimension() {
+                return this.matrixDimension;
+            }
+
+            @Override
+            protected Matrix createTranspose() {
+                return Matrix.createTransposedOf(this);
+            }
+
+            @Override
+            public Vector operate(Vector operand) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Vector operateTranspose(Vector operand) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void operateInto(Vector operand, double[] out) {
+                out[0] = Double.NaN;
+                out[1] = Double.POSITIVE_INFINITY;
+                this.retained = out;
+            }
+
+            @Override
+            public void operateTransposeInto(Vector operand, double[] out) {
+                out[0] = 1d;
+                out[1] = Double.NaN;
+                out[2] = Double.NEGATIVE_INFINITY;
+                this.retained = out;
+            }
+        }
+
+        @Test
+        public void test_setProductOfの結果は修正され_freeze後に外部から書き換えられない() {
+            RetainingMatrix matrix = new RetainingMatrix();
+            MutableVector mv = MutableVector.zero(VectorDimension.valueOf(2));
+            mv.setProductOf(matrix, vectorOf(1d, 2d, 3d));
+            Vector frozen = mv.freeze();
+            assertThat(frozen.entryAsArray(), is(new double[] { 0d, Vector.MAX_VALUE }));
+
+            matrix.retained[0] = Double.NaN;
+            assertThat(frozen.valueAt(0), is(0d));
+        }
+
+        @Test
+        public void test_setTransposeProductOfの結果は修正され_freeze後に外部から書き換えられない() {
+            RetainingMatrix matrix = new RetainingMatrix();
+            MutableVector mv = MutableVector.zero(VectorDimension.valueOf(3));
+            mv.setTransposeProductOf(matrix, vectorOf(1d, 2d));
+            Vector frozen = mv.freeze();
+            assertThat(frozen.entryAsArray(), is(new double[] { 1d, 0d, Vector.MIN_VALUE }));
+
+            matrix.retained[0] = Double.NaN;
+            assertThat(frozen.valueAt(0), is(1d));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元不一致でMFMEx() {
+            MutableVector mv = MutableVector.zero(VectorDimension.valueOf(3));
+            mv.setProductOf(new RetainingMatrix(), vectorOf(1d, 2d, 3d));
+        }
+    }
+
+    public static class スナップショットとフリーズに関する {
+
+        private MutableVector mv;
+
+        @Before
+        public void before() {
+            mv = MutableVector.zero(VectorDimension.valueOf(3));
+            mv.setValue(1, 2d);
+        }
+
+        @Test
+        public void test_snapshot後の変更はスナップショットに影響しない() {
+            Vector snapshot = mv.snapshot();
+            mv.setValue(1, 5d);
+            assertThat(snapshot.valueAt(1), is(2d));
+            assertThat(mv.canBeUsed(), is(true));
+        }
+
+        @Test
+        public void test_freezeは現在の成分を引き渡す() {
+            Vector frozen = mv.freeze();
+            assertThat(frozen.entryAsArray(), is(new double[] { 0d, 2d, 0d }));
+            assertThat(frozen.normMax(), is(2d));
+            assertThat(mv.canBeUsed(), is(false));
+        }
+
+        @Test(expected = IllegalStateException.class)
+        public void test_freeze後は使用不能() {
+            mv.freeze();
+            mv.setValue(0, 1d);
+        }
+
+        @Test(expected = IllegalStateException.class)
+        public void test_freeze後の参照ベクトルとしての使用は不能() {
+            MutableVector other = MutableVector.zero(VectorDimension.valueOf(3));
+            other.freeze();
+            mv.addInPlace(other);
+        }
+    }
+}
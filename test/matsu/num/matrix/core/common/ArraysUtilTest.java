@@ -130,6 +130,22 @@ final class ArraysUtilTest {
 
             assertThat(Math.abs(result - expected), is(lessThan(1E-14)));
         }
+
+        @Theory
+        public void test_dot_部分範囲(double[] v1, double[] v2, int dimension) {
+            int offset1 = 1;
+            int offset2 = MAX_DIMENSION - dimension;
+            int length = dimension - offset1;
+
+            double result = ArraysUtil.dot(v1, offset1, v2, offset2, length);
+
+            double expected = 0d;
+            for (int i = 0; i < length; i++) {
+                expected += v1[offset1 + i] * v2[offset2 + i];
+            }
+
+            assertThat(Math.abs(result - expected), is(lessThan(1E-14)));
+        }
     }
 
     @RunWith(Theories.class)
@@ -224,6 +240,22 @@ final class ArraysUtilTest {
             assertThat(ArraysUtil.normMax(res), is(lessThan(1E-14)));
         }
 
+        @Theory
+        public void test_allFinite(double[] v, int dimension) {
+            v = Arrays.copyOf(v, dimension);
+            assertThat(ArraysUtil.allFinite(v), is(true));
+
+            //各位置に不正値を置いて検証する
+            for (double abnormal : new double[] {
+                    Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN }) {
+                for (int i = 0; i < dimension; i++) {
+                    double[] w = v.clone();
+                    w[i] = abnormal;
+                    assertThat(ArraysUtil.allFinite(w), is(false));
+                }
+            }
+        }
+
         @Theory
         public void test_norm1(double[] v, int dimension) {
             v = Arrays.copyOf(v, dimension);
@@ -0,0 +1,371 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.io;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+
+/**
+ * {@link MatrixMarketReader} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class MatrixMarketReaderTest {
+
+    public static final Class<?> TEST_CLASS = MatrixMarketReader.class;
+
+    static EntryReadableMatrix read(String text) throws IOException {
+        InputStream in = new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII));
+        return MatrixMarketReader.read(in);
+    }
+
+    /**
+     * n*n の三重対角行列 (coordinate) の文字列を返す.
+     */
+    static String tridiagonal(int n, String symmetry) {
+        boolean symmetric = symmetry.equals("symmetric");
+        StringBuilder sb = new StringBuilder();
+        sb.append("%%MatrixMarket matrix coordinate real ").append(symmetry).append('\n');
+        sb.append("% comment\n");
+        sb.append(n).append(' ').append(n).append(' ')
+                .append(symmetric ? 2 * n - 1 : 3 * n - 2).append('\n');
+        for (int i = 1; i <= n; i++) {
+            sb.append(i).append(' ').append(i).append(' ').append(4).append('\n');
+            if (i > 1) {
+                sb.append(i).append(' ').append(i - 1).append(' ').append(-1).append('\n');
+                if (!symmetric) {
+                    sb.append(i - 1).append(' ').append(i).append(' ').append(-2).append('\n');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    public static class 一般行列の座標形式の読み込み {
+
+        @Test
+        public void test_三重対角は帯行列になる() throws IOException {
+            EntryReadableMatrix m = read(tridiagonal(10, "general"));
+            assertThat(m, is(instanceOf(GeneralBandMatrix.class)));
+            assertThat(m.valueAt(3, 3), is(4d));
+            assertThat(m.valueAt(3, 2), is(-1d));
+            assertThat(m.valueAt(2, 3), is(-2d));
+            assertThat(m.valueAt(0, 5), is(0d));
+        }
+
+        @Test
+        public void test_小さな密行列は密行列になる() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix coordinate real general
+                    2 3 6
+                    1 1 1.5
+                    1 2 2
+                    1 3 3
+                    2 1 4
+                    2 2 5
+                    2 3 -6.25
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m, is(instanceOf(GeneralMatrix.class)));
+            assertThat(m.matrixDimension().rowAsIntValue(), is(2));
+            assertThat(m.matrixDimension().columnAsIntValue(), is(3));
+            assertThat(m.valueAt(0, 0), is(1.5));
+            assertThat(m.valueAt(1, 2), is(-6.25));
+        }
+
+        @Test
+        public void test_離れた成分を持つ疎行列はCSRになる() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            sb.append("%%MatrixMarket matrix coordinate real general\n");
+            sb.append("100 100 102\n");
+            for (int i = 1; i <= 100; i++) {
+                sb.append(i).append(' ').append(i).append(" 2\n");
+            }
+            sb.append("1 100 0.5\n");
+            sb.append("100 1 -0.5\n");
+            EntryReadableMatrix m = read(sb.toString());
+            assertThat(m, is(instanceOf(CsrMatrix.class)));
+            assertThat(((CsrMatrix) m).numberOfNonZeros(), is(102));
+            assertThat(m.valueAt(0, 99), is(0.5));
+            assertThat(m.valueAt(99, 0), is(-0.5));
+        }
+
+        @Test
+        public void test_重複した位置の値は足し合わされる() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix coordinate real general
+                    2 2 3
+                    1 1 1
+                    1 1 2.5
+                    2 2 1
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m.valueAt(0, 0), is(3.5));
+        }
+
+        @Test
+        public void test_パターン形式の値は1() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix coordinate pattern general
+                    2 2 2
+                    1 2
+                    2 1
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m.valueAt(0, 1), is(1d));
+            assertThat(m.valueAt(1, 0), is(1d));
+            assertThat(m.valueAt(0, 0), is(0d));
+        }
+
+        @Test
+        public void test_歪対称は転置位置に符号反転した値を持つ() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix coordinate real skew-symmetric
+                    3 3 2
+                    2 1 1.5
+                    3 2 -2
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m.valueAt(1, 0), is(1.5));
+            assertThat(m.valueAt(0, 1), is(-1.5));
+            assertThat(m.valueAt(2, 1), is(-2d));
+            assertThat(m.valueAt(1, 2), is(2d));
+        }
+
+        @Test
+        public void test_ヘッダの大文字小文字とCRLFを受け付ける() throws IOException {
+            String text = "%%MatrixMarket MATRIX Coordinate Integer General\r\n"
+                    + "% comment\r\n"
+                    + "\r\n"
+                    + "2 2 1\r\n"
+                    + "2 2 7\r\n";
+            EntryReadableMatrix m = read(text);
+            assertThat(m.valueAt(1, 1), is(7d));
+        }
+    }
+
+    public static class 対称行列の座標形式の読み込み {
+
+        @Test
+        public void test_三重対角は対称帯行列になる() throws IOException {
+            EntryReadableMatrix m = read(tridiagonal(10, "symmetric"));
+            assertThat(m, is(instanceOf(SymmetricBandMatrix.class)));
+            assertThat(m.valueAt(4, 3), is(-1d));
+            assertThat(m.valueAt(3, 4), is(-1d));
+        }
+
+        @Test
+        public void test_小さな密行列は対称密行列になる() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix coordinate real symmetric
+                    3 3 6
+                    1 1 4
+                    2 1 1
+                    3 1 2
+                    2 2 5
+                    2 3 3
+                    3 3 6
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m, is(instanceOf(SymmetricMatrix.class)));
+            assertThat(m.valueAt(0, 2), is(2d));
+            assertThat(m.valueAt(2, 1), is(3d));
+            assertThat(m.valueAt(1, 2), is(3d));
+        }
+
+        @Test
+        public void test_離れた成分を持つ疎行列は対称CSRになる() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            sb.append("%%MatrixMarket matrix coordinate real symmetric\n");
+            sb.append("100 100 101\n");
+            for (int i = 1; i <= 100; i++) {
+                sb.append(i).append(' ').append(i).append(" 2\n");
+            }
+            sb.append("100 1 0.5\n");
+            EntryReadableMatrix m = read(sb.toString());
+            assertThat(m, is(instanceOf(SymmetricCsrMatrix.class)));
+            assertThat(m.valueAt(0, 99), is(0.5));
+            assertThat(m.valueAt(99, 0), is(0.5));
+        }
+    }
+
+    public static class 配列形式の読み込み {
+
+        @Test
+        public void test_一般行列は列優先で読まれる() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix array real general
+                    2 3
+                    1
+                    2
+                    3
+                    4
+                    5
+                    6
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m, is(instanceOf(GeneralMatrix.class)));
+            assertThat(m.valueAt(1, 0), is(2d));
+            assertThat(m.valueAt(0, 1), is(3d));
+            assertThat(m.valueAt(1, 2), is(6d));
+        }
+
+        @Test
+        public void test_対称行列は下三角部分が読まれる() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix array real symmetric
+                    3 3
+                    1 2 3
+                    4 5
+                    6
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m, is(instanceOf(SymmetricMatrix.class)));
+            assertThat(m.valueAt(2, 0), is(3d));
+            assertThat(m.valueAt(0, 2), is(3d));
+            assertThat(m.valueAt(2, 1), is(5d));
+            assertThat(m.valueAt(2, 2), is(6d));
+        }
+    }
+
+    public static class 数値の解析 {
+
+        @Test
+        public void test_様々な表記() throws IOException {
+            String text = """
+                    %%MatrixMarket matrix array real general
+                    7 1
+                    1.5D+2
+                    -2.5e-3
+                    .25
+                    +3.
+                    0.1
+                    1E300
+                    -0
+                    """;
+            EntryReadableMatrix m = read(text);
+            assertThat(m.valueAt(0, 0), is(150d));
+            assertThat(m.valueAt(1, 0), is(-2.5e-3));
+            assertThat(m.valueAt(2, 0), is(0.25));
+            assertThat(m.valueAt(3, 0), is(3d));
+            assertThat(m.valueAt(4, 0), is(0.1));
+            assertThat(m.valueAt(5, 0), is(1E300));
+            assertThat(m.valueAt(6, 0), is(-0d));
+        }
+
+        @Test
+        public void test_17桁の値は正確に変換される() throws IOException {
+            double[] values = {
+                    0.1 + 0.2, Math.PI, -Math.E, 1d / 3, 123456789.12345678, 4.9e-324, Double.MAX_VALUE };
+            StringBuilder sb = new StringBuilder();
+            sb.append("%%MatrixMarket matrix array real general\n");
+            sb.append(values.length).append(" 1\n");
+            for (double v : values) {
+                sb.append(String.format("%.17g", v)).append('\n');
+            }
+            EntryReadableMatrix m = read(sb.toString());
+            for (int i = 0; i < values.length; i++) {
+                assertThat(m.valueAt(i, 0), is(values[i]));
+            }
+        }
+
+        @Test
+        public void test_様々な桁数と指数の値はparseDoubleと一致する() throws IOException {
+            Random random = new Random(8L);
+            final int n = 3000;
+            String[] tokens = new String[n];
+            for (int i = 0; i < n; i++) {
+                double v = switch (i % 3) {
+                    case 0 -> Double.longBitsToDouble(random.nextLong() & 0x7FEF_FFFF_FFFF_FFFFL);
+                    case 1 -> random.nextDouble() * Math.pow(10, random.nextInt(60) - 30);
+                    default -> random.nextGaussian();
+                };
+                tokens[i] = String.format("%." + (1 + random.nextInt(17)) + "e", v);
+            }
+            StringBuilder sb = new StringBuilder();
+            sb.append("%%MatrixMarket matrix array real general\n");
+            sb.append(n).append(" 1\n");
+            for (String token : tokens) {
+                sb.append(token).append('\n');
+            }
+            EntryReadableMatrix m = read(sb.toString());
+            for (int i = 0; i < n; i++) {
+                assertThat(tokens[i], m.valueAt(i, 0), is(Double.parseDouble(tokens[i])));
+            }
+        }
+    }
+
+    public static class 不正なデータ {
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_バナーが無い() throws IOException {
+            read("2 2 1\n1 1 1\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_複素数は非対応() throws IOException {
+            read("%%MatrixMarket matrix coordinate complex general\n1 1 1\n1 1 1 0\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_エルミートは非対応() throws IOException {
+            read("%%MatrixMarket matrix coordinate real hermitian\n1 1 1\n1 1 1\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_配列形式のパターンは不正() throws IOException {
+            read("%%MatrixMarket matrix array pattern general\n1 1\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_添字が範囲外() throws IOException {
+            read("%%MatrixMarket matrix coordinate real general\n2 2 1\n3 1 1\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_成分が足りない() throws IOException {
+            read("%%MatrixMarket matrix coordinate real general\n2 2 2\n1 1 1\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_成分が多すぎる() throws IOException {
+            read("%%MatrixMarket matrix coordinate real general\n2 2 1\n1 1 1\n2 2 1\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_数値でない() throws IOException {
+            read("%%MatrixMarket matrix coordinate real general\n2 2 1\n1 1 abc\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_非正方の対称行列() throws IOException {
+            read("%%MatrixMarket matrix coordinate real symmetric\n2 3 1\n1 1 1\n");
+        }
+
+        @Test(expected = MatrixMarketFormatException.class)
+        public void test_歪対称の対角成分() throws IOException {
+            read("%%MatrixMarket matrix coordinate real skew-symmetric\n2 2 1\n1 1 1\n");
+        }
+    }
+}
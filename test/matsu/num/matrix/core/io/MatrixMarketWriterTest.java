@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.io;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+
+/**
+ * {@link MatrixMarketWriter} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class MatrixMarketWriterTest {
+
+    public static final Class<?> TEST_CLASS = MatrixMarketWriter.class;
+
+    static String write(EntryReadableMatrix matrix) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatrixMarketWriter.write(matrix, out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    static EntryReadableMatrix roundTrip(EntryReadableMatrix matrix) throws IOException {
+        return MatrixMarketReader.read(
+                new ByteArrayInputStream(write(matrix).getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    static void assertSameEntries(EntryReadableMatrix actual, EntryReadableMatrix expected) {
+        assertThat(actual.matrixDimension(), is(expected.matrixDimension()));
+        int rows = expected.matrixDimension().rowAsIntValue();
+        int columns = expected.matrixDimension().columnAsIntValue();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                assertThat(actual.valueAt(i, j), is(expected.valueAt(i, j)));
+            }
+        }
+    }
+
+    public static class 書き出しと読み込みの往復 {
+
+        @Test
+        public void test_一般行列() throws IOException {
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(3, 2));
+            builder.setValue(0, 0, 0.1 + 0.2);
+            builder.setValue(1, 1, -Math.PI);
+            builder.setValue(2, 0, 1E-300);
+            GeneralMatrix matrix = builder.build();
+
+            String text = write(matrix);
+            assertThat(text, startsWith("%%MatrixMarket matrix array real general\n3 2\n"));
+
+            EntryReadableMatrix read = roundTrip(matrix);
+            assertThat(read, is(instanceOf(GeneralMatrix.class)));
+            assertSameEntries(read, matrix);
+        }
+
+        @Test
+        public void test_対称行列() throws IOException {
+            SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.setValue(0, 0, 1);
+            builder.setValue(2, 0, Math.E);
+            builder.setValue(2, 1, -3);
+            SymmetricMatrix matrix = builder.build();
+
+            assertThat(write(matrix), startsWith("%%MatrixMarket matrix array real symmetric\n"));
+
+            EntryReadableMatrix read = roundTrip(matrix);
+            assertThat(read, is(instanceOf(SymmetricMatrix.class)));
+            assertSameEntries(read, matrix);
+        }
+
+        @Test
+        public void test_帯行列() throws IOException {
+            GeneralBandMatrix.Builder builder = GeneralBandMatrix.Builder.zero(
+                    BandMatrixDimension.of(MatrixDimension.square(12), 1, 2));
+            for (int i = 0; i < 12; i++) {
+                builder.setValue(i, i, 5 + i);
+                if (i > 0) {
+                    builder.setValue(i, i - 1, -1d / i);
+                }
+                if (i < 10) {
+                    builder.setValue(i, i + 2, 0.5);
+                }
+            }
+            GeneralBandMatrix matrix = builder.build();
+
+            assertThat(write(matrix), startsWith("%%MatrixMarket matrix coordinate real general\n12 12 33\n"));
+
+            EntryReadableMatrix read = roundTrip(matrix);
+            assertThat(read, is(instanceOf(GeneralBandMatrix.class)));
+            assertSameEntries(read, matrix);
+        }
+
+        @Test
+        public void test_対称帯行列() throws IOException {
+            SymmetricBandMatrix.Builder builder = SymmetricBandMatrix.Builder.zero(
+                    BandMatrixDimension.symmetric(MatrixDimension.square(12), 1));
+            for (int i = 0; i < 12; i++) {
+                builder.setValue(i, i, 4);
+                if (i > 0) {
+                    builder.setValue(i, i - 1, -1.25);
+                }
+            }
+            SymmetricBandMatrix matrix = builder.build();
+
+            assertThat(write(matrix), startsWith("%%MatrixMarket matrix coordinate real symmetric\n12 12 23\n"));
+
+            EntryReadableMatrix read = roundTrip(matrix);
+            assertThat(read, is(instanceOf(SymmetricBandMatrix.class)));
+            assertSameEntries(read, matrix);
+        }
+
+        @Test
+        public void test_CSR行列() throws IOException {
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.rectangle(50, 60));
+            for (int i = 0; i < 50; i++) {
+                builder.addValue(i, i, 1 + i * 0.1);
+            }
+            builder.addValue(0, 59, 2);
+            builder.addValue(49, 0, -2);
+            CsrMatrix matrix = builder.build();
+
+            assertThat(write(matrix), startsWith("%%MatrixMarket matrix coordinate real general\n50 60 52\n"));
+
+            EntryReadableMatrix read = roundTrip(matrix);
+            assertThat(read, is(instanceOf(CsrMatrix.class)));
+            assertSameEntries(read, matrix);
+        }
+
+        @Test
+        public void test_対称CSR行列() throws IOException {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(50));
+            for (int i = 0; i < 50; i++) {
+                builder.addValue(i, i, 3);
+            }
+            builder.addValue(0, 49, 0.75);
+            SymmetricCsrMatrix matrix = builder.build();
+
+            assertThat(write(matrix), startsWith("%%MatrixMarket matrix coordinate real symmetric\n50 50 51\n"));
+
+            EntryReadableMatrix read = roundTrip(matrix);
+            assertThat(read, is(instanceOf(SymmetricCsrMatrix.class)));
+            assertSameEntries(read, matrix);
+        }
+
+        @Test
+        public void test_ファイル経由() throws IOException {
+            SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(MatrixDimension.square(2));
+            builder.setValue(1, 0, 0.3);
+            SymmetricMatrix matrix = builder.build();
+
+            Path path = Files.createTempFile("matrix", ".mtx");
+            try {
+                MatrixMarketWriter.write(matrix, path);
+                assertSameEntries(MatrixMarketReader.read(path), matrix);
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.iterative;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.nlsf.LUBand;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link BiCGStab} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class BiCGStabTest {
+
+    public static final Class<?> TEST_CLASS = BiCGStab.class;
+
+    public static class 求解に関するテスト {
+
+        private GeneralBandMatrix matrix;
+        private Vector b;
+        private IterationControl control;
+
+        @Before
+        public void before_係数行列と右辺の生成() {
+            matrix = GMRESTest.convectionDiffusion();
+            b = GMRESTest.right();
+            control = IterationControl.of(1E-10, 1000);
+        }
+
+        @Test
+        public void test_前処理無しで収束する() {
+            IterativeSolution result = BiCGStab.of(matrix).solve(b, control);
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(result.relativeResidualNorm(), is(lessThanOrEqualTo(1E-10)));
+            assertThat(GMRESTest.relativeResidual(matrix, result.solution(), b), is(lessThan(1E-9)));
+        }
+
+        @Test
+        public void test_左Jacobi前処理で収束する() {
+            IterativeSolution result = BiCGStab.of(matrix, Preconditioner.left(GMRESTest.jacobi(matrix)))
+                    .solve(b, control);
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(GMRESTest.relativeResidual(matrix, result.solution(), b), is(lessThan(1E-9)));
+        }
+
+        @Test
+        public void test_右Jacobi前処理で収束する() {
+            IterativeSolution result = BiCGStab.of(matrix, Preconditioner.right(GMRESTest.jacobi(matrix)))
+                    .solve(b, control);
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(GMRESTest.relativeResidual(matrix, result.solution(), b), is(lessThan(1E-9)));
+        }
+
+        @Test
+        public void test_LUBandによる前処理では直ちに収束する() {
+            LUBand lu = LUBand.executor().apply(matrix).get();
+
+            for (Preconditioner preconditioner : new Preconditioner[] {
+                    Preconditioner.left(lu), Preconditioner.right(lu) }) {
+                IterativeSolution result = BiCGStab.of(matrix, preconditioner).solve(b, control);
+
+                assertThat(result.isConverged(), is(true));
+                assertThat(result.iterationCount(), is(lessThanOrEqualTo(2)));
+            }
+        }
+
+        @Test
+        public void test_最大反復回数で打ち切られる() {
+            IterativeSolution result = BiCGStab.of(matrix)
+                    .solve(b, IterationControl.of(1E-10, 2));
+
+            assertThat(result.isConverged(), is(false));
+            assertThat(result.iterationCount(), is(2));
+        }
+    }
+
+    public static class 例外に関するテスト {
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_正方行列でない場合は例外() {
+            BiCGStab.of(GeneralMatrix.Builder.zero(MatrixDimension.rectangle(3, 4)).build());
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            BiCGStab bicgstab = BiCGStab.of(GMRESTest.convectionDiffusion());
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(bicgstab);
+            System.out.println(bicgstab.solve(GMRESTest.right(), IterationControl.of(1E-10, 1000)));
+            System.out.println();
+        }
+    }
+}
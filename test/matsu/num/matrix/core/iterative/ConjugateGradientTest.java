@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.iterative;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.DiagonalMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
+
+/**
+ * {@link ConjugateGradient} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ConjugateGradientTest {
+
+    public static final Class<?> TEST_CLASS = ConjugateGradient.class;
+
+    private static final int DIMENSION = 50;
+
+    /**
+     * 対角成分が大きく異なる正定値対称三重対角行列を生成する.
+     */
+    private static SymmetricBandMatrix tridiagonal() {
+        SymmetricBandMatrix.Builder builder =
+                SymmetricBandMatrix.Builder.zero(BandMatrixDimension.symmetric(DIMENSION, 1));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, i, 2 * (i + 1) + 1);
+            if (i > 0) {
+                builder.setValue(i, i - 1, -1);
+            }
+        }
+        return builder.build();
+    }
+
+    private static Vector right() {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, Math.sin(i + 1));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 残差 ||b - Ax|| / ||b|| を直接計算する.
+     */
+    private static double relativeResidual(Matrix matrix, Vector x, Vector b) {
+        return b.minus(matrix.operate(x)).norm2() / b.norm2();
+    }
+
+    public static class 求解に関するテスト {
+
+        private SymmetricBandMatrix matrix;
+        private Vector b;
+
+        @Before
+        public void before_係数行列と右辺の生成() {
+            matrix = tridiagonal();
+            b = right();
+        }
+
+        @Test
+        public void test_前処理無しで収束する() {
+            IterativeSolution result = ConjugateGradient.of(matrix)
+                    .solve(b, IterationControl.of(1E-12, 1000));
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(result.iterationCount(), is(greaterThan(0)));
+            assertThat(result.relativeResidualNorm(), is(lessThanOrEqualTo(1E-12)));
+            assertThat(relativeResidual(matrix, result.solution(), b), is(lessThan(1E-11)));
+        }
+
+        @Test
+        public void test_Jacobi前処理で反復回数が減少する() {
+            DiagonalMatrix.Builder pb = DiagonalMatrix.Builder.zeroBuilder(MatrixDimension.square(DIMENSION));
+            for (int i = 0; i < DIMENSION; i++) {
+                pb.setValue(i, 1d / matrix.valueAt(i, i));
+            }
+            DiagonalMatrix jacobi = pb.build();
+
+            IterationControl control = IterationControl.of(1E-12, 1000);
+            IterativeSolution plain = ConjugateGradient.of(matrix).solve(b, control);
+            IterativeSolution preconditioned = ConjugateGradient.of(matrix, jacobi).solve(b, control);
+
+            assertThat(preconditioned.isConverged(), is(true));
+            assertThat(preconditioned.iterationCount(), is(lessThan(plain.iterationCount())));
+            assertThat(relativeResidual(matrix, preconditioned.solution(), b), is(lessThan(1E-11)));
+        }
+
+        @Test
+        public void test_初期近似解が厳密解なら反復しない() {
+            IterationControl control = IterationControl.of(1E-12, 1000);
+            Vector exact = ConjugateGradient.of(matrix).solve(b, control).solution();
+
+            IterativeSolution result = ConjugateGradient.of(matrix).solve(b, exact, control);
+            assertThat(result.isConverged(), is(true));
+            assertThat(result.iterationCount(), is(0));
+        }
+
+        @Test
+        public void test_最大反復回数で打ち切られる() {
+            IterativeSolution result = ConjugateGradient.of(matrix)
+                    .solve(b, IterationControl.of(1E-12, 2));
+
+            assertThat(result.isConverged(), is(false));
+            assertThat(result.iterationCount(), is(2));
+        }
+
+        @Test
+        public void test_右辺が零ベクトルなら解は零ベクトル() {
+            IterativeSolution result = ConjugateGradient.of(matrix)
+                    .solve(Vector.Builder.zeroBuilder(VectorDimension.valueOf(DIMENSION)).build(),
+                            IterationControl.of(1E-12, 10));
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(result.solution().normMax(), is(0d));
+        }
+
+        @Test
+        public void test_対称化二乗で表現された行列を解く() {
+            GeneralMatrix.Builder gb = GeneralMatrix.Builder.zero(MatrixDimension.square(DIMENSION));
+            for (int i = 0; i < DIMENSION; i++) {
+                gb.setValue(i, i, 2);
+                if (i > 0) {
+                    gb.setValue(i, i - 1, 1);
+                }
+            }
+            Matrix square = Matrix.symmetrizedSquare(gb.build());
+
+            IterativeSolution result = ConjugateGradient.of(square)
+                    .solve(b, IterationControl.of(1E-12, 1000));
+            assertThat(result.isConverged(), is(true));
+            assertThat(relativeResidual(square, result.solution(), b), is(lessThan(1E-10)));
+        }
+    }
+
+    public static class 例外に関するテスト {
+
+        @Test(expected = MatrixNotSymmetricException.class)
+        public void test_対称行列でない場合は例外() {
+            ConjugateGradient.of(GeneralMatrix.Builder.zero(MatrixDimension.square(3)).build());
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_前処理行列のサイズが異なる場合は例外() {
+            ConjugateGradient.of(tridiagonal(),
+                    DiagonalMatrix.Builder.unitBuilder(MatrixDimension.square(DIMENSION + 1)).build());
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_右辺の次元が異なる場合は例外() {
+            ConjugateGradient.of(tridiagonal())
+                    .solve(Vector.Builder.zeroBuilder(VectorDimension.valueOf(DIMENSION + 1)).build(),
+                            IterationControl.of(1E-12, 10));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_許容誤差が不正な場合は例外() {
+            IterationControl.of(0d, 10);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_最大反復回数が不正な場合は例外() {
+            IterationControl.of(1E-12, 0);
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            ConjugateGradient cg = ConjugateGradient.of(tridiagonal());
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(cg);
+            System.out.println(IterationControl.of(1E-12, 10));
+            System.out.println(cg.solve(right(), IterationControl.of(1E-12, 1000)));
+            System.out.println();
+        }
+    }
+}
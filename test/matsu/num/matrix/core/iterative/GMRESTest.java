@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.iterative;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.BandMatrixDimension;
+import matsu.num.matrix.core.DiagonalMatrix;
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.nlsf.LUBand;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link GMRES} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GMRESTest {
+
+    public static final Class<?> TEST_CLASS = GMRES.class;
+
+    private static final int DIMENSION = 100;
+
+    /**
+     * 非対称な三重対角行列 (移流拡散型) を生成する.
+     */
+    static GeneralBandMatrix convectionDiffusion() {
+        GeneralBandMatrix.Builder builder =
+                GeneralBandMatrix.Builder.zero(BandMatrixDimension.of(DIMENSION, 1, 1));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, i, 2.5 + 0.05 * i);
+            if (i > 0) {
+                builder.setValue(i, i - 1, -1.5);
+            }
+            if (i < DIMENSION - 1) {
+                builder.setValue(i, i + 1, -0.5);
+            }
+        }
+        return builder.build();
+    }
+
+    static Vector right() {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, Math.cos(i + 1));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 対角成分の逆数による前処理行列を生成する.
+     */
+    static DiagonalMatrix jacobi(GeneralBandMatrix matrix) {
+        DiagonalMatrix.Builder builder =
+                DiagonalMatrix.Builder.zeroBuilder(MatrixDimension.square(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, 1d / matrix.valueAt(i, i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 残差 ||b - Ax|| / ||b|| を直接計算する.
+     */
+    static double relativeResidual(Matrix matrix, Vector x, Vector b) {
+        return b.minus(matrix.operate(x)).norm2() / b.norm2();
+    }
+
+    public static class 求解に関するテスト {
+
+        private GeneralBandMatrix matrix;
+        private Vector b;
+        private IterationControl control;
+
+        @Before
+        public void before_係数行列と右辺の生成() {
+            matrix = convectionDiffusion();
+            b = right();
+            control = IterationControl.of(1E-10, 2000);
+        }
+
+        @Test
+        public void test_前処理無しで収束する() {
+            IterativeSolution result = GMRES.of(matrix, 30).solve(b, control);
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(result.relativeResidualNorm(), is(lessThanOrEqualTo(1E-10)));
+            assertThat(relativeResidual(matrix, result.solution(), b), is(lessThan(1E-9)));
+        }
+
+        @Test
+        public void test_短いリスタート周期でも収束する() {
+            IterativeSolution result = GMRES.of(matrix, 3).solve(b, control);
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(relativeResidual(matrix, result.solution(), b), is(lessThan(1E-9)));
+        }
+
+        @Test
+        public void test_左Jacobi前処理で収束する() {
+            IterativeSolution result = GMRES.of(matrix, 30, Preconditioner.left(jacobi(matrix)))
+                    .solve(b, control);
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(relativeResidual(matrix, result.solution(), b), is(lessThan(1E-9)));
+        }
+
+        @Test
+        public void test_右Jacobi前処理で収束する() {
+            IterativeSolution result = GMRES.of(matrix, 30, Preconditioner.right(jacobi(matrix)))
+                    .solve(b, control);
+
+            assertThat(result.isConverged(), is(true));
+            assertThat(relativeResidual(matrix, result.solution(), b), is(lessThan(1E-9)));
+        }
+
+        @Test
+        public void test_LUBandによる前処理では直ちに収束する() {
+            LUBand lu = LUBand.executor().apply(matrix).get();
+
+            for (Preconditioner preconditioner : new Preconditioner[] {
+                    Preconditioner.left(lu), Preconditioner.right(lu) }) {
+                IterativeSolution result = GMRES.of(matrix, 30, preconditioner).solve(b, control);
+
+                assertThat(result.isConverged(), is(true));
+                assertThat(result.iterationCount(), is(lessThanOrEqualTo(2)));
+            }
+        }
+
+        @Test
+        public void test_最大反復回数で打ち切られる() {
+            IterativeSolution result = GMRES.of(matrix, 30)
+                    .solve(b, IterationControl.of(1E-10, 3));
+
+            assertThat(result.isConverged(), is(false));
+            assertThat(result.iterationCount(), is(3));
+        }
+    }
+
+    public static class 例外に関するテスト {
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_正方行列でない場合は例外() {
+            GMRES.of(GeneralMatrix.Builder.zero(MatrixDimension.rectangle(3, 4)).build(), 2);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_リスタート周期が不正な場合は例外() {
+            GMRES.of(convectionDiffusion(), 0);
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_前処理行列のサイズが異なる場合は例外() {
+            GMRES.of(convectionDiffusion(), 10, Preconditioner.left(
+                    DiagonalMatrix.Builder.unitBuilder(MatrixDimension.square(DIMENSION + 1)).build()));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            GMRES gmres = GMRES.of(convectionDiffusion(), 20,
+                    Preconditioner.right(jacobi(convectionDiffusion())));
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(gmres);
+            System.out.println(gmres.preconditioner().get());
+            System.out.println(gmres.solve(right(), IterationControl.of(1E-10, 1000)));
+            System.out.println();
+        }
+    }
+}
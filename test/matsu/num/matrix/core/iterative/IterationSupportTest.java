@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.iterative;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.DiagonalMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.SkeletalAsymmetricMatrix;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.block.BlockMatrix;
+import matsu.num.matrix.core.block.BlockMatrixStructure;
+import matsu.num.matrix.core.helper.value.VectorEntryAccess;
+import matsu.num.matrix.core.nlsf.Cholesky;
+import matsu.num.matrix.core.nlsf.LUPivoting;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.IncompleteCholesky;
+import matsu.num.matrix.core.sparse.IncompleteLU;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+
+/**
+ * {@link IterationSupport} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class IterationSupportTest {
+
+    public static final Class<?> TEST_CLASS = IterationSupport.class;
+
+    private static final int DIMENSION = 2000;
+
+    /**
+     * 1次元の Poisson 方程式の差分による正定値対称行列を生成する.
+     */
+    private static SymmetricCsrMatrix laplacian() {
+        SymmetricCsrMatrix.Builder builder =
+                SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.addValue(i, i, 2);
+            if (i > 0) {
+                builder.addValue(i, i - 1, -1);
+            }
+        }
+        return builder.build();
+    }
+
+    private static CsrMatrix asymmetric() {
+        CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.addValue(i, i, 2.5);
+            if (i > 0) {
+                builder.addValue(i, i - 1, -1.5);
+            }
+            if (i < DIMENSION - 1) {
+                builder.addValue(i, i + 1, -0.5);
+            }
+        }
+        return builder.build();
+    }
+
+    private static DiagonalMatrix jacobi() {
+        DiagonalMatrix.Builder builder =
+                DiagonalMatrix.Builder.zeroBuilder(MatrixDimension.square(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, 0.5);
+        }
+        return builder.build();
+    }
+
+    private static GeneralMatrix dense(int n) {
+        GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                builder.setValue(i, j, i == j ? n : 1d / (1 + i + j));
+            }
+        }
+        return builder.build();
+    }
+
+    private static SymmetricMatrix symmetricDense(int n) {
+        SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                builder.setValue(i, j, i == j ? n : 1d / (1 + i + j));
+            }
+        }
+        return builder.build();
+    }
+
+    private static Vector right() {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, Math.sin(i + 1));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 作業配列が, コピーされずに作用ベクトルとして渡されるかどうかを判定する.
+     */
+    private static boolean isPassedAsView(Matrix matrix) {
+        int n = matrix.matrixDimension().columnAsIntValue();
+        double[] work = new double[n];
+        Vector operand = IterationSupport.operand(matrix, VectorDimension.valueOf(n), work);
+        return VectorEntryAccess.entryReference(operand) == work;
+    }
+
+    /**
+     * ユーザーが定義した (作用ベクトルを保持しうる) 行列.
+     */
+    private static final class WrappedMatrix extends SkeletalAsymmetricMatrix<Matrix> {
+
+        private final Matrix mx;
+
+        WrappedMatrix(Matrix src) {
+            this.mx = Objects.requireNonNull(src);
+        }
+
+        @Override
+        public MatrixDimension matrixDimension() {
+            return mx.matrixDimension();
+        }
+
+        @Override
+        protected Matrix createTranspose() {
+            return Matrix.createTransposedOf(this);
+        }
+
+        @Override
+        public Vector operate(Vector operand) {
+            return mx.operate(operand);
+        }
+
+        @Override
+        public Vector operateTranspose(Vector operand) {
+            return mx.operateTranspose(operand);
+        }
+    }
+
+    public static class 作用ベクトルの受け渡しに関するテスト {
+
+        @Test
+        public void test_前処理行列には作業配列がそのまま渡される() {
+            SymmetricCsrMatrix laplacian = laplacian();
+            GeneralMatrix dense = dense(10);
+            assertThat(isPassedAsView(jacobi()), is(true));
+            assertThat(isPassedAsView(jacobi().inverse().get()), is(true));
+            assertThat(isPassedAsView(IncompleteCholesky.of(laplacian).inverse()), is(true));
+            assertThat(isPassedAsView(IncompleteLU.of(asymmetric()).inverse()), is(true));
+            assertThat(isPassedAsView(IncompleteLU.of(asymmetric()).inverse().transpose()), is(true));
+            assertThat(isPassedAsView(Cholesky.executor().apply(symmetricDense(10)).get().inverse()), is(true));
+            assertThat(isPassedAsView(LUPivoting.executor().apply(dense).get().inverse()), is(true));
+        }
+
+        @Test
+        public void test_モジュールの行列から合成された演算子には作業配列がそのまま渡される() {
+            GeneralMatrix dense = dense(10);
+            assertThat(isPassedAsView(Matrix.symmetrizedSquare(dense)), is(true));
+            assertThat(isPassedAsView(dense.transpose()), is(true));
+            assertThat(isPassedAsView(Matrix.multiply(dense, dense.transpose())), is(true));
+
+            BlockMatrixStructure.Builder<Matrix> builder =
+                    BlockMatrixStructure.Builder.of(MatrixDimension.square(2));
+            builder.setBlockElement(0, 0, dense);
+            builder.setBlockElement(1, 1, new WrappedMatrix(dense));
+            assertThat(isPassedAsView(BlockMatrix.of(builder.build())), is(true));
+        }
+
+        @Test
+        public void test_ユーザー定義の行列を含む演算子には作業配列のコピーが渡される() {
+            GeneralMatrix dense = dense(10);
+            Matrix wrapped = new WrappedMatrix(dense);
+            assertThat(isPassedAsView(wrapped), is(false));
+            assertThat(isPassedAsView(wrapped.transpose()), is(false));
+            assertThat(isPassedAsView(Matrix.symmetrizedSquare(wrapped)), is(false));
+            assertThat(isPassedAsView(Matrix.multiply(dense, wrapped)), is(false));
+        }
+    }
+
+    public static class 反復中のメモリ確保に関するテスト {
+
+        /**
+         * 求解を実行し, その間にこのスレッドで確保されたバイト数を返す.
+         */
+        private static long allocatedBytes(Supplier<IterativeSolution> solve, int expectedIterations) {
+            com.sun.management.ThreadMXBean bean =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().getId();
+            long before = bean.getThreadAllocatedBytes(threadId);
+            IterativeSolution solution = solve.get();
+            long after = bean.getThreadAllocatedBytes(threadId);
+            assertThat(solution.iterationCount(), is(expectedIterations));
+            return after - before;
+        }
+
+        /**
+         * 反復回数を増やしたときの, 1回の反復あたりのメモリ確保量が,
+         * 作業配列1本分に比べて十分に小さいことを検証する.
+         */
+        private static void assertNoCopyPerIteration(Supplier<IterativeSolution> shortSolve,
+                Supplier<IterativeSolution> longSolve, int shortIterations, int longIterations) {
+            assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+            //クラスの初期化などを済ませる
+            shortSolve.get();
+            longSolve.get();
+
+            long shortBytes = allocatedBytes(shortSolve, shortIterations);
+            long longBytes = allocatedBytes(longSolve, longIterations);
+            double bytesPerIteration = (double) (longBytes - shortBytes) / (longIterations - shortIterations);
+            assertThat(bytesPerIteration, is(lessThan(DIMENSION * Double.BYTES / 4d)));
+        }
+
+        @Test
+        public void test_前処理付きCG法の反復では作業配列のコピーが生じない() {
+            ConjugateGradient cg = ConjugateGradient.of(laplacian(), jacobi());
+            Vector b = right();
+            assertNoCopyPerIteration(
+                    () -> cg.solve(b, IterationControl.of(1E-14, 10)),
+                    () -> cg.solve(b, IterationControl.of(1E-14, 110)), 10, 110);
+        }
+
+        @Test
+        public void test_前処理付きBiCGStab法の反復では作業配列のコピーが生じない() {
+            BiCGStab bicgstab = BiCGStab.of(laplacian(), Preconditioner.right(jacobi()));
+            Vector b = right();
+            assertNoCopyPerIteration(
+                    () -> bicgstab.solve(b, IterationControl.of(1E-14, 10)),
+                    () -> bicgstab.solve(b, IterationControl.of(1E-14, 110)), 10, 110);
+        }
+
+        @Test
+        public void test_前処理付きGMRES法の反復では作業配列のコピーが生じない() {
+            GMRES gmres = GMRES.of(laplacian(), 20, Preconditioner.left(jacobi()));
+            Vector b = right();
+            assertNoCopyPerIteration(
+                    () -> gmres.solve(b, IterationControl.of(1E-14, 20)),
+                    () -> gmres.solve(b, IterationControl.of(1E-14, 120)), 20, 120);
+        }
+    }
+}
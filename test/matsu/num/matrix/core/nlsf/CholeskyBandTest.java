@@ -237,6 +237,111 @@ final class CholeskyBandTest {
         }
     }
 
+    public static class 階数1の修正に関する {
+
+        private BandMatrix matrix;
+        private CholeskyBand cb;
+
+        @Before
+        public void before_生成() {
+            /*
+             * 5 1 2 0
+             * 1 5 3 4
+             * 2 3 5 3
+             * 0 4 3 5
+             */
+            SymmetricBandMatrix.Builder builder =
+                    SymmetricBandMatrix.Builder.unit(BandMatrixDimension.symmetric(4, 2));
+            builder.setValue(0, 0, 5);
+            builder.setValue(1, 1, 5);
+            builder.setValue(2, 2, 5);
+            builder.setValue(3, 3, 5);
+            builder.setValue(1, 0, 1);
+            builder.setValue(2, 0, 2);
+            builder.setValue(2, 1, 3);
+            builder.setValue(3, 1, 4);
+            builder.setValue(3, 2, 3);
+            matrix = builder.build();
+            cb = CholeskyBand.executor().apply(matrix).get();
+        }
+
+        private Vector vectorOf(double... entry) {
+            Vector.Builder builder = Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+            builder.setEntryValue(entry);
+            return builder.build();
+        }
+
+        @Test
+        public void test_updateは修正後の行列の分解に一致() {
+            Vector v = vectorOf(0, 1, 2, -1);
+            CholeskyBand updated = cb.update(v);
+            assertThat(updated.target().bandMatrixDimension(), is(matrix.bandMatrixDimension()));
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    assertThat(updated.target().valueAt(i, j),
+                            is(matrix.valueAt(i, j) + v.valueAt(i) * v.valueAt(j)));
+                }
+            }
+
+            CholeskyBand expected = CholeskyBand.executor().apply(updated.target()).get();
+            assertThat(updated.logAbsDeterminant(), is(closeTo(expected.logAbsDeterminant(), 1E-12)));
+            for (int i = 0; i < 4; i++) {
+                Vector e = Vector.standardBasis(matrix.matrixDimension().rightOperableVectorDimension(), i);
+                Vector res = updated.target().operate(updated.inverse().operate(e)).minus(e);
+                assertThat(res.normMax(), is(lessThan(1E-12)));
+            }
+        }
+
+        @Test
+        public void test_updateの後のdowndateで元に戻る() {
+            Vector v = vectorOf(1, -1, 0.5, 0);
+            CholeskyBand restored = cb.update(v).downdate(v).get();
+            assertThat(restored.determinant(), is(closeTo(95.0, 1E-10)));
+        }
+
+        @Test
+        public void test_正定値でなくなるdowndateは空() {
+            assertThat(cb.downdate(vectorOf(0, 0, 0, 3)), is(Optional.empty()));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_帯に収まらない修正は例外() {
+            cb.update(vectorOf(1, 0, 0, 1));
+        }
+
+        @Test
+        public void test_大きな帯行列での修正() {
+            final int dimension = 40;
+            final int bandWidth = 3;
+            SymmetricBandMatrix.Builder builder =
+                    SymmetricBandMatrix.Builder.zero(BandMatrixDimension.symmetric(dimension, bandWidth));
+            for (int i = 0; i < dimension; i++) {
+                builder.setValue(i, i, 4);
+                for (int j = 1; j <= bandWidth && i + j < dimension; j++) {
+                    builder.setValue(i + j, i, 1d / (i + j + 1));
+                }
+            }
+            BandMatrix large = builder.build();
+            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(large.matrixDimension().rightOperableVectorDimension());
+            vBuilder.setValue(10, 1.5);
+            vBuilder.setValue(11, -0.5);
+            vBuilder.setValue(13, 2);
+            Vector v = vBuilder.build();
+
+            CholeskyBand original = CholeskyBand.executor().apply(large).get();
+            CholeskyBand updated = original.update(v);
+            CholeskyBand expected = CholeskyBand.executor().apply(updated.target()).get();
+            assertThat(updated.logAbsDeterminant(), is(closeTo(expected.logAbsDeterminant(), 1E-12)));
+            for (int i = 0; i < dimension; i += 7) {
+                Vector e = Vector.standardBasis(large.matrixDimension().rightOperableVectorDimension(), i);
+                Vector res = updated.target().operate(updated.inverse().operate(e)).minus(e);
+                assertThat(res.normMax(), is(lessThan(1E-12)));
+            }
+            assertThat(updated.downdate(v).get().logAbsDeterminant(),
+                    is(closeTo(original.logAbsDeterminant(), 1E-12)));
+        }
+    }
+
     public static class toString表示 {
 
         private CholeskyBand.Executor executor = CholeskyBand.executor();
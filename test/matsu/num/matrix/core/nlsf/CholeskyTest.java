@@ -10,6 +10,7 @@ import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
 import java.util.Optional;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -22,6 +23,8 @@ import matsu.num.matrix.core.MatrixDimension;
 import matsu.num.matrix.core.Symmetric;
 import matsu.num.matrix.core.SymmetricMatrix;
 import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
 import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
 
 /**
@@ -137,6 +140,88 @@ final class CholeskyTest {
             //逆行列の複数回の呼び出しは同一インスタンスを返す
             assertThat(cho.inverse() == cho.inverse(), is(true));
         }
+
+        @Test
+        public void test_複数右辺の求解は逆行列ベクトル積に一致() {
+            double[][] b = { { 1, 2, -1, 0.5 }, { 0, 1, 3, -2 } };
+            double[][] x = new double[2][4];
+            cho.solveInto(b, x);
+
+            for (int k = 0; k < b.length; k++) {
+                Vector.Builder vBuilder =
+                        Vector.Builder.zeroBuilder(matrix.matrixDimension().leftOperableVectorDimension());
+                vBuilder.setEntryValue(b[k]);
+                Vector expected = cho.inverse().operate(vBuilder.build());
+                for (int j = 0; j < 4; j++) {
+                    assertThat(x[k][j], is(closeTo(expected.valueAt(j), 1E-12)));
+                }
+            }
+        }
+    }
+
+    public static class 行列分解と逆行列ベクトル積_ブロック版が使われる次元 {
+
+        private static final int DIMENSION = 300;
+
+        private EntryReadableMatrix matrix;
+        private Cholesky cho;
+
+        @Before
+        public void before_次元300の正定値行列のソルバを用意する() {
+            //Gram行列 G^T G は正定値である
+            Random random = new Random(496L);
+            GeneralMatrix.Builder gBuilder = GeneralMatrix.Builder.zero(MatrixDimension.square(DIMENSION));
+            for (int j = 0; j < DIMENSION; j++) {
+                for (int k = 0; k < DIMENSION; k++) {
+                    gBuilder.setValue(j, k, random.nextDouble() - 0.5);
+                }
+            }
+            GeneralMatrix g = gBuilder.build();
+            GeneralMatrix gram = GeneralMatrix.Builder.productOf(g.transpose(), g).build();
+
+            SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(MatrixDimension.square(DIMENSION));
+            for (int j = 0; j < DIMENSION; j++) {
+                for (int k = 0; k < j; k++) {
+                    builder.setValue(j, k, gram.valueAt(j, k));
+                }
+                builder.setValue(j, j, gram.valueAt(j, j) + 1d);
+            }
+            matrix = builder.build();
+            cho = Cholesky.executor().apply(matrix).get();
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            for (int i = 0; i < DIMENSION; i += 37) {
+                Vector v = Vector.standardBasis(matrix.matrixDimension().rightOperableVectorDimension(), i);
+
+                Vector res = matrix.operate(cho.inverse().operate(v)).minus(v);
+                assertThat(res.normMax(), is(lessThan(1E-10)));
+            }
+        }
+
+        @Test
+        public void test_複数右辺の求解() {
+            //右辺の数は列方向のブロックを複数にまたがる大きさ
+            final int rhsCount = 100;
+            Random random = new Random(33550336L);
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(
+                    MatrixDimension.rectangle(DIMENSION, rhsCount));
+            for (int j = 0; j < DIMENSION; j++) {
+                for (int k = 0; k < rhsCount; k++) {
+                    builder.setValue(j, k, random.nextDouble() - 0.5);
+                }
+            }
+            GeneralMatrix b = builder.build();
+
+            GeneralMatrix x = cho.solve(b);
+            GeneralMatrix ax = GeneralMatrix.Builder.productOf(matrix, x).build();
+            for (int j = 0; j < DIMENSION; j++) {
+                for (int k = 0; k < rhsCount; k++) {
+                    assertThat(ax.valueAt(j, k), is(closeTo(b.valueAt(j, k), 1E-10)));
+                }
+            }
+        }
     }
 
     public static class 行列分解と逆行列ベクトル積_次元1 {
@@ -250,6 +335,112 @@ final class CholeskyTest {
         }
     }
 
+    public static class 階数1の修正に関する {
+
+        private EntryReadableMatrix matrix;
+        private Cholesky cho;
+        private Vector v;
+
+        @Before
+        public void before_次元4の正方行列のソルバを用意する() {
+            /*
+             * 3 2 2 -1
+             * 2 5 -1 0
+             * 2 -1 5 1
+             * -1 0 1 3
+             */
+            SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(MatrixDimension.square(4));
+            builder.setValue(0, 0, 3);
+            builder.setValue(1, 0, 2);
+            builder.setValue(1, 1, 5);
+            builder.setValue(2, 0, 2);
+            builder.setValue(2, 1, -1);
+            builder.setValue(2, 2, 5);
+            builder.setValue(3, 0, -1);
+            builder.setValue(3, 1, 0);
+            builder.setValue(3, 2, 1);
+            builder.setValue(3, 3, 3);
+            matrix = builder.build();
+            cho = Cholesky.executor().apply(matrix).get();
+
+            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+            vBuilder.setEntryValue(1, -2, 0.5, 3);
+            v = vBuilder.build();
+        }
+
+        @Test
+        public void test_updateは修正後の行列の分解に一致() {
+            Cholesky updated = cho.update(v);
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    assertThat(updated.target().valueAt(i, j),
+                            is(matrix.valueAt(i, j) + v.valueAt(i) * v.valueAt(j)));
+                }
+            }
+
+            Cholesky expected = Cholesky.executor().apply(updated.target()).get();
+            assertThat(updated.logAbsDeterminant(), is(closeTo(expected.logAbsDeterminant(), 1E-12)));
+            for (int i = 0; i < 4; i++) {
+                Vector e = Vector.standardBasis(matrix.matrixDimension().rightOperableVectorDimension(), i);
+                Vector res = updated.target().operate(updated.inverse().operate(e)).minus(e);
+                assertThat(res.normMax(), is(lessThan(1E-12)));
+                assertThat(updated.asymmSqrt().operate(e).minus(expected.asymmSqrt().operate(e)).normMax(),
+                        is(lessThan(1E-12)));
+            }
+        }
+
+        @Test
+        public void test_updateの後のdowndateで元に戻る() {
+            Cholesky restored = cho.update(v).downdate(v).get();
+            assertThat(restored.determinant(), is(closeTo(13.0, 1E-10)));
+            for (int i = 0; i < 4; i++) {
+                Vector e = Vector.standardBasis(matrix.matrixDimension().rightOperableVectorDimension(), i);
+                Vector res = matrix.operate(restored.inverse().operate(e)).minus(e);
+                assertThat(res.normMax(), is(lessThan(1E-10)));
+            }
+        }
+
+        @Test
+        public void test_正定値でなくなるdowndateは空() {
+            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+            vBuilder.setValue(0, 2);
+            assertThat(cho.downdate(vBuilder.build()), is(Optional.empty()));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元が整合しない場合は例外() {
+            cho.update(Vector.Builder.zeroBuilder(VectorDimension.valueOf(3)).build());
+        }
+
+        @Test
+        public void test_ブロック版が使われる次元での修正() {
+            final int dimension = 200;
+            Random random = new Random(8128L);
+            SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(MatrixDimension.square(dimension));
+            for (int j = 0; j < dimension; j++) {
+                for (int k = 0; k < j; k++) {
+                    builder.setValue(j, k, (random.nextDouble() - 0.5) / dimension);
+                }
+                builder.setValue(j, j, 1d);
+            }
+            EntryReadableMatrix large = builder.build();
+            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(large.matrixDimension().rightOperableVectorDimension());
+            for (int j = 0; j < dimension; j++) {
+                vBuilder.setValue(j, random.nextDouble() - 0.5);
+            }
+            Vector w = vBuilder.build();
+
+            Cholesky updated = Cholesky.executor().apply(large).get().update(w);
+            Cholesky expected = Cholesky.executor().apply(updated.target()).get();
+            assertThat(updated.logAbsDeterminant(), is(closeTo(expected.logAbsDeterminant(), 1E-10)));
+            for (int i = 0; i < dimension; i += 37) {
+                Vector e = Vector.standardBasis(large.matrixDimension().rightOperableVectorDimension(), i);
+                Vector res = updated.target().operate(updated.inverse().operate(e)).minus(e);
+                assertThat(res.normMax(), is(lessThan(1E-10)));
+            }
+        }
+    }
+
     public static class toString表示 {
 
         private Cholesky.Executor executor = Cholesky.executor();
@@ -212,6 +212,21 @@ final class LUBandTest {
             //逆行列の複数回の呼び出しは同一インスタンスを返す
             assertThat(lub.inverse() == lub.inverse(), is(true));
         }
+
+        @Test
+        public void test_出力先を指定した逆行列ベクトル積は逆行列ベクトル積に一致() {
+            Vector.Builder builder =
+                    Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+            builder.setEntryValue(1, -2, 3, -4);
+            Vector v = builder.build();
+
+            double[] out = new double[4];
+            lub.inverse().operateInto(v, out);
+            assertThat(out, is(lub.inverse().operate(v).entryAsArray()));
+
+            lub.inverse().operateTransposeInto(v, out);
+            assertThat(out, is(lub.inverse().operateTranspose(v).entryAsArray()));
+        }
     }
 
     public static class 行列分解と逆行列ベクトル積_次元1 {
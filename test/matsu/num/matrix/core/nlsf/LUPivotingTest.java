@@ -10,6 +10,7 @@ import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
 import java.util.Optional;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -143,6 +144,114 @@ final class LUPivotingTest {
             //逆行列の複数回の呼び出しは同一インスタンスを返す
             assertThat(lup.inverse() == lup.inverse(), is(true));
         }
+
+        @Test
+        public void test_複数右辺の求解は逆行列ベクトル積に一致() {
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(4, 3));
+            for (int j = 0; j < 4; j++) {
+                for (int k = 0; k < 3; k++) {
+                    builder.setValue(j, k, j - 2 * k + 0.5);
+                }
+            }
+            GeneralMatrix b = builder.build();
+
+            GeneralMatrix x = lup.solve(b);
+            assertThat(x.matrixDimension(), is(b.matrixDimension()));
+            for (int k = 0; k < 3; k++) {
+                Vector.Builder vBuilder =
+                        Vector.Builder.zeroBuilder(matrix.matrixDimension().leftOperableVectorDimension());
+                for (int j = 0; j < 4; j++) {
+                    vBuilder.setValue(j, b.valueAt(j, k));
+                }
+                Vector expected = lup.inverse().operate(vBuilder.build());
+                for (int j = 0; j < 4; j++) {
+                    assertThat(x.valueAt(j, k), is(closeTo(expected.valueAt(j), 1E-12)));
+                }
+            }
+        }
+
+        @Test
+        public void test_solveIntoは右辺と出力先が同一でもよい() {
+            double[][] bx = { { 1, 0, 0, 0 }, { 0, 0, 1, 0 } };
+            lup.solveInto(bx, bx);
+
+            for (double[] column : bx) {
+                Vector.Builder vBuilder =
+                        Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+                vBuilder.setEntryValue(column);
+                assertThat(matrix.operate(vBuilder.build()).normMax(), is(closeTo(1d, 1E-12)));
+            }
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_solveIntoの右辺の長さ不一致はMFMEx() {
+            lup.solveInto(new double[][] { new double[3] }, new double[][] { new double[4] });
+        }
+    }
+
+    public static class 行列分解と逆行列ベクトル積_ブロック版が使われる次元 {
+
+        private static final int DIMENSION = 300;
+
+        private EntryReadableMatrix matrix;
+        private LUPivoting lup;
+
+        @Before
+        public void before_次元300の正方行列のソルバを用意する() {
+            //ピボット選択が必要となる密行列
+            Random random = new Random(8128L);
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.square(DIMENSION));
+            for (int j = 0; j < DIMENSION; j++) {
+                for (int k = 0; k < DIMENSION; k++) {
+                    builder.setValue(j, k, random.nextDouble() - 0.5);
+                }
+            }
+            matrix = builder.build();
+            lup = LUPivoting.executor().apply(matrix).get();
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            for (int i = 0; i < DIMENSION; i += 37) {
+                Vector v = Vector.standardBasis(matrix.matrixDimension().rightOperableVectorDimension(), i);
+
+                Vector res = matrix.operate(lup.inverse().operate(v)).minus(v);
+                assertThat(res.normMax(), is(lessThan(1E-10)));
+            }
+        }
+
+        @Test
+        public void test_転置逆行列ベクトル積() {
+            for (int i = 0; i < DIMENSION; i += 37) {
+                Vector v = Vector.standardBasis(matrix.matrixDimension().rightOperableVectorDimension(), i);
+
+                Vector res = matrix.operateTranspose(lup.inverse().operateTranspose(v)).minus(v);
+                assertThat(res.normMax(), is(lessThan(1E-10)));
+            }
+        }
+
+        @Test
+        public void test_複数右辺の求解() {
+            //右辺の数は列方向のブロックを複数にまたがる大きさ
+            final int rhsCount = 100;
+            Random random = new Random(28L);
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(
+                    MatrixDimension.rectangle(DIMENSION, rhsCount));
+            for (int j = 0; j < DIMENSION; j++) {
+                for (int k = 0; k < rhsCount; k++) {
+                    builder.setValue(j, k, random.nextDouble() - 0.5);
+                }
+            }
+            GeneralMatrix b = builder.build();
+
+            GeneralMatrix x = lup.solve(b);
+            GeneralMatrix ax = GeneralMatrix.Builder.productOf(matrix, x).build();
+            for (int j = 0; j < DIMENSION; j++) {
+                for (int k = 0; k < rhsCount; k++) {
+                    assertThat(ax.valueAt(j, k), is(closeTo(b.valueAt(j, k), 1E-10)));
+                }
+            }
+        }
     }
 
     public static class 行列分解と逆行列ベクトル積_次元1 {
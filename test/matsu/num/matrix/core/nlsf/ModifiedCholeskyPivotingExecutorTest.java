@@ -19,6 +19,7 @@ import org.junit.runner.RunWith;
 import matsu.num.matrix.core.EntryReadableMatrix;
 import matsu.num.matrix.core.GeneralMatrix;
 import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
 import matsu.num.matrix.core.SymmetricMatrix;
 import matsu.num.matrix.core.Vector;
 import matsu.num.matrix.core.validation.MatrixNotSymmetricException;
@@ -139,6 +140,22 @@ final class ModifiedCholeskyPivotingExecutorTest {
             }
         }
 
+        @Test
+        public void test_逆行列はSymmetricである() {
+            assertThat(mcp.inverse() instanceof Symmetric, is(true));
+        }
+
+        @Test
+        public void test_逆行列の転置ベクトル積は逆行列ベクトル積に一致() {
+            Vector.Builder builder =
+                    Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+            builder.setEntryValue(1, -2, 3, -4, 5, -6);
+            Vector v = builder.build();
+
+            Vector res = mcp.inverse().operateTranspose(v).minus(mcp.inverse().operate(v));
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+        }
+
         @Test
         public void test_逆行列生成の実装に関する() {
 
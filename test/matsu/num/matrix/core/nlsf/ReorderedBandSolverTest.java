@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.nlsf;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+
+/**
+ * {@link ReorderedBandSolver} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ReorderedBandSolverTest {
+
+    public static final Class<?> TEST_CLASS = ReorderedBandSolver.class;
+
+    /**
+     * 格子 size*size 上の移流拡散方程式の差分行列を, 節点番号を飛び飛びにして生成する.
+     */
+    static CsrMatrix stridedConvectionDiffusion2D(int size) {
+        final int n = size * size;
+        //n と互いに素な刻みで番号を付け替える
+        final int stride = 7;
+        CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = (stride * (x * size + y)) % n;
+                builder.addValue(i, i, 4);
+                if (x > 0) {
+                    builder.addValue(i, (stride * ((x - 1) * size + y)) % n, -1.4);
+                }
+                if (x < size - 1) {
+                    builder.addValue(i, (stride * ((x + 1) * size + y)) % n, -0.6);
+                }
+                if (y > 0) {
+                    builder.addValue(i, (stride * (x * size + y - 1)) % n, -1.2);
+                }
+                if (y < size - 1) {
+                    builder.addValue(i, (stride * (x * size + y + 1)) % n, -0.8);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public static class LU分解に関する {
+
+        private static final int SIZE = 10;
+
+        private CsrMatrix matrix;
+        private ReorderedBandSolver solver;
+
+        @Before
+        public void before_ソルバを用意する() {
+            matrix = stridedConvectionDiffusion2D(SIZE);
+            solver = ReorderedBandSolver.luExecutor().apply(matrix).get();
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            Vector b = SparseLUTest.vector(SIZE * SIZE);
+            Vector res = matrix.operate(solver.inverse().operate(b)).minus(b);
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+
+            Vector resT = matrix.operateTranspose(solver.inverse().operateTranspose(b)).minus(b);
+            assertThat(resT.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_行列式は密行列のLU分解に一致() {
+            LUPivoting dense = LUPivoting.executor().apply(SparseLUTest.toDense(matrix)).get();
+            assertThat(solver.signOfDeterminant(), is(dense.signOfDeterminant()));
+            assertThat(solver.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-10)));
+        }
+
+        @Test
+        public void test_帯構造は格子の幅程度() {
+            assertThat(solver.ordering().bandMatrixDimension().lowerBandWidth(),
+                    is(lessThanOrEqualTo(SIZE + 1)));
+            assertThat(solver.bandSolver(), is(instanceOf(LUBand.class)));
+        }
+
+        @Test
+        public void test_特異行列の分解は空() {
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.addValue(0, 0, 1);
+            builder.addValue(0, 2, 2);
+            builder.addValue(2, 0, 2);
+            builder.addValue(2, 2, 4);
+            builder.addValue(1, 1, 1);
+            Optional<? extends LUTypeSolver> lu = ReorderedBandSolver.luExecutor().apply(builder.build());
+            assertThat(lu.isEmpty(), is(true));
+        }
+    }
+
+    public static class Cholesky分解に関する {
+
+        private static final int SIZE = 10;
+
+        private SymmetricCsrMatrix matrix;
+        private ReorderedBandSolver solver;
+
+        @Before
+        public void before_ソルバを用意する() {
+            matrix = SparseCholeskyTest.laplacian2D(SIZE, 0.1);
+            solver = ReorderedBandSolver.choleskyExecutor().apply(matrix).get();
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            Vector b = SparseLUTest.vector(SIZE * SIZE);
+            Vector res = matrix.operate(solver.inverse().operate(b)).minus(b);
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_逆行列は対称行列() {
+            assertThat(solver.inverse(), is(instanceOf(Symmetric.class)));
+            assertThat(solver.bandSolver(), is(instanceOf(CholeskyBand.class)));
+        }
+
+        @Test
+        public void test_行列式は密行列のCholesky分解に一致() {
+            Cholesky dense = Cholesky.executor().apply(SparseCholeskyTest.toDense(matrix)).get();
+            assertThat(solver.signOfDeterminant(), is(1));
+            assertThat(solver.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-10)));
+        }
+
+        @Test
+        public void test_非正定値行列の分解は空() {
+            assertThat(ReorderedBandSolver.choleskyExecutor()
+                    .apply(SparseCholeskyTest.laplacian2D(4, -20d)).isEmpty(), is(true));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            ReorderedBandSolver solver = ReorderedBandSolver.choleskyExecutor()
+                    .apply(SparseCholeskyTest.laplacian2D(3, 0d)).get();
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(ReorderedBandSolver.luExecutor());
+            System.out.println(ReorderedBandSolver.choleskyExecutor());
+            System.out.println(solver);
+            System.out.println(solver.inverse());
+            System.out.println();
+        }
+    }
+}
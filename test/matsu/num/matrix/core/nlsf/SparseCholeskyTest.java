@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.nlsf;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.SymmetricMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.sparse.SymmetricCsrMatrix;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link SparseCholesky} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class SparseCholeskyTest {
+
+    public static final Class<?> TEST_CLASS = SparseCholesky.class;
+
+    /**
+     * 格子 size*size 上の9点差分による正定値対称行列を生成する.
+     * 
+     * <p>
+     * 値は {@code shift} により変化するが, 非ゼロパターンは変化しない.
+     * </p>
+     */
+    static SymmetricCsrMatrix laplacian2D(int size, double shift) {
+        final int n = size * size;
+        SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = x * size + y;
+                builder.addValue(i, i, 8 + shift);
+                if (x > 0) {
+                    builder.addValue(i, i - size, -1);
+                    if (y > 0) {
+                        builder.addValue(i, i - size - 1, -1);
+                    }
+                    if (y < size - 1) {
+                        builder.addValue(i, i - size + 1, -1);
+                    }
+                }
+                if (y > 0) {
+                    builder.addValue(i, i - 1, -1);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 格子 size*size 上の5点差分による正定値対称行列を生成する.
+     */
+    static SymmetricCsrMatrix fivePoint(int size) {
+        final int n = size * size;
+        SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = x * size + y;
+                builder.addValue(i, i, 4);
+                if (x > 0) {
+                    builder.addValue(i, i - size, -1);
+                }
+                if (y > 0) {
+                    builder.addValue(i, i - 1, -1);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    static SymmetricMatrix toDense(SymmetricCsrMatrix matrix) {
+        final int n = matrix.matrixDimension().rowAsIntValue();
+        SymmetricMatrix.Builder builder = SymmetricMatrix.Builder.zero(matrix.matrixDimension());
+        for (int j = 0; j < n; j++) {
+            for (int k = 0; k <= j; k++) {
+                builder.setValue(j, k, matrix.valueAt(j, k));
+            }
+        }
+        return builder.build();
+    }
+
+    public static class 非正定値行列での振る舞い検証 {
+
+        @Test
+        public void test_行列分解の失敗() {
+            //非正定値行列である
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(4));
+            builder.addValue(0, 0, -1);
+            builder.addValue(1, 0, 2);
+            builder.addValue(1, 1, 5);
+            builder.addValue(2, 1, -1);
+            builder.addValue(2, 2, 5);
+            builder.addValue(3, 0, -1);
+            builder.addValue(3, 3, 3);
+            Optional<? extends LUTypeSolver> cho = SparseCholesky.executor().apply(builder.build());
+            assertThat(cho.isEmpty(), is(true));
+        }
+
+        @Test
+        public void test_対角成分が欠けた行列の分解の失敗() {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.addValue(0, 0, 1);
+            builder.addValue(2, 1, 1);
+            builder.addValue(2, 2, 3);
+            Optional<? extends LUTypeSolver> cho = SparseCholesky.executor().apply(builder.build());
+            assertThat(cho.isEmpty(), is(true));
+        }
+    }
+
+    public static class 行列分解と逆行列ベクトル積_格子 {
+
+        private static final int SIZE = 12;
+
+        private SymmetricCsrMatrix matrix;
+        private SparseCholesky cho;
+
+        @Before
+        public void before_格子の行列のソルバを用意する() {
+            matrix = laplacian2D(SIZE, 0.1);
+            cho = SparseCholesky.executor().apply(matrix).get();
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            Vector b = SparseLUTest.vector(SIZE * SIZE);
+            Vector res = matrix.operate(cho.inverse().operate(b)).minus(b);
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_逆行列は対称行列() {
+            assertThat(cho.inverse(), is(instanceOf(Symmetric.class)));
+        }
+
+        @Test
+        public void test_行列式は密行列のCholesky分解に一致() {
+            Cholesky dense = Cholesky.executor().apply(toDense(matrix)).get();
+            assertThat(cho.signOfDeterminant(), is(1));
+            assertThat(cho.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-10)));
+        }
+
+        @Test
+        public void test_非対称平方根の検証() {
+            Vector v = SparseLUTest.vector(SIZE * SIZE);
+            Vector res = matrix.operate(v).minus(
+                    cho.asymmSqrt().operate(cho.asymmSqrt().operateTranspose(v)));
+            assertThat(res.normMax(), is(lessThan(matrix.operate(v).normMax() * 1E-12)));
+        }
+
+        @Test
+        public void test_非対称平方根の逆行列の検証() {
+            Vector v = SparseLUTest.vector(SIZE * SIZE);
+
+            Vector res = cho.inverse().operate(v).minus(
+                    cho.inverseAsymmSqrt().operateTranspose(cho.inverseAsymmSqrt().operate(v)));
+            assertThat(res.normMax(), is(lessThan(cho.inverse().operate(v).normMax() * 1E-12)));
+
+            Vector identity = cho.inverseAsymmSqrt().operate(cho.asymmSqrt().operate(v)).minus(v);
+            assertThat(identity.normMax(), is(lessThan(1E-12)));
+            Vector identityT = cho.asymmSqrt().operateTranspose(
+                    cho.inverseAsymmSqrt().operateTranspose(v)).minus(v);
+            assertThat(identityT.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_スーパーノードが列をまとめる() {
+            final int n = SIZE * SIZE;
+            assertThat(cho.numberOfSupernodes(), is(lessThan(n)));
+            assertThat(cho.numberOfFactorNonZeros(), is(lessThan((long) n * (n + 1) / 2 / 4)));
+        }
+    }
+
+    public static class 作用におけるメモリ確保に関するテスト {
+
+        private static final int SIZE = 30;
+        private static final int REPEAT = 100;
+
+        /**
+         * 作用を繰り返し, 1回あたりにこのスレッドで確保されたバイト数を返す.
+         */
+        private static double allocatedBytesPerCall(Runnable action) {
+            com.sun.management.ThreadMXBean bean =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().getId();
+
+            //クラスの初期化などを済ませる
+            action.run();
+
+            long before = bean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < REPEAT; i++) {
+                action.run();
+            }
+            long after = bean.getThreadAllocatedBytes(threadId);
+            return (double) (after - before) / REPEAT;
+        }
+
+        @Test
+        public void test_逆行列と非対称平方根の作用では作業配列を確保しない() {
+            assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+            final int n = SIZE * SIZE;
+            SparseCholesky cho = SparseCholesky.executor().apply(laplacian2D(SIZE, 0.1)).get();
+            Vector v = SparseLUTest.vector(n);
+            double[] out = new double[n];
+            double limit = n * Double.BYTES / 4d;
+
+            assertThat(allocatedBytesPerCall(() -> cho.inverse().operateInto(v, out)),
+                    is(lessThan(limit)));
+            assertThat(allocatedBytesPerCall(() -> cho.asymmSqrt().operateInto(v, out)),
+                    is(lessThan(limit)));
+            assertThat(allocatedBytesPerCall(() -> cho.asymmSqrt().operateTransposeInto(v, out)),
+                    is(lessThan(limit)));
+            assertThat(allocatedBytesPerCall(() -> cho.inverseAsymmSqrt().operateInto(v, out)),
+                    is(lessThan(limit)));
+            assertThat(allocatedBytesPerCall(() -> cho.inverseAsymmSqrt().operateTransposeInto(v, out)),
+                    is(lessThan(limit)));
+        }
+    }
+
+    public static class 密な行列の分解 {
+
+        @Test
+        public void test_密な行列は単一のスーパーノードとなる() {
+            final int n = 30;
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(n));
+            for (int j = 0; j < n; j++) {
+                for (int k = 0; k < j; k++) {
+                    builder.addValue(j, k, 1d / (1 + j + k));
+                }
+                builder.addValue(j, j, n);
+            }
+            SymmetricCsrMatrix matrix = builder.build();
+            SparseCholesky cho = SparseCholesky.executor().apply(matrix).get();
+
+            assertThat(cho.numberOfSupernodes(), is(1));
+            Cholesky dense = Cholesky.executor().apply(toDense(matrix)).get();
+            assertThat(cho.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-10)));
+            Vector b = SparseLUTest.vector(n);
+            Vector res = matrix.operate(cho.inverse().operate(b)).minus(b);
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_大きな密な行列と疎な行が混在するスーパーノードを分解できる() {
+            //200列の密な部分がスーパーノードとなり, その対角ブロックはブロック版のアルゴリズムで分解される
+            final int dense = 200;
+            final int n = dense + 20;
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(n));
+            for (int j = 0; j < n; j++) {
+                final int kEnd = j < dense ? j : dense;
+                for (int k = 0; k < kEnd; k++) {
+                    builder.addValue(j, k, 1d / (1 + j + k));
+                }
+                builder.addValue(j, j, n);
+            }
+            SymmetricCsrMatrix matrix = builder.build();
+            SparseCholesky cho = SparseCholesky.executor().apply(matrix).get();
+
+            Cholesky denseCho = Cholesky.executor().apply(toDense(matrix)).get();
+            assertThat(cho.logAbsDeterminant(), is(closeTo(denseCho.logAbsDeterminant(), 1E-9)));
+            Vector b = SparseLUTest.vector(n);
+            Vector res = matrix.operate(cho.inverse().operate(b)).minus(b);
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+        }
+    }
+
+    public static class 記号解析の再利用に関する {
+
+        private static final int SIZE = 6;
+
+        private SparseCholesky.AnalyzedExecutor executor;
+
+        @Before
+        public void before_記号解析を行う() {
+            executor = SparseCholesky.executor().analyze(laplacian2D(SIZE, 0d));
+        }
+
+        @Test
+        public void test_同一パターンの異なる値の行列を分解できる() {
+            for (double shift : new double[] { 0d, 1d, 10d }) {
+                SymmetricCsrMatrix matrix = laplacian2D(SIZE, shift);
+                SparseCholesky cho = executor.apply(matrix).get();
+                assertThat(cho.target(), is(sameInstance(matrix)));
+
+                Vector b = SparseLUTest.vector(SIZE * SIZE);
+                Vector res = matrix.operate(cho.inverse().operate(b)).minus(b);
+                assertThat(res.normMax(), is(lessThan(1E-12)));
+
+                Cholesky dense = Cholesky.executor().apply(toDense(matrix)).get();
+                assertThat(cho.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-10)));
+            }
+        }
+
+        @Test
+        public void test_同一パターンの非正定値行列は空() {
+            assertThat(executor.apply(laplacian2D(SIZE, -20d)).isEmpty(), is(true));
+        }
+
+        @Test
+        public void test_異なるパターンの行列はrejectされる() {
+            assertThat(executor.accepts(laplacian2D(SIZE + 1, 0d)).isReject(), is(true));
+            assertThat(executor.accepts(fivePoint(SIZE)).isReject(), is(true));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_異なるパターンの行列の分解はMFMEx() {
+            executor.apply(fivePoint(SIZE));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            SymmetricCsrMatrix matrix = laplacian2D(3, 0d);
+            SparseCholesky cho = SparseCholesky.executor().apply(matrix).get();
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(SparseCholesky.executor());
+            System.out.println(SparseCholesky.executor().analyze(matrix));
+            System.out.println(cho);
+            System.out.println(cho.inverse());
+            System.out.println(cho.asymmSqrt());
+            System.out.println(cho.inverseAsymmSqrt());
+            System.out.println();
+        }
+    }
+}
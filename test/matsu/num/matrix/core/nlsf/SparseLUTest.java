@@ -0,0 +1,304 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.nlsf;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.sparse.CsrMatrix;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link SparseLU} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class SparseLUTest {
+
+    public static final Class<?> TEST_CLASS = SparseLU.class;
+
+    /**
+     * 格子 size*size 上の移流拡散方程式の5点差分に, 遠方への結合を加えた非対称行列を生成する.
+     * 
+     * <p>
+     * 値は {@code scale} により変化するが, 非ゼロパターンは変化しない.
+     * </p>
+     */
+    static CsrMatrix convectionDiffusion2D(int size, double scale) {
+        final int n = size * size;
+        CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = x * size + y;
+                builder.addValue(i, i, 4 * scale);
+                if (x > 0) {
+                    builder.addValue(i, i - size, -1.4);
+                }
+                if (x < size - 1) {
+                    builder.addValue(i, i + size, -0.6 * scale);
+                }
+                if (y > 0) {
+                    builder.addValue(i, i - 1, -1.2);
+                }
+                if (y < size - 1) {
+                    builder.addValue(i, i + 1, -0.8);
+                }
+                builder.addValue(i, (7 * i + 3) % n, 0.3 * Math.sin(i));
+            }
+        }
+        return builder.build();
+    }
+
+    static CsrMatrix fromEntry(double[][] entry) {
+        CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(entry.length));
+        for (int j = 0; j < entry.length; j++) {
+            for (int k = 0; k < entry[j].length; k++) {
+                if (entry[j][k] != 0d) {
+                    builder.addValue(j, k, entry[j][k]);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    static GeneralMatrix toDense(CsrMatrix matrix) {
+        final int n = matrix.matrixDimension().rowAsIntValue();
+        GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(matrix.matrixDimension());
+        for (int j = 0; j < n; j++) {
+            for (int k = 0; k < n; k++) {
+                builder.setValue(j, k, matrix.valueAt(j, k));
+            }
+        }
+        return builder.build();
+    }
+
+    static Vector vector(int n) {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(n));
+        for (int i = 0; i < n; i++) {
+            builder.setValue(i, Math.sin(0.7 * (i + 1)));
+        }
+        return builder.build();
+    }
+
+    public static class 生成に関する {
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_長方形行列は使用できないMFMEx() {
+            SparseLU.executor().apply(
+                    CsrMatrix.Builder.zero(MatrixDimension.rectangle(3, 2)).build());
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_長方形行列は記号解析できないMFMEx() {
+            SparseLU.executor().analyze(
+                    CsrMatrix.Builder.zero(MatrixDimension.rectangle(3, 2)).build());
+        }
+    }
+
+    public static class 特異行列での振る舞い検証 {
+
+        @Test
+        public void test_行列分解の失敗() {
+            //特異行列である
+            double[][] entry = {
+                    { 0, 1, 0, 0 },
+                    { 1, 0, 0, 0 },
+                    { 2, 6, 1, 2 },
+                    { -1, 0, 2, 4 }
+            };
+            Optional<? extends LUTypeSolver> lu = SparseLU.executor().apply(fromEntry(entry));
+            assertThat(lu.isEmpty(), is(true));
+        }
+
+        @Test
+        public void test_構造的に特異な行列の分解の失敗() {
+            //第2列がゼロ
+            double[][] entry = {
+                    { 1, 0, 2 },
+                    { 3, 0, 1 },
+                    { 0, 0, 5 }
+            };
+            Optional<? extends LUTypeSolver> lu = SparseLU.executor().apply(fromEntry(entry));
+            assertThat(lu.isEmpty(), is(true));
+        }
+
+        @Test
+        public void test_零行列の分解の失敗() {
+            Optional<? extends LUTypeSolver> lu = SparseLU.executor().apply(
+                    CsrMatrix.Builder.zero(MatrixDimension.square(3)).build());
+            assertThat(lu.isEmpty(), is(true));
+        }
+    }
+
+    public static class 行列分解と逆行列ベクトル積_ピボッティングが必要な次元4 {
+
+        private CsrMatrix matrix;
+        private SparseLU lu;
+
+        @Before
+        public void before_次元4の正方行列のソルバを用意する() {
+            //対角成分にゼロを含む
+            double[][] entry = {
+                    { 0, 2, 3, 4 },
+                    { 2, 0, 9, 0 },
+                    { 2, 6, 3, 1 },
+                    { -1, 0, 1, 0 }
+            };
+            matrix = fromEntry(entry);
+            lu = SparseLU.executor().apply(matrix).get();
+        }
+
+        @Test
+        public void test_行列式は密行列のLU分解に一致() {
+            LUPivoting dense = LUPivoting.executor().apply(toDense(matrix)).get();
+            assertThat(lu.determinant(), is(closeTo(dense.determinant(), 1E-10)));
+            assertThat(lu.signOfDeterminant(), is(dense.signOfDeterminant()));
+            assertThat(lu.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-12)));
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            for (int i = 0; i < 4; i++) {
+                Vector.Builder builder =
+                        Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+                builder.setValue(i, 1d);
+                Vector v = builder.build();
+
+                Vector res = matrix.operate(lu.inverse().operate(v)).minus(v);
+                assertThat(res.normMax(), is(lessThan(1E-12)));
+            }
+        }
+
+        @Test
+        public void test_転置逆行列ベクトル積() {
+            for (int i = 0; i < 4; i++) {
+                Vector.Builder builder =
+                        Vector.Builder.zeroBuilder(matrix.matrixDimension().rightOperableVectorDimension());
+                builder.setValue(i, 1d);
+                Vector v = builder.build();
+
+                Vector res = matrix.operateTranspose(lu.inverse().operateTranspose(v)).minus(v);
+                assertThat(res.normMax(), is(lessThan(1E-12)));
+            }
+        }
+    }
+
+    public static class 行列分解と逆行列ベクトル積_格子 {
+
+        private static final int SIZE = 12;
+
+        private CsrMatrix matrix;
+        private SparseLU lu;
+
+        @Before
+        public void before_格子の行列のソルバを用意する() {
+            matrix = convectionDiffusion2D(SIZE, 1d);
+            lu = SparseLU.executor().apply(matrix).get();
+        }
+
+        @Test
+        public void test_逆行列ベクトル積() {
+            Vector b = vector(SIZE * SIZE);
+            Vector res = matrix.operate(lu.inverse().operate(b)).minus(b);
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_転置逆行列ベクトル積() {
+            Vector b = vector(SIZE * SIZE);
+            Vector res = matrix.operateTranspose(lu.inverse().operateTranspose(b)).minus(b);
+            assertThat(res.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_行列式は密行列のLU分解に一致() {
+            LUPivoting dense = LUPivoting.executor().apply(toDense(matrix)).get();
+            assertThat(lu.signOfDeterminant(), is(dense.signOfDeterminant()));
+            assertThat(lu.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-10)));
+        }
+
+        @Test
+        public void test_フィルインは密行列より十分少ない() {
+            final int n = SIZE * SIZE;
+            assertThat(lu.numberOfFactorNonZeros(), is(lessThan(n * n / 4)));
+        }
+    }
+
+    public static class 記号解析の再利用に関する {
+
+        private static final int SIZE = 6;
+
+        private SparseLU.AnalyzedExecutor executor;
+
+        @Before
+        public void before_記号解析を行う() {
+            executor = SparseLU.executor().analyze(convectionDiffusion2D(SIZE, 1d));
+        }
+
+        @Test
+        public void test_同一パターンの異なる値の行列を分解できる() {
+            for (double scale : new double[] { 1d, 2d, 0.5 }) {
+                CsrMatrix matrix = convectionDiffusion2D(SIZE, scale);
+                SparseLU lu = executor.apply(matrix).get();
+                assertThat(lu.target(), is(sameInstance(matrix)));
+
+                Vector b = vector(SIZE * SIZE);
+                Vector res = matrix.operate(lu.inverse().operate(b)).minus(b);
+                assertThat(res.normMax(), is(lessThan(1E-12)));
+
+                LUPivoting dense = LUPivoting.executor().apply(toDense(matrix)).get();
+                assertThat(lu.logAbsDeterminant(), is(closeTo(dense.logAbsDeterminant(), 1E-10)));
+            }
+        }
+
+        @Test
+        public void test_異なるパターンの行列はrejectされる() {
+            assertThat(executor.accepts(convectionDiffusion2D(SIZE + 1, 1d)).isReject(), is(true));
+
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(SIZE * SIZE));
+            for (int i = 0; i < SIZE * SIZE; i++) {
+                builder.addValue(i, i, 1d);
+            }
+            assertThat(executor.accepts(builder.build()).isReject(), is(true));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_異なるパターンの行列の分解はMFMEx() {
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(SIZE * SIZE));
+            for (int i = 0; i < SIZE * SIZE; i++) {
+                builder.addValue(i, i, 1d);
+            }
+            executor.apply(builder.build());
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            CsrMatrix matrix = convectionDiffusion2D(3, 1d);
+            SparseLU lu = SparseLU.executor().apply(matrix).get();
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(SparseLU.executor());
+            System.out.println(SparseLU.executor().analyze(matrix));
+            System.out.println(lu);
+            System.out.println(lu.inverse());
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.qr;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.OrthogonalMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.sparse.HouseholderMatrixFactoryForSparse;
+import matsu.num.matrix.core.sparse.LocalSparseVector;
+
+/**
+ * {@link CompactWYOrthogonalMatrix} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CompactWYOrthogonalMatrixTest {
+
+    public static final Class<?> TEST_CLASS = CompactWYOrthogonalMatrix.class;
+
+    private static final int DIMENSION = 12;
+
+    /**
+     * 第 start 成分から始まる, 長さ length の規格化された鏡映ベクトルを返す.
+     */
+    static double[] reflection(int start, int length) {
+        double[] out = new double[length];
+        double norm = 0d;
+        for (int r = 0; r < length; r++) {
+            out[r] = Math.sin(3 * start + r + 1);
+            norm += out[r] * out[r];
+        }
+        norm = Math.sqrt(norm);
+        for (int r = 0; r < length; r++) {
+            out[r] /= norm;
+        }
+        return out;
+    }
+
+    static Vector testVector() {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(DIMENSION));
+        for (int i = 0; i < DIMENSION; i++) {
+            builder.setValue(i, Math.cos(i) + 0.5 * i);
+        }
+        return builder.build();
+    }
+
+    public static class 鏡映変換の積との一致 {
+
+        private OrthogonalMatrix expected;
+        private CompactWYOrthogonalMatrix actual;
+
+        @Before
+        public void before_鏡映変換の列を生成() {
+
+            /*
+             * 長さ3の鏡映ベクトル (第0, 1, 2, 4, 5, ... 成分から始まる) を,
+             * 2個ずつのブロックにまとめる.
+             * 第3成分からの鏡映変換は省略されている.
+             */
+            final VectorDimension dimension = VectorDimension.valueOf(DIMENSION);
+            List<LocalSparseVector> reflections = new ArrayList<>();
+            List<CompactWYBlock> blocks = new ArrayList<>();
+            CompactWYBlock block = null;
+            for (int i = 0; i < DIMENSION - 2; i++) {
+                if (i == 3) {
+                    continue;
+                }
+                double[] v = reflection(i, 3);
+                reflections.add(LocalSparseVector.of(dimension, i, v));
+                if (block == null || !block.canAdd(i, v.length)) {
+                    block = new CompactWYBlock(i, Math.min(4, DIMENSION - i), 2);
+                    blocks.add(block);
+                }
+                block.add(i, v);
+            }
+
+            expected = HouseholderMatrixFactoryForSparse.productOf(dimension, reflections);
+            actual = new CompactWYOrthogonalMatrix(MatrixDimension.square(DIMENSION), blocks);
+        }
+
+        @Test
+        public void test_operate() {
+            Vector v = testVector();
+            assertThat(actual.operate(v).minus(expected.operate(v)).normMax(), is(lessThan(1E-14)));
+        }
+
+        @Test
+        public void test_operateTranspose() {
+            Vector v = testVector();
+            assertThat(
+                    actual.operateTranspose(v).minus(expected.operateTranspose(v)).normMax(),
+                    is(lessThan(1E-14)));
+        }
+
+        @Test
+        public void test_operateInto() {
+            Vector v = testVector();
+            double[] out = new double[DIMENSION];
+            actual.operateInto(v, out);
+            Vector e = expected.operate(v);
+            for (int i = 0; i < DIMENSION; i++) {
+                assertThat(out[i], is(closeTo(e.valueAt(i), 1E-14)));
+            }
+        }
+
+        @Test
+        public void test_複数列への転置の作用() {
+            Vector v = testVector();
+            Vector w = v.times(-2);
+
+            //行優先で2列を格納
+            double[] work = new double[DIMENSION * 2];
+            for (int i = 0; i < DIMENSION; i++) {
+                work[2 * i] = v.valueAt(i);
+                work[2 * i + 1] = w.valueAt(i);
+            }
+            actual.applyTransposeInPlace(work, 2);
+
+            Vector ev = expected.operateTranspose(v);
+            Vector ew = expected.operateTranspose(w);
+            for (int i = 0; i < DIMENSION; i++) {
+                assertThat(work[2 * i], is(closeTo(ev.valueAt(i), 1E-14)));
+                assertThat(work[2 * i + 1], is(closeTo(ew.valueAt(i), 1E-14)));
+            }
+        }
+
+        @Test
+        public void test_転置の作用で元に戻る() {
+            Vector v = testVector();
+            Vector r = actual.transpose().operate(actual.operate(v));
+            assertThat(r.minus(v).normMax(), is(lessThan(1E-14)));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void toStringを表示する() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(new CompactWYOrthogonalMatrix(MatrixDimension.square(3), List.of()));
+            System.out.println();
+        }
+    }
+}
@@ -54,6 +54,12 @@ final class HouseholderQRBandTest {
         @DataPoint
         public static BandMatrix mxA_LowerLarge;
 
+        /**
+         * 鏡映変換が複数のブロックにまとめられる, 次元の大きいパターン.
+         */
+        @DataPoint
+        public static BandMatrix mxA_Large;
+
         @BeforeClass
         public static void before_帯行列を生成_帯幅がフルのパターン() {
 
@@ -121,6 +127,19 @@ final class HouseholderQRBandTest {
             mxA_LowerLarge = builder.build();
         }
 
+        @BeforeClass
+        public static void before_帯行列を生成_次元の大きいパターン() {
+
+            final int n = 40;
+            GeneralBandMatrix.Builder builder = GeneralBandMatrix.Builder.zero(BandMatrixDimension.of(n, 3, 2));
+            for (int i = 0; i < n; i++) {
+                for (int j = Math.max(0, i - 3); j <= Math.min(n - 1, i + 2); j++) {
+                    builder.setValue(i, j, i == j ? 4 : Math.cos(i + 2 * j));
+                }
+            }
+            mxA_Large = builder.build();
+        }
+
         @Theory
         public void test_Ainv_Aで検証(BandMatrix mxA) {
             HouseholderQRBand qr = HouseholderQRBand.executor().apply(mxA).get();
@@ -0,0 +1,376 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.qr;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoint;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+
+/**
+ * {@link HouseholderQRColumnPivoting} のテスト.
+ */
+@RunWith(Enclosed.class)
+final class HouseholderQRColumnPivotingTest {
+
+    public static final Class<?> TEST_CLASS = HouseholderQRColumnPivoting.class;
+
+    static Vector unit(VectorDimension dimension, int i) {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(dimension);
+        builder.setValue(i, 1);
+        return builder.build();
+    }
+
+    /**
+     * rows * rank と rank * columns の決定的な擬似乱数行列の積を返す.
+     */
+    static GeneralMatrix lowRank(int rows, int columns, int rank, long seed) {
+        double[][] left = new double[rows][rank];
+        double[][] right = new double[rank][columns];
+        for (double[] row : left) {
+            for (int k = 0; k < rank; k++) {
+                seed = seed * 6364136223846793005L + 1442695040888963407L;
+                row[k] = ((seed >>> 11) * 0x1.0p-53) - 0.5;
+            }
+        }
+        for (double[] row : right) {
+            for (int j = 0; j < columns; j++) {
+                seed = seed * 6364136223846793005L + 1442695040888963407L;
+                row[j] = ((seed >>> 11) * 0x1.0p-53) - 0.5;
+            }
+        }
+        GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(rows, columns));
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                double v = 0d;
+                for (int k = 0; k < rank; k++) {
+                    v += left[i][k] * right[k][j];
+                }
+                builder.setValue(i, j, v);
+            }
+        }
+        return builder.build();
+    }
+
+    @RunWith(Theories.class)
+    public static class Moore_Penrose一般化逆行列としての規則の検証 {
+
+        /**
+         * 列フルランクのパターン.
+         */
+        @DataPoint
+        public static EntryReadableMatrix mxA_FullRank;
+
+        /**
+         * 1列が他の列の一次結合であるパターン.
+         */
+        @DataPoint
+        public static EntryReadableMatrix mxA_Deficient;
+
+        /**
+         * 複数のブロックにわたる低ランクのパターン.
+         */
+        @DataPoint
+        public static EntryReadableMatrix mxA_LowRank;
+
+        @BeforeClass
+        public static void before_列フルランクの行列を生成() {
+
+            /*
+             * -1 2 3
+             * 2 3 2
+             * 1 1 2
+             * 0 5 6
+             */
+            GeneralMatrix.Builder builder =
+                    GeneralMatrix.Builder.zero(MatrixDimension.rectangle(4, 3));
+            builder.setValue(0, 0, -1);
+            builder.setValue(0, 1, 2);
+            builder.setValue(0, 2, 3);
+            builder.setValue(1, 0, 2);
+            builder.setValue(1, 1, 3);
+            builder.setValue(1, 2, 2);
+            builder.setValue(2, 0, 1);
+            builder.setValue(2, 1, 1);
+            builder.setValue(2, 2, 2);
+            builder.setValue(3, 1, 5);
+            builder.setValue(3, 2, 6);
+            mxA_FullRank = builder.build();
+        }
+
+        @BeforeClass
+        public static void before_ランク落ちした行列を生成() {
+
+            /*
+             * 第3列 = 第0列 + 2 * 第1列
+             */
+            double[][] entry = {
+                    { 1, 2, 0, 5 },
+                    { 0, 1, 1, 2 },
+                    { 2, 0, 1, 2 },
+                    { 1, 1, 3, 3 },
+                    { 3, -1, 2, 1 } };
+            GeneralMatrix.Builder builder =
+                    GeneralMatrix.Builder.zero(MatrixDimension.rectangle(5, 4));
+            for (int i = 0; i < 5; i++) {
+                for (int j = 0; j < 4; j++) {
+                    builder.setValue(i, j, entry[i][j]);
+                }
+            }
+            mxA_Deficient = builder.build();
+        }
+
+        @BeforeClass
+        public static void before_低ランクの行列を生成() {
+            mxA_LowRank = lowRank(90, 60, 40, 17L);
+        }
+
+        @Theory
+        public void test_A_Ainv_Aで検証(EntryReadableMatrix mxA) {
+            Matrix mxAInv = HouseholderQRColumnPivoting.executor().apply(mxA).get().inverse();
+
+            VectorDimension rightMxA = mxA.matrixDimension().rightOperableVectorDimension();
+            for (int i = 0; i < rightMxA.intValue(); i++) {
+                Vector vecR1 = mxA.operate(unit(rightMxA, i));
+                Vector vecR2 = mxA.operate(mxAInv.operate(vecR1));
+                assertThat(vecR1.minus(vecR2).normMax(), is(lessThan(1E-12)));
+            }
+        }
+
+        @Theory
+        public void test_Ainv_A_Ainvで検証(EntryReadableMatrix mxA) {
+            Matrix mxAInv = HouseholderQRColumnPivoting.executor().apply(mxA).get().inverse();
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            for (int i = 0; i < leftMxA.intValue(); i++) {
+                Vector vecR1 = mxAInv.operate(unit(leftMxA, i));
+                Vector vecR2 = mxAInv.operate(mxA.operate(vecR1));
+                assertThat(vecR1.minus(vecR2).normMax(), is(lessThan(1E-10)));
+            }
+        }
+
+        @Theory
+        public void test_Ainv_Aは対称(EntryReadableMatrix mxA) {
+            Matrix mxAInv = HouseholderQRColumnPivoting.executor().apply(mxA).get().inverse();
+
+            VectorDimension rightMxA = mxA.matrixDimension().rightOperableVectorDimension();
+            int n = rightMxA.intValue();
+            Vector[] columns = new Vector[n];
+            for (int j = 0; j < n; j++) {
+                columns[j] = mxAInv.operate(mxA.operate(unit(rightMxA, j)));
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < i; j++) {
+                    assertThat(columns[j].valueAt(i), is(closeTo(columns[i].valueAt(j), 1E-12)));
+                }
+            }
+        }
+
+        @Theory
+        public void test_A_Ainvは対称(EntryReadableMatrix mxA) {
+            Matrix mxAInv = HouseholderQRColumnPivoting.executor().apply(mxA).get().inverse();
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            int m = leftMxA.intValue();
+            Vector[] columns = new Vector[m];
+            for (int j = 0; j < m; j++) {
+                columns[j] = mxA.operate(mxAInv.operate(unit(leftMxA, j)));
+            }
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < i; j++) {
+                    assertThat(columns[j].valueAt(i), is(closeTo(columns[i].valueAt(j), 1E-12)));
+                }
+            }
+        }
+
+        @Theory
+        public void test_転置の作用は内積と整合する(EntryReadableMatrix mxA) {
+            Matrix mxAInv = HouseholderQRColumnPivoting.executor().apply(mxA).get().inverse();
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            VectorDimension rightMxA = mxA.matrixDimension().rightOperableVectorDimension();
+            Vector.Builder bBuilder = Vector.Builder.zeroBuilder(leftMxA);
+            for (int i = 0; i < leftMxA.intValue(); i++) {
+                bBuilder.setValue(i, Math.sin(i + 1));
+            }
+            Vector.Builder yBuilder = Vector.Builder.zeroBuilder(rightMxA);
+            for (int i = 0; i < rightMxA.intValue(); i++) {
+                yBuilder.setValue(i, Math.cos(2 * i));
+            }
+            Vector vecB = bBuilder.build();
+            Vector vecY = yBuilder.build();
+
+            // y^T (A^{+} b) = (A^{+T} y)^T b
+            assertThat(
+                    vecY.dot(mxAInv.operate(vecB)),
+                    is(closeTo(mxAInv.operateTranspose(vecY).dot(vecB), 1E-10)));
+        }
+
+        @Theory
+        public void test_複数右辺の解は一般化逆行列の作用に一致(EntryReadableMatrix mxA) {
+            HouseholderQRColumnPivoting qr = HouseholderQRColumnPivoting.executor().apply(mxA).get();
+
+            final int m = mxA.matrixDimension().rowAsIntValue();
+            final int n = mxA.matrixDimension().columnAsIntValue();
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(m, 2));
+            for (int j = 0; j < m; j++) {
+                builder.setValue(j, 0, j + 1);
+                builder.setValue(j, 1, 2 - j * j);
+            }
+            GeneralMatrix mxB = builder.build();
+            GeneralMatrix mxX = qr.solve(mxB);
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            for (int k = 0; k < 2; k++) {
+                Vector.Builder vBuilder = Vector.Builder.zeroBuilder(leftMxA);
+                for (int j = 0; j < m; j++) {
+                    vBuilder.setValue(j, mxB.valueAt(j, k));
+                }
+                Vector expected = qr.inverse().operate(vBuilder.build());
+                for (int j = 0; j < n; j++) {
+                    assertThat(mxX.valueAt(j, k), is(closeTo(expected.valueAt(j), 1E-10)));
+                }
+            }
+        }
+    }
+
+    public static class 数値ランクの検証 {
+
+        @Test
+        public void test_列フルランク() {
+            GeneralMatrix mxA = lowRank(8, 5, 5, 3L);
+            assertThat(HouseholderQRColumnPivoting.executor().apply(mxA).get().rank(), is(5));
+        }
+
+        @Test
+        public void test_ランク落ち() {
+            GeneralMatrix mxA = lowRank(90, 60, 40, 17L);
+            assertThat(HouseholderQRColumnPivoting.executor().apply(mxA).get().rank(), is(40));
+        }
+
+        @Test
+        public void test_零行列はランク0で一般化逆行列は零() {
+            GeneralMatrix mxA = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(3, 2)).build();
+            HouseholderQRColumnPivoting qr = HouseholderQRColumnPivoting.executor().apply(mxA).get();
+            assertThat(qr.rank(), is(0));
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            assertThat(qr.inverse().operate(unit(leftMxA, 1)).normMax(), is(0d));
+        }
+    }
+
+    public static class 列フルランクでのHouseholderQRとの一致 {
+
+        private EntryReadableMatrix mxA;
+
+        @Before
+        public void before_行列を生成() {
+            mxA = lowRank(50, 40, 40, 5L);
+        }
+
+        @Test
+        public void test_最小二乗解が一致する() {
+            Matrix expected = HouseholderQR.executor().apply(mxA).get().inverse();
+            Matrix actual = HouseholderQRColumnPivoting.executor().apply(mxA).get().inverse();
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(leftMxA);
+            for (int i = 0; i < leftMxA.intValue(); i++) {
+                vBuilder.setValue(i, Math.sin(i));
+            }
+            Vector vecB = vBuilder.build();
+            Vector vecE = expected.operate(vecB);
+            assertThat(actual.operate(vecB).minus(vecE).normMax() / vecE.normMax(), is(lessThan(1E-10)));
+        }
+    }
+
+    public static class 複数のパネルにまたがる分解の検証 {
+
+        /**
+         * 共通の列ベクトルに小さな摂動を加えた, 列どうしがほぼ平行な行列を返す. <br>
+         * 鏡映変換によって列ノルムが大きく減少するので, ノルムの再計算が生じる.
+         */
+        private static GeneralMatrix nearlyParallelColumns(int rows, int columns, long seed) {
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(rows, columns));
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    seed = seed * 6364136223846793005L + 1442695040888963407L;
+                    double r = ((seed >>> 11) * 0x1.0p-53) - 0.5;
+                    builder.setValue(i, j, Math.sin(i + 1) + 1E-6 * r);
+                }
+            }
+            return builder.build();
+        }
+
+        private static double relativeDifferenceOfLeastSquares(EntryReadableMatrix mxA) {
+            Matrix expected = HouseholderQR.executor().apply(mxA).get().inverse();
+            Matrix actual = HouseholderQRColumnPivoting.executor().apply(mxA).get().inverse();
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(leftMxA);
+            for (int i = 0; i < leftMxA.intValue(); i++) {
+                vBuilder.setValue(i, Math.sin(i));
+            }
+            Vector vecB = vBuilder.build();
+            Vector vecE = expected.operate(vecB);
+            return actual.operate(vecB).minus(vecE).normMax() / vecE.normMax();
+        }
+
+        @Test
+        public void test_ランク落ち() {
+            GeneralMatrix mxA = lowRank(200, 150, 100, 7L);
+            assertThat(HouseholderQRColumnPivoting.executor().apply(mxA).get().rank(), is(100));
+        }
+
+        @Test
+        public void test_列フルランクで最小二乗解が一致する() {
+            assertThat(relativeDifferenceOfLeastSquares(lowRank(200, 150, 150, 9L)), is(lessThan(1E-10)));
+        }
+
+        @Test
+        public void test_ノルムの再計算を伴う場合に最小二乗解が一致する() {
+            GeneralMatrix mxA = nearlyParallelColumns(120, 80, 3L);
+            assertThat(HouseholderQRColumnPivoting.executor().apply(mxA).get().rank(), is(80));
+            assertThat(relativeDifferenceOfLeastSquares(mxA), is(lessThan(1E-6)));
+        }
+    }
+
+    public static class toString表示 {
+
+        private EntryReadableMatrix matrix;
+
+        @Before
+        public void before_行列を生成() {
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(3, 3));
+            builder.setValue(0, 0, 1);
+            builder.setValue(1, 1, 1);
+            matrix = builder.build();
+        }
+
+        @Test
+        public void toStringを表示する() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(HouseholderQRColumnPivoting.executor());
+            System.out.println(HouseholderQRColumnPivoting.executor().apply(matrix).get());
+            System.out.println();
+        }
+    }
+}
@@ -139,6 +139,35 @@ final class HouseholderQRTest {
                 assertThat(res, is(lessThan(1E-12)));
             }
         }
+
+        @Theory
+        public void test_複数右辺の最小二乗解は一般化逆行列の作用に一致(EntryReadableMatrix mxA) {
+            HouseholderQR qr = HouseholderQR.executor().apply(mxA).get();
+
+            GeneralMatrix.Builder builder =
+                    GeneralMatrix.Builder.zero(MatrixDimension.rectangle(4, 2));
+            for (int j = 0; j < 4; j++) {
+                builder.setValue(j, 0, j + 1);
+                builder.setValue(j, 1, 2 - j * j);
+            }
+            GeneralMatrix mxB = builder.build();
+
+            GeneralMatrix mxX = qr.solve(mxB);
+            assertThat(mxX.matrixDimension(), is(MatrixDimension.rectangle(3, 2)));
+
+            Matrix mxAInv = qr.inverse();
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            for (int k = 0; k < 2; k++) {
+                Vector.Builder vBuilder = Vector.Builder.zeroBuilder(leftMxA);
+                for (int j = 0; j < 4; j++) {
+                    vBuilder.setValue(j, mxB.valueAt(j, k));
+                }
+                Vector expected = mxAInv.operate(vBuilder.build());
+                for (int j = 0; j < 3; j++) {
+                    assertThat(mxX.valueAt(j, k), is(closeTo(expected.valueAt(j), 1E-12)));
+                }
+            }
+        }
     }
 
     public static class 正方行列での検証 {
@@ -203,6 +232,94 @@ final class HouseholderQRTest {
         }
     }
 
+    public static class 複数パネルにわたる縦長行列での検証 {
+
+        private EntryReadableMatrix mxA;
+
+        @Before
+        public void before_行列を生成() {
+            //パネルの列数を超える列数を持つ, 決定的な擬似乱数の行列
+            final int rows = 150;
+            final int columns = 75;
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(rows, columns));
+            long seed = 31L;
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    seed = seed * 6364136223846793005L + 1442695040888963407L;
+                    double v = ((seed >>> 11) * 0x1.0p-53) - 0.5;
+                    builder.setValue(i, j, i == j ? v + 2 : v);
+                }
+            }
+            mxA = builder.build();
+        }
+
+        @Test
+        public void test_Ainv_Aで検証() {
+            HouseholderQR qr = HouseholderQR.executor().apply(mxA).get();
+
+            //A^{+} A = I を確かめる
+            Matrix mxAInv = qr.inverse();
+            VectorDimension rightMxA = mxA.matrixDimension().rightOperableVectorDimension();
+            for (int i = 0; i < rightMxA.intValue(); i += 7) {
+                Vector.Builder vBuilder = Vector.Builder.zeroBuilder(rightMxA);
+                vBuilder.setValue(i, 1);
+                Vector vecE = vBuilder.build();
+
+                Vector vecR = mxAInv.operate(mxA.operate(vecE));
+                double res = vecR.minus(vecE).normMax();
+                assertThat(res, is(lessThan(1E-12)));
+            }
+        }
+
+        @Test
+        public void test_最小二乗解の残差は列空間に直交する() {
+            HouseholderQR qr = HouseholderQR.executor().apply(mxA).get();
+
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            Vector.Builder vBuilder = Vector.Builder.zeroBuilder(leftMxA);
+            for (int i = 0; i < leftMxA.intValue(); i++) {
+                vBuilder.setValue(i, Math.sin(i));
+            }
+            Vector vecB = vBuilder.build();
+
+            // A^T (Ax - b) = 0
+            Vector vecX = qr.inverse().operate(vecB);
+            Vector normal = mxA.operateTranspose(mxA.operate(vecX).minus(vecB));
+            assertThat(normal.normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_多数の右辺の最小二乗解は一般化逆行列の作用に一致() {
+            HouseholderQR qr = HouseholderQR.executor().apply(mxA).get();
+
+            final int rows = mxA.matrixDimension().rowAsIntValue();
+            final int columns = mxA.matrixDimension().columnAsIntValue();
+            final int rhs = 20;
+            GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(rows, rhs));
+            for (int j = 0; j < rows; j++) {
+                for (int k = 0; k < rhs; k++) {
+                    builder.setValue(j, k, Math.sin(j + 0.3 * k * k));
+                }
+            }
+            GeneralMatrix mxB = builder.build();
+
+            GeneralMatrix mxX = qr.solve(mxB);
+
+            Matrix mxAInv = qr.inverse();
+            VectorDimension leftMxA = mxA.matrixDimension().leftOperableVectorDimension();
+            for (int k = 0; k < rhs; k++) {
+                Vector.Builder vBuilder = Vector.Builder.zeroBuilder(leftMxA);
+                for (int j = 0; j < rows; j++) {
+                    vBuilder.setValue(j, mxB.valueAt(j, k));
+                }
+                Vector expected = mxAInv.operate(vBuilder.build());
+                for (int j = 0; j < columns; j++) {
+                    assertThat(mxX.valueAt(j, k), is(closeTo(expected.valueAt(j), 1E-12)));
+                }
+            }
+        }
+    }
+
     public static class toString表示 {
 
         private EntryReadableMatrix matrix;
@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.qr;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.GeneralMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link UpdatableQRLeastSquares} のテスト.
+ */
+@RunWith(Enclosed.class)
+final class UpdatableQRLeastSquaresTest {
+
+    public static final Class<?> TEST_CLASS = UpdatableQRLeastSquares.class;
+
+    /**
+     * rows * columns の決定的な擬似乱数行列を返す.
+     */
+    static GeneralMatrix random(int rows, int columns, long seed) {
+        GeneralMatrix.Builder builder = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(rows, columns));
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                seed = seed * 6364136223846793005L + 1442695040888963407L;
+                builder.setValue(i, j, ((seed >>> 11) * 0x1.0p-53) - 0.5);
+            }
+        }
+        return builder.build();
+    }
+
+    static Vector unit(VectorDimension dimension, int i) {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(dimension);
+        builder.setValue(i, 1);
+        return builder.build();
+    }
+
+    static Vector rowOf(GeneralMatrix matrix, int i) {
+        int n = matrix.matrixDimension().columnAsIntValue();
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(n));
+        for (int j = 0; j < n; j++) {
+            builder.setValue(j, matrix.valueAt(i, j));
+        }
+        return builder.build();
+    }
+
+    static Vector columnOf(GeneralMatrix matrix, int j) {
+        int m = matrix.matrixDimension().rowAsIntValue();
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(m));
+        for (int i = 0; i < m; i++) {
+            builder.setValue(i, matrix.valueAt(i, j));
+        }
+        return builder.build();
+    }
+
+    public static class HouseholderQRとの一致 {
+
+        @Test
+        public void test_行を1本ずつ追加した解と残差の一致() {
+            GeneralMatrix mxA = random(30, 6, 1L);
+            Vector b = columnOf(random(30, 1, 2L), 0);
+
+            UpdatableQRLeastSquares ls = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(6));
+            for (int i = 0; i < 30; i++) {
+                ls = ls.appendRow(rowOf(mxA, i), b.valueAt(i));
+            }
+            assertThat(ls.rowCount(), is(30L));
+
+            Vector expected = HouseholderQR.executor().apply(mxA).get().inverse().operate(b);
+            Vector actual = ls.solution().get();
+            assertThat(actual.minus(expected).normMax(), is(lessThan(1E-12)));
+
+            double residual = mxA.operate(expected).minus(b).norm2();
+            assertThat(ls.residualNorm(), is(closeTo(residual, 1E-12)));
+        }
+
+        @Test
+        public void test_行列による一括追加は1本ずつの追加と一致() {
+            GeneralMatrix mxA = random(20, 5, 3L);
+            Vector b = columnOf(random(20, 1, 4L), 0);
+
+            UpdatableQRLeastSquares bulk = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(5))
+                    .appendRows(mxA, b);
+            UpdatableQRLeastSquares each = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(5));
+            for (int i = 0; i < 20; i++) {
+                each = each.appendRow(rowOf(mxA, i), b.valueAt(i));
+            }
+            assertThat(bulk.rowCount(), is(20L));
+            assertThat(bulk.solution().get().minus(each.solution().get()).normMax(), is(0d));
+            assertThat(bulk.residualNorm(), is(each.residualNorm()));
+        }
+    }
+
+    public static class 行の削除に関する {
+
+        @Test
+        public void test_追加した行を削除すると元の解に戻る() {
+            GeneralMatrix mxA = random(25, 4, 5L);
+            Vector b = columnOf(random(25, 1, 6L), 0);
+
+            UpdatableQRLeastSquares base = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(4))
+                    .appendRows(mxA, b);
+            GeneralMatrix extra = random(3, 4, 7L);
+            UpdatableQRLeastSquares ls = base;
+            for (int i = 0; i < 3; i++) {
+                ls = ls.appendRow(rowOf(extra, i), 10d * (i + 1));
+            }
+            for (int i = 2; i >= 0; i--) {
+                ls = ls.removeRow(rowOf(extra, i), 10d * (i + 1)).get();
+            }
+            assertThat(ls.rowCount(), is(25L));
+            assertThat(ls.solution().get().minus(base.solution().get()).normMax(), is(lessThan(1E-10)));
+            assertThat(ls.residualNorm(), is(closeTo(base.residualNorm(), 1E-10)));
+        }
+
+        @Test
+        public void test_スライディングウィンドウはHouseholderQRと一致() {
+            GeneralMatrix mxA = random(40, 3, 8L);
+            Vector b = columnOf(random(40, 1, 9L), 0);
+
+            UpdatableQRLeastSquares ls = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(3));
+            for (int i = 0; i < 10; i++) {
+                ls = ls.appendRow(rowOf(mxA, i), b.valueAt(i));
+            }
+            for (int i = 10; i < 40; i++) {
+                ls = ls.appendRow(rowOf(mxA, i), b.valueAt(i))
+                        .removeRow(rowOf(mxA, i - 10), b.valueAt(i - 10)).get();
+            }
+
+            GeneralMatrix.Builder window = GeneralMatrix.Builder.zero(MatrixDimension.rectangle(10, 3));
+            Vector.Builder bWindow = Vector.Builder.zeroBuilder(VectorDimension.valueOf(10));
+            for (int i = 0; i < 10; i++) {
+                for (int j = 0; j < 3; j++) {
+                    window.setValue(i, j, mxA.valueAt(30 + i, j));
+                }
+                bWindow.setValue(i, b.valueAt(30 + i));
+            }
+            Vector expected = HouseholderQR.executor().apply(window.build()).get()
+                    .inverse().operate(bWindow.build());
+            assertThat(ls.solution().get().minus(expected).normMax(), is(lessThan(1E-10)));
+        }
+
+        @Test
+        public void test_列フルランクでなくなる削除は空() {
+            UpdatableQRLeastSquares ls = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(2))
+                    .appendRow(unit(VectorDimension.valueOf(2), 0), 1d)
+                    .appendRow(unit(VectorDimension.valueOf(2), 1), 2d);
+            assertThat(ls.solution().isPresent(), is(true));
+            assertThat(ls.removeRow(
+                    unit(VectorDimension.valueOf(2), 1), 2d)
+                    .isPresent(), is(false));
+        }
+
+        @Test
+        public void test_観測値が整合しない行の削除は空() {
+            GeneralMatrix mxA = random(10, 2, 10L);
+            Vector.Builder bBuilder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(10));
+            for (int i = 0; i < 10; i++) {
+                bBuilder.setValue(i, mxA.valueAt(i, 0) - 2d * mxA.valueAt(i, 1));
+            }
+            Vector b = bBuilder.build();
+
+            UpdatableQRLeastSquares ls = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(2))
+                    .appendRows(mxA, b);
+            assertThat(ls.removeRow(rowOf(mxA, 3), b.valueAt(3)).isPresent(), is(true));
+            assertThat(ls.removeRow(rowOf(mxA, 3), b.valueAt(3) + 100d).isPresent(), is(false));
+        }
+
+        @Test
+        public void test_行が無い場合の削除は空() {
+            UpdatableQRLeastSquares ls = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(2));
+            assertThat(ls.removeRow(Vector.Builder.zeroBuilder(VectorDimension.valueOf(2)).build(), 0d)
+                    .isPresent(), is(false));
+        }
+    }
+
+    public static class 解の存在に関する {
+
+        @Test
+        public void test_行数が未知数より少ない場合は解が無い() {
+            GeneralMatrix mxA = random(2, 3, 10L);
+            UpdatableQRLeastSquares ls = UpdatableQRLeastSquares.empty(VectorDimension.valueOf(3))
+                    .appendRow(rowOf(mxA, 0), 1d)
+                    .appendRow(rowOf(mxA, 1), 2d);
+            assertThat(ls.solution().isPresent(), is(false));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元の不一致は例外() {
+            UpdatableQRLeastSquares.empty(VectorDimension.valueOf(3))
+                    .appendRow(Vector.Builder.zeroBuilder(VectorDimension.valueOf(2)).build(), 1d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_観測値が有限でない場合は例外() {
+            UpdatableQRLeastSquares.empty(VectorDimension.valueOf(2))
+                    .appendRow(Vector.Builder.zeroBuilder(VectorDimension.valueOf(2)).build(), Double.NaN);
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void toStringを表示する() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(UpdatableQRLeastSquares.empty(VectorDimension.valueOf(3)));
+            System.out.println();
+        }
+    }
+}
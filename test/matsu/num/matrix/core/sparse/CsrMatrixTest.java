@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.sparse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.EntryReadableMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link CsrMatrix} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CsrMatrixTest {
+
+    public static final Class<?> TEST_CLASS = CsrMatrix.class;
+
+    public static class ビルダに関するテスト {
+
+        private CsrMatrix.Builder builder;
+
+        @Before
+        public void before_ビルダの生成() {
+            builder = CsrMatrix.Builder.zero(MatrixDimension.rectangle(2, 3));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_範囲外の成分の追加は例外() {
+            builder.addValue(2, 0, 1d);
+        }
+
+        @Test(expected = IllegalStateException.class)
+        public void test_ビルド後の追加は例外() {
+            builder.build();
+            builder.addValue(0, 0, 1d);
+        }
+
+        @Test
+        public void test_重複した成分は合算される() {
+            builder.addValue(0, 1, 1d);
+            builder.addValue(1, 2, 5d);
+            builder.addValue(0, 1, 2d);
+            builder.addValue(0, 1, 4d);
+            CsrMatrix matrix = builder.build();
+
+            assertThat(matrix.numberOfNonZeros(), is(2));
+            assertThat(matrix.valueAt(0, 1), is(7d));
+            assertThat(matrix.valueAt(1, 2), is(5d));
+            assertThat(matrix.valueAt(0, 0), is(0d));
+        }
+
+        @Test
+        public void test_コピーはビルド前の状態を引き継ぐ() {
+            builder.addValue(0, 0, 1d);
+            CsrMatrix.Builder copied = builder.copy();
+            copied.addValue(0, 0, 2d);
+
+            assertThat(builder.build().valueAt(0, 0), is(1d));
+            assertThat(copied.build().valueAt(0, 0), is(3d));
+        }
+
+        @Test
+        public void test_不正値を含む場合も正常値に置き換えられる() {
+            builder.addValue(0, 0, Double.POSITIVE_INFINITY);
+            builder.addValue(1, 1, EntryReadableMatrix.MAX_VALUE);
+            builder.addValue(1, 1, EntryReadableMatrix.MAX_VALUE);
+            CsrMatrix matrix = builder.build();
+
+            assertThat(EntryReadableMatrix.acceptValue(matrix.valueAt(0, 0)), is(true));
+            assertThat(EntryReadableMatrix.acceptValue(matrix.valueAt(1, 1)), is(true));
+        }
+    }
+
+    public static class 成分と演算に関するテスト {
+
+        /**
+         * 3*4行列
+         * 1 0 2 0
+         * 0 0 0 0
+         * 0 3 0 -4
+         */
+        private static final double[][] ENTRY = {
+                { 1, 0, 2, 0 },
+                { 0, 0, 0, 0 },
+                { 0, 3, 0, -4 }
+        };
+
+        private CsrMatrix matrix;
+
+        @Before
+        public void before_行列の生成() {
+            //行, 列が順不同かつ重複を含むように追加する
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.rectangle(3, 4));
+            builder.addValue(2, 3, -1);
+            builder.addValue(0, 2, 2);
+            builder.addValue(2, 1, 3);
+            builder.addValue(0, 0, 1);
+            builder.addValue(2, 3, -3);
+            matrix = builder.build();
+        }
+
+        @Test
+        public void test_成分の検証() {
+            for (int i = 0; i < ENTRY.length; i++) {
+                for (int j = 0; j < ENTRY[i].length; j++) {
+                    assertThat(matrix.valueAt(i, j), is(ENTRY[i][j]));
+                }
+            }
+            assertThat(matrix.numberOfNonZeros(), is(4));
+            assertThat(matrix.entryNormMax(), is(4d));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_範囲外の成分の取得は例外() {
+            matrix.valueAt(0, 4);
+        }
+
+        @Test
+        public void test_行列ベクトル積() {
+            Vector.Builder vb = Vector.Builder.zeroBuilder(VectorDimension.valueOf(4));
+            vb.setEntryValue(1, 2, 3, 4);
+            Vector result = matrix.operate(vb.build());
+
+            double[] expected = { 7, 0, -10 };
+            assertThat(result.vectorDimension(), is(VectorDimension.valueOf(3)));
+            assertThat(result.entryAsArray(), is(expected));
+        }
+
+        @Test
+        public void test_転置行列ベクトル積() {
+            Vector.Builder vb = Vector.Builder.zeroBuilder(VectorDimension.valueOf(3));
+            vb.setEntryValue(1, 2, 3);
+            Vector result = matrix.operateTranspose(vb.build());
+
+            double[] expected = { 1, 9, 2, -12 };
+            assertThat(result.vectorDimension(), is(VectorDimension.valueOf(4)));
+            assertThat(result.entryAsArray(), is(expected));
+        }
+
+        @Test
+        public void test_転置行列の成分() {
+            EntryReadableMatrix transposed = matrix.transpose();
+            for (int i = 0; i < ENTRY.length; i++) {
+                for (int j = 0; j < ENTRY[i].length; j++) {
+                    assertThat(transposed.valueAt(j, i), is(ENTRY[i][j]));
+                }
+            }
+            assertThat(transposed.transpose(), is(sameInstance(matrix)));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元の異なるベクトルとの積は例外() {
+            matrix.operate(Vector.Builder.zeroBuilder(VectorDimension.valueOf(3)).build());
+        }
+    }
+
+    public static class 大規模な行列に関するテスト {
+
+        @Test
+        public void test_密行列の制限を超える次元でも生成できる() {
+            final int n = 1_000_000;
+            MatrixDimension dimension = MatrixDimension.square(n);
+            assertThat(dimension.isAccepedForDenseMatrix(), is(false));
+
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(dimension);
+            for (int i = 0; i < n; i++) {
+                builder.addValue(i, i, 2);
+                if (i > 0) {
+                    builder.addValue(i, i - 1, -1);
+                }
+            }
+            CsrMatrix matrix = builder.build();
+            assertThat(matrix.numberOfNonZeros(), is(2 * n - 1));
+            assertThat(matrix.valueAt(n - 1, n - 2), is(-1d));
+            assertThat(matrix.valueAt(n - 2, n - 1), is(0d));
+
+            Vector.Builder vb = Vector.Builder.zeroBuilder(VectorDimension.valueOf(n));
+            for (int i = 0; i < n; i++) {
+                vb.setValue(i, 1);
+            }
+            Vector result = matrix.operate(vb.build());
+            assertThat(result.valueAt(0), is(2d));
+            assertThat(result.valueAt(n - 1), is(1d));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.addValue(0, 0, 1);
+            builder.addValue(2, 1, 2);
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(builder.build());
+            System.out.println();
+        }
+    }
+}
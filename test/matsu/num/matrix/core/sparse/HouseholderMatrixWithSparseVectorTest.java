@@ -70,4 +70,56 @@ final class HouseholderMatrixWithSparseVectorTest {
             }
         }
     }
+
+    public static class 非ゼロ成分の区間のみを使う鏡映変換のテスト {
+
+        private static final VectorDimension DIMENSION = VectorDimension.valueOf(7);
+
+        private Vector v;
+
+        @Before
+        public void before() {
+            Vector.Builder builder = Vector.Builder.zeroBuilder(DIMENSION);
+            builder.setEntryValue(1, -2, 3, 4, -5, 6, 7);
+            v = builder.build();
+        }
+
+        @Test
+        public void test_局所的なベクトルは密なベクトルと同じ結果() {
+            SparseVector local = LocalSparseVector.of(DIMENSION, 2, new double[] { 1, -3, 2 });
+            HouseholderMatrix expected = new HouseholderMatrixWithSparseVector(
+                    new SimpleSparseVector(local.asVector()));
+            HouseholderMatrix mxH = new HouseholderMatrixWithSparseVector(local);
+
+            Vector res = mxH.operate(v).minus(expected.operate(v));
+            assertThat(res.normMax(), is(lessThan(1E-14)));
+
+            double[] out = new double[DIMENSION.intValue()];
+            mxH.operateInto(v, out);
+            assertThat(out, is(mxH.operate(v).entryAsArray()));
+        }
+
+        @Test
+        public void test_位置を指定したベクトルは密なベクトルと同じ結果() {
+            SparseVector indexed = IndexedSparseVector.of(
+                    DIMENSION, new int[] { 0, 3, 6 }, new double[] { 2, 1, -1 });
+            HouseholderMatrix expected = new HouseholderMatrixWithSparseVector(
+                    new SimpleSparseVector(indexed.asVector()));
+            HouseholderMatrix mxH = new HouseholderMatrixWithSparseVector(indexed);
+
+            Vector res = mxH.operate(v).minus(expected.operate(v));
+            assertThat(res.normMax(), is(lessThan(1E-14)));
+        }
+
+        @Test
+        public void test_区間外の成分は変化しない() {
+            SparseVector local = LocalSparseVector.of(DIMENSION, 2, new double[] { 1, -3, 2 });
+            HouseholderMatrix mxH = new HouseholderMatrixWithSparseVector(local);
+
+            Vector result = mxH.operate(v);
+            for (int i : new int[] { 0, 1, 5, 6 }) {
+                assertThat(result.valueAt(i), is(v.valueAt(i)));
+            }
+        }
+    }
 }
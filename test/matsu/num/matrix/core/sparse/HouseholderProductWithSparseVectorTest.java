@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.sparse;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.OrthogonalMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link HouseholderProductWithSparseVector} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class HouseholderProductWithSparseVectorTest {
+
+    public static final Class<?> TEST_CLASS = HouseholderProductWithSparseVector.class;
+
+    private static final VectorDimension DIMENSION = VectorDimension.valueOf(6);
+
+    public static class 鏡映変換の積に関する {
+
+        private List<SparseVector> reflections;
+        private OrthogonalMatrix product;
+        private OrthogonalMatrix expected;
+        private Vector v;
+
+        @Before
+        public void before() {
+            reflections = List.of(
+                    LocalSparseVector.of(DIMENSION, 0, new double[] { 1, 2, -1, 0.5, 3, -2 }),
+                    LocalSparseVector.of(DIMENSION, 1, new double[] { -1, 1, 2 }),
+                    IndexedSparseVector.of(DIMENSION, new int[] { 2, 5 }, new double[] { 1, 1 }),
+                    LocalSparseVector.of(DIMENSION, 4, new double[] { 3, -1 }));
+            product = HouseholderMatrixFactoryForSparse.productOf(DIMENSION, reflections);
+            expected = OrthogonalMatrix.multiply(
+                    HouseholderMatrixFactoryForSparse.from(reflections.get(0)),
+                    reflections.subList(1, reflections.size()).stream()
+                            .map(HouseholderMatrixFactoryForSparse::from)
+                            .toArray(OrthogonalMatrix[]::new));
+
+            Vector.Builder builder = Vector.Builder.zeroBuilder(DIMENSION);
+            builder.setEntryValue(1, -2, 3, 4, -5, 6);
+            v = builder.build();
+        }
+
+        @Test
+        public void test_行列ベクトル積は個別の積に一致() {
+            assertThat(product.operate(v).minus(expected.operate(v)).normMax(), is(lessThan(1E-14)));
+        }
+
+        @Test
+        public void test_転置行列ベクトル積は個別の積に一致() {
+            assertThat(product.operateTranspose(v).minus(expected.operateTranspose(v)).normMax(),
+                    is(lessThan(1E-14)));
+            assertThat(product.transpose().operate(v).minus(expected.operateTranspose(v)).normMax(),
+                    is(lessThan(1E-14)));
+            assertThat(product.transpose().transpose(), is(sameInstance(product)));
+        }
+
+        @Test
+        public void test_結果を配列に書き込む行列ベクトル積() {
+            double[] out = new double[DIMENSION.intValue()];
+            product.operateInto(v, out);
+            assertThat(out, is(product.operate(v).entryAsArray()));
+
+            product.operateTransposeInto(v, out);
+            assertThat(out, is(product.operateTranspose(v).entryAsArray()));
+        }
+
+        @Test
+        public void test_直交性() {
+            assertThat(product.operateTranspose(product.operate(v)).minus(v).normMax(), is(lessThan(1E-14)));
+        }
+    }
+
+    public static class 生成に関する {
+
+        @Test
+        public void test_空のリストは単位行列() {
+            OrthogonalMatrix product = HouseholderMatrixFactoryForSparse.productOf(DIMENSION, List.of());
+            Vector.Builder builder = Vector.Builder.zeroBuilder(DIMENSION);
+            builder.setEntryValue(1, 2, 3, 4, 5, 6);
+            Vector v = builder.build();
+            assertThat(product.operate(v).entryAsArray(), is(v.entryAsArray()));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元が異なる鏡映ベクトルはMFMEx() {
+            HouseholderMatrixFactoryForSparse.productOf(DIMENSION, List.of(
+                    LocalSparseVector.of(VectorDimension.valueOf(5), 0, new double[] { 1 })));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_零ベクトルはIAEx() {
+            HouseholderMatrixFactoryForSparse.productOf(DIMENSION, List.of(
+                    LocalSparseVector.of(DIMENSION, 0, new double[] { 0 })));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            OrthogonalMatrix product = HouseholderMatrixFactoryForSparse.productOf(DIMENSION, List.of(
+                    LocalSparseVector.of(DIMENSION, 1, new double[] { 1, 2 })));
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(product);
+            System.out.println(product.transpose());
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.sparse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Symmetric;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.iterative.ConjugateGradient;
+import matsu.num.matrix.core.iterative.IterationControl;
+import matsu.num.matrix.core.iterative.IterativeSolution;
+
+/**
+ * {@link IncompleteCholesky} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class IncompleteCholeskyTest {
+
+    public static final Class<?> TEST_CLASS = IncompleteCholesky.class;
+
+    /**
+     * 格子 size*size 上の Poisson 方程式の5点差分による正定値対称行列を生成する.
+     */
+    static SymmetricCsrMatrix laplacian2D(int size) {
+        final int n = size * size;
+        SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = x * size + y;
+                builder.addValue(i, i, 4);
+                if (x > 0) {
+                    builder.addValue(i, i - size, -1);
+                }
+                if (y > 0) {
+                    builder.addValue(i, i - 1, -1);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public static class 分解に関するテスト {
+
+        @Test
+        public void test_三重対角行列ではフィルインが無く厳密な逆行列となる() {
+            final int n = 20;
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(n));
+            for (int i = 0; i < n; i++) {
+                builder.addValue(i, i, 2 + 0.1 * i);
+                if (i > 0) {
+                    builder.addValue(i, i - 1, -1);
+                }
+            }
+            SymmetricCsrMatrix matrix = builder.build();
+            IncompleteCholesky ic = IncompleteCholesky.of(matrix);
+            Vector x = IncompleteLUTest.vector(n);
+
+            assertThat(ic.shift(), is(0d));
+            assertThat(ic.inverse(), is(instanceOf(Symmetric.class)));
+            assertThat(ic.inverse().operate(matrix.operate(x)).minus(x).normMax(), is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_前処理により共役勾配法の反復回数が減少する() {
+            SymmetricCsrMatrix matrix = laplacian2D(20);
+            Vector b = IncompleteLUTest.vector(400);
+            IterationControl control = IterationControl.of(1E-10, 2000);
+
+            IterativeSolution plain = ConjugateGradient.of(matrix).solve(b, control);
+            IncompleteCholesky ic = IncompleteCholesky.of(matrix);
+            IterativeSolution preconditioned = ConjugateGradient.of(matrix, ic.inverse()).solve(b, control);
+
+            assertThat(ic.shift(), is(0d));
+            assertThat(preconditioned.isConverged(), is(true));
+            assertThat(preconditioned.iterationCount(), is(lessThan(plain.iterationCount())));
+        }
+
+        @Test
+        public void test_正定値でない場合は対角シフトを行う() {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.addValue(0, 0, 1);
+            builder.addValue(1, 0, 2);
+            builder.addValue(1, 1, 1);
+            builder.addValue(2, 1, 1);
+            IncompleteCholesky ic = IncompleteCholesky.of(builder.build());
+
+            assertThat(ic.shift(), is(greaterThan(0d)));
+            assertThat(Double.isFinite(ic.inverse().operate(IncompleteLUTest.vector(3)).normMax()), is(true));
+        }
+
+        @Test
+        public void test_対角成分が非対角成分に比べて極端に小さくても分解できる() {
+            final int n = 20;
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(n));
+            for (int i = 0; i < n; i++) {
+                builder.addValue(i, i, 1E-60);
+                if (i > 0) {
+                    builder.addValue(i, i - 1, 1);
+                }
+            }
+            IncompleteCholesky ic = IncompleteCholesky.of(builder.build());
+
+            assertThat(ic.shift(), is(both(greaterThan(0d)).and(lessThan(10d))));
+            assertThat(Double.isFinite(ic.inverse().operate(IncompleteLUTest.vector(n)).normMax()), is(true));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            IncompleteCholesky ic = IncompleteCholesky.of(laplacian2D(3));
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(ic);
+            System.out.println(ic.inverse());
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.sparse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.Matrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.iterative.GMRES;
+import matsu.num.matrix.core.iterative.IterationControl;
+import matsu.num.matrix.core.iterative.IterativeSolution;
+import matsu.num.matrix.core.iterative.Preconditioner;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link IncompleteLU} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class IncompleteLUTest {
+
+    public static final Class<?> TEST_CLASS = IncompleteLU.class;
+
+    /**
+     * 格子 size*size 上の移流拡散方程式の5点差分による非対称行列を生成する.
+     */
+    static CsrMatrix convectionDiffusion2D(int size) {
+        final int n = size * size;
+        CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(n));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = x * size + y;
+                builder.addValue(i, i, 4);
+                if (x > 0) {
+                    builder.addValue(i, i - size, -1.4);
+                }
+                if (x < size - 1) {
+                    builder.addValue(i, i + size, -0.6);
+                }
+                if (y > 0) {
+                    builder.addValue(i, i - 1, -1.2);
+                }
+                if (y < size - 1) {
+                    builder.addValue(i, i + 1, -0.8);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    static Vector vector(int n) {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(n));
+        for (int i = 0; i < n; i++) {
+            builder.setValue(i, Math.sin(0.7 * (i + 1)));
+        }
+        return builder.build();
+    }
+
+    public static class 分解に関するテスト {
+
+        @Test
+        public void test_三重対角行列ではフィルインが無く厳密な逆行列となる() {
+            final int n = 20;
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(n));
+            for (int i = 0; i < n; i++) {
+                builder.addValue(i, i, 3 + 0.1 * i);
+                if (i > 0) {
+                    builder.addValue(i, i - 1, -1);
+                }
+                if (i < n - 1) {
+                    builder.addValue(i, i + 1, -0.5);
+                }
+            }
+            CsrMatrix matrix = builder.build();
+            IncompleteLU ilu = IncompleteLU.of(matrix);
+            Vector x = vector(n);
+
+            assertThat(ilu.shift(), is(0d));
+            assertThat(ilu.inverse().operate(matrix.operate(x)).minus(x).normMax(), is(lessThan(1E-12)));
+            assertThat(ilu.inverse().operateTranspose(matrix.operateTranspose(x)).minus(x).normMax(),
+                    is(lessThan(1E-12)));
+        }
+
+        @Test
+        public void test_転置作用は作用と整合する() {
+            CsrMatrix matrix = convectionDiffusion2D(6);
+            Matrix inverse = IncompleteLU.of(matrix).inverse();
+            Vector x = vector(36);
+            Vector y = vector(36).times(-0.5).plus(x.times(0.25));
+
+            assertThat(y.dot(inverse.operate(x)),
+                    is(closeTo(inverse.operateTranspose(y).dot(x), 1E-12)));
+        }
+
+        @Test
+        public void test_前処理によりGMRESの反復回数が減少する() {
+            CsrMatrix matrix = convectionDiffusion2D(15);
+            Vector b = vector(225);
+            IterationControl control = IterationControl.of(1E-10, 2000);
+
+            IterativeSolution plain = GMRES.of(matrix, 30).solve(b, control);
+            IterativeSolution preconditioned = GMRES.of(
+                    matrix, 30, Preconditioner.right(IncompleteLU.of(matrix).inverse()))
+                    .solve(b, control);
+
+            assertThat(preconditioned.isConverged(), is(true));
+            assertThat(preconditioned.iterationCount(), is(lessThan(plain.iterationCount())));
+        }
+
+        @Test
+        public void test_ピボットが破綻する場合は対角シフトを行う() {
+            //対角成分が0 (パターン外) の行列
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.addValue(0, 1, 1);
+            builder.addValue(1, 0, 1);
+            builder.addValue(1, 2, 2);
+            builder.addValue(2, 1, 2);
+            builder.addValue(2, 2, 1);
+            IncompleteLU ilu = IncompleteLU.of(builder.build());
+
+            assertThat(ilu.shift(), is(greaterThan(0d)));
+            assertThat(Double.isFinite(ilu.inverse().operate(vector(3)).normMax()), is(true));
+        }
+
+        @Test
+        public void test_対角成分が非対角成分に比べて極端に小さくても分解できる() {
+            final int n = 20;
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(n));
+            for (int i = 0; i < n; i++) {
+                builder.addValue(i, i, 1E-60);
+                if (i > 0) {
+                    builder.addValue(i, i - 1, 1);
+                    builder.addValue(i - 1, i, 1);
+                }
+            }
+            IncompleteLU ilu = IncompleteLU.of(builder.build());
+
+            assertThat(ilu.shift(), is(both(greaterThan(0d)).and(lessThan(10d))));
+            assertThat(Double.isFinite(ilu.inverse().operate(vector(n)).normMax()), is(true));
+        }
+    }
+
+    public static class 例外に関するテスト {
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_正方行列でない場合は例外() {
+            IncompleteLU.of(CsrMatrix.Builder.zero(MatrixDimension.rectangle(2, 3)).build());
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            IncompleteLU ilu = IncompleteLU.of(convectionDiffusion2D(3));
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(ilu);
+            System.out.println(ilu.inverse());
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.sparse;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link IndexedSparseVector} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class IndexedSparseVectorTest {
+
+    public static final Class<?> TEST_CLASS = IndexedSparseVector.class;
+
+    private static final VectorDimension DIMENSION = VectorDimension.valueOf(8);
+
+    public static class 生成に関するテスト {
+
+        @Test
+        public void test_位置は昇順に並べ替えられ重複は足し合わされる() {
+            var vec = IndexedSparseVector.of(
+                    DIMENSION, new int[] { 5, 1, 5, 3 }, new double[] { 1, 2, 3, 4 });
+
+            assertThat(vec.numberOfNonZeros(), is(3));
+            assertThat(vec.indexAsArray(), is(new int[] { 1, 3, 5 }));
+            assertThat(vec.valueAsArray(), is(new double[] { 2, 4, 4 }));
+            assertThat(vec.asVector().entryAsArray(), is(new double[] { 0, 2, 0, 4, 0, 4, 0, 0 }));
+        }
+
+        @Test
+        public void test_空の成分は零ベクトル() {
+            var vec = IndexedSparseVector.of(DIMENSION, new int[] {}, new double[] {});
+            assertThat(vec.numberOfNonZeros(), is(0));
+            assertThat(vec.norm2(), is(0d));
+            assertThat(vec.normalizedEuclidean().normMax(), is(0d));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_位置が範囲外の場合() {
+            IndexedSparseVector.of(DIMENSION, new int[] { 8 }, new double[] { 1 });
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_配列の長さが異なる場合() {
+            IndexedSparseVector.of(DIMENSION, new int[] { 1, 2 }, new double[] { 1 });
+        }
+
+        @Test
+        public void test_不正値を含む場合も正常値に置き換えられる() {
+            var vec = IndexedSparseVector.of(
+                    DIMENSION, new int[] { 2, 6 }, new double[] { Double.NaN, Double.POSITIVE_INFINITY });
+            for (double v : vec.asVector().entryAsArray()) {
+                assertThat(Vector.acceptValue(v), is(true));
+            }
+        }
+
+        @Test
+        public void test_密なベクトルからの収集() {
+            var builder = Vector.Builder.zeroBuilder(DIMENSION);
+            builder.setEntryValue(1, 0, 3, 0, 5, 6, 0, 8);
+            Vector src = builder.build();
+
+            var gathered = IndexedSparseVector.gather(src, new int[] { 7, 2, 4, 2 });
+            assertThat(gathered.indexAsArray(), is(new int[] { 2, 4, 7 }));
+            assertThat(gathered.valueAsArray(), is(new double[] { 3, 5, 8 }));
+
+            var nonZeros = IndexedSparseVector.nonZerosOf(src);
+            assertThat(nonZeros.indexAsArray(), is(new int[] { 0, 2, 4, 5, 7 }));
+            assertThat(nonZeros.asVector().entryAsArray(), is(src.entryAsArray()));
+        }
+    }
+
+    public static class 演算に関するテスト {
+
+        /**
+         * [0, 1, 0, 2, 0, 3, 0, 0]
+         */
+        private IndexedSparseVector v1;
+
+        /**
+         * [4, 0, 0, 5, 0, 6, 7, 0]
+         */
+        private IndexedSparseVector v2;
+
+        /**
+         * [1, 2, 3, 4, 5, 6, 7, 8]
+         */
+        private Vector ref;
+
+        @Before
+        public void before_ベクトルの生成() {
+            v1 = IndexedSparseVector.of(DIMENSION, new int[] { 1, 3, 5 }, new double[] { 1, 2, 3 });
+            v2 = IndexedSparseVector.of(DIMENSION, new int[] { 0, 3, 5, 6 }, new double[] { 4, 5, 6, 7 });
+            var builder = Vector.Builder.zeroBuilder(DIMENSION);
+            builder.setEntryValue(1, 2, 3, 4, 5, 6, 7, 8);
+            ref = builder.build();
+        }
+
+        @Test
+        public void test_成分の取得() {
+            assertThat(v1.valueAt(3), is(2d));
+            assertThat(v1.valueAt(4), is(0d));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_範囲外の成分の取得() {
+            v1.valueAt(8);
+        }
+
+        @Test
+        public void test_ノルム() {
+            assertThat(v1.norm2(), is(closeTo(Math.sqrt(14), 1E-14)));
+            assertThat(v1.normMax(), is(3d));
+        }
+
+        @Test
+        public void test_密なベクトルとの内積() {
+            assertThat(v1.dot(ref), is(2d + 8 + 18));
+        }
+
+        @Test
+        public void test_スパースベクトルどうしの内積() {
+            assertThat(v1.dot(v2), is(10d + 18));
+            assertThat(v2.dot(v1), is(10d + 18));
+        }
+
+        @Test
+        public void test_密なベクトルとの和() {
+            assertThat(v1.plus(ref).entryAsArray(), is(new double[] { 1, 3, 3, 6, 5, 9, 7, 8 }));
+        }
+
+        @Test
+        public void test_スパースベクトルどうしの和() {
+            IndexedSparseVector sum = v1.plus(v2);
+            assertThat(sum.indexAsArray(), is(new int[] { 0, 1, 3, 5, 6 }));
+            assertThat(sum.asVector().entryAsArray(), is(new double[] { 4, 1, 0, 7, 0, 9, 7, 0 }));
+        }
+
+        @Test
+        public void test_スパースベクトルのスカラー倍の加算() {
+            IndexedSparseVector result = v1.plusCTimes(v2, -2);
+            assertThat(result.asVector().entryAsArray(),
+                    is(new double[] { -8, 1, 0, -8, 0, -9, -14, 0 }));
+        }
+
+        @Test
+        public void test_散布() {
+            double[] out = { 9, 9, 9, 9, 9, 9, 9, 9 };
+            v1.scatterInto(out);
+            assertThat(out, is(new double[] { 9, 1, 9, 2, 9, 3, 9, 9 }));
+        }
+
+        @Test
+        public void test_スカラー倍と加法逆元() {
+            assertThat(v1.times(2).asVector().entryAsArray(), is(new double[] { 0, 2, 0, 4, 0, 6, 0, 0 }));
+            assertThat(v1.negated().asVector().entryAsArray(),
+                    is(new double[] { 0, -1, 0, -2, 0, -3, 0, 0 }));
+        }
+
+        @Test
+        public void test_規格化() {
+            assertThat(v1.normalizedEuclidean().norm2(), is(closeTo(1d, 1E-14)));
+            assertThat(v1.normalizedEuclidean().valueAt(5), is(closeTo(3 / Math.sqrt(14), 1E-14)));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_次元が異なるスパースベクトルとの内積() {
+            v1.dot(IndexedSparseVector.of(VectorDimension.valueOf(7), new int[] { 1 }, new double[] { 1 }));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_長さが異なる配列への散布() {
+            v1.scatterInto(new double[7]);
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(IndexedSparseVector.of(
+                    DIMENSION, new int[] { 1, 3, 5, 6 }, new double[] { 1, 2, 3, 4 }));
+            System.out.println(IndexedSparseVector.of(DIMENSION, new int[] { 1 }, new double[] { 1 }));
+            System.out.println();
+        }
+    }
+}
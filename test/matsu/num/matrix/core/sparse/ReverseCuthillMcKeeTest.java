@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.sparse;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.GeneralBandMatrix;
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.PermutationMatrix;
+import matsu.num.matrix.core.SymmetricBandMatrix;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link ReverseCuthillMcKee} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ReverseCuthillMcKeeTest {
+
+    public static final Class<?> TEST_CLASS = ReverseCuthillMcKee.class;
+
+    /**
+     * 格子 size*size の節点番号を決定的にかき混ぜたラベルを返す.
+     */
+    static int[] scrambledLabel(int size) {
+        final int n = size * size;
+        int[] label = new int[n];
+        for (int i = 0; i < n; i++) {
+            label[i] = i;
+        }
+        long seed = 12345L;
+        for (int i = n - 1; i > 0; i--) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            int j = (int) ((seed >>> 33) % (i + 1));
+            int tmp = label[i];
+            label[i] = label[j];
+            label[j] = tmp;
+        }
+        return label;
+    }
+
+    /**
+     * 番号をかき混ぜた格子上の5点差分による非対称行列を生成する.
+     */
+    static CsrMatrix scrambledGrid(int size) {
+        final int[] label = scrambledLabel(size);
+        CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(size * size));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = label[x * size + y];
+                builder.addValue(i, i, 5);
+                if (x > 0) {
+                    builder.addValue(i, label[(x - 1) * size + y], -1.5);
+                }
+                if (x < size - 1) {
+                    builder.addValue(i, label[(x + 1) * size + y], -0.5);
+                }
+                if (y > 0) {
+                    builder.addValue(i, label[x * size + y - 1], -1.25);
+                }
+                if (y < size - 1) {
+                    builder.addValue(i, label[x * size + y + 1], -0.75);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 番号をかき混ぜた格子上の5点差分による対称行列を生成する.
+     */
+    static SymmetricCsrMatrix scrambledSymmetricGrid(int size) {
+        final int[] label = scrambledLabel(size);
+        SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(size * size));
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int i = label[x * size + y];
+                builder.addValue(i, i, 4);
+                if (x > 0) {
+                    builder.addValue(i, label[(x - 1) * size + y], -1);
+                }
+                if (y > 0) {
+                    builder.addValue(i, label[x * size + y - 1], -1);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    static Vector vector(int n) {
+        Vector.Builder builder = Vector.Builder.zeroBuilder(VectorDimension.valueOf(n));
+        for (int i = 0; i < n; i++) {
+            builder.setValue(i, Math.sin(0.7 * i + 0.3));
+        }
+        return builder.build();
+    }
+
+    public static class 非対称行列の順序付け {
+
+        private static final int SIZE = 10;
+
+        private CsrMatrix matrix;
+        private ReverseCuthillMcKee rcm;
+
+        @Before
+        public void before_順序付けを計算する() {
+            matrix = scrambledGrid(SIZE);
+            rcm = ReverseCuthillMcKee.of(matrix);
+        }
+
+        @Test
+        public void test_帯幅は格子の幅程度に縮小される() {
+            assertThat(rcm.bandMatrixDimension().lowerBandWidth(), is(lessThanOrEqualTo(SIZE + 1)));
+            assertThat(rcm.bandMatrixDimension().upperBandWidth(), is(lessThanOrEqualTo(SIZE + 1)));
+        }
+
+        @Test
+        public void test_帯行列は並べ替えた行列に一致する() {
+            PermutationMatrix p = rcm.permutation();
+            GeneralBandMatrix band = rcm.toGeneralBand(matrix);
+            assertThat(band.bandMatrixDimension(), is(rcm.bandMatrixDimension()));
+
+            Vector v = vector(SIZE * SIZE);
+            Vector expected = p.operate(matrix.operate(p.operateTranspose(v)));
+            assertThat(band.operate(v).minus(expected).normMax(), is(lessThan(1E-14)));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_サイズが異なる行列はMFMEx() {
+            rcm.toGeneralBand(scrambledGrid(SIZE + 1));
+        }
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_帯構造の外側に成分を持つ行列はMFMEx() {
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(SIZE * SIZE));
+            for (int i = 0; i < SIZE * SIZE; i++) {
+                builder.addValue(i, SIZE * SIZE - 1 - i, 1);
+            }
+            rcm.toGeneralBand(builder.build());
+        }
+    }
+
+    public static class 対称行列の順序付け {
+
+        private static final int SIZE = 10;
+
+        private SymmetricCsrMatrix matrix;
+        private ReverseCuthillMcKee rcm;
+
+        @Before
+        public void before_順序付けを計算する() {
+            matrix = scrambledSymmetricGrid(SIZE);
+            rcm = ReverseCuthillMcKee.of(matrix);
+        }
+
+        @Test
+        public void test_帯構造は対称() {
+            assertThat(rcm.bandMatrixDimension().isSymmetric(), is(true));
+            assertThat(rcm.bandMatrixDimension().lowerBandWidth(), is(lessThanOrEqualTo(SIZE + 1)));
+        }
+
+        @Test
+        public void test_帯行列は並べ替えた行列に一致する() {
+            PermutationMatrix p = rcm.permutation();
+            SymmetricBandMatrix band = rcm.toSymmetricBand(matrix);
+
+            Vector v = vector(SIZE * SIZE);
+            Vector expected = p.operate(matrix.operate(p.operateTranspose(v)));
+            assertThat(band.operate(v).minus(expected).normMax(), is(lessThan(1E-14)));
+        }
+    }
+
+    public static class 非連結なグラフの順序付け {
+
+        @Test
+        public void test_対角行列の帯幅は0() {
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(5));
+            for (int i = 0; i < 5; i++) {
+                builder.addValue(i, i, i + 1);
+            }
+            ReverseCuthillMcKee rcm = ReverseCuthillMcKee.of(builder.build());
+            assertThat(rcm.bandMatrixDimension().isDiagonal(), is(true));
+        }
+
+        @Test
+        public void test_複数の成分を持つ行列() {
+            //{0, 3}, {1, 4, 2} の2成分
+            CsrMatrix.Builder builder = CsrMatrix.Builder.zero(MatrixDimension.square(5));
+            for (int i = 0; i < 5; i++) {
+                builder.addValue(i, i, 3);
+            }
+            builder.addValue(0, 3, 1);
+            builder.addValue(4, 1, 1);
+            builder.addValue(2, 4, 1);
+            CsrMatrix matrix = builder.build();
+            ReverseCuthillMcKee rcm = ReverseCuthillMcKee.of(matrix);
+            assertThat(rcm.bandMatrixDimension().lowerBandWidth(), is(1));
+            assertThat(rcm.bandMatrixDimension().upperBandWidth(), is(1));
+
+            PermutationMatrix p = rcm.permutation();
+            Vector v = vector(5);
+            Vector expected = p.operate(matrix.operate(p.operateTranspose(v)));
+            assertThat(rcm.toGeneralBand(matrix).operate(v).minus(expected).normMax(), is(lessThan(1E-14)));
+        }
+    }
+
+    public static class 生成に関する {
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_正方でない行列はMFMEx() {
+            ReverseCuthillMcKee.of(CsrMatrix.Builder.zero(MatrixDimension.rectangle(3, 4)).build());
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(ReverseCuthillMcKee.of(scrambledGrid(4)));
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.matrix.core.sparse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.matrix.core.MatrixDimension;
+import matsu.num.matrix.core.Vector;
+import matsu.num.matrix.core.VectorDimension;
+import matsu.num.matrix.core.validation.MatrixFormatMismatchException;
+
+/**
+ * {@link SymmetricCsrMatrix} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class SymmetricCsrMatrixTest {
+
+    public static final Class<?> TEST_CLASS = SymmetricCsrMatrix.class;
+
+    public static class ビルダに関するテスト {
+
+        @Test(expected = MatrixFormatMismatchException.class)
+        public void test_正方でない場合は例外() {
+            SymmetricCsrMatrix.Builder.zero(MatrixDimension.rectangle(2, 3));
+        }
+
+        @Test
+        public void test_対称な位置への追加は合算される() {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.addValue(0, 2, 1d);
+            builder.addValue(2, 0, 2d);
+            SymmetricCsrMatrix matrix = builder.build();
+
+            assertThat(matrix.numberOfNonZeros(), is(1));
+            assertThat(matrix.valueAt(0, 2), is(3d));
+            assertThat(matrix.valueAt(2, 0), is(3d));
+        }
+
+        @Test(expected = IllegalStateException.class)
+        public void test_ビルド後の追加は例外() {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.build();
+            builder.addValue(0, 0, 1d);
+        }
+    }
+
+    public static class 成分と演算に関するテスト {
+
+        /**
+         * 4*4対称行列
+         */
+        private static final double[][] ENTRY = {
+                { 4, 1, 0, 0 },
+                { 1, 0, 0, -2 },
+                { 0, 0, 3, 5 },
+                { 0, -2, 5, 6 }
+        };
+
+        private SymmetricCsrMatrix matrix;
+
+        @Before
+        public void before_行列の生成() {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(4));
+            builder.addValue(3, 2, 5);
+            builder.addValue(0, 0, 4);
+            builder.addValue(1, 3, -2);
+            builder.addValue(3, 3, 6);
+            builder.addValue(1, 0, 1);
+            builder.addValue(2, 2, 3);
+            matrix = builder.build();
+        }
+
+        @Test
+        public void test_成分の検証() {
+            for (int i = 0; i < ENTRY.length; i++) {
+                for (int j = 0; j < ENTRY[i].length; j++) {
+                    assertThat(matrix.valueAt(i, j), is(ENTRY[i][j]));
+                }
+            }
+            assertThat(matrix.numberOfNonZeros(), is(6));
+            assertThat(matrix.entryNormMax(), is(6d));
+        }
+
+        @Test
+        public void test_行列ベクトル積() {
+            Vector.Builder vb = Vector.Builder.zeroBuilder(VectorDimension.valueOf(4));
+            vb.setEntryValue(1, 2, 3, 4);
+            Vector operand = vb.build();
+
+            double[] expected = { 6, -7, 29, 35 };
+            assertThat(matrix.operate(operand).entryAsArray(), is(expected));
+            assertThat(matrix.operateTranspose(operand).entryAsArray(), is(expected));
+        }
+
+        @Test
+        public void test_転置は自身() {
+            assertThat(matrix.transpose() == matrix, is(true));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            SymmetricCsrMatrix.Builder builder = SymmetricCsrMatrix.Builder.zero(MatrixDimension.square(3));
+            builder.addValue(0, 0, 1d);
+            builder.addValue(2, 1, 2d);
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(builder.build());
+            System.out.println();
+        }
+    }
+}